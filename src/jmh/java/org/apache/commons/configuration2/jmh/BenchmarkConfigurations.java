@@ -0,0 +1,332 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.jmh;
+
+import java.io.StringReader;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.commons.configuration2.AbstractConfiguration;
+import org.apache.commons.configuration2.BaseConfiguration;
+import org.apache.commons.configuration2.CombinedConfiguration;
+import org.apache.commons.configuration2.CompositeConfiguration;
+import org.apache.commons.configuration2.DynamicCombinedConfiguration;
+import org.apache.commons.configuration2.FileBasedConfiguration;
+import org.apache.commons.configuration2.PropertiesConfiguration;
+import org.apache.commons.configuration2.XMLConfiguration;
+import org.apache.commons.configuration2.convert.DefaultListDelimiterHandler;
+import org.apache.commons.configuration2.ex.ConfigurationException;
+import org.apache.commons.configuration2.io.FileHandler;
+import org.apache.commons.configuration2.tree.OverrideCombiner;
+
+/**
+ * A helper class creating the configuration objects used by the benchmarks
+ * in this package. All configurations are populated with the same data set,
+ * so that the results for different configuration types can be compared.
+ */
+final class BenchmarkConfigurations
+{
+    /** Constant for the key of a plain string property. */
+    static final String KEY_STRING = "app.name";
+
+    /** Constant for the key of a numeric property. */
+    static final String KEY_INT = "app.port";
+
+    /** Constant for the key of a property with a list value. */
+    static final String KEY_LIST = "app.hosts";
+
+    /** Constant for the key of a property referencing other properties. */
+    static final String KEY_INTERPOLATED = "app.url";
+
+    /** Constant for the key of a property which is not contained. */
+    static final String KEY_MISSING = "app.undefined";
+
+    /** Constant for the default number of filler properties. */
+    static final int DEFAULT_SIZE = 1000;
+
+    /** Constant for the number of sections the filler properties use. */
+    private static final int SECTIONS = 20;
+
+    /** Constant for the number of children of combined configurations. */
+    private static final int CHILDREN = 4;
+
+    /** Constant for the list delimiter used by all configurations. */
+    private static final char DELIMITER = ',';
+
+    private BenchmarkConfigurations()
+    {
+    }
+
+    /**
+     * Returns a map with the test data. The map contains the well-known keys
+     * defined by this class plus the given number of filler properties
+     * distributed over a number of sections.
+     *
+     * @param size the number of filler properties
+     * @return the map with test data
+     */
+    static Map<String, String> testData(final int size)
+    {
+        final Map<String, String> data = new LinkedHashMap<>();
+        data.put(KEY_STRING, "benchmark");
+        data.put("app.host", "localhost");
+        data.put(KEY_INT, "8080");
+        data.put(KEY_LIST, "alpha,beta,gamma,delta");
+        data.put(KEY_INTERPOLATED,
+                "http://${app.host}:${app.port}/${app.name}/api");
+        for (int i = 0; i < size; i++)
+        {
+            data.put(fillerKey(i), "value" + i);
+        }
+        return data;
+    }
+
+    /**
+     * Returns the key of the filler property with the given index.
+     *
+     * @param index the index
+     * @return the key of this filler property
+     */
+    static String fillerKey(final int index)
+    {
+        return "section" + (index % SECTIONS) + ".key" + index;
+    }
+
+    /**
+     * Creates a {@code BaseConfiguration} with the given test data.
+     *
+     * @param data the test data
+     * @return the configuration
+     */
+    static BaseConfiguration base(final Map<String, String> data)
+    {
+        return populate(new BaseConfiguration(), data);
+    }
+
+    /**
+     * Creates a {@code PropertiesConfiguration} by parsing a properties
+     * document with the given test data.
+     *
+     * @param data the test data
+     * @return the configuration
+     */
+    static PropertiesConfiguration properties(final Map<String, String> data)
+    {
+        final PropertiesConfiguration config = new PropertiesConfiguration();
+        config.setListDelimiterHandler(new DefaultListDelimiterHandler(DELIMITER));
+        return load(config, propertiesText(data));
+    }
+
+    /**
+     * Creates a {@code XMLConfiguration} by parsing an XML document with the
+     * given test data.
+     *
+     * @param data the test data
+     * @return the configuration
+     */
+    static XMLConfiguration xml(final Map<String, String> data)
+    {
+        final XMLConfiguration config = new XMLConfiguration();
+        config.setListDelimiterHandler(new DefaultListDelimiterHandler(DELIMITER));
+        return load(config, xmlText(data));
+    }
+
+    /**
+     * Creates a {@code CombinedConfiguration} whose children share the test
+     * data. The well-known keys are contained in the last child, so that a
+     * lookup has to pass the whole combined tree.
+     *
+     * @param data the test data
+     * @return the configuration
+     */
+    static CombinedConfiguration combined(final Map<String, String> data)
+    {
+        final CombinedConfiguration config =
+                new CombinedConfiguration(new OverrideCombiner());
+        config.setListDelimiterHandler(new DefaultListDelimiterHandler(DELIMITER));
+        final Map<String, Map<String, String>> parts = split(data);
+        for (final Map.Entry<String, Map<String, String>> e : parts.entrySet())
+        {
+            config.addConfiguration(xml(e.getValue()), e.getKey());
+        }
+        return config;
+    }
+
+    /**
+     * Creates a {@code CompositeConfiguration} whose children share the test
+     * data. The well-known keys are contained in the last child, so that a
+     * lookup has to query all children.
+     *
+     * @param data the test data
+     * @return the configuration
+     */
+    static CompositeConfiguration composite(final Map<String, String> data)
+    {
+        final CompositeConfiguration config = new CompositeConfiguration();
+        config.setListDelimiterHandler(new DefaultListDelimiterHandler(DELIMITER));
+        for (final Map<String, String> part : split(data).values())
+        {
+            config.addConfiguration(base(part));
+        }
+        return config;
+    }
+
+    /**
+     * Creates a {@code DynamicCombinedConfiguration} which selects its
+     * current configuration through a key pattern. The pattern is resolved by
+     * a lookup always returning the same tenant.
+     *
+     * @param data the test data
+     * @return the configuration
+     */
+    static DynamicCombinedConfiguration dynamicCombined(
+            final Map<String, String> data)
+    {
+        final DynamicCombinedConfiguration config =
+                new DynamicCombinedConfiguration(new OverrideCombiner());
+        config.setListDelimiterHandler(new DefaultListDelimiterHandler(DELIMITER));
+        config.getInterpolator().registerLookup("bench", key -> "tenant");
+        config.setKeyPattern("${bench:tenant}");
+        final Map<String, Map<String, String>> parts = split(data);
+        for (final Map.Entry<String, Map<String, String>> e : parts.entrySet())
+        {
+            config.addConfiguration(xml(e.getValue()), e.getKey());
+        }
+        return config;
+    }
+
+    /**
+     * Generates the text of a properties file with the given test data.
+     *
+     * @param data the test data
+     * @return the properties document
+     */
+    static String propertiesText(final Map<String, String> data)
+    {
+        final StringBuilder buf = new StringBuilder();
+        for (final Map.Entry<String, String> e : data.entrySet())
+        {
+            buf.append(e.getKey()).append(" = ").append(e.getValue())
+                    .append('\n');
+        }
+        return buf.toString();
+    }
+
+    /**
+     * Generates the text of an XML document with the given test data. The
+     * dot-separated keys are transformed into nested elements.
+     *
+     * @param data the test data
+     * @return the XML document
+     */
+    static String xmlText(final Map<String, String> data)
+    {
+        final Map<String, Map<String, String>> sections = new LinkedHashMap<>();
+        for (final Map.Entry<String, String> e : data.entrySet())
+        {
+            final int pos = e.getKey().indexOf('.');
+            sections.computeIfAbsent(e.getKey().substring(0, pos),
+                    k -> new LinkedHashMap<>())
+                    .put(e.getKey().substring(pos + 1), e.getValue());
+        }
+
+        final StringBuilder buf = new StringBuilder();
+        buf.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        buf.append("<configuration>\n");
+        for (final Map.Entry<String, Map<String, String>> s : sections
+                .entrySet())
+        {
+            buf.append("  <").append(s.getKey()).append(">\n");
+            for (final Map.Entry<String, String> e : s.getValue().entrySet())
+            {
+                buf.append("    <").append(e.getKey()).append('>')
+                        .append(e.getValue()).append("</")
+                        .append(e.getKey()).append(">\n");
+            }
+            buf.append("  </").append(s.getKey()).append(">\n");
+        }
+        buf.append("</configuration>\n");
+        return buf.toString();
+    }
+
+    /**
+     * Distributes the test data over a number of partitions to be used as
+     * children of combined configurations. The well-known keys (which are
+     * the first entries of the map) end up in the last partition.
+     *
+     * @param data the test data
+     * @return a map with the names and the content of the partitions
+     */
+    private static Map<String, Map<String, String>> split(
+            final Map<String, String> data)
+    {
+        final Map<String, Map<String, String>> parts = new LinkedHashMap<>();
+        for (int i = 0; i < CHILDREN; i++)
+        {
+            parts.put("child" + i, new LinkedHashMap<>());
+        }
+        int index = 0;
+        for (final Map.Entry<String, String> e : data.entrySet())
+        {
+            final int part = e.getKey().startsWith("app.") ? CHILDREN - 1
+                    : index++ % CHILDREN;
+            parts.get("child" + part).put(e.getKey(), e.getValue());
+        }
+        return parts;
+    }
+
+    /**
+     * Adds all test data to the given configuration.
+     *
+     * @param config the configuration
+     * @param data the test data
+     * @param <T> the type of the configuration
+     * @return the configuration
+     */
+    private static <T extends AbstractConfiguration> T populate(final T config,
+            final Map<String, String> data)
+    {
+        config.setListDelimiterHandler(new DefaultListDelimiterHandler(DELIMITER));
+        for (final Map.Entry<String, String> e : data.entrySet())
+        {
+            config.addProperty(e.getKey(), e.getValue());
+        }
+        return config;
+    }
+
+    /**
+     * Loads a file-based configuration from the given text.
+     *
+     * @param config the configuration
+     * @param text the content to be loaded
+     * @param <T> the type of the configuration
+     * @return the configuration
+     */
+    private static <T extends FileBasedConfiguration> T load(final T config,
+            final String text)
+    {
+        try
+        {
+            new FileHandler(config).load(new StringReader(text));
+        }
+        catch (final ConfigurationException cex)
+        {
+            throw new IllegalStateException("Cannot load test data", cex);
+        }
+        return config;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.jmh;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.configuration2.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A benchmark for the typical read operations on the different configuration
+ * types: string and typed access, list access, key checks and iteration over
+ * all keys.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConfigurationReadBenchmark
+{
+    /** The type of the configuration to be tested. */
+    @Param({"BASE", "PROPERTIES", "XML", "COMBINED", "COMPOSITE",
+            "DYNAMIC_COMBINED"})
+    private ConfigurationType type;
+
+    /** The number of filler properties in the configuration. */
+    @Param({"1000"})
+    private int size;
+
+    /** The configuration to be tested. */
+    private Configuration config;
+
+    /** The key of a filler property. */
+    private String fillerKey;
+
+    @Setup
+    public void setUp()
+    {
+        config = type.create(BenchmarkConfigurations.testData(size));
+        fillerKey = BenchmarkConfigurations.fillerKey(size / 2);
+    }
+
+    @Benchmark
+    public String getString()
+    {
+        return config.getString(BenchmarkConfigurations.KEY_STRING);
+    }
+
+    @Benchmark
+    public String getStringFiller()
+    {
+        return config.getString(fillerKey);
+    }
+
+    @Benchmark
+    public String getStringMissing()
+    {
+        return config.getString(BenchmarkConfigurations.KEY_MISSING);
+    }
+
+    @Benchmark
+    public int getInt()
+    {
+        return config.getInt(BenchmarkConfigurations.KEY_INT);
+    }
+
+    @Benchmark
+    public Integer getTyped()
+    {
+        return config.get(Integer.class, BenchmarkConfigurations.KEY_INT);
+    }
+
+    @Benchmark
+    public List<String> getList()
+    {
+        return config.getList(String.class, BenchmarkConfigurations.KEY_LIST);
+    }
+
+    @Benchmark
+    public String[] getStringArray()
+    {
+        return config.getStringArray(BenchmarkConfigurations.KEY_LIST);
+    }
+
+    @Benchmark
+    public boolean containsKey()
+    {
+        return config.containsKey(fillerKey);
+    }
+
+    @Benchmark
+    public void iterateKeys(final Blackhole bh)
+    {
+        final Iterator<String> it = config.getKeys();
+        while (it.hasNext())
+        {
+            bh.consume(it.next());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.jmh;
+
+import java.util.Map;
+
+import org.apache.commons.configuration2.Configuration;
+
+/**
+ * An enumeration for the configuration types covered by the benchmarks. It
+ * is used as a JMH parameter.
+ */
+public enum ConfigurationType
+{
+    BASE
+    {
+        @Override
+        Configuration create(final Map<String, String> data)
+        {
+            return BenchmarkConfigurations.base(data);
+        }
+    },
+
+    PROPERTIES
+    {
+        @Override
+        Configuration create(final Map<String, String> data)
+        {
+            return BenchmarkConfigurations.properties(data);
+        }
+    },
+
+    XML
+    {
+        @Override
+        Configuration create(final Map<String, String> data)
+        {
+            return BenchmarkConfigurations.xml(data);
+        }
+    },
+
+    COMBINED
+    {
+        @Override
+        Configuration create(final Map<String, String> data)
+        {
+            return BenchmarkConfigurations.combined(data);
+        }
+    },
+
+    COMPOSITE
+    {
+        @Override
+        Configuration create(final Map<String, String> data)
+        {
+            return BenchmarkConfigurations.composite(data);
+        }
+    },
+
+    DYNAMIC_COMBINED
+    {
+        @Override
+        Configuration create(final Map<String, String> data)
+        {
+            return BenchmarkConfigurations.dynamicCombined(data);
+        }
+    };
+
+    /**
+     * Creates a configuration of this type populated with the given data.
+     *
+     * @param data the test data
+     * @return the new configuration
+     */
+    abstract Configuration create(Map<String, String> data);
+}
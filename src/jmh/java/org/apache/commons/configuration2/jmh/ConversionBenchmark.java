@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.jmh;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.configuration2.convert.ConversionHandler;
+import org.apache.commons.configuration2.convert.DefaultConversionHandler;
+import org.apache.commons.configuration2.interpol.ConfigurationInterpolator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A benchmark for the type conversions performed by
+ * {@code DefaultConversionHandler} when typed getters of a configuration are
+ * called.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConversionBenchmark
+{
+    /** The conversion handler to be tested. */
+    private ConversionHandler handler;
+
+    /** The interpolator passed to the conversion handler. */
+    private ConfigurationInterpolator interpolator;
+
+    /*
+     * The source values are stored in non-final fields to prevent the JIT
+     * from constant-folding them.
+     */
+    private String intValue;
+
+    private String longValue;
+
+    private String decimalValue;
+
+    private String booleanValue;
+
+    private String enumValue;
+
+    private List<String> listValue;
+
+    @Setup
+    public void setUp()
+    {
+        handler = new DefaultConversionHandler();
+        interpolator = new ConfigurationInterpolator();
+        intValue = "8080";
+        longValue = "1234567890123";
+        decimalValue = "3.14159265358979";
+        booleanValue = "true";
+        enumValue = "MILLISECONDS";
+        listValue = Arrays.asList("1", "2", "3", "4", "5", "6", "7", "8");
+    }
+
+    @Benchmark
+    public Integer toInteger()
+    {
+        return handler.to(intValue, Integer.class, interpolator);
+    }
+
+    @Benchmark
+    public Long toLong()
+    {
+        return handler.to(longValue, Long.class, interpolator);
+    }
+
+    @Benchmark
+    public BigDecimal toBigDecimal()
+    {
+        return handler.to(decimalValue, BigDecimal.class, interpolator);
+    }
+
+    @Benchmark
+    public Boolean toBoolean()
+    {
+        return handler.to(booleanValue, Boolean.class, interpolator);
+    }
+
+    @Benchmark
+    public TimeUnit toEnum()
+    {
+        return handler.to(enumValue, TimeUnit.class, interpolator);
+    }
+
+    @Benchmark
+    public String toStringValue()
+    {
+        return handler.to(intValue, String.class, interpolator);
+    }
+
+    @Benchmark
+    public Object toIntArray()
+    {
+        return handler.toArray(listValue, Integer.TYPE, interpolator);
+    }
+
+    @Benchmark
+    public List<Integer> toIntegerList()
+    {
+        final List<Integer> result = new ArrayList<>();
+        handler.toCollection(listValue, Integer.class, interpolator, result);
+        return result;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.configuration2.BaseConfiguration;
+import org.apache.commons.configuration2.interpol.ConfigurationInterpolator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A benchmark for variable interpolation, both directly through a
+ * {@code ConfigurationInterpolator} and as part of a configuration read
+ * operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InterpolationBenchmark
+{
+    /** The configuration providing the values of variables. */
+    private BaseConfiguration config;
+
+    /** The interpolator of the configuration. */
+    private ConfigurationInterpolator interpolator;
+
+    /** A value without any variables. */
+    private String plainValue;
+
+    /** A value consisting of a single variable. */
+    private String singleVariable;
+
+    /** A value containing multiple variables. */
+    private String template;
+
+    /** A value using prefix lookups. */
+    private String prefixTemplate;
+
+    @Setup
+    public void setUp()
+    {
+        config = BenchmarkConfigurations.base(BenchmarkConfigurations
+                .testData(BenchmarkConfigurations.DEFAULT_SIZE));
+        interpolator = config.getInterpolator();
+        plainValue = "http://localhost:8080/benchmark/api";
+        singleVariable = "${app.port}";
+        template = config.getProperty(BenchmarkConfigurations.KEY_INTERPOLATED)
+                .toString();
+        prefixTemplate = "${sys:java.version}/${const:java.lang.Integer.MAX_VALUE}";
+    }
+
+    @Benchmark
+    public Object interpolatePlain()
+    {
+        return interpolator.interpolate(plainValue);
+    }
+
+    @Benchmark
+    public Object interpolateSingleVariable()
+    {
+        return interpolator.interpolate(singleVariable);
+    }
+
+    @Benchmark
+    public Object interpolateTemplate()
+    {
+        return interpolator.interpolate(template);
+    }
+
+    @Benchmark
+    public Object interpolatePrefixLookups()
+    {
+        return interpolator.interpolate(prefixTemplate);
+    }
+
+    @Benchmark
+    public String getInterpolatedString()
+    {
+        return config.getString(BenchmarkConfigurations.KEY_INTERPOLATED);
+    }
+}
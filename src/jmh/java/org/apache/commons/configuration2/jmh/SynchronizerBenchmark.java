@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.configuration2.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A benchmark comparing the overhead of the different {@code Synchronizer}
+ * implementations for read operations, both without contention and with
+ * multiple concurrent readers. The {@code NoOpSynchronizer} serves as
+ * reference for the lowest achievable overhead. Concurrent readers and
+ * writers are measured by {@link SynchronizerReadWriteBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SynchronizerBenchmark
+{
+    /** The synchronizer to be tested. */
+    @Param({"NONE", "READ_WRITE", "STAMPED"})
+    private SynchronizerType synchronizer;
+
+    /** The type of the configuration to be tested. */
+    @Param({"BASE", "XML"})
+    private ConfigurationType type;
+
+    /** The configuration to be tested. */
+    private Configuration config;
+
+    @Setup
+    public void setUp()
+    {
+        config = type.create(BenchmarkConfigurations
+                .testData(BenchmarkConfigurations.DEFAULT_SIZE));
+        config.setSynchronizer(synchronizer.create());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String readUncontended()
+    {
+        return config.getString(BenchmarkConfigurations.KEY_STRING);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String readContended()
+    {
+        return config.getString(BenchmarkConfigurations.KEY_STRING);
+    }
+}
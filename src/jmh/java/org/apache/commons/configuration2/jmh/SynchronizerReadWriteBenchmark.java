@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.configuration2.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A benchmark comparing the thread-safe {@code Synchronizer} implementations
+ * for read operations while another thread concurrently updates the
+ * configuration. A {@code NoOpSynchronizer} is not tested here because it is
+ * not safe for concurrent writes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class SynchronizerReadWriteBenchmark
+{
+    /** Constant for the key updated by the writer thread. */
+    private static final String KEY_COUNTER = "app.counter";
+
+    /** The synchronizer to be tested. */
+    @Param({"READ_WRITE", "STAMPED"})
+    private SynchronizerType synchronizer;
+
+    /** The type of the configuration to be tested. */
+    @Param({"BASE", "XML"})
+    private ConfigurationType type;
+
+    /** The configuration to be tested. */
+    private Configuration config;
+
+    /** A counter for generating the values written into the configuration. */
+    private int counter;
+
+    @Setup
+    public void setUp()
+    {
+        config = type.create(BenchmarkConfigurations
+                .testData(BenchmarkConfigurations.DEFAULT_SIZE));
+        config.setSynchronizer(synchronizer.create());
+        config.setProperty(KEY_COUNTER, 0);
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(7)
+    public String readWithWriter()
+    {
+        return config.getString(BenchmarkConfigurations.KEY_STRING);
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(1)
+    public void writeWithReaders()
+    {
+        config.setProperty(KEY_COUNTER, counter++);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.jmh;
+
+import org.apache.commons.configuration2.sync.NoOpSynchronizer;
+import org.apache.commons.configuration2.sync.ReadWriteSynchronizer;
+import org.apache.commons.configuration2.sync.StampedLockSynchronizer;
+import org.apache.commons.configuration2.sync.Synchronizer;
+
+/**
+ * An enumeration for the {@code Synchronizer} implementations to be
+ * compared.
+ */
+public enum SynchronizerType
+{
+    NONE
+    {
+        @Override
+        Synchronizer create()
+        {
+            return NoOpSynchronizer.INSTANCE;
+        }
+    },
+
+    READ_WRITE
+    {
+        @Override
+        Synchronizer create()
+        {
+            return new ReadWriteSynchronizer();
+        }
+    },
+
+    STAMPED
+    {
+        @Override
+        Synchronizer create()
+        {
+            return new StampedLockSynchronizer();
+        }
+    };
+
+    /**
+     * Creates the {@code Synchronizer} represented by this constant.
+     *
+     * @return the new {@code Synchronizer}
+     */
+    abstract Synchronizer create();
+}
@@ -17,18 +17,31 @@
 
 package org.apache.commons.configuration2;
 
+import java.io.File;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.net.URI;
+import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
 
 import org.apache.commons.configuration2.convert.ConversionHandler;
 import org.apache.commons.configuration2.convert.DefaultConversionHandler;
@@ -38,6 +51,7 @@ import org.apache.commons.configuration2.event.BaseEventSource;
 import org.apache.commons.configuration2.event.ConfigurationErrorEvent;
 import org.apache.commons.configuration2.event.ConfigurationEvent;
 import org.apache.commons.configuration2.event.EventListener;
+import org.apache.commons.configuration2.event.EventType;
 import org.apache.commons.configuration2.ex.ConversionException;
 import org.apache.commons.configuration2.interpol.ConfigurationInterpolator;
 import org.apache.commons.configuration2.interpol.InterpolatorSpecification;
@@ -45,6 +59,7 @@ import org.apache.commons.configuration2.interpol.Lookup;
 import org.apache.commons.configuration2.io.ConfigurationLogger;
 import org.apache.commons.configuration2.sync.LockMode;
 import org.apache.commons.configuration2.sync.NoOpSynchronizer;
+import org.apache.commons.configuration2.sync.StampedLockSynchronizer;
 import org.apache.commons.configuration2.sync.Synchronizer;
 import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.ObjectUtils;
@@ -98,6 +113,20 @@ import org.apache.commons.lang3.ObjectUtils;
  */
 public abstract class AbstractConfiguration extends BaseEventSource implements Configuration
 {
+    /** The prefix of a variable; values containing it are not cached. */
+    private static final String VARIABLE_START = "${";
+
+    /** The maximum number of entries in a value cache. */
+    private static final int MAX_CACHED_VALUES = 4096;
+
+    /** The immutable types whose instances can be cached after a conversion. */
+    private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>(
+            Arrays.asList(String.class, Boolean.class, Character.class,
+                    Byte.class, Short.class, Integer.class, Long.class,
+                    Float.class, Double.class, BigInteger.class,
+                    BigDecimal.class, Locale.class, File.class, URI.class,
+                    URL.class, Pattern.class));
+
     /** The list delimiter handler. */
     private ListDelimiterHandler listDelimiterHandler;
 
@@ -122,6 +151,19 @@ public abstract class AbstractConfiguration extends BaseEventSource implements C
     /** Stores the logger.*/
     private ConfigurationLogger log;
 
+    /** The cache for list values; <b>null</b> if caching is disabled. */
+    private volatile ValueCache listCache;
+
+    /** The cache for converted values; <b>null</b> if caching is disabled. */
+    private volatile ValueCache conversionCache;
+
+    /**
+     * A flag whether the current write operation has reported its changes to
+     * the {@code ConfigurationInterpolator}. This field is guarded by the
+     * write lock.
+     */
+    private boolean interpolationChangesReported;
+
     /**
      * Creates a new instance of {@code AbstractConfiguration}.
      */
@@ -215,6 +257,7 @@ public abstract class AbstractConfiguration extends BaseEventSource implements C
                     "ConversionHandler must not be null!");
         }
         this.conversionHandler = conversionHandler;
+        invalidateCache(conversionCache);
     }
 
     /**
@@ -243,6 +286,81 @@ public abstract class AbstractConfiguration extends BaseEventSource implements C
         return throwExceptionOnMissing;
     }
 
+    /**
+     * Returns a flag whether the values returned by {@code getList()} and
+     * {@code getStringArray()} are cached.
+     *
+     * @return a flag whether list values are cached
+     * @since 2.8
+     */
+    public boolean isListCacheEnabled()
+    {
+        return listCache != null;
+    }
+
+    /**
+     * Enables or disables the caching of list values. Multiple values of a
+     * property are split when they are added to this configuration; however,
+     * each call of {@link #getList(String)} or {@link #getStringArray(String)}
+     * creates a new list or array containing the (interpolated) values. If
+     * caching is enabled, these results are computed once per key and kept
+     * until this configuration is changed. In this mode, {@code getList()}
+     * returns unmodifiable lists; {@code getStringArray()} returns a copy of
+     * the cached array. Values containing variables are not cached because
+     * their interpolated values may change without this configuration being
+     * changed. The cache is cleared whenever an update operation on this
+     * configuration finishes; so caching should only be enabled for
+     * configurations whose data is changed exclusively through their own
+     * methods. It is disabled per default.
+     *
+     * @param enabled a flag whether list values are to be cached
+     * @since 2.8
+     */
+    public void setListCacheEnabled(final boolean enabled)
+    {
+        if (enabled != isListCacheEnabled())
+        {
+            listCache = enabled ? new ValueCache() : null;
+        }
+    }
+
+    /**
+     * Returns a flag whether the results of type conversions are cached.
+     *
+     * @return a flag whether converted values are cached
+     * @since 2.8
+     */
+    public boolean isConversionCacheEnabled()
+    {
+        return conversionCache != null;
+    }
+
+    /**
+     * Enables or disables the caching of converted values. Per default, each
+     * call of a typed getter like {@code getInt()}, {@code getBigDecimal()},
+     * or {@code get(Class, String)} obtains the property value and passes it
+     * to the {@link ConversionHandler}. If caching is enabled, the result of a
+     * conversion is stored per key and target class and returned directly by
+     * later calls. Only results of immutable types (wrapper types, strings,
+     * {@code BigInteger}, {@code BigDecimal}, enumerations, and some other
+     * value types) are cached; values containing variables are not cached
+     * because their interpolated values may change without this configuration
+     * being changed. As with the cache for list values (see
+     * {@link #setListCacheEnabled(boolean)}), the cache is cleared whenever an
+     * update operation on this configuration finishes or a new
+     * {@code ConversionHandler} is set. It is disabled per default.
+     *
+     * @param enabled a flag whether converted values are to be cached
+     * @since 2.8
+     */
+    public void setConversionCacheEnabled(final boolean enabled)
+    {
+        if (enabled != isConversionCacheEnabled())
+        {
+            conversionCache = enabled ? new ValueCache() : null;
+        }
+    }
+
     /**
      * Returns the {@code ConfigurationInterpolator} object that manages the
      * lookup objects for resolving variables.
@@ -283,13 +401,17 @@ public abstract class AbstractConfiguration extends BaseEventSource implements C
             final Map<String, ? extends Lookup> prefixLookups,
             final Collection<? extends Lookup> defLookups)
     {
+        final Lookup confLookup = new ConfigurationLookup(this);
         final InterpolatorSpecification spec =
                 new InterpolatorSpecification.Builder()
                         .withPrefixLookups(prefixLookups)
                         .withDefaultLookups(defLookups)
-                        .withDefaultLookup(new ConfigurationLookup(this))
+                        .withDefaultLookup(confLookup)
                         .create();
-        setInterpolator(ConfigurationInterpolator.fromSpecification(spec));
+        final ConfigurationInterpolator ci =
+                ConfigurationInterpolator.fromSpecification(spec);
+        observeConfigurationLookup(ci, confLookup);
+        setInterpolator(ci);
     }
 
     /**
@@ -358,6 +480,7 @@ public abstract class AbstractConfiguration extends BaseEventSource implements C
             }
             ciNew.addDefaultLookups(lookups);
             ciNew.addDefaultLookup(confLookup);
+            observeConfigurationLookup(ciNew, confLookup);
             success = interpolator.compareAndSet(ciOld, ciNew);
         } while (!success);
     }
@@ -423,7 +546,9 @@ public abstract class AbstractConfiguration extends BaseEventSource implements C
      * {@code ConfigurationInterpolator} except for the configuration specific
      * lookup pointing to the passed in original configuration. This one is
      * replaced by a corresponding {@code Lookup} referring to this
-     * configuration.
+     * configuration. If the original configuration caches list values, the
+     * clone gets its own, empty cache; the same is true for the cache of
+     * converted values.
      *
      * @param orgConfig the original configuration from which this one was
      *        cloned
@@ -441,6 +566,103 @@ public abstract class AbstractConfiguration extends BaseEventSource implements C
         }
 
         installInterpolator(orgInterpolator.getLookups(), defaultLookups);
+        listCache = orgConfig.isListCacheEnabled() ? new ValueCache() : null;
+        conversionCache =
+                orgConfig.isConversionCacheEnabled() ? new ValueCache() : null;
+    }
+
+    /**
+     * Returns a flag whether interpolation results obtained from the
+     * properties of this configuration can be cached by its
+     * {@code ConfigurationInterpolator}. This is the case if all changes of
+     * these properties are performed through this object, so that the cache
+     * can be cleared by {@link #endWrite()}. Configurations whose content is
+     * derived from other configurations have to return <b>false</b>. This
+     * method is called when the {@code ConfigurationInterpolator} is set up,
+     * possibly from the constructor, so it must not depend on the state of
+     * the object. This base implementation returns <b>true</b>.
+     *
+     * @return a flag whether interpolation results can be cached
+     * @since 2.8
+     */
+    protected boolean isInterpolationCacheable()
+    {
+        return true;
+    }
+
+    /**
+     * Clears the cache for interpolation results of the current
+     * {@code ConfigurationInterpolator}. This method is called after write
+     * operations which did not fire a change event for a specific key, e.g.
+     * when a configuration file is loaded. Subclasses can call it when they
+     * detect changes of their content in another way.
+     *
+     * @since 2.8
+     */
+    protected void invalidateInterpolationCache()
+    {
+        final ConfigurationInterpolator ci = getInterpolator();
+        if (ci != null && ci.isCacheEnabled())
+        {
+            ci.invalidateCache(null);
+        }
+    }
+
+    /**
+     * Evicts the cached interpolation results affected by a change event. If
+     * the keys changed by the event are known, only the results depending on
+     * them are evicted, and the next call of {@link #endWrite()} does not
+     * clear the whole cache.
+     *
+     * @param type the event type
+     * @param propName the name of the affected property (may be <b>null</b>)
+     * @param propValue the value of the event
+     */
+    private void invalidateInterpolationCache(final EventType<?> type,
+            final String propName, final Object propValue)
+    {
+        final ConfigurationInterpolator ci = getInterpolator();
+        if (ci == null || !ci.isCacheEnabled())
+        {
+            return;
+        }
+
+        if (propName != null)
+        {
+            ci.invalidateCache(propName);
+            interpolationChangesReported = true;
+        }
+        else if ((ConfigurationEvent.ADD_PROPERTIES.equals(type)
+                || ConfigurationEvent.SET_PROPERTIES.equals(type))
+                && propValue instanceof Map)
+        {
+            for (final Object key : ((Map<?, ?>) propValue).keySet())
+            {
+                ci.invalidateCache(String.valueOf(key));
+            }
+            interpolationChangesReported = true;
+        }
+        else
+        {
+            ci.invalidateCache(null);
+        }
+    }
+
+    /**
+     * Declares the {@code Lookup} querying this configuration as observed at
+     * the given {@code ConfigurationInterpolator} if interpolation results
+     * can be cached.
+     *
+     * @param ci the {@code ConfigurationInterpolator}
+     * @param confLookup the {@code Lookup} for this configuration
+     */
+    private void observeConfigurationLookup(final ConfigurationInterpolator ci,
+            final Lookup confLookup)
+    {
+        if (isInterpolationCacheable())
+        {
+            ci.addObservedLookup(confLookup);
+        }
     }
 
     /**
@@ -672,6 +894,7 @@ public abstract class AbstractConfiguration extends BaseEventSource implements C
     protected void beginWrite(final boolean optimize)
     {
         getSynchronizer().beginWrite();
+        interpolationChangesReported = false;
     }
 
     /**
@@ -680,15 +903,112 @@ public abstract class AbstractConfiguration extends BaseEventSource implements C
      * this configuration at the end of their execution. Subclasses may override
      * it to perform additional operations after an update. <strong>In any case
      * the inherited method must be called! Otherwise, the write lock will not
-     * be released.</strong>
+     * be released.</strong> If list values or converted values are cached,
+     * the caches are cleared. Cached interpolation results are cleared, too,
+     * unless the changes have been reported by a change event for specific
+     * keys; then only the results depending on these keys have already been
+     * evicted.
      *
      * @since 2.0
      */
     protected void endWrite()
     {
+        invalidateCache(listCache);
+        invalidateCache(conversionCache);
+        if (!interpolationChangesReported)
+        {
+            invalidateInterpolationCache();
+        }
+        interpolationChangesReported = false;
         getSynchronizer().endWrite();
     }
 
+    /**
+     * Tries to start an optimistic read operation on this configuration. This
+     * is possible if the {@link Synchronizer} of this configuration is a
+     * {@link StampedLockSynchronizer}. Then a stamp is returned which has to
+     * be passed to {@link #endOptimisticRead(long)} after the data has been
+     * read. A return value of 0 means that no optimistic read is possible;
+     * in this case, the read operation has to be performed with the
+     * {@code beginRead()} and {@code endRead()} methods. Subclasses that need
+     * to do some initialization in {@code beginRead()} can override this
+     * method to disable optimistic reads when this initialization is pending.
+     *
+     * @return a stamp for the optimistic read operation or 0
+     * @since 2.8
+     */
+    protected long beginOptimisticRead()
+    {
+        final Synchronizer sync = getSynchronizer();
+        return sync instanceof StampedLockSynchronizer
+                ? ((StampedLockSynchronizer) sync).tryOptimisticRead() : 0L;
+    }
+
+    /**
+     * Ends an optimistic read operation started by
+     * {@link #beginOptimisticRead()}. The return value indicates whether the
+     * data read is valid. If it is <b>false</b>, a concurrent write operation
+     * has happened, and the read operation has to be repeated with a lock
+     * held.
+     *
+     * @param stamp the stamp returned by {@code beginOptimisticRead()}
+     * @return a flag whether the optimistic read operation was successful
+     * @since 2.8
+     */
+    protected boolean endOptimisticRead(final long stamp)
+    {
+        final Synchronizer sync = getSynchronizer();
+        return sync instanceof StampedLockSynchronizer
+                && ((StampedLockSynchronizer) sync).validate(stamp);
+    }
+
+    /**
+     * Executes the specified read operation. If supported by the
+     * {@code Synchronizer}, the operation is first tried optimistically
+     * without holding a lock. If this fails because of a concurrent update,
+     * or if optimistic reads are not possible, the operation is executed
+     * between {@code beginRead()} and {@code endRead()}. Exceptions thrown
+     * during a failed optimistic read are ignored, since they may be caused
+     * by the inconsistent state seen during the concurrent update.
+     *
+     * @param operation the read operation
+     * @param <T> the result type of the operation
+     * @return the result of the operation
+     * @since 2.8
+     */
+    protected final <T> T readOptimistically(final Supplier<T> operation)
+    {
+        final long stamp = beginOptimisticRead();
+        if (stamp != 0)
+        {
+            try
+            {
+                final T result = operation.get();
+                if (endOptimisticRead(stamp))
+                {
+                    return result;
+                }
+            }
+            catch (final RuntimeException rex)
+            {
+                if (endOptimisticRead(stamp))
+                {
+                    throw rex;
+                }
+            }
+        }
+
+        beginRead(false);
+        try
+        {
+            return operation.get();
+        }
+        finally
+        {
+            endRead();
+        }
+    }
+
     @Override
     public final void addProperty(final String key, final Object value)
     {
@@ -760,6 +1080,25 @@ public abstract class AbstractConfiguration extends BaseEventSource implements C
         return ci != null ? ci.interpolate(value) : value;
     }
 
+    /**
+     * {@inheritDoc} This implementation additionally notifies the current
+     * {@code ConfigurationInterpolator} about the change after it has been
+     * performed, so that cached interpolation results depending on the
+     * affected keys are evicted. If the event does not refer to specific keys,
+     * the whole cache is cleared. This happens independently on registered
+     * event listeners.
+     */
+    @Override
+    protected <T extends ConfigurationEvent> void fireEvent(final EventType<T> type,
+            final String propName, final Object propValue, final boolean before)
+    {
+        if (!before)
+        {
+            invalidateInterpolationCache(type, propName, propValue);
+        }
+        super.fireEvent(type, propName, propValue, before);
+    }
+
     @Override
     public Configuration subset(final String prefix)
     {
@@ -813,6 +1152,122 @@ public abstract class AbstractConfiguration extends BaseEventSource implements C
         }
     }
 
+    /**
+     * {@inheritDoc} This implementation obtains the write lock only once for
+     * all properties. Rather than generating events for each single property,
+     * it fires a single event of type
+     * {@link ConfigurationEvent#ADD_PROPERTIES} whose value is a map with the
+     * affected keys and their values. The actual work is done by
+     * {@link #addPropertiesInternal(Map)}.
+     */
+    @Override
+    public final void addProperties(final Map<String, ?> properties)
+    {
+        final Map<String, Object> props = copyProperties(properties);
+        beginWrite(false);
+        try
+        {
+            fireEvent(ConfigurationEvent.ADD_PROPERTIES, null, props, true);
+            setDetailEvents(false);
+            try
+            {
+                addPropertiesInternal(props);
+            }
+            finally
+            {
+                setDetailEvents(true);
+            }
+            fireEvent(ConfigurationEvent.ADD_PROPERTIES, null, props, false);
+        }
+        finally
+        {
+            endWrite();
+        }
+    }
+
+    /**
+     * Actually adds multiple properties to this configuration. This method is
+     * called by {@code addProperties()} while the write lock is held. This
+     * base implementation calls {@link #addPropertyInternal(String, Object)}
+     * for each entry of the map. Subclasses can override it if they can add
+     * multiple properties more efficiently.
+     *
+     * @param properties the map with the properties to be added
+     * @since 2.8
+     */
+    protected void addPropertiesInternal(final Map<String, ?> properties)
+    {
+        properties.forEach(this::addPropertyInternal);
+    }
+
+    /**
+     * {@inheritDoc} This implementation obtains the write lock only once for
+     * all properties. Rather than generating events for each single property,
+     * it fires a single event of type
+     * {@link ConfigurationEvent#SET_PROPERTIES} whose value is a map with the
+     * affected keys and their new values. The actual work is done by
+     * {@link #setPropertiesInternal(Map)}.
+     */
+    @Override
+    public final void setProperties(final Map<String, ?> properties)
+    {
+        final Map<String, Object> props = copyProperties(properties);
+        beginWrite(false);
+        try
+        {
+            fireEvent(ConfigurationEvent.SET_PROPERTIES, null, props, true);
+            setDetailEvents(false);
+            try
+            {
+                setPropertiesInternal(props);
+            }
+            finally
+            {
+                setDetailEvents(true);
+            }
+            fireEvent(ConfigurationEvent.SET_PROPERTIES, null, props, false);
+        }
+        finally
+        {
+            endWrite();
+        }
+    }
+
+    /**
+     * Actually sets the values of multiple properties. This method is called
+     * by {@code setProperties()} while the write lock is held. This base
+     * implementation calls {@link #setPropertyInternal(String, Object)} for
+     * each entry of the map. Subclasses can override it if they can set
+     * multiple properties more efficiently.
+     *
+     * @param properties the map with the keys and new values of the properties
+     * @since 2.8
+     */
+    protected void setPropertiesInternal(final Map<String, ?> properties)
+    {
+        properties.forEach(this::setPropertyInternal);
+    }
+
+    /**
+     * Creates an unmodifiable copy of the map passed to a bulk update
+     * operation. The copy is passed to event listeners, so it must not be
+     * affected by later changes of the original map.
+     *
+     * @param properties the map with properties
+     * @return the unmodifiable copy of the map
+     * @throws IllegalArgumentException if the map is <b>null</b>
+     */
+    private static Map<String, Object> copyProperties(
+            final Map<String, ?> properties)
+    {
+        if (properties == null)
+        {
+            throw new IllegalArgumentException(
+                    "Map with properties must not be null!");
+        }
+        return Collections.unmodifiableMap(new LinkedHashMap<>(properties));
+    }
+
     /**
      * Removes the specified property from this configuration. This
      * implementation performs some preparations and then delegates to
@@ -914,20 +1369,13 @@ public abstract class AbstractConfiguration extends BaseEventSource implements C
      * {@inheritDoc} This implementation takes care of synchronization and then
      * delegates to {@code getKeysInternal()} for obtaining the actual iterator.
      * Note that depending on a concrete implementation, an iteration may fail
-     * if the configuration is updated concurrently.
+     * if the configuration is updated concurrently. Optimistic reads are
+     * supported in the same way as for {@code getProperty()}.
      */
     @Override
     public final Iterator<String> getKeys()
     {
-        beginRead(false);
-        try
-        {
-            return getKeysInternal();
-        }
-        finally
-        {
-            endRead();
-        }
+        return readOptimistically(this::getKeysInternal);
     }
 
     /**
@@ -940,15 +1388,7 @@ public abstract class AbstractConfiguration extends BaseEventSource implements C
     @Override
     public final Iterator<String> getKeys(final String prefix)
     {
-        beginRead(false);
-        try
-        {
-            return getKeysInternal(prefix);
-        }
-        finally
-        {
-            endRead();
-        }
+        return readOptimistically(() -> getKeysInternal(prefix));
     }
 
     /**
@@ -981,20 +1421,14 @@ public abstract class AbstractConfiguration extends BaseEventSource implements C
     /**
      * {@inheritDoc} This implementation ensures proper synchronization.
      * Subclasses have to define the abstract {@code getPropertyInternal()}
-     * method which is called from here.
+     * method which is called from here. If the {@code Synchronizer} supports
+     * optimistic reads, {@code getPropertyInternal()} may be called without a
+     * lock held and is then repeated if a concurrent update is detected.
      */
     @Override
     public final Object getProperty(final String key)
     {
-        beginRead(false);
-        try
-        {
-            return getPropertyInternal(key);
-        }
-        finally
-        {
-            endRead();
-        }
+        return readOptimistically(() -> getPropertyInternal(key));
     }
 
     /**
@@ -1075,20 +1509,14 @@ public abstract class AbstractConfiguration extends BaseEventSource implements C
 
     /**
      * {@inheritDoc} This implementation handles synchronization and delegates
-     * to {@code containsKeyInternal()}.
+     * to {@code containsKeyInternal()}. Like {@code getProperty()}, it makes
+     * use of optimistic reads if they are supported by the
+     * {@code Synchronizer}.
      */
     @Override
     public final boolean containsKey(final String key)
     {
-        beginRead(false);
-        try
-        {
-            return containsKeyInternal(key);
-        }
-        finally
-        {
-            endRead();
-        }
+        return readOptimistically(() -> containsKeyInternal(key));
     }
 
     /**
@@ -1411,8 +1839,27 @@ public abstract class AbstractConfiguration extends BaseEventSource implements C
     @Override
     public String[] getStringArray(final String key)
     {
+        final ValueCache cache = listCache;
+        if (cache != null)
+        {
+            final String[] cached = (String[]) cache.get(String[].class, key);
+            if (cached != null)
+            {
+                return cached.clone();
+            }
+        }
+
+        final long generation = cache != null ? cache.getGeneration() : 0;
         final String[] result = (String[]) getArray(String.class, key);
-        return result == null ? new String[0] : result;
+        if (result == null)
+        {
+            return new String[0];
+        }
+        if (cache != null && isCacheableValue(getProperty(key)))
+        {
+            cache.put(String[].class, key, result.clone(), generation);
+        }
+        return result;
     }
 
     /**
@@ -1422,13 +1869,56 @@ public abstract class AbstractConfiguration extends BaseEventSource implements C
     @Override
     public List<Object> getList(final String key)
     {
-        return getList(key, new ArrayList<>());
+        final List<Object> list = getList(key, null);
+        return list != null ? list : new ArrayList<>();
     }
 
     @Override
     public List<Object> getList(final String key, final List<?> defaultValue)
     {
+        final ValueCache cache = listCache;
+        if (cache != null)
+        {
+            @SuppressWarnings("unchecked")
+            final List<Object> cached = (List<Object>) cache.get(List.class, key);
+            if (cached != null)
+            {
+                return cached;
+            }
+        }
+
+        final long generation = cache != null ? cache.getGeneration() : 0;
         final Object value = getProperty(key);
+        if (value == null)
+        {
+            // This is okay because we just return this list to the caller
+            @SuppressWarnings("unchecked")
+            final
+            List<Object> resultList = (List<Object>) defaultValue;
+            return resultList;
+        }
+
+        final List<Object> list = createList(key, value);
+        if (cache != null && isCacheableValue(value))
+        {
+            final List<Object> cachedList = Collections.unmodifiableList(list);
+            cache.put(List.class, key, cachedList, generation);
+            return cachedList;
+        }
+        return list;
+    }
+
+    /**
+     * Creates the list returned by {@code getList()} for the given property
+     * value.
+     *
+     * @param key the key of the property
+     * @param value the value of the property (not <b>null</b>)
+     * @return the list with the values of this property
+     * @throws ConversionException if the value cannot be converted to a list
+     */
+    private List<Object> createList(final String key, final Object value)
+    {
         List<Object> list;
 
         if (value instanceof String)
@@ -1447,14 +1937,6 @@ public abstract class AbstractConfiguration extends BaseEventSource implements C
                 list.add(interpolate(elem));
             }
         }
-        else if (value == null)
-        {
-            // This is okay because we just return this list to the caller
-            @SuppressWarnings("unchecked")
-            final
-            List<Object> resultList = (List<Object>) defaultValue;
-            list = resultList;
-        }
         else if (value.getClass().isArray())
         {
             return Arrays.asList((Object[]) value);
@@ -1747,12 +2229,29 @@ public abstract class AbstractConfiguration extends BaseEventSource implements C
      */
     private <T> T getAndConvertProperty(final Class<T> cls, final String key, final T defaultValue)
     {
+        final ValueCache cache = conversionCache;
+        if (cache != null)
+        {
+            @SuppressWarnings("unchecked")
+            final T cached = (T) cache.get(cls, key);
+            if (cached != null)
+            {
+                return cached;
+            }
+        }
+
+        final long generation = cache != null ? cache.getGeneration() : 0;
         final Object value = getProperty(key);
         try
         {
-            return ObjectUtils.defaultIfNull(
-                    getConversionHandler().to(value, cls, getInterpolator()),
-                    defaultValue);
+            final T result =
+                    getConversionHandler().to(value, cls, getInterpolator());
+            if (cache != null && result != null
+                    && isImmutableValue(result) && isCacheableValue(value))
+            {
+                cache.put(cls, key, result, generation);
+            }
+            return ObjectUtils.defaultIfNull(result, defaultValue);
         }
         catch (final ConversionException cex)
         {
@@ -1871,6 +2370,62 @@ public abstract class AbstractConfiguration extends BaseEventSource implements C
         return result;
     }
 
+    /**
+     * Clears the given value cache if it is defined.
+     *
+     * @param cache the cache (may be <b>null</b>)
+     */
+    private static void invalidateCache(final ValueCache cache)
+    {
+        if (cache != null)
+        {
+            cache.invalidate();
+        }
+    }
+
+    /**
+     * Checks whether the given result of a conversion is immutable, so that it
+     * can be shared between multiple callers.
+     *
+     * @param value the value to check
+     * @return a flag whether this value is immutable
+     */
+    private static boolean isImmutableValue(final Object value)
+    {
+        return value instanceof Enum
+                || IMMUTABLE_TYPES.contains(value.getClass());
+    }
+
+    /**
+     * Checks whether results derived from the given property value can be
+     * cached. This is the case if it does not contain any strings with
+     * variables, so that its interpolated value only depends on this
+     * configuration.
+     *
+     * @param value the property value
+     * @return a flag whether this value can be cached
+     */
+    private static boolean isCacheableValue(final Object value)
+    {
+        if (value instanceof Collection)
+        {
+            for (final Object elem : (Collection<?>) value)
+            {
+                if (!isCacheableValue(elem))
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (value instanceof Object[])
+        {
+            return isCacheableValue(Arrays.asList((Object[]) value));
+        }
+        return !(value instanceof String)
+                || !((String) value).contains(VARIABLE_START);
+    }
+
     /**
      * Checks whether the specified value is <b>null</b> and throws an exception
      * in this case. This method is used by conversion methods returning
@@ -1902,4 +2457,86 @@ public abstract class AbstractConfiguration extends BaseEventSource implements C
         throw new NoSuchElementException(String.format(
                 "Key '%s' does not map to an existing object!", key));
     }
+
+    /**
+     * A class holding cached values derived from the properties of this
+     * configuration, e.g. the results of {@code getList()} or of type
+     * conversions. Values are stored per key and type. A generation counter
+     * is incremented whenever the cache is invalidated; it is used to detect
+     * results that were computed from data which has changed in the meantime.
+     */
+    private static final class ValueCache
+    {
+        /** The cached values organized by their type. */
+        private final ConcurrentMap<Class<?>, ConcurrentMap<String, Object>> values =
+                new ConcurrentHashMap<>();
+
+        /** The current generation. */
+        private final AtomicLong generation = new AtomicLong();
+
+        /** The approximate number of cached values. */
+        private final AtomicInteger size = new AtomicInteger();
+
+        /**
+         * Returns the cached value for the given type and key.
+         *
+         * @param type the type of the value
+         * @param key the key
+         * @return the cached value or <b>null</b>
+         */
+        public Object get(final Class<?> type, final String key)
+        {
+            final ConcurrentMap<String, Object> map = values.get(type);
+            return map != null ? map.get(key) : null;
+        }
+
+        /**
+         * Returns the current generation of this cache.
+         *
+         * @return the current generation
+         */
+        public long getGeneration()
+        {
+            return generation.get();
+        }
+
+        /**
+         * Adds a value to this cache unless the cache has been invalidated
+         * since the value was computed or the maximum size is reached.
+         *
+         * @param type the type of the value
+         * @param key the key
+         * @param value the value to be cached
+         * @param gen the generation at which the value was computed
+         */
+        public void put(final Class<?> type, final String key,
+                final Object value, final long gen)
+        {
+            if (size.get() < MAX_CACHED_VALUES && generation.get() == gen)
+            {
+                final ConcurrentMap<String, Object> map = values
+                        .computeIfAbsent(type, t -> new ConcurrentHashMap<>());
+                if (map.put(key, value) == null)
+                {
+                    size.incrementAndGet();
+                }
+                if (generation.get() != gen)
+                {
+                    map.remove(key, value);
+                }
+            }
+        }
+
+        /**
+         * Clears this cache.
+         */
+        public void invalidate()
+        {
+            generation.incrementAndGet();
+            if (size.getAndSet(0) > 0)
+            {
+                values.clear();
+            }
+        }
+    }
 }
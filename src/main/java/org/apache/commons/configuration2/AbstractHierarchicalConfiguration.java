@@ -22,6 +22,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -226,20 +227,13 @@ public abstract class AbstractHierarchicalConfiguration<T> extends AbstractConfi
 
     /**
      * {@inheritDoc} This implementation returns the configuration's
-     * {@code NodeModel}. It is guarded by the current {@code Synchronizer}.
+     * {@code NodeModel}. It is guarded by the current {@code Synchronizer}
+     * (optimistic reads are supported).
      */
     @Override
     public NodeModel<T> getNodeModel()
     {
-        beginRead(false);
-        try
-        {
-            return getModel();
-        }
-        finally
-        {
-            endRead();
-        }
+        return readOptimistically(this::getModel);
     }
 
     /**
@@ -282,13 +276,27 @@ public abstract class AbstractHierarchicalConfiguration<T> extends AbstractConfi
     @Override
     protected Object getPropertyInternal(final String key)
     {
-        final List<QueryResult<T>> results = fetchNodeList(key);
+        return fetchValue(key, getModel().getNodeHandler());
+    }
+
+    /**
+     * Fetches the value of the specified property using the given
+     * {@code NodeHandler}. All nodes are resolved via the passed in handler,
+     * so the result is consistent even if the model is updated concurrently.
+     *
+     * @param key the key to be looked up
+     * @param handler the {@code NodeHandler}
+     * @return the found value
+     */
+    private Object fetchValue(final String key, final NodeHandler<T> handler)
+    {
+        final List<QueryResult<T>> results =
+                resolveKey(handler.getRootNode(), key, handler);
 
         if (results.isEmpty())
         {
             return null;
         }
-        final NodeHandler<T> handler = getModel().getNodeHandler();
         final List<Object> list = new ArrayList<>();
         for (final QueryResult<T> result : results)
         {
@@ -438,6 +446,34 @@ public abstract class AbstractHierarchicalConfiguration<T> extends AbstractConfi
         getModel().setProperty(key, value, this);
     }
 
+    /**
+     * {@inheritDoc} This implementation passes all properties to the node
+     * model in a single step. Note that {@code setPropertyInternal()} is not
+     * called; so derived classes overriding this method should also override
+     * this one.
+     */
+    @Override
+    protected void setPropertiesInternal(final Map<String, ?> properties)
+    {
+        getModel().setProperties(properties, this);
+    }
+
+    /**
+     * {@inheritDoc} This implementation performs list splitting on the values
+     * and then passes all properties to the node model in a single step. Note
+     * that {@code addPropertyInternal()} is not called; so derived classes
+     * overriding this method should also override this one.
+     */
+    @Override
+    protected void addPropertiesInternal(final Map<String, ?> properties)
+    {
+        final Map<String, Iterable<?>> values =
+                new LinkedHashMap<>(properties.size());
+        properties.forEach((key, value) -> values.put(key,
+                getListDelimiterHandler().parse(value)));
+        getModel().addProperties(values, this);
+    }
+
     /**
      * {@inheritDoc} This implementation delegates to the expression engine.
      */
@@ -671,14 +707,15 @@ public abstract class AbstractHierarchicalConfiguration<T> extends AbstractConfi
     protected Iterator<String> getKeysInternal(final String prefix)
     {
         final DefinedKeysVisitor visitor = new DefinedKeysVisitor(prefix);
-        if (containsKey(prefix))
+        final NodeHandler<T> handler = getModel().getNodeHandler();
+        if (fetchValue(prefix, handler) != null)
         {
             // explicitly add the prefix
             visitor.getKeyList().add(prefix);
         }
 
-        final List<QueryResult<T>> results = fetchNodeList(prefix);
-        final NodeHandler<T> handler = getModel().getNodeHandler();
+        final List<QueryResult<T>> results =
+                resolveKey(handler.getRootNode(), prefix, handler);
 
         for (final QueryResult<T> result : results)
         {
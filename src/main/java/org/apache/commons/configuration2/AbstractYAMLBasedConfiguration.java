@@ -140,7 +140,7 @@ public class AbstractYAMLBasedConfiguration extends BaseHierarchicalConfiguratio
      * @param elem the element to be processed
      * @return a list with configuration nodes representing the element
      */
-    private static List<ImmutableNode> constructHierarchy(final String key,
+    static List<ImmutableNode> constructHierarchy(final String key,
             final Object elem)
     {
         if (elem instanceof Map)
@@ -207,6 +207,10 @@ public class AbstractYAMLBasedConfiguration extends BaseHierarchicalConfiguratio
      */
     static void rethrowException(final Exception e) throws ConfigurationException
     {
+        if (e instanceof ConfigurationException)
+        {
+            throw (ConfigurationException) e;
+        }
         if (e instanceof ClassCastException)
         {
             throw new ConfigurationException("Error parsing", e);
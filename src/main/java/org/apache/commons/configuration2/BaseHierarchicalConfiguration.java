@@ -35,6 +35,7 @@ import org.apache.commons.configuration2.tree.ImmutableNode;
 import org.apache.commons.configuration2.tree.InMemoryNodeModel;
 import org.apache.commons.configuration2.tree.InMemoryNodeModelSupport;
 import org.apache.commons.configuration2.tree.NodeHandler;
+import org.apache.commons.configuration2.tree.NodeKeyIndex;
 import org.apache.commons.configuration2.tree.NodeModel;
 import org.apache.commons.configuration2.tree.NodeSelector;
 import org.apache.commons.configuration2.tree.NodeTreeWalker;
@@ -53,9 +54,18 @@ import org.apache.commons.lang3.ObjectUtils;
 public class BaseHierarchicalConfiguration extends AbstractHierarchicalConfiguration<ImmutableNode>
     implements InMemoryNodeModelSupport
 {
+    /**
+     * Constant for the stamp returned by {@code beginOptimisticRead()} in the
+     * snapshot reads mode. (It just has to be different from 0.)
+     */
+    private static final long SNAPSHOT_STAMP = -1L;
+
     /** A listener for reacting on changes caused by sub configurations. */
     private final EventListener<ConfigurationEvent> changeListener;
 
+    /** A flag whether queries are executed without a read lock. */
+    private volatile boolean snapshotReads;
+
     /**
      * Creates a new instance of {@code BaseHierarchicalConfiguration}.
      */
@@ -100,6 +110,45 @@ public class BaseHierarchicalConfiguration extends AbstractHierarchicalConfigura
         return (InMemoryNodeModel) super.getNodeModel();
     }
 
+    /**
+     * Returns a flag whether queries on this configuration are executed
+     * without obtaining a read lock.
+     *
+     * @return the snapshot reads flag
+     * @since 2.8
+     */
+    public boolean isSnapshotReads()
+    {
+        return snapshotReads;
+    }
+
+    /**
+     * Sets a flag whether queries on this configuration are executed without
+     * obtaining a read lock. The {@code InMemoryNodeModel} used by this
+     * configuration stores its nodes structure in an atomic reference which
+     * is replaced as a whole on each update. If this flag is set, the methods
+     * {@code getProperty()}, {@code containsKey()}, {@code getKeys()}, and
+     * {@code configurationsAt()} (and the methods based on them) do not call
+     * the {@code Synchronizer}; they rather resolve the key on a snapshot of
+     * the nodes structure captured at the beginning of the operation. Thus,
+     * they never block and always see a consistent state, even if the
+     * configuration is updated concurrently. Update operations still use the
+     * {@code Synchronizer}; so a
+     * {@link org.apache.commons.configuration2.sync.ReadWriteSynchronizer
+     * ReadWriteSynchronizer} can be set to serialize them. Note that an operation that performs multiple updates
+     * (e.g. {@code copy()}) is not atomic for readers in this mode; they may
+     * see an intermediate state. This flag should be set when the
+     * configuration is initialized; sub configurations created via
+     * {@code configurationAt()} and related methods inherit it.
+     *
+     * @param snapshotReads the snapshot reads flag
+     * @since 2.8
+     */
+    public void setSnapshotReads(final boolean snapshotReads)
+    {
+        this.snapshotReads = snapshotReads;
+    }
+
     /**
      * Creates a new {@code Configuration} object containing all keys
      * that start with the specified prefix. This implementation will return a
@@ -226,11 +275,15 @@ public class BaseHierarchicalConfiguration extends AbstractHierarchicalConfigura
     public HierarchicalConfiguration<ImmutableNode> configurationAt(final String key,
             final boolean supportUpdates)
     {
+        if (!supportUpdates)
+        {
+            return readOptimistically(() -> createIndependentSubConfiguration(key));
+        }
+
         beginRead(false);
         try
         {
-            return supportUpdates ? createConnectedSubConfiguration(key)
-                    : createIndependentSubConfiguration(key);
+            return createConnectedSubConfiguration(key);
         }
         finally
         {
@@ -238,6 +291,54 @@ public class BaseHierarchicalConfiguration extends AbstractHierarchicalConfigura
         }
     }
 
+    /**
+     * {@inheritDoc} This implementation supports the snapshot reads mode: If
+     * it is enabled, a dummy stamp is returned, so that no lock is acquired.
+     *
+     * @see #setSnapshotReads(boolean)
+     */
+    @Override
+    protected long beginOptimisticRead()
+    {
+        return isSnapshotReads() ? SNAPSHOT_STAMP : super.beginOptimisticRead();
+    }
+
+    /**
+     * {@inheritDoc} In the snapshot reads mode, read operations are always
+     * valid because they operate on a single, immutable nodes structure.
+     *
+     * @see #setSnapshotReads(boolean)
+     */
+    @Override
+    protected boolean endOptimisticRead(final long stamp)
+    {
+        return isSnapshotReads() || super.endOptimisticRead(stamp);
+    }
+
+    /**
+     * {@inheritDoc} If the key index is enabled for the
+     * {@code InMemoryNodeModel} of this configuration, this implementation
+     * tries to obtain the value from the {@link NodeKeyIndex}. Only if the
+     * key cannot be resolved by the index, a query is executed.
+     *
+     * @see InMemoryNodeModel#setKeyIndexEnabled(boolean)
+     */
+    @Override
+    protected Object getPropertyInternal(final String key)
+    {
+        final List<Object> values = fetchIndexedValues(key);
+        if (values == null)
+        {
+            return super.getPropertyInternal(key);
+        }
+
+        if (values.isEmpty())
+        {
+            return null;
+        }
+        return values.size() == 1 ? values.get(0) : new ArrayList<>(values);
+    }
+
     /**
      * Returns the {@code InMemoryNodeModel} to be used as parent model for a
      * new sub configuration. This method is called whenever a sub configuration
@@ -444,16 +545,8 @@ public class BaseHierarchicalConfiguration extends AbstractHierarchicalConfigura
     public List<HierarchicalConfiguration<ImmutableNode>> configurationsAt(
             final String key)
     {
-        List<ImmutableNode> nodes;
-        beginRead(false);
-        try
-        {
-            nodes = fetchFilteredNodeResults(key);
-        }
-        finally
-        {
-            endRead();
-        }
+        final List<ImmutableNode> nodes =
+                readOptimistically(() -> fetchFilteredNodeResults(key));
 
         final List<HierarchicalConfiguration<ImmutableNode>> results =
                 new ArrayList<>(
@@ -519,16 +612,8 @@ public class BaseHierarchicalConfiguration extends AbstractHierarchicalConfigura
     public List<HierarchicalConfiguration<ImmutableNode>> childConfigurationsAt(
             final String key)
     {
-        List<ImmutableNode> nodes;
-        beginRead(false);
-        try
-        {
-            nodes = fetchFilteredNodeResults(key);
-        }
-        finally
-        {
-            endRead();
-        }
+        final List<ImmutableNode> nodes =
+                readOptimistically(() -> fetchFilteredNodeResults(key));
 
         if (nodes.size() != 1)
         {
@@ -607,6 +692,7 @@ public class BaseHierarchicalConfiguration extends AbstractHierarchicalConfigura
         sub.setExpressionEngine(getExpressionEngine());
         sub.setListDelimiterHandler(getListDelimiterHandler());
         sub.setThrowExceptionOnMissing(isThrowExceptionOnMissing());
+        sub.setSnapshotReads(isSnapshotReads());
         sub.getInterpolator().setParentInterpolator(getInterpolator());
     }
 
@@ -658,6 +744,29 @@ public class BaseHierarchicalConfiguration extends AbstractHierarchicalConfigura
         return new InMemoryNodeModel(getModel().getNodeHandler().getRootNode());
     }
 
+    /**
+     * Obtains the values of the given key from the key index of the node
+     * model. Result is <b>null</b> if no key index is available or if it does
+     * not contain the key.
+     *
+     * @param key the key
+     * @return the values for this key from the key index or <b>null</b>
+     */
+    private List<Object> fetchIndexedValues(final String key)
+    {
+        final NodeModel<ImmutableNode> model = getModel();
+        if (key != null && model instanceof InMemoryNodeModel)
+        {
+            final NodeKeyIndex index =
+                    ((InMemoryNodeModel) model).getKeyIndex(getExpressionEngine());
+            if (index != null)
+            {
+                return index.getValues(key);
+            }
+        }
+        return null;
+    }
+
     /**
      * Creates a list with immutable configurations from the given input list.
      *
@@ -26,6 +26,9 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.commons.configuration2.event.ConfigurationEvent;
 import org.apache.commons.configuration2.event.EventListener;
@@ -177,6 +180,15 @@ import org.apache.commons.configuration2.tree.UnionCombiner;
  * configurations could interfere with read operations on the combined
  * configuration.
  * </p>
+ * <p>
+ * Per default, the combined node structure is reconstructed by the first
+ * thread accessing the configuration after an invalidation; all other threads
+ * have to wait until this is done. If an {@code Executor} is set via
+ * {@link #setRebuildExecutor(Executor)}, read operations rather continue to
+ * see the previous node structure after one of the child configurations has
+ * been changed, while the new structure is constructed in background by the
+ * {@code Executor}. When it is complete, it replaces the old one atomically.
+ * </p>
  *
  * @since 1.3
  */
@@ -219,7 +231,31 @@ public class CombinedConfiguration extends BaseHierarchicalConfiguration impleme
     private ExpressionEngine conversionExpressionEngine;
 
     /** A flag whether this configuration is up-to-date. */
-    private boolean upToDate;
+    private volatile boolean upToDate;
+
+    /** A flag whether the combined node structure is rebuilt incrementally. */
+    private boolean incrementalRebuild;
+
+    /**
+     * The index of the first child configuration whose combined node has to
+     * be reconstructed on the next rebuild.
+     */
+    private int rebuildIndex;
+
+    /** The executor for rebuilding the combined node structure in background. */
+    private Executor rebuildExecutor;
+
+    /**
+     * A flag whether the current combined node structure can still be used by
+     * read operations although it is outdated.
+     */
+    private volatile boolean staleRootUsable;
+
+    /** A flag whether a background rebuild has been scheduled. */
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+
+    /** A counter for invalidations to detect outdated background rebuilds. */
+    private volatile long invalidationCount;
 
     /**
      * Creates a new instance of {@code CombinedConfiguration} and
@@ -285,6 +321,7 @@ public class CombinedConfiguration extends BaseHierarchicalConfiguration impleme
         try
         {
             this.nodeCombiner = nodeCombiner;
+            staleRootUsable = false;
             invalidateInternal();
         }
         finally
@@ -293,6 +330,105 @@ public class CombinedConfiguration extends BaseHierarchicalConfiguration impleme
         }
     }
 
+    /**
+     * Returns a flag whether the combined node structure is rebuilt
+     * incrementally.
+     *
+     * @return the incremental rebuild flag
+     * @since 2.8
+     */
+    public boolean isIncrementalRebuild()
+    {
+        beginRead(true);
+        try
+        {
+            return incrementalRebuild;
+        }
+        finally
+        {
+            endRead();
+        }
+    }
+
+    /**
+     * Sets a flag whether the combined node structure is rebuilt
+     * incrementally. Per default, the whole combined node structure is
+     * reconstructed whenever one of the child configurations is changed. If
+     * this flag is set, the intermediate results of the node combiner are
+     * stored for each child configuration; then a change of a child
+     * configuration only causes this child and the ones added after it to be
+     * combined again. The node structures of the other children are reused,
+     * too. This speeds up the reconstruction if there are many children which
+     * are changed independently, at the cost of additional memory. Note that
+     * the cached node structures are only updated if a child configuration
+     * sends a change event or if {@link #invalidate()} is called.
+     *
+     * @param incrementalRebuild the incremental rebuild flag
+     * @since 2.8
+     */
+    public void setIncrementalRebuild(final boolean incrementalRebuild)
+    {
+        beginWrite(true);
+        try
+        {
+            this.incrementalRebuild = incrementalRebuild;
+        }
+        finally
+        {
+            endWrite();
+        }
+    }
+
+    /**
+     * Returns the {@code Executor} used for rebuilding the combined node
+     * structure in background.
+     *
+     * @return the rebuild executor (can be <b>null</b>)
+     * @since 2.8
+     */
+    public Executor getRebuildExecutor()
+    {
+        beginRead(true);
+        try
+        {
+            return rebuildExecutor;
+        }
+        finally
+        {
+            endRead();
+        }
+    }
+
+    /**
+     * Sets an {@code Executor} for rebuilding the combined node structure in
+     * background. If an executor is set and a child configuration is changed
+     * or {@link #invalidate()} is called, read operations do not wait until
+     * the combined node structure has been reconstructed; they rather use the
+     * previous one. A task for the reconstruction is passed to the executor;
+     * when it is done, the new node structure becomes visible. Write
+     * operations and structural changes of this configuration (like adding or
+     * removing child configurations, or setting a new node combiner) still
+     * cause a synchronous reconstruction. A <b>null</b> value disables
+     * background rebuilds. Note that background rebuilds require a
+     * {@code Synchronizer} which supports concurrent access.
+     *
+     * @param rebuildExecutor the executor for background rebuilds (can be
+     *        <b>null</b>)
+     * @since 2.8
+     */
+    public void setRebuildExecutor(final Executor rebuildExecutor)
+    {
+        beginWrite(true);
+        try
+        {
+            this.rebuildExecutor = rebuildExecutor;
+        }
+        finally
+        {
+            endWrite();
+        }
+    }
+
     /**
      * Returns the {@code ExpressionEngine} for converting flat child
      * configurations to hierarchical ones.
@@ -391,7 +527,8 @@ public class CombinedConfiguration extends BaseHierarchicalConfiguration impleme
                 namedConfigurations.put(name, config);
             }
 
-            invalidateInternal();
+            staleRootUsable = false;
+            invalidateInternal(configurations.size() - 1);
         }
         finally
         {
@@ -569,7 +706,8 @@ public class CombinedConfiguration extends BaseHierarchicalConfiguration impleme
             namedConfigurations.remove(cd.getName());
         }
         unregisterListenerAt(cd.getConfiguration());
-        invalidateInternal();
+        staleRootUsable = false;
+        invalidateInternal(index);
         return cd.getConfiguration();
     }
 
@@ -635,7 +773,11 @@ public class CombinedConfiguration extends BaseHierarchicalConfiguration impleme
     /**
      * Event listener call back for configuration update events. This method is
      * called whenever one of the contained configurations was modified. It
-     * invalidates this combined configuration.
+     * invalidates this combined configuration. In incremental rebuild mode,
+     * only the parts of the combined node structure are invalidated which
+     * depend on the changed configuration. After the update, cached
+     * interpolation results are discarded because they may have been computed
+     * from the old state of the changed configuration.
      *
      * @param event the update event
      */
@@ -644,7 +786,18 @@ public class CombinedConfiguration extends BaseHierarchicalConfiguration impleme
     {
         if (event.isBeforeUpdate())
         {
-            invalidate();
+            if (isIncrementalRebuild())
+            {
+                invalidate(event.getSource());
+            }
+            else
+            {
+                invalidate();
+            }
+        }
+        else
+        {
+            invalidateInterpolationCache();
         }
     }
 
@@ -656,6 +809,7 @@ public class CombinedConfiguration extends BaseHierarchicalConfiguration impleme
     {
         unregisterListenerAtChildren();
         initChildCollections();
+        staleRootUsable = false;
         invalidateInternal();
     }
 
@@ -806,6 +960,11 @@ public class CombinedConfiguration extends BaseHierarchicalConfiguration impleme
             {
                 lockObtained = true;
             }
+            else if (scheduleRebuild())
+            {
+                // read the outdated structure while it is rebuilt
+                lockObtained = true;
+            }
             else
             {
                 // release read lock and try to obtain a write lock
@@ -816,6 +975,18 @@ public class CombinedConfiguration extends BaseHierarchicalConfiguration impleme
         } while (!lockObtained);
     }
 
+    /**
+     * {@inheritDoc} This implementation allows an optimistic read only if the
+     * combined root node is available. Otherwise, the read operation has to go
+     * through {@code beginRead()} which constructs the root node.
+     */
+    @Override
+    protected long beginOptimisticRead()
+    {
+        final long stamp = super.beginOptimisticRead();
+        return isUpToDate() ? stamp : 0L;
+    }
+
     /**
      * {@inheritDoc} This implementation checks whether a combined root node
      * is available. If not, it is constructed now.
@@ -837,6 +1008,7 @@ public class CombinedConfiguration extends BaseHierarchicalConfiguration impleme
                 getSubConfigurationParentModel().replaceRoot(
                         constructCombinedNode(), this);
                 upToDate = true;
+                staleRootUsable = true;
             }
         }
         catch (final RuntimeException rex)
@@ -866,10 +1038,159 @@ public class CombinedConfiguration extends BaseHierarchicalConfiguration impleme
      */
     private void invalidateInternal()
     {
+        for (final ConfigData cd : configurations)
+        {
+            cd.invalidate();
+        }
+        invalidateInternal(0);
+    }
+
+    /**
+     * Marks this configuration as invalid starting with the child
+     * configuration at the given index. On the next access, the combined node
+     * structure is re-created; in incremental rebuild mode, the intermediate
+     * results of the children before this index are reused. Note: This
+     * implementation expects that an exclusive (write) lock is held on this
+     * instance.
+     *
+     * @param index the index of the first child configuration affected
+     */
+    private void invalidateInternal(final int index)
+    {
+        rebuildIndex = Math.min(rebuildIndex, index);
+        invalidationCount++;
         upToDate = false;
         fireEvent(COMBINED_INVALIDATE, null, null, false);
     }
 
+    /**
+     * Invalidates the parts of this combined configuration which depend on
+     * the given child configuration. If the object passed in is not a child
+     * configuration, the whole configuration is invalidated.
+     *
+     * @param source the child configuration which has been changed
+     */
+    private void invalidate(final Object source)
+    {
+        beginWrite(true);
+        try
+        {
+            int index = -1;
+            for (int i = 0; i < configurations.size(); i++)
+            {
+                final ConfigData cd = configurations.get(i);
+                if (cd.getConfiguration() == source)
+                {
+                    cd.invalidate();
+                    if (index < 0)
+                    {
+                        index = i;
+                    }
+                }
+            }
+
+            if (index < 0)
+            {
+                invalidateInternal();
+            }
+            else
+            {
+                invalidateInternal(index);
+            }
+        }
+        finally
+        {
+            endWrite();
+        }
+    }
+
+    /**
+     * Schedules a background rebuild of the combined node structure if this
+     * is possible. This method is called by read operations if the structure
+     * is outdated. If a rebuild executor is set and an old structure is
+     * available, a rebuild task is passed to the executor (if this has not
+     * already been done), and the read operation can continue with the old
+     * structure. Note: This method expects that a read lock is held.
+     *
+     * @return a flag whether the outdated structure can be used
+     */
+    private boolean scheduleRebuild()
+    {
+        final Executor executor = rebuildExecutor;
+        if (executor == null || !staleRootUsable)
+        {
+            return false;
+        }
+
+        if (rebuildScheduled.compareAndSet(false, true))
+        {
+            try
+            {
+                executor.execute(this::rebuildInBackground);
+            }
+            catch (final RejectedExecutionException rex)
+            {
+                getLogger().warn("Background rebuild rejected by executor.",
+                        rex);
+                rebuildScheduled.set(false);
+                staleRootUsable = false;
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reconstructs the combined node structure in background. The new
+     * structure is created while only a read lock is held; so other read
+     * operations are not blocked. Then a write lock is obtained to install
+     * the new structure. If the configuration has been invalidated in the
+     * meantime, the result is dropped; the next read operation schedules
+     * another rebuild.
+     */
+    private void rebuildInBackground()
+    {
+        try
+        {
+            final long count;
+            final ImmutableNode root;
+            beginRead(true);
+            try
+            {
+                count = invalidationCount;
+                root = constructCombinedNode();
+            }
+            finally
+            {
+                endRead();
+            }
+
+            beginWrite(true);
+            try
+            {
+                if (!isUpToDate() && count == invalidationCount)
+                {
+                    getSubConfigurationParentModel().replaceRoot(root, this);
+                    upToDate = true;
+                }
+            }
+            finally
+            {
+                endWrite();
+            }
+        }
+        catch (final RuntimeException rex)
+        {
+            // the next access will rebuild the structure synchronously
+            getLogger().warn("Background rebuild failed.", rex);
+            staleRootUsable = false;
+        }
+        finally
+        {
+            rebuildScheduled.set(false);
+        }
+    }
+
     /**
      * Initializes internal data structures for storing information about
      * child configurations.
@@ -895,13 +1216,28 @@ public class CombinedConfiguration extends BaseHierarchicalConfiguration impleme
             }
             return EMPTY_ROOT;
         }
-        final Iterator<ConfigData> it = configurations.iterator();
-        ImmutableNode node = it.next().getTransformedRoot();
-        while (it.hasNext())
+        final int count = getNumberOfConfigurationsInternal();
+        int start = incrementalRebuild ? Math.min(rebuildIndex, count) : 0;
+        if (start > 0 && configurations.get(start - 1).getCombinedNode() == null)
+        {
+            // no intermediate result available
+            start = 0;
+        }
+
+        ImmutableNode node =
+                start > 0 ? configurations.get(start - 1).getCombinedNode()
+                        : null;
+        for (int i = start; i < count; i++)
         {
-            node = nodeCombiner.combine(node,
-                    it.next().getTransformedRoot());
+            final ConfigData cd = configurations.get(i);
+            final ImmutableNode root =
+                    incrementalRebuild ? cd.getCachedTransformedRoot() : cd
+                            .getTransformedRoot();
+            node = node == null ? root : nodeCombiner.combine(node, root);
+            cd.setCombinedNode(incrementalRebuild ? node : null);
         }
+        rebuildIndex = count;
+
         if (getLogger().isDebugEnabled())
         {
             final ByteArrayOutputStream os = new ByteArrayOutputStream();
@@ -1017,6 +1353,15 @@ public class CombinedConfiguration extends BaseHierarchicalConfiguration impleme
         /** Stores the root node for this child configuration.*/
         private ImmutableNode rootNode;
 
+        /** Stores the transformed root node in incremental rebuild mode. */
+        private ImmutableNode transformedRoot;
+
+        /**
+         * Stores the result of combining the nodes of all configurations up
+         * to this one in incremental rebuild mode.
+         */
+        private ImmutableNode combinedNode;
+
         /**
          * Creates a new instance of {@code ConfigData} and initializes
          * it.
@@ -1087,6 +1432,52 @@ public class CombinedConfiguration extends BaseHierarchicalConfiguration impleme
             return atPath == null ? configRoot : prependAtPath(configRoot);
         }
 
+        /**
+         * Returns the transformed root node of the stored configuration from
+         * the cache. If it is not yet available, it is created now.
+         *
+         * @return the (cached) transformed root node
+         */
+        public ImmutableNode getCachedTransformedRoot()
+        {
+            if (transformedRoot == null)
+            {
+                transformedRoot = getTransformedRoot();
+            }
+            return transformedRoot;
+        }
+
+        /**
+         * Returns the combined node of all configurations up to this one. This
+         * is <b>null</b> if it has not been stored.
+         *
+         * @return the combined node
+         */
+        public ImmutableNode getCombinedNode()
+        {
+            return combinedNode;
+        }
+
+        /**
+         * Stores the combined node of all configurations up to this one.
+         *
+         * @param node the combined node
+         */
+        public void setCombinedNode(final ImmutableNode node)
+        {
+            combinedNode = node;
+        }
+
+        /**
+         * Discards the cached node structures of this object. This method is
+         * called when the represented configuration has been changed.
+         */
+        public void invalidate()
+        {
+            transformedRoot = null;
+            combinedNode = null;
+        }
+
         /**
          * Prepends the at path to the given node.
          *
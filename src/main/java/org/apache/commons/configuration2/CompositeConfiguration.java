@@ -24,9 +24,14 @@ import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.configuration2.convert.ListDelimiterHandler;
+import org.apache.commons.configuration2.event.ConfigurationEvent;
+import org.apache.commons.configuration2.event.EventListener;
+import org.apache.commons.configuration2.event.EventSource;
 import org.apache.commons.configuration2.ex.ConfigurationRuntimeException;
 
 /**
@@ -62,14 +67,50 @@ import org.apache.commons.configuration2.ex.ConfigurationRuntimeException;
  * object also depends on the {@code Synchronizer} objects used by these
  * children.
  * </p>
+ * <p>
+ * To find the child configuration which defines a specific key, all child
+ * configurations have to be queried in order. If there are many children, this
+ * can be expensive, especially for keys that are not defined at all. Therefore,
+ * a cache can be enabled using {@link #setSourceCacheEnabled(boolean)} which
+ * stores the child configuration defining a key. The cache is cleared whenever
+ * a change event is received from one of the child configurations, so it can
+ * only be used if all children are event sources. Note that changes of the
+ * data of a child configuration which are not reported by events (e.g. changes
+ * in a database table) are not detected if the cache is enabled.
+ * </p>
  *
  */
 public class CompositeConfiguration extends AbstractConfiguration
 implements Cloneable
 {
+    /** The maximum number of keys stored in the source cache. */
+    static final int MAX_CACHED_KEYS = 4096;
+
+    /** A marker object for keys which are not defined by any child. */
+    private static final Object NO_SOURCE = new Object();
+
     /** List holding all the configuration */
     private List<Configuration> configList = new LinkedList<>();
 
+    /**
+     * A map with the child configurations defining specific keys. The whole
+     * map is replaced when it is invalidated.
+     */
+    private volatile Map<String, Object> sourceCache = new ConcurrentHashMap<>();
+
+    /** The listener for invalidating the source cache. */
+    private EventListener<ConfigurationEvent> sourceCacheInvalidator =
+            event -> invalidateSourceCache();
+
+    /** A flag whether the source cache is enabled. */
+    private boolean sourceCacheEnabled;
+
+    /**
+     * A flag whether the source cache is currently used. This is the case if
+     * it is enabled and all child configurations are event sources.
+     */
+    private volatile boolean sourceCacheActive;
+
     /**
      * Configuration that holds in memory stuff.  Inserted as first so any
      * setProperty() override anything else added.
@@ -202,6 +243,8 @@ implements Cloneable
                     ((AbstractConfiguration) config)
                             .setThrowExceptionOnMissing(isThrowExceptionOnMissing());
                 }
+                registerSourceCacheListener(config);
+                resetSourceCache();
             }
         }
         finally
@@ -254,6 +297,8 @@ implements Cloneable
                     ((AbstractConfiguration) config)
                             .setThrowExceptionOnMissing(isThrowExceptionOnMissing());
                 }
+                registerSourceCacheListener(config);
+                resetSourceCache();
             }
         }
         finally
@@ -274,9 +319,69 @@ implements Cloneable
         {
             // Make sure that you can't remove the inMemoryConfiguration from
             // the CompositeConfiguration object
-            if (!config.equals(inMemoryConfiguration))
+            if (!config.equals(inMemoryConfiguration)
+                    && configList.remove(config))
+            {
+                unregisterSourceCacheListener(config);
+                resetSourceCache();
+            }
+        }
+        finally
+        {
+            endWrite();
+        }
+    }
+
+    /**
+     * Returns a flag whether the cache for the sources of keys is enabled.
+     *
+     * @return the source cache flag
+     * @since 2.8
+     */
+    public boolean isSourceCacheEnabled()
+    {
+        beginRead(false);
+        try
+        {
+            return sourceCacheEnabled;
+        }
+        finally
+        {
+            endRead();
+        }
+    }
+
+    /**
+     * Sets a flag whether the child configurations defining specific keys are
+     * cached. If enabled, this configuration registers itself as event
+     * listener at all child configurations and remembers for each key queried
+     * the first child configuration which contains it (or that none contains
+     * it). So subsequent accesses to this key can directly be delegated to
+     * the correct child. The cache is cleared when one of the children is
+     * changed or the list of children is modified. If there is a child
+     * configuration which is not an {@link EventSource}, the cache is not
+     * used.
+     *
+     * @param enabled the source cache flag
+     * @since 2.8
+     */
+    public void setSourceCacheEnabled(final boolean enabled)
+    {
+        beginWrite(false);
+        try
+        {
+            if (enabled != sourceCacheEnabled)
             {
-                configList.remove(config);
+                for (final Configuration config : configList)
+                {
+                    unregisterSourceCacheListener(config);
+                }
+                sourceCacheEnabled = enabled;
+                for (final Configuration config : configList)
+                {
+                    registerSourceCacheListener(config);
+                }
+                resetSourceCache();
             }
         }
         finally
@@ -311,6 +416,10 @@ implements Cloneable
     @Override
     protected void clearInternal()
     {
+        for (final Configuration config : configList)
+        {
+            unregisterSourceCacheListener(config);
+        }
         configList.clear();
         // recreate the in memory configuration
         inMemoryConfiguration = new BaseConfiguration();
@@ -318,6 +427,8 @@ implements Cloneable
         ((BaseConfiguration) inMemoryConfiguration).setListDelimiterHandler(getListDelimiterHandler());
         configList.add(inMemoryConfiguration);
         inMemoryConfigIsChild = false;
+        registerSourceCacheListener(inMemoryConfiguration);
+        resetSourceCache();
     }
 
     /**
@@ -342,15 +453,7 @@ implements Cloneable
     @Override
     protected Object getPropertyInternal(final String key)
     {
-        Configuration firstMatchingConfiguration = null;
-        for (final Configuration config : configList)
-        {
-            if (config.containsKey(key))
-            {
-                firstMatchingConfiguration = config;
-                break;
-            }
-        }
+        final Configuration firstMatchingConfiguration = findSource(key);
 
         if (firstMatchingConfiguration != null)
         {
@@ -359,6 +462,16 @@ implements Cloneable
         return null;
     }
 
+    /**
+     * {@inheritDoc} This implementation returns <b>false</b> because the
+     * properties of the child configurations can be changed directly.
+     */
+    @Override
+    protected boolean isInterpolationCacheable()
+    {
+        return false;
+    }
+
     @Override
     protected Iterator<String> getKeysInternal()
     {
@@ -415,14 +528,7 @@ implements Cloneable
     @Override
     protected boolean containsKeyInternal(final String key)
     {
-        for (final Configuration config : configList)
-        {
-            if (config.containsKey(key))
-            {
-                return true;
-            }
-        }
-        return false;
+        return findSource(key) != null;
     }
 
     @Override
@@ -431,13 +537,21 @@ implements Cloneable
         final List<Object> list = new ArrayList<>();
 
         // add all elements from the first configuration containing the requested key
-        final Iterator<Configuration> it = configList.iterator();
-        while (it.hasNext() && list.isEmpty())
+        final Configuration source = findSource(key);
+        if (source != null && source != inMemoryConfiguration)
+        {
+            appendListProperty(list, source, key);
+        }
+        else if (source != null)
         {
-            final Configuration config = it.next();
-            if (config != inMemoryConfiguration && config.containsKey(key))
+            final Iterator<Configuration> it = configList.iterator();
+            while (it.hasNext() && list.isEmpty())
             {
-                appendListProperty(list, config, key);
+                final Configuration config = it.next();
+                if (config != inMemoryConfiguration && config.containsKey(key))
+                {
+                    appendListProperty(list, config, key);
+                }
             }
         }
 
@@ -534,9 +648,13 @@ implements Cloneable
             final CompositeConfiguration copy = (CompositeConfiguration) super
                     .clone();
             copy.configList = new LinkedList<>();
+            copy.sourceCache = new ConcurrentHashMap<>();
+            copy.sourceCacheInvalidator = event -> copy.invalidateSourceCache();
             copy.inMemoryConfiguration = ConfigurationUtils
                     .cloneConfiguration(getInMemoryConfiguration());
             copy.configList.add(copy.inMemoryConfiguration);
+            copy.registerSourceCacheListener(copy.inMemoryConfiguration);
+            copy.resetSourceCache();
 
             for (final Configuration config : configList)
             {
@@ -631,10 +749,118 @@ implements Cloneable
         {
             // remove current in-memory configuration
             configList.remove(inMemoryConfiguration);
+            unregisterSourceCacheListener(inMemoryConfiguration);
         }
         inMemoryConfiguration = config;
     }
 
+    /**
+     * Returns the first child configuration which contains the given key. If
+     * the source cache is active, the result is obtained from the cache if
+     * possible; otherwise all child configurations are queried.
+     *
+     * @param key the key
+     * @return the child configuration defining this key or <b>null</b>
+     */
+    private Configuration findSource(final String key)
+    {
+        if (key == null || !sourceCacheActive)
+        {
+            return searchSource(key);
+        }
+
+        final Map<String, Object> cache = sourceCache;
+        Object source = cache.get(key);
+        if (source == null)
+        {
+            final Configuration config = searchSource(key);
+            source = config != null ? config : NO_SOURCE;
+            if (cache.size() >= MAX_CACHED_KEYS)
+            {
+                cache.clear();
+            }
+            cache.put(key, source);
+        }
+        return source != NO_SOURCE ? (Configuration) source : null;
+    }
+
+    /**
+     * Queries all child configurations for the given key and returns the
+     * first one containing it.
+     *
+     * @param key the key
+     * @return the child configuration defining this key or <b>null</b>
+     */
+    private Configuration searchSource(final String key)
+    {
+        for (final Configuration config : configList)
+        {
+            if (config.containsKey(key))
+            {
+                return config;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Discards all data stored in the source cache. This method is called by
+     * the event listener registered at the child configurations. It replaces
+     * the cache map, so that results of lookups which are currently in
+     * progress do not end up in the new map.
+     */
+    private void invalidateSourceCache()
+    {
+        sourceCache = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Clears the source cache and determines whether it can be used for the
+     * current child configurations. This method is called when the list of
+     * child configurations has been changed.
+     */
+    private void resetSourceCache()
+    {
+        boolean active = sourceCacheEnabled;
+        for (final Iterator<Configuration> it = configList.iterator(); active
+                && it.hasNext();)
+        {
+            active = it.next() instanceof EventSource;
+        }
+        sourceCacheActive = active;
+        invalidateSourceCache();
+    }
+
+    /**
+     * Registers the listener for invalidating the source cache at the given
+     * child configuration if the source cache is enabled.
+     *
+     * @param config the child configuration
+     */
+    private void registerSourceCacheListener(final Configuration config)
+    {
+        if (sourceCacheEnabled && config instanceof EventSource)
+        {
+            ((EventSource) config).addEventListener(ConfigurationEvent.ANY,
+                    sourceCacheInvalidator);
+        }
+    }
+
+    /**
+     * Removes the listener for invalidating the source cache from the given
+     * child configuration.
+     *
+     * @param config the child configuration
+     */
+    private void unregisterSourceCacheListener(final Configuration config)
+    {
+        if (sourceCacheEnabled && config instanceof EventSource)
+        {
+            ((EventSource) config).removeEventListener(ConfigurationEvent.ANY,
+                    sourceCacheInvalidator);
+        }
+    }
+
     /**
      * Adds the value of a property to the given list. This method is used by
      * {@code getList()} for gathering property values from the child
@@ -118,6 +118,52 @@ public interface Configuration extends ImmutableConfiguration, SynchronizerSuppo
      */
     void setProperty(String key, Object value);
 
+    /**
+     * Adds multiple properties to this configuration in a single operation.
+     * For each entry of the passed in map, the value is added to the
+     * property with the corresponding key like in
+     * {@link #addProperty(String, Object)}. Implementations can process such
+     * bulk updates more efficiently than a sequence of single updates. This
+     * default implementation just calls {@code addProperty()} for each entry.
+     *
+     * @param properties a map with the keys and values of the properties to
+     *        be added (must not be <b>null</b>)
+     * @throws IllegalArgumentException if the map is <b>null</b>
+     * @since 2.8
+     */
+    default void addProperties(final Map<String, ?> properties)
+    {
+        if (properties == null)
+        {
+            throw new IllegalArgumentException(
+                    "Map with properties must not be null!");
+        }
+        properties.forEach(this::addProperty);
+    }
+
+    /**
+     * Sets multiple properties of this configuration in a single operation.
+     * For each entry of the passed in map, the property with the corresponding
+     * key is set to the value like in {@link #setProperty(String, Object)}.
+     * Implementations can process such bulk updates more efficiently than a
+     * sequence of single updates. This default implementation just calls
+     * {@code setProperty()} for each entry.
+     *
+     * @param properties a map with the keys and new values of the properties
+     *        to be set (must not be <b>null</b>)
+     * @throws IllegalArgumentException if the map is <b>null</b>
+     * @since 2.8
+     */
+    default void setProperties(final Map<String, ?> properties)
+    {
+        if (properties == null)
+        {
+            throw new IllegalArgumentException(
+                    "Map with properties must not be null!");
+        }
+        properties.forEach(this::setProperty);
+    }
+
     /**
      * Remove a property from the configuration.
      *
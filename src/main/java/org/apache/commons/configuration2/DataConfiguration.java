@@ -176,6 +176,16 @@ public class DataConfiguration extends AbstractConfiguration
         return configuration.getProperty(key);
     }
 
+    /**
+     * {@inheritDoc} This implementation returns <b>false</b> because the
+     * wrapped configuration can be changed directly.
+     */
+    @Override
+    protected boolean isInterpolationCacheable()
+    {
+        return false;
+    }
+
     @Override
     protected void addPropertyInternal(final String key, final Object obj)
     {
@@ -620,6 +620,21 @@ public class DynamicCombinedConfiguration extends CombinedConfiguration
         }
     }
 
+    @Override
+    protected void setPropertiesInternal(final Map<String, ?> properties)
+    {
+        if (configs != null)
+        {
+            this.getCurrentConfig().setProperties(properties);
+        }
+    }
+
+    @Override
+    protected void addPropertiesInternal(final Map<String, ?> properties)
+    {
+        this.getCurrentConfig().addProperties(properties);
+    }
+
     @Override
     public Configuration subset(final String prefix)
     {
@@ -813,6 +828,18 @@ public class DynamicCombinedConfiguration extends CombinedConfiguration
         cch.getCurrentConfiguration().beginRead(optimize);
     }
 
+    /**
+     * {@inheritDoc} This implementation always returns 0. The current child
+     * configuration is determined in {@code beginRead()}, so optimistic reads
+     * are not supported by this configuration. (The child configurations
+     * themselves can still read optimistically.)
+     */
+    @Override
+    protected long beginOptimisticRead()
+    {
+        return 0L;
+    }
+
     /**
      * {@inheritDoc} This implementation ensures that the current configuration
      * is initialized. If necessary, a new child configuration instance is
@@ -17,8 +17,11 @@
 
 package org.apache.commons.configuration2;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.type.MapType;
 import org.apache.commons.configuration2.ex.ConfigurationException;
 import org.apache.commons.configuration2.io.InputStreamSupport;
 import org.apache.commons.configuration2.tree.ImmutableNode;
@@ -27,13 +30,24 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.io.Writer;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * <p>
  * A specialized hierarchical configuration class that is able to parse JSON
  * documents.
  * </p>
+ * <p>
+ * JSON documents are processed in a streaming fashion: When reading, the
+ * tokens produced by a {@code JsonParser} are directly transformed into a
+ * hierarchy of {@link ImmutableNode} objects; when writing, the node
+ * hierarchy is passed to a {@code JsonGenerator}. So no intermediate map
+ * structures are created. Multiple child nodes with the same name are written
+ * as a JSON array.
+ * </p>
  *
  * @since 2.2
  */
@@ -46,12 +60,6 @@ public class JSONConfiguration extends AbstractYAMLBasedConfiguration
      */
     private final ObjectMapper mapper = new ObjectMapper();
 
-    /**
-     * The {@code MapType} used to convert types.
-     */
-    private final MapType type = mapper.getTypeFactory()
-            .constructMapType(Map.class, String.class, Object.class);
-
     /**
      * Creates a new instance of {@code JSONConfiguration}.
      */
@@ -74,10 +82,9 @@ public class JSONConfiguration extends AbstractYAMLBasedConfiguration
     @Override
     public void read(final Reader in) throws ConfigurationException
     {
-        try
+        try (JsonParser parser = mapper.getFactory().createParser(in))
         {
-            final Map<String, Object> map = mapper.readValue(in, this.type);
-            load(map);
+            load(parser);
         }
         catch (final Exception e)
         {
@@ -88,8 +95,11 @@ public class JSONConfiguration extends AbstractYAMLBasedConfiguration
     @Override
     public void write(final Writer out) throws ConfigurationException, IOException
     {
-        this.mapper.writer().writeValue(out, constructMap(
-                this.getNodeModel().getNodeHandler().getRootNode()));
+        try (JsonGenerator generator = mapper.getFactory().createGenerator(out))
+        {
+            writeNode(generator,
+                    this.getNodeModel().getNodeHandler().getRootNode());
+        }
     }
 
     /**
@@ -101,10 +111,9 @@ public class JSONConfiguration extends AbstractYAMLBasedConfiguration
     @Override
     public void read(final InputStream in) throws ConfigurationException
     {
-        try
+        try (JsonParser parser = mapper.getFactory().createParser(in))
         {
-            final Map<String, Object> map = mapper.readValue(in, this.type);
-            load(map);
+            load(parser);
         }
         catch (final Exception e)
         {
@@ -112,4 +121,220 @@ public class JSONConfiguration extends AbstractYAMLBasedConfiguration
         }
     }
 
+    /**
+     * Loads this configuration from the tokens provided by the given parser.
+     * The document must consist of a single JSON object.
+     *
+     * @param parser the parser
+     * @throws IOException if an error occurs
+     */
+    private void load(final JsonParser parser) throws IOException
+    {
+        final JsonToken token = parser.nextToken();
+        final ImmutableNode root;
+        if (token == JsonToken.START_OBJECT)
+        {
+            root = parseObject(parser, "");
+        }
+        else if (token == JsonToken.VALUE_NULL)
+        {
+            root = new ImmutableNode.Builder().name("").create();
+        }
+        else
+        {
+            throw new JsonParseException(parser,
+                    "JSON document must contain an object, but found " + token);
+        }
+        getNodeModel().setRootNode(root);
+    }
+
+    /**
+     * Parses a JSON object. The parser is positioned on the start token of
+     * the object. The properties of the object become child nodes. If a
+     * property occurs multiple times, the last occurrence wins.
+     *
+     * @param parser the parser
+     * @param key the key under which this object is to be stored
+     * @return a node representing this object
+     * @throws IOException if an error occurs
+     */
+    private static ImmutableNode parseObject(final JsonParser parser, final String key)
+            throws IOException
+    {
+        final List<ImmutableNode> children = new ArrayList<>();
+        final Set<String> names = new HashSet<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME)
+        {
+            final String name = parser.getCurrentName();
+            parser.nextToken();
+            if (names.add(name))
+            {
+                parseValue(parser, name, children);
+            }
+            else
+            {
+                replaceChildren(parser, name, children);
+            }
+        }
+        return new ImmutableNode.Builder(children.size()).name(key)
+                .addChildren(children).create();
+    }
+
+    /**
+     * Handles a property which occurs multiple times in an object. The nodes
+     * created for the former occurrence are replaced by the new ones at the
+     * same position. If the former occurrence did not produce any nodes (e.g.
+     * an empty array), the new nodes are appended.
+     *
+     * @param parser the parser
+     * @param name the name of the property
+     * @param children the list with the child nodes of the object
+     * @throws IOException if an error occurs
+     */
+    private static void replaceChildren(final JsonParser parser, final String name,
+            final List<ImmutableNode> children) throws IOException
+    {
+        int pos = -1;
+        for (int i = children.size() - 1; i >= 0; i--)
+        {
+            if (name.equals(children.get(i).getNodeName()))
+            {
+                children.remove(i);
+                pos = i;
+            }
+        }
+        final List<ImmutableNode> newChildren = new ArrayList<>();
+        parseValue(parser, name, newChildren);
+        if (pos < 0)
+        {
+            children.addAll(newChildren);
+        }
+        else
+        {
+            children.addAll(pos, newChildren);
+        }
+    }
+
+    /**
+     * Parses the value the parser is currently positioned on and adds the
+     * resulting nodes to the given list. Arrays produce one node per element;
+     * nested arrays are flattened.
+     *
+     * @param parser the parser
+     * @param key the key of the new node(s)
+     * @param nodes the list to which the new nodes are added
+     * @throws IOException if an error occurs
+     */
+    private static void parseValue(final JsonParser parser, final String key,
+            final List<ImmutableNode> nodes) throws IOException
+    {
+        switch (parser.currentToken())
+        {
+        case START_OBJECT:
+            nodes.add(parseObject(parser, key));
+            break;
+        case START_ARRAY:
+            while (parser.nextToken() != JsonToken.END_ARRAY)
+            {
+                parseValue(parser, key, nodes);
+            }
+            break;
+        default:
+            nodes.add(new ImmutableNode.Builder().name(key)
+                    .value(scalarValue(parser)).create());
+            break;
+        }
+    }
+
+    /**
+     * Returns the value of the scalar token the parser is positioned on. The
+     * types of the values are the same as the ones produced by an
+     * {@code ObjectMapper} when reading untyped content.
+     *
+     * @param parser the parser
+     * @return the value of the current token
+     * @throws IOException if an error occurs
+     */
+    private static Object scalarValue(final JsonParser parser) throws IOException
+    {
+        switch (parser.currentToken())
+        {
+        case VALUE_STRING:
+            return parser.getText();
+        case VALUE_NUMBER_INT:
+        case VALUE_NUMBER_FLOAT:
+            return parser.getNumberValue();
+        case VALUE_TRUE:
+            return Boolean.TRUE;
+        case VALUE_FALSE:
+            return Boolean.FALSE;
+        case VALUE_EMBEDDED_OBJECT:
+            return parser.getEmbeddedObject();
+        case VALUE_NULL:
+            return null;
+        default:
+            throw new JsonParseException(parser,
+                    "Unexpected token " + parser.currentToken());
+        }
+    }
+
+    /**
+     * Writes the children of the given node as a JSON object. Children with
+     * the same name are combined to an array.
+     *
+     * @param generator the generator
+     * @param node the node to be written
+     * @throws IOException if an error occurs
+     */
+    private static void writeNode(final JsonGenerator generator, final ImmutableNode node)
+            throws IOException
+    {
+        generator.writeStartObject();
+        final Set<String> processedNames = new HashSet<>();
+        for (final ImmutableNode child : node.getChildren())
+        {
+            final String name = child.getNodeName();
+            if (processedNames.add(name))
+            {
+                generator.writeFieldName(name);
+                final List<ImmutableNode> namedChildren = node.getNamedChildren(name);
+                if (namedChildren.size() == 1)
+                {
+                    writeValue(generator, child);
+                }
+                else
+                {
+                    generator.writeStartArray();
+                    for (final ImmutableNode namedChild : namedChildren)
+                    {
+                        writeValue(generator, namedChild);
+                    }
+                    generator.writeEndArray();
+                }
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes the value of a single node. Nodes with children are written as
+     * objects; otherwise the node's value is written.
+     *
+     * @param generator the generator
+     * @param node the node to be written
+     * @throws IOException if an error occurs
+     */
+    private static void writeValue(final JsonGenerator generator, final ImmutableNode node)
+            throws IOException
+    {
+        if (node.getChildren().isEmpty())
+        {
+            generator.writeObject(node.getValue());
+        }
+        else
+        {
+            writeNode(generator, node);
+        }
+    }
+
 }
@@ -25,6 +25,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 
@@ -311,6 +312,18 @@ public class PatternSubtreeConfigurationWrapper extends BaseHierarchicalConfigur
         getConfig().setProperty(key, value);
     }
 
+    @Override
+    protected void setPropertiesInternal(final Map<String, ?> properties)
+    {
+        getConfig().setProperties(properties);
+    }
+
+    @Override
+    protected void addPropertiesInternal(final Map<String, ?> properties)
+    {
+        properties.forEach(this::addPropertyInternal);
+    }
+
     @Override
     public Configuration subset(final String prefix)
     {
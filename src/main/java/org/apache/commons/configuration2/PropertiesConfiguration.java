@@ -22,8 +22,12 @@ import java.io.FilterWriter;
 import java.io.IOException;
 import java.io.LineNumberReader;
 import java.io.Reader;
+import java.io.StringReader;
 import java.io.Writer;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -43,6 +47,7 @@ import org.apache.commons.configuration2.io.FileHandler;
 import org.apache.commons.configuration2.io.FileLocator;
 import org.apache.commons.configuration2.io.FileLocatorAware;
 import org.apache.commons.configuration2.io.FileLocatorUtils;
+import org.apache.commons.configuration2.io.MappedFileSupport;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.text.StringEscapeUtils;
@@ -190,6 +195,11 @@ import org.apache.commons.text.translate.UnicodeEscaper;
  * change such properties during life time of an instance, you have to use
  * the {@code lock()} and {@code unlock()} methods manually to ensure that
  * other threads see your changes.
+ * <p>Large properties files can be loaded considerably faster if the
+ * {@code mappedFileLoading} flag is set. Then a file on the local file system
+ * is mapped into memory and parsed directly on the byte level, provided that
+ * it is encoded in ISO-8859-1 or UTF-8 and the default {@link IOFactory} is
+ * used. The result is the same as for the default loading mechanism.
  * <p>As this class extends {@link AbstractConfiguration}, all basic features
  * like variable interpolation, list handling, or data type conversions are
  * available as well. This is described in the chapter
@@ -202,7 +212,7 @@ import org.apache.commons.text.translate.UnicodeEscaper;
  * @see java.util.Properties#load
  */
 public class PropertiesConfiguration extends BaseConfiguration
-    implements FileBasedConfiguration, FileLocatorAware
+    implements FileBasedConfiguration, FileLocatorAware, MappedFileSupport
 {
 
     /**
@@ -283,6 +293,9 @@ public class PropertiesConfiguration extends BaseConfiguration
     /** Allow file inclusion or not */
     private boolean includesAllowed = true;
 
+    /** A flag whether files are loaded from memory-mapped buffers. */
+    private boolean mappedFileLoading;
+
     /**
      * Creates an empty PropertyConfiguration object which can be
      * used to synthesize a new Properties file by adding values and
@@ -366,6 +379,37 @@ public class PropertiesConfiguration extends BaseConfiguration
         return this.includesAllowed;
     }
 
+    /**
+     * Sets a flag whether files loaded by a {@code FileHandler} are to be
+     * memory-mapped and parsed directly from their bytes. This is much faster
+     * for large files. It is only possible for local files encoded in
+     * ISO-8859-1 or UTF-8 and if the default {@code IOFactory} is used; in
+     * all other cases files are loaded in the default way. Note that on some
+     * platforms a mapped file cannot be deleted or overwritten until the
+     * mapping has been garbage collected. Therefore, this flag is
+     * <b>false</b> per default.
+     *
+     * @param mappedFileLoading the flag whether memory-mapped files are
+     *        used for loading
+     * @since 2.8
+     */
+    public void setMappedFileLoading(final boolean mappedFileLoading)
+    {
+        this.mappedFileLoading = mappedFileLoading;
+    }
+
+    /**
+     * Returns a flag whether files loaded by a {@code FileHandler} are to be
+     * memory-mapped.
+     *
+     * @return the flag whether memory-mapped files are used for loading
+     * @since 2.8
+     */
+    public boolean isMappedFileLoading()
+    {
+        return mappedFileLoading;
+    }
+
     /**
      * Return the comment header.
      *
@@ -597,6 +641,45 @@ public class PropertiesConfiguration extends BaseConfiguration
         getLayout().load(this, in);
     }
 
+    /**
+     * {@inheritDoc} This implementation returns <b>true</b> if the
+     * {@code mappedFileLoading} flag is set, the default {@code IOFactory} and
+     * layout classes are used, and the encoding is supported by the byte level
+     * parser.
+     *
+     * @since 2.8
+     */
+    @Override
+    public boolean isMappedFileSupported(final String encoding)
+    {
+        return isMappedFileLoading()
+                && getIOFactory().getClass() == DefaultIOFactory.class
+                && getLayout().getClass() == PropertiesConfigurationLayout.class
+                && fetchMappedFileCharset(encoding) != null;
+    }
+
+    /**
+     * {@inheritDoc} This implementation parses the properties directly from
+     * the bytes in the buffer and passes them to the associated layout object.
+     * Analogous to {@link #read(Reader)}, this method does not do any
+     * synchronization.
+     *
+     * @since 2.8
+     */
+    @Override
+    public void read(final ByteBuffer buffer, final String encoding)
+            throws ConfigurationException, IOException
+    {
+        final Charset charset = fetchMappedFileCharset(encoding);
+        if (charset == null)
+        {
+            throw new ConfigurationException(
+                    "Unsupported encoding for reading from a buffer: "
+                            + encoding);
+        }
+        getLayout().load(this, new MappedPropertiesReader(buffer, charset));
+    }
+
     /**
      * {@inheritDoc} This implementation delegates to the associated layout
      * object which does the actual saving. Note that, analogous to
@@ -702,6 +785,31 @@ public class PropertiesConfiguration extends BaseConfiguration
         return s.length() < 1 || COMMENT_CHARS.indexOf(s.charAt(0)) >= 0;
     }
 
+    /**
+     * Determines the charset for parsing a file with the given encoding on the
+     * byte level. This is possible for ISO-8859-1 and UTF-8 only; for other
+     * encodings result is <b>null</b>. A <b>null</b> encoding stands for the
+     * platform default encoding.
+     *
+     * @param encoding the encoding
+     * @return the charset for this encoding or <b>null</b>
+     */
+    private static Charset fetchMappedFileCharset(final String encoding)
+    {
+        final Charset charset;
+        try
+        {
+            charset = encoding != null ? Charset.forName(encoding)
+                    : Charset.defaultCharset();
+        }
+        catch (final IllegalArgumentException iex)
+        {
+            return null;
+        }
+        return StandardCharsets.ISO_8859_1.equals(charset)
+                || StandardCharsets.UTF_8.equals(charset) ? charset : null;
+    }
+
     /**
      * Returns the number of trailing backslashes. This is sometimes needed for
      * the correct handling of escape characters.
@@ -1017,6 +1125,443 @@ public class PropertiesConfiguration extends BaseConfiguration
         }
     } // class PropertiesReader
 
+    /**
+     * A specialized {@code PropertiesReader} implementation which parses
+     * properties directly from a buffer with the raw bytes of a file. It
+     * supports the ISO-8859-1 and UTF-8 encodings; in both of them all
+     * characters relevant for the structure of a properties file are
+     * represented by single bytes. So lines, comments, separators, and
+     * continuation lines can be detected on the byte level, and strings are
+     * only created for keys, values, separators, and comments. Lines which
+     * need more complex processing, e.g. because they contain escape
+     * characters or span multiple lines, are passed to the inherited
+     * {@code parseProperty()} method, so that the results are the same as for
+     * the default reader. The {@code Reader} of the base class is not used.
+     */
+    private static final class MappedPropertiesReader extends PropertiesReader
+    {
+        /** Constant for the initial size of the buffer for decoding strings. */
+        private static final int INITIAL_BUFFER_SIZE = 256;
+
+        /** Constant for the ISO-8859-1 encoding of the next line character. */
+        private static final int LATIN1_NEXT_LINE = 0x85;
+
+        /** Constant for the UTF-8 lead byte of the next line character. */
+        private static final int UTF8_NEXT_LINE_LEAD = 0xC2;
+
+        /** Constant for the UTF-8 lead byte of line and paragraph separators. */
+        private static final int UTF8_SEPARATOR_LEAD = 0xE2;
+
+        /** Constant for the second UTF-8 byte of line and paragraph separators. */
+        private static final int UTF8_SEPARATOR_SECOND = 0x80;
+
+        /** Constant for the last UTF-8 byte of the line separator. */
+        private static final int UTF8_LINE_SEPARATOR_LAST = 0xA8;
+
+        /** Constant for the last UTF-8 byte of the paragraph separator. */
+        private static final int UTF8_PARAGRAPH_SEPARATOR_LAST = 0xA9;
+
+        /** The buffer with the data to be parsed. */
+        private final ByteBuffer data;
+
+        /** A view on the data used for copying bytes to be decoded. */
+        private final ByteBuffer view;
+
+        /** The charset of the data. */
+        private final Charset charset;
+
+        /** A flag whether the data is encoded in UTF-8. */
+        private final boolean utf8;
+
+        /** Stores the comment lines for the currently processed property. */
+        private final List<String> commentLines;
+
+        /** A buffer for the bytes of a string to be decoded. */
+        private byte[] bytes;
+
+        /** The current position in the data buffer. */
+        private int position;
+
+        /** The separator of the last property; reused if possible. */
+        private String lastSeparator;
+
+        /**
+         * Creates a new instance of {@code MappedPropertiesReader}.
+         *
+         * @param buffer the buffer with the data to be parsed
+         * @param charset the charset of the data
+         */
+        MappedPropertiesReader(final ByteBuffer buffer, final Charset charset)
+        {
+            super(new StringReader(StringUtils.EMPTY));
+            data = buffer.duplicate();
+            view = buffer.duplicate();
+            this.charset = charset;
+            utf8 = StandardCharsets.UTF_8.equals(charset);
+            commentLines = new ArrayList<>();
+            bytes = new byte[INITIAL_BUFFER_SIZE];
+            position = data.position();
+        }
+
+        /**
+         * {@inheritDoc} This implementation processes the lines of the buffer
+         * in the same way as {@code readProperty()} processes the lines
+         * obtained from the underlying reader.
+         */
+        @Override
+        public boolean nextProperty() throws IOException
+        {
+            commentLines.clear();
+            StringBuilder buffer = null;
+            final int end = data.limit();
+
+            while (position < end)
+            {
+                final int lineStart = position;
+                int lineEnd = lineStart;
+                while (lineEnd < end && !isLineTerminator(data.get(lineEnd)))
+                {
+                    lineEnd++;
+                }
+                position = skipLineTerminator(lineEnd, end);
+
+                final int start = trimStart(lineStart, lineEnd);
+                final int stop = trimEnd(start, lineEnd);
+                if (start == stop
+                        || COMMENT_CHARS.indexOf(data.get(start)) >= 0)
+                {
+                    commentLines.add(decode(lineStart, lineEnd));
+                }
+                else if (countTrailingBackslashes(start, stop) % 2 != 0)
+                {
+                    if (buffer == null)
+                    {
+                        buffer = new StringBuilder();
+                    }
+                    buffer.append(decode(start, stop - 1));
+                }
+                else if (buffer != null)
+                {
+                    buffer.append(decode(start, stop));
+                    parseProperty(buffer.toString());
+                    return true;
+                }
+                else
+                {
+                    parseLine(start, stop);
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        @Override
+        public List<String> getCommentLines()
+        {
+            return commentLines;
+        }
+
+        /**
+         * {@inheritDoc} This implementation avoids the unescaping if the name
+         * does not contain escape characters.
+         */
+        @Override
+        protected String unescapePropertyName(final String name)
+        {
+            return name.indexOf('\\') < 0 ? name : super
+                    .unescapePropertyName(name);
+        }
+
+        /**
+         * {@inheritDoc} This implementation avoids the unescaping if the value
+         * does not contain escape characters.
+         */
+        @Override
+        protected String unescapePropertyValue(final String value)
+        {
+            return value.indexOf('\\') < 0 ? value : super
+                    .unescapePropertyValue(value);
+        }
+
+        /**
+         * Parses a single line with a property definition. The line is split
+         * directly on the byte level unless it contains characters which
+         * require the full parsing logic.
+         *
+         * @param start the start index of the trimmed line
+         * @param stop the end index of the trimmed line
+         */
+        private void parseLine(final int start, final int stop)
+        {
+            if (requiresFullParsing(start, stop))
+            {
+                parseProperty(decode(start, stop));
+                return;
+            }
+
+            int keyEnd = start;
+            while (keyEnd < stop && isKeyByte(data.get(keyEnd)))
+            {
+                keyEnd++;
+            }
+            int valueStart = skipWhitespace(keyEnd, stop);
+            if (valueStart < stop && isSeparator(data.get(valueStart)))
+            {
+                valueStart = skipWhitespace(valueStart + 1, stop);
+            }
+
+            initPropertyName(decode(start, trimEnd(start, keyEnd)));
+            initPropertyValue(decode(trimStart(valueStart, stop), stop));
+            initPropertySeparator(keyEnd < stop ? fetchSeparator(keyEnd,
+                    valueStart) : null);
+        }
+
+        /**
+         * Checks whether the given line contains characters which cannot be
+         * handled on the byte level. These are escape characters and Unicode
+         * line separators.
+         *
+         * @param start the start index of the line
+         * @param stop the end index of the line
+         * @return a flag whether the line requires full parsing
+         */
+        private boolean requiresFullParsing(final int start, final int stop)
+        {
+            for (int i = start; i < stop; i++)
+            {
+                final int b = unsigned(i);
+                if (b == '\\')
+                {
+                    return true;
+                }
+                if (utf8)
+                {
+                    if (b == UTF8_NEXT_LINE_LEAD && i + 1 < stop
+                            && unsigned(i + 1) == LATIN1_NEXT_LINE)
+                    {
+                        return true;
+                    }
+                    if (b == UTF8_SEPARATOR_LEAD && i + 2 < stop
+                            && unsigned(i + 1) == UTF8_SEPARATOR_SECOND
+                            && (unsigned(i + 2) == UTF8_LINE_SEPARATOR_LAST
+                            || unsigned(i + 2) == UTF8_PARAGRAPH_SEPARATOR_LAST))
+                    {
+                        return true;
+                    }
+                }
+                else if (b == LATIN1_NEXT_LINE)
+                {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Returns the string for the separator in the given range. If the
+         * separator is the same as for the last property, the same string is
+         * returned.
+         *
+         * @param from the start index of the separator
+         * @param to the end index of the separator
+         * @return the separator
+         */
+        private String fetchSeparator(final int from, final int to)
+        {
+            final String last = lastSeparator;
+            if (last != null && last.length() == to - from)
+            {
+                int idx = 0;
+                while (idx < last.length()
+                        && last.charAt(idx) == data.get(from + idx))
+                {
+                    idx++;
+                }
+                if (idx == last.length())
+                {
+                    return last;
+                }
+            }
+            lastSeparator = decode(from, to);
+            return lastSeparator;
+        }
+
+        /**
+         * Creates a string from the bytes in the given range.
+         *
+         * @param from the start index
+         * @param to the end index
+         * @return the decoded string
+         */
+        private String decode(final int from, final int to)
+        {
+            final int length = to - from;
+            if (length <= 0)
+            {
+                return StringUtils.EMPTY;
+            }
+            if (bytes.length < length)
+            {
+                bytes = new byte[Math.max(length, 2 * bytes.length)];
+            }
+            view.position(from);
+            view.get(bytes, 0, length);
+            return new String(bytes, 0, length, charset);
+        }
+
+        /**
+         * Returns the position after the line terminator at the given index.
+         * Like {@code BufferedReader}, {@code \n}, {@code \r}, and
+         * {@code \r\n} are accepted as line terminators.
+         *
+         * @param lineEnd the index of the line terminator
+         * @param end the end of the data
+         * @return the start index of the next line
+         */
+        private int skipLineTerminator(final int lineEnd, final int end)
+        {
+            if (lineEnd >= end)
+            {
+                return end;
+            }
+            if (data.get(lineEnd) == '\r' && lineEnd + 1 < end
+                    && data.get(lineEnd + 1) == '\n')
+            {
+                return lineEnd + 2;
+            }
+            return lineEnd + 1;
+        }
+
+        /**
+         * Skips the whitespace characters (as defined for regular expressions)
+         * starting at the given index.
+         *
+         * @param from the start index
+         * @param to the end index
+         * @return the index of the first non whitespace character
+         */
+        private int skipWhitespace(final int from, final int to)
+        {
+            int idx = from;
+            while (idx < to && isWhitespace(data.get(idx)))
+            {
+                idx++;
+            }
+            return idx;
+        }
+
+        /**
+         * Returns the start index of the given range after trimming. The same
+         * characters are removed as by {@code String.trim()}.
+         *
+         * @param from the start index
+         * @param to the end index
+         * @return the trimmed start index
+         */
+        private int trimStart(final int from, final int to)
+        {
+            int idx = from;
+            while (idx < to && unsigned(idx) <= ' ')
+            {
+                idx++;
+            }
+            return idx;
+        }
+
+        /**
+         * Returns the end index of the given range after trimming. The same
+         * characters are removed as by {@code String.trim()}.
+         *
+         * @param from the start index
+         * @param to the end index
+         * @return the trimmed end index
+         */
+        private int trimEnd(final int from, final int to)
+        {
+            int idx = to;
+            while (idx > from && unsigned(idx - 1) <= ' ')
+            {
+                idx--;
+            }
+            return idx;
+        }
+
+        /**
+         * Returns the number of backslashes at the end of the given range.
+         *
+         * @param from the start index
+         * @param to the end index
+         * @return the number of trailing backslashes
+         */
+        private int countTrailingBackslashes(final int from, final int to)
+        {
+            int idx = to;
+            while (idx > from && data.get(idx - 1) == '\\')
+            {
+                idx--;
+            }
+            return to - idx;
+        }
+
+        /**
+         * Returns the byte at the given index as an unsigned value.
+         *
+         * @param idx the index
+         * @return the unsigned byte at this index
+         */
+        private int unsigned(final int idx)
+        {
+            return data.get(idx) & 0xFF;
+        }
+
+        /**
+         * Checks whether the given byte terminates a line.
+         *
+         * @param b the byte
+         * @return a flag whether this is a line terminator
+         */
+        private static boolean isLineTerminator(final byte b)
+        {
+            return b == '\n' || b == '\r';
+        }
+
+        /**
+         * Checks whether the given byte is a whitespace character in the
+         * sense of regular expressions.
+         *
+         * @param b the byte
+         * @return a flag whether this is a whitespace character
+         */
+        private static boolean isWhitespace(final byte b)
+        {
+            return b == ' ' || b == '\t' || b == '\n' || b == '\u000B'
+                    || b == '\f' || b == '\r';
+        }
+
+        /**
+         * Checks whether the given byte is a property separator.
+         *
+         * @param b the byte
+         * @return a flag whether this is a separator
+         */
+        private static boolean isSeparator(final byte b)
+        {
+            return ArrayUtils.contains(SEPARATORS, (char) b);
+        }
+
+        /**
+         * Checks whether the given byte can be part of a property key.
+         *
+         * @param b the byte
+         * @return a flag whether this is a key character
+         */
+        private static boolean isKeyByte(final byte b)
+        {
+            return !isWhitespace(b) && !isSeparator(b) && b != '\\';
+        }
+    } // class MappedPropertiesReader
+
     /**
      * This class is used to write properties lines. The most important method
      * is {@code writeProperty(String, Object, boolean)}, which is called
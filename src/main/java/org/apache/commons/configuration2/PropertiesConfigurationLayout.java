@@ -483,10 +483,24 @@ public class PropertiesConfigurationLayout implements EventListener<Configuratio
     public void load(final PropertiesConfiguration config, final Reader in)
             throws ConfigurationException
     {
-        loadCounter.incrementAndGet();
-        final PropertiesConfiguration.PropertiesReader reader =
-                config.getIOFactory().createPropertiesReader(in);
+        load(config, config.getIOFactory().createPropertiesReader(in));
+    }
 
+    /**
+     * Reads the properties provided by the given {@code PropertiesReader} and
+     * stores the internal structure of the file. This is the actual
+     * implementation of {@link #load(PropertiesConfiguration, Reader)}; it can
+     * be called directly if a specific reader is to be used.
+     *
+     * @param config the associated configuration object
+     * @param reader the reader for the properties
+     * @throws ConfigurationException if an error occurs
+     */
+    void load(final PropertiesConfiguration config,
+            final PropertiesConfiguration.PropertiesReader reader)
+            throws ConfigurationException
+    {
+        loadCounter.incrementAndGet();
         try
         {
             while (reader.nextProperty())
@@ -626,6 +640,25 @@ public class PropertiesConfigurationLayout implements EventListener<Configuratio
             {
                 fetchLayoutData(event.getPropertyName());
             }
+            else if (ConfigurationEvent.ADD_PROPERTIES.equals(event
+                    .getEventType()))
+            {
+                for (final Object key : ((Map<?, ?>) event.getPropertyValue())
+                        .keySet())
+                {
+                    final boolean contained = layoutData.containsKey(key);
+                    fetchLayoutData((String) key).setSingleLine(!contained);
+                }
+            }
+            else if (ConfigurationEvent.SET_PROPERTIES.equals(event
+                    .getEventType()))
+            {
+                for (final Object key : ((Map<?, ?>) event.getPropertyValue())
+                        .keySet())
+                {
+                    fetchLayoutData((String) key);
+                }
+            }
         }
     }
 
@@ -225,6 +225,16 @@ public class SubnodeConfiguration extends BaseHierarchicalConfiguration
         return new TrackedNodeModel(getParent(), getRootSelector(), true);
     }
 
+    /**
+     * {@inheritDoc} This implementation returns <b>false</b> because the
+     * nodes of this configuration can be changed via the parent.
+     */
+    @Override
+    protected boolean isInterpolationCacheable()
+    {
+        return false;
+    }
+
     /**
      * {@inheritDoc} This implementation returns a sub selector of the selector
      * of this configuration.
@@ -184,6 +184,16 @@ public class SubsetConfiguration extends AbstractConfiguration
         return parent.getProperty(getParentKey(key));
     }
 
+    /**
+     * {@inheritDoc} This implementation returns <b>false</b> because the
+     * properties of this configuration can be changed via the parent.
+     */
+    @Override
+    protected boolean isInterpolationCacheable()
+    {
+        return false;
+    }
+
     @Override
     protected Iterator<String> getKeysInternal(final String prefix)
     {
@@ -20,6 +20,11 @@ package org.apache.commons.configuration2;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLResolver;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Result;
 import javax.xml.transform.Source;
@@ -39,6 +44,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.apache.commons.configuration2.convert.ListDelimiterHandler;
 import org.apache.commons.configuration2.ex.ConfigurationException;
@@ -161,6 +168,19 @@ import org.xml.sax.helpers.DefaultHandler;
  * The value of the {@code indent} property will now contain the spaces.
  * </p>
  * <p>
+ * Per default, XML documents are parsed into a DOM tree which is kept after
+ * the configuration has been initialized; this allows preserving comments and
+ * other information when the configuration is saved again. For large documents
+ * this may require a lot of memory. By setting the <em>streamingRead</em>
+ * property, documents are read using the StAX API instead, and the nodes of the
+ * configuration are created directly from the stream of parser events; no DOM
+ * tree is retained. If such a configuration is saved, a new document is
+ * created from the current content of the configuration, so comments,
+ * processing instructions, and the original formatting are lost. Streaming is
+ * not used if validation is enabled or a custom {@code DocumentBuilder} has
+ * been set because these settings require DOM parsing.
+ * </p>
+ * <p>
  * {@code XMLConfiguration} implements the {@link FileBasedConfiguration}
  * interface and thus can be used together with a file-based builder to load XML
  * configuration files from various sources like files, URLs, or streams.
@@ -218,6 +238,14 @@ public class XMLConfiguration extends BaseHierarchicalConfiguration implements
     private static final String W3C_XML_SCHEMA =
         "http://www.w3.org/2001/XMLSchema";
 
+    /** Constant for the name of the attribute defining namespaces. */
+    private static final String ATTR_XMLNS = "xmlns";
+
+    /** A pattern for extracting the IDs from a DOCTYPE declaration. */
+    private static final Pattern DOCTYPE_PATTERN = Pattern.compile(
+            "<!DOCTYPE\\s+\\S+\\s+(?:PUBLIC\\s+(\"[^\"]*\"|'[^']*')\\s+(\"[^\"]*\"|'[^']*')"
+                    + "|SYSTEM\\s+(\"[^\"]*\"|'[^']*'))");
+
     /** Stores the name of the root element. */
     private String rootElementName;
 
@@ -242,6 +270,9 @@ public class XMLConfiguration extends BaseHierarchicalConfiguration implements
     /** The current file locator. */
     private FileLocator locator;
 
+    /** A flag whether documents are to be read using the StAX API. */
+    private boolean streamingRead;
+
     /**
      * Creates a new instance of {@code XMLConfiguration}.
      */
@@ -489,6 +520,36 @@ public class XMLConfiguration extends BaseHierarchicalConfiguration implements
         }
     }
 
+    /**
+     * Returns a flag whether XML documents are read using the StAX API without
+     * retaining a DOM tree.
+     *
+     * @return the streaming read flag
+     * @since 2.8
+     */
+    public boolean isStreamingRead()
+    {
+        return streamingRead;
+    }
+
+    /**
+     * Sets a flag whether XML documents are to be read using the StAX API. In
+     * this mode the nodes of this configuration are created directly from the
+     * events produced by the parser, and no DOM tree is retained. This reduces
+     * memory consumption and parsing time for large documents. On the other
+     * hand, a document written by this configuration is created from scratch;
+     * comments and other information contained in the original document are
+     * lost. The flag is ignored if validation is enabled or a custom
+     * {@code DocumentBuilder} has been set.
+     *
+     * @param streamingRead the streaming read flag
+     * @since 2.8
+     */
+    public void setStreamingRead(final boolean streamingRead)
+    {
+        this.streamingRead = streamingRead;
+    }
+
     /**
      * Sets a new EntityResolver. Setting this will cause RegisterEntityId to have no
      * effect.
@@ -631,19 +692,210 @@ public class XMLConfiguration extends BaseHierarchicalConfiguration implements
             }
         }
 
+        initNodeValue(refValue, buffer.toString(), attributes, hasChildren,
+                trimFlag, level);
+        return attributes;
+    }
+
+    /**
+     * Sets the value of a node constructed from an XML element. This method
+     * evaluates the text content of the element and decides whether it is
+     * stored as value.
+     *
+     * @param refValue stores the text value of the element
+     * @param content the text content of the element
+     * @param attributes the attributes of the element (including the internal
+     *        trim attribute)
+     * @param hasChildren a flag whether the element has child elements
+     * @param trimFlag the trim flag
+     * @param level the current level in the hierarchy
+     */
+    private static void initNodeValue(final MutableObject<String> refValue,
+            final String content, final Map<String, String> attributes,
+            final boolean hasChildren, final boolean trimFlag, final int level)
+    {
         boolean childrenFlag = false;
         if (hasChildren || trimFlag)
         {
             childrenFlag = hasChildren || attributes.size() > 1;
         }
-        final String text = determineValue(buffer.toString(), childrenFlag, trimFlag);
+        final String text = determineValue(content, childrenFlag, trimFlag);
         if (text.length() > 0 || (!childrenFlag && level != 0))
         {
             refValue.setValue(text);
         }
+    }
+
+    /**
+     * Initializes this configuration from an XML document which is read using
+     * the StAX API. The reader is positioned at the start of the document. No
+     * element references are created. As in DOM mode, the public and system
+     * IDs are reset if the document does not contain a DOCTYPE declaration.
+     *
+     * @param reader the {@code XMLStreamReader}
+     * @throws XMLStreamException if an error occurs while parsing
+     */
+    private void initPropertiesFromStream(final XMLStreamReader reader)
+            throws XMLStreamException
+    {
+        setPublicID(null);
+        setSystemID(null);
+        while (reader.next() != XMLStreamConstants.START_ELEMENT)
+        {
+            if (reader.getEventType() == XMLStreamConstants.DTD)
+            {
+                initDoctypeIDs(reader.getText());
+            }
+        }
+
+        final String rootName = qualifiedName(reader.getPrefix(), reader.getLocalName());
+        rootElementName = rootName;
+        final ImmutableNode.Builder rootBuilder = new ImmutableNode.Builder();
+        final MutableObject<String> rootValue = new MutableObject<>();
+        final Map<String, String> attributes =
+                constructHierarchy(rootBuilder, rootValue, reader, true, 0);
+        attributes.remove(ATTR_SPACE_INTERNAL);
+        final ImmutableNode top =
+                rootBuilder.value(rootValue.getValue())
+                        .addAttributes(attributes).create();
+        getSubConfigurationParentModel().mergeRoot(top, rootName, null, null,
+                this);
+    }
+
+    /**
+     * Helper method for building the internal storage hierarchy from a
+     * stream of StAX events. This is analogous to the method processing DOM
+     * elements. The reader is positioned on the start element event of the
+     * current element; when this method returns it is positioned on the
+     * corresponding end element event.
+     *
+     * @param node a builder for the current node
+     * @param refValue stores the text value of the element
+     * @param reader the {@code XMLStreamReader}
+     * @param trim a flag whether the text content of elements should be
+     *        trimmed
+     * @param level the current level in the hierarchy
+     * @return a map with all attribute values extracted for the current node
+     * @throws XMLStreamException if an error occurs while parsing
+     */
+    private Map<String, String> constructHierarchy(final ImmutableNode.Builder node,
+            final MutableObject<String> refValue, final XMLStreamReader reader,
+            final boolean trim, final int level) throws XMLStreamException
+    {
+        final Map<String, String> attributes = processAttributes(reader);
+        final boolean trimFlag = shouldTrim(attributes.get(ATTR_SPACE), trim);
+        attributes.put(ATTR_SPACE_INTERNAL, String.valueOf(trimFlag));
+        final StringBuilder buffer = new StringBuilder();
+        boolean hasChildren = false;
+
+        int event = reader.next();
+        while (event != XMLStreamConstants.END_ELEMENT)
+        {
+            switch (event)
+            {
+            case XMLStreamConstants.START_ELEMENT:
+                final ImmutableNode.Builder childNode = new ImmutableNode.Builder();
+                childNode.name(qualifiedName(reader.getPrefix(), reader.getLocalName()));
+                final MutableObject<String> refChildValue =
+                        new MutableObject<>();
+                final Map<String, String> attrmap =
+                        constructHierarchy(childNode, refChildValue, reader,
+                                trimFlag, level + 1);
+                final Boolean childTrim = Boolean.valueOf(attrmap.remove(ATTR_SPACE_INTERNAL));
+                childNode.addAttributes(attrmap);
+                createChildNodeWithValue(node, childNode, null,
+                        refChildValue.getValue(), childTrim.booleanValue(),
+                        attrmap, null);
+                hasChildren = true;
+                break;
+            case XMLStreamConstants.CHARACTERS:
+            case XMLStreamConstants.CDATA:
+            case XMLStreamConstants.SPACE:
+                buffer.append(reader.getText());
+                break;
+            default:
+                break;
+            }
+            event = reader.next();
+        }
+
+        initNodeValue(refValue, buffer.toString(), attributes, hasChildren,
+                trimFlag, level);
         return attributes;
     }
 
+    /**
+     * Extracts the attributes of the current element of the given
+     * {@code XMLStreamReader}. Namespace declarations are handled like normal
+     * attributes, as it is the case for DOM parsing.
+     *
+     * @param reader the {@code XMLStreamReader}
+     * @return a map with all attribute values extracted for the current node
+     */
+    private static Map<String, String> processAttributes(final XMLStreamReader reader)
+    {
+        final Map<String, String> attrmap = new HashMap<>();
+        for (int i = 0; i < reader.getNamespaceCount(); i++)
+        {
+            final String prefix = reader.getNamespacePrefix(i);
+            attrmap.put(StringUtils.isEmpty(prefix) ? ATTR_XMLNS
+                    : qualifiedName(ATTR_XMLNS, prefix), reader.getNamespaceURI(i));
+        }
+        for (int i = 0; i < reader.getAttributeCount(); i++)
+        {
+            attrmap.put(qualifiedName(reader.getAttributePrefix(i),
+                    reader.getAttributeLocalName(i)), reader.getAttributeValue(i));
+        }
+        return attrmap;
+    }
+
+    /**
+     * Constructs a qualified name from a namespace prefix and a local name.
+     *
+     * @param prefix the prefix (may be <b>null</b> or empty)
+     * @param localName the local name
+     * @return the qualified name
+     */
+    private static String qualifiedName(final String prefix, final String localName)
+    {
+        return StringUtils.isEmpty(prefix) ? localName : prefix + ':' + localName;
+    }
+
+    /**
+     * Extracts the public and the system ID from the text of a DOCTYPE
+     * declaration and stores them in the corresponding properties.
+     *
+     * @param doctype the DOCTYPE declaration
+     */
+    private void initDoctypeIDs(final String doctype)
+    {
+        final Matcher matcher = DOCTYPE_PATTERN.matcher(doctype);
+        if (matcher.find())
+        {
+            if (matcher.group(1) != null)
+            {
+                setPublicID(unquote(matcher.group(1)));
+                setSystemID(unquote(matcher.group(2)));
+            }
+            else
+            {
+                setPublicID(null);
+                setSystemID(unquote(matcher.group(3)));
+            }
+        }
+    }
+
+    /**
+     * Removes the quotes around a literal in a DOCTYPE declaration.
+     *
+     * @param literal the literal
+     * @return the literal without quotes
+     */
+    private static String unquote(final String literal)
+    {
+        return literal.substring(1, literal.length() - 1);
+    }
+
     /**
      * Determines the value of a configuration node. This method mainly checks
      * whether the text value is to be trimmed or not. This is normally defined
@@ -724,7 +976,8 @@ public class XMLConfiguration extends BaseHierarchicalConfiguration implements
 
         if (values.size() > 1)
         {
-            final Map<ImmutableNode, Object> refs = isSingleElementList(elem) ? elemRefs : null;
+            final Map<ImmutableNode, Object> refs =
+                    elemRefs != null && isSingleElementList(elem) ? elemRefs : null;
             final Iterator<String> it = values.iterator();
             // Create new node for the original child's first value
             child.value(it.next());
@@ -814,12 +1067,25 @@ public class XMLConfiguration extends BaseHierarchicalConfiguration implements
     private static boolean shouldTrim(final Element element, final boolean currentTrim)
     {
         final Attr attr = element.getAttributeNode(ATTR_SPACE);
+        return shouldTrim(attr != null ? attr.getValue() : null, currentTrim);
+    }
 
-        if (attr == null)
+    /**
+     * Checks whether the content of the current XML element should be trimmed
+     * based on the value of its {@code xml:space} attribute.
+     *
+     * @param space the value of the {@code xml:space} attribute (<b>null</b>
+     *        if it is not present)
+     * @param currentTrim the current trim flag
+     * @return a flag whether the content of this element should be trimmed
+     */
+    private static boolean shouldTrim(final String space, final boolean currentTrim)
+    {
+        if (space == null)
         {
             return currentTrim;
         }
-        return !VALUE_PRESERVE.equals(attr.getValue());
+        return !VALUE_PRESERVE.equals(space);
     }
 
     /**
@@ -872,6 +1138,91 @@ public class XMLConfiguration extends BaseHierarchicalConfiguration implements
         return result;
     }
 
+    /**
+     * Creates the {@code XMLInputFactory} to be used for loading documents in
+     * streaming mode. The factory is configured to coalesce text and to
+     * resolve entities using the {@code EntityResolver} of this
+     * configuration.
+     *
+     * @return the {@code XMLInputFactory}
+     */
+    private XMLInputFactory createXMLInputFactory()
+    {
+        final XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.TRUE);
+        final EntityResolver resolver = getEntityResolver();
+        if (resolver != null)
+        {
+            factory.setXMLResolver(createXMLResolver(resolver));
+        }
+        return factory;
+    }
+
+    /**
+     * Creates an {@code XMLResolver} which delegates to the given
+     * {@code EntityResolver}.
+     *
+     * @param resolver the {@code EntityResolver}
+     * @return the adapting {@code XMLResolver}
+     */
+    private static XMLResolver createXMLResolver(final EntityResolver resolver)
+    {
+        return (publicID, systemID, baseURI, namespace) -> {
+            try
+            {
+                final InputSource source = resolver.resolveEntity(publicID, systemID);
+                if (source == null)
+                {
+                    return null;
+                }
+                if (source.getByteStream() != null)
+                {
+                    return source.getByteStream();
+                }
+                return source.getSystemId() != null
+                        ? new URL(source.getSystemId()).openStream() : null;
+            }
+            catch (final SAXException | IOException e)
+            {
+                throw new XMLStreamException("Cannot resolve entity " + systemID, e);
+            }
+        };
+    }
+
+    /**
+     * Checks whether the current document is to be loaded using the StAX API.
+     * This is the case if the streaming read flag is set and no DOM-specific
+     * features are required.
+     *
+     * @return a flag whether streaming mode is used
+     */
+    private boolean isStreamingReadApplicable()
+    {
+        return isStreamingRead() && !isValidating() && getDocumentBuilder() == null;
+    }
+
+    /**
+     * Loads the document from the given input source using the StAX API.
+     *
+     * @param source the input source
+     * @throws XMLStreamException if an error occurs while parsing
+     */
+    private void loadStreaming(final InputSource source) throws XMLStreamException
+    {
+        final XMLInputFactory factory = createXMLInputFactory();
+        final XMLStreamReader reader = source.getCharacterStream() != null
+                ? factory.createXMLStreamReader(source.getSystemId(), source.getCharacterStream())
+                : factory.createXMLStreamReader(source.getSystemId(), source.getByteStream());
+        try
+        {
+            initPropertiesFromStream(reader);
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+
     /**
      * Creates and initializes the transformer used for save operations. This
      * base implementation initializes all of the default settings like
@@ -1022,15 +1373,20 @@ public class XMLConfiguration extends BaseHierarchicalConfiguration implements
                 source.setSystemId(sourceURL.toString());
             }
 
+            if (isStreamingReadApplicable())
+            {
+                loadStreaming(source);
+                return;
+            }
             final DocumentBuilder builder = createDocumentBuilder();
             final Document newDocument = builder.parse(source);
             final Document oldDocument = getDocument();
             initProperties(XMLDocumentHelper.forSourceDocument(newDocument),
                     oldDocument == null);
         }
-        catch (final SAXParseException spe)
+        catch (final SAXParseException | XMLStreamException pex)
         {
-            throw new ConfigurationException("Error parsing " + source.getSystemId(), spe);
+            throw new ConfigurationException("Error parsing " + source.getSystemId(), pex);
         }
         catch (final Exception e)
         {
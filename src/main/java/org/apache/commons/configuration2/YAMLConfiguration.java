@@ -25,25 +25,59 @@ import org.yaml.snakeyaml.DumperOptions;
 import org.yaml.snakeyaml.LoaderOptions;
 import org.yaml.snakeyaml.Yaml;
 import org.yaml.snakeyaml.constructor.Constructor;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.NodeTuple;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.SequenceNode;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.reader.UnicodeReader;
 import org.yaml.snakeyaml.representer.Representer;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * <p>
  * A specialized hierarchical configuration class that is able to parse YAML
  * documents.
  * </p>
+ * <p>
+ * YAML documents are not constructed as Java maps and lists. Instead, the
+ * node graph produced by the SnakeYAML composer is transformed directly into
+ * a hierarchy of {@link ImmutableNode} objects. Only scalar values (and
+ * collections with special tags) are passed to SnakeYAML's constructor, which
+ * is configured to refuse the creation of arbitrary Java objects.
+ * </p>
+ * <p>
+ * Streams consisting of multiple YAML documents can be loaded using the
+ * {@code readAll()} methods. Here each document becomes a sub tree of the
+ * root node with the name {@value #DOCUMENT_NODE_NAME}; so the properties of
+ * the documents can be accessed using keys like {@code document(1).key}.
+ * Documents are processed one after the other while the stream is parsed.
+ * </p>
  *
  * @since 2.2
  */
 public class YAMLConfiguration extends AbstractYAMLBasedConfiguration
         implements FileBasedConfiguration, InputStreamSupport
 {
+    /**
+     * The name of the nodes representing the single documents of a multi
+     * document stream.
+     *
+     * @since 2.8
+     */
+    public static final String DOCUMENT_NODE_NAME = "document";
+
     /**
      * Creates a new instance of {@code YAMLConfiguration}.
      */
@@ -65,12 +99,18 @@ public class YAMLConfiguration extends AbstractYAMLBasedConfiguration
 
     @Override
     public void read(final Reader in) throws ConfigurationException
+    {
+        read(in, new LoaderOptions());
+    }
+
+    public void read(final Reader in, final LoaderOptions options)
+            throws ConfigurationException
     {
         try
         {
-            final Yaml yaml = createYamlForReading(new LoaderOptions());
-            final Map<String, Object> map = (Map) yaml.load(in);
-            load(map);
+            final NodeConstructor constructor = new NodeConstructor(options);
+            final Node document = createYamlForReading(constructor, options).compose(in);
+            getNodeModel().setRootNode(constructor.constructDocumentNode("", document));
         }
         catch (final Exception e)
         {
@@ -78,14 +118,43 @@ public class YAMLConfiguration extends AbstractYAMLBasedConfiguration
         }
     }
 
-    public void read(final Reader in, final LoaderOptions options)
+    /**
+     * Loads all documents contained in the YAML stream read from the given
+     * reader. Each document is added as a child node named
+     * {@value #DOCUMENT_NODE_NAME} to the root node of this configuration.
+     * The documents are processed one by one while the stream is parsed.
+     *
+     * @param in the reader
+     * @throws ConfigurationException if an error occurs
+     * @since 2.8
+     */
+    public void readAll(final Reader in) throws ConfigurationException
+    {
+        readAll(in, new LoaderOptions());
+    }
+
+    /**
+     * Loads all documents contained in the YAML stream read from the given
+     * reader using the specified options.
+     *
+     * @param in the reader
+     * @param options options for loading the stream
+     * @throws ConfigurationException if an error occurs
+     * @see #readAll(Reader)
+     * @since 2.8
+     */
+    public void readAll(final Reader in, final LoaderOptions options)
             throws ConfigurationException
     {
         try
         {
-            final Yaml yaml = createYamlForReading(options);
-            final Map<String, Object> map = (Map) yaml.load(in);
-            load(map);
+            final NodeConstructor constructor = new NodeConstructor(options);
+            final ImmutableNode.Builder root = new ImmutableNode.Builder();
+            for (final Node document : createYamlForReading(constructor, options).composeAll(in))
+            {
+                root.addChild(constructor.constructDocumentNode(DOCUMENT_NODE_NAME, document));
+            }
+            getNodeModel().setRootNode(root.create());
         }
         catch (final Exception e)
         {
@@ -118,61 +187,232 @@ public class YAMLConfiguration extends AbstractYAMLBasedConfiguration
     @Override
     public void read(final InputStream in) throws ConfigurationException
     {
-        try
-        {
-            final Yaml yaml = createYamlForReading(new LoaderOptions());
-            final Map<String, Object> map = (Map) yaml.load(in);
-            load(map);
-        }
-        catch (final Exception e)
-        {
-            rethrowException(e);
-        }
+        read(new UnicodeReader(in));
     }
 
     public void read(final InputStream in, final LoaderOptions options)
             throws ConfigurationException
     {
-        try
-        {
-            final Yaml yaml = createYamlForReading(options);
-            final Map<String, Object> map = (Map) yaml.load(in);
-            load(map);
-        }
-        catch (final Exception e)
-        {
-            rethrowException(e);
-        }
+        read(new UnicodeReader(in), options);
     }
 
     /**
      * Creates a {@code Yaml} object for reading a Yaml file. The object is
      * configured with some default settings.
      *
+     * @param constructor the constructor to be used
      * @param options options for loading the file
      * @return the {@code Yaml} instance for loading a file
      */
-    private static Yaml createYamlForReading(LoaderOptions options)
+    private static Yaml createYamlForReading(final Constructor constructor,
+            final LoaderOptions options)
     {
-        return new Yaml(createClassLoadingDisablingConstructor(), new Representer(), new DumperOptions(), options);
+        return new Yaml(constructor, new Representer(), new DumperOptions(), options);
     }
 
     /**
-     * Returns a {@code Constructor} object for the YAML parser that prevents
-     * all classes from being loaded. This effectively disables the dynamic
-     * creation of Java objects that are declared in YAML files to be loaded.
-     *
-     * @return the {@code Constructor} preventing object creation
+     * A specialized {@code Constructor} for the YAML parser which transforms
+     * composed YAML nodes into {@link ImmutableNode} objects. Only scalars and
+     * collections with non-standard tags are constructed as Java objects. The
+     * class prevents all classes from being loaded. This effectively disables
+     * the dynamic creation of Java objects that are declared in YAML files to
+     * be loaded.
      */
-    private static Constructor createClassLoadingDisablingConstructor()
+    private static final class NodeConstructor extends Constructor
     {
-        return new Constructor()
+        /** A flag whether duplicate keys are allowed in mappings. */
+        private final boolean allowDuplicateKeys;
+
+        /**
+         * Creates a new instance of {@code NodeConstructor}.
+         *
+         * @param options the options for loading
+         */
+        public NodeConstructor(final LoaderOptions options)
+        {
+            allowDuplicateKeys = options.isAllowDuplicateKeys();
+        }
+
+        @Override
+        protected Class<?> getClassForName(final String name)
+        {
+            throw new ConfigurationRuntimeException("Class instantiation is disabled.");
+        }
+
+        /**
+         * Transforms the root node of a YAML document into an
+         * {@code ImmutableNode}. An empty document yields an empty node. The
+         * root of a document must be a mapping.
+         *
+         * @param name the name of the resulting node
+         * @param document the root of the YAML document (may be <b>null</b>)
+         * @return the resulting node
+         * @throws ConfigurationException if the document is not a mapping
+         */
+        public ImmutableNode constructDocumentNode(final String name, final Node document)
+                throws ConfigurationException
+        {
+            if (document == null || Tag.NULL.equals(document.getTag()))
+            {
+                return new ImmutableNode.Builder().name(name).create();
+            }
+            if (!(document instanceof MappingNode) || !Tag.MAP.equals(document.getTag()))
+            {
+                throw new ConfigurationException("Error parsing: YAML document "
+                        + "must be a mapping, but is " + document.getTag());
+            }
+            return constructMappingNode(name, (MappingNode) document);
+        }
+
+        /**
+         * Transforms a YAML node into one or multiple {@code ImmutableNode}
+         * objects which are added to the given list. Sequences produce one
+         * node per element.
+         *
+         * @param key the key of the new node(s)
+         * @param node the YAML node
+         * @param nodes the list to which the new nodes are added
+         * @throws ConfigurationException if an error occurs
+         */
+        private void constructNodes(final String key, final Node node,
+                final List<ImmutableNode> nodes) throws ConfigurationException
+        {
+            if (node instanceof MappingNode && Tag.MAP.equals(node.getTag()))
+            {
+                nodes.add(constructMappingNode(key, (MappingNode) node));
+            }
+            else if (node instanceof SequenceNode && Tag.SEQ.equals(node.getTag()))
+            {
+                for (final Node elem : ((SequenceNode) node).getValue())
+                {
+                    constructNodes(key, elem, nodes);
+                }
+            }
+            else if (node instanceof ScalarNode)
+            {
+                nodes.add(new ImmutableNode.Builder().name(key)
+                        .value(constructObject(node)).create());
+            }
+            else
+            {
+                nodes.addAll(constructHierarchy(key, constructObject(node)));
+            }
+        }
+
+        /**
+         * Transforms a YAML mapping into an {@code ImmutableNode} whose
+         * children represent the entries of the mapping. Merge keys are
+         * resolved; explicitly defined keys take precedence over merged ones.
+         * Only explicitly defined keys are checked for duplicates.
+         *
+         * @param key the name of the resulting node
+         * @param node the mapping node
+         * @return the resulting node
+         * @throws ConfigurationException if an error occurs
+         */
+        private ImmutableNode constructMappingNode(final String key, final MappingNode node)
+                throws ConfigurationException
+        {
+            final Map<String, List<ImmutableNode>> entries = new LinkedHashMap<>();
+            addMergedEntries(node, entries);
+            final Set<String> explicitKeys = new HashSet<>();
+            for (final NodeTuple tuple : node.getValue())
+            {
+                if (!Tag.MERGE.equals(tuple.getKeyNode().getTag()))
+                {
+                    final String name = keyName(tuple.getKeyNode());
+                    if (!explicitKeys.add(name) && !allowDuplicateKeys)
+                    {
+                        throw new ConfigurationException("Error parsing: duplicate key " + name);
+                    }
+                    final List<ImmutableNode> nodes = new ArrayList<>(1);
+                    constructNodes(name, tuple.getValueNode(), nodes);
+                    entries.put(name, nodes);
+                }
+            }
+
+            final ImmutableNode.Builder builder = new ImmutableNode.Builder().name(key);
+            for (final List<ImmutableNode> nodes : entries.values())
+            {
+                builder.addChildren(nodes);
+            }
+            return builder.create();
+        }
+
+        /**
+         * Processes the merge keys of a mapping. The entries of the mappings
+         * referenced by merge keys are added to the given map unless they are
+         * already contained.
+         *
+         * @param node the mapping node
+         * @param entries the map with the entries of the mapping
+         * @throws ConfigurationException if an error occurs
+         */
+        private void addMergedEntries(final MappingNode node,
+                final Map<String, List<ImmutableNode>> entries) throws ConfigurationException
+        {
+            for (final NodeTuple tuple : node.getValue())
+            {
+                if (Tag.MERGE.equals(tuple.getKeyNode().getTag()))
+                {
+                    final Node value = tuple.getValueNode();
+                    if (value instanceof SequenceNode)
+                    {
+                        for (final Node elem : ((SequenceNode) value).getValue())
+                        {
+                            mergeMapping(elem, entries);
+                        }
+                    }
+                    else
+                    {
+                        mergeMapping(value, entries);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Adds the entries of a mapping referenced by a merge key to the given
+         * map.
+         *
+         * @param node the referenced node
+         * @param entries the map with the entries of the mapping
+         * @throws ConfigurationException if the node is not a mapping
+         */
+        private void mergeMapping(final Node node,
+                final Map<String, List<ImmutableNode>> entries) throws ConfigurationException
         {
-            @Override
-            protected Class<?> getClassForName(String name)
+            if (!(node instanceof MappingNode))
             {
-                throw new ConfigurationRuntimeException("Class instantiation is disabled.");
+                throw new ConfigurationException("Error parsing: merge key must "
+                        + "reference a mapping, but found " + node.getNodeId());
             }
-        };
+            final Map<String, List<ImmutableNode>> mergedEntries = new LinkedHashMap<>();
+            for (final ImmutableNode child : constructMappingNode("",
+                    (MappingNode) node).getChildren())
+            {
+                mergedEntries.computeIfAbsent(child.getNodeName(), k -> new ArrayList<>(1))
+                        .add(child);
+            }
+            mergedEntries.forEach(entries::putIfAbsent);
+        }
+
+        /**
+         * Returns the name of a mapping key. Keys must be scalars; their
+         * textual representation is used.
+         *
+         * @param keyNode the node representing the key
+         * @return the name of the key
+         * @throws ConfigurationException if the key is not a scalar
+         */
+        private static String keyName(final Node keyNode) throws ConfigurationException
+        {
+            if (!(keyNode instanceof ScalarNode))
+            {
+                throw new ConfigurationException("Error parsing: unsupported key "
+                        + keyNode.getNodeId());
+            }
+            return ((ScalarNode) keyNode).getValue();
+        }
     }
 }
@@ -16,8 +16,10 @@
  */
 package org.apache.commons.configuration2.beanutils;
 
+import java.beans.IndexedPropertyDescriptor;
 import java.beans.PropertyDescriptor;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -29,8 +31,10 @@ import java.util.TreeSet;
 
 import org.apache.commons.beanutils.BeanUtilsBean;
 import org.apache.commons.beanutils.ConvertUtilsBean;
+import org.apache.commons.beanutils.Converter;
 import org.apache.commons.beanutils.DynaBean;
 import org.apache.commons.beanutils.FluentPropertyBeanIntrospector;
+import org.apache.commons.beanutils.MappedPropertyDescriptor;
 import org.apache.commons.beanutils.PropertyUtilsBean;
 import org.apache.commons.beanutils.WrapDynaBean;
 import org.apache.commons.beanutils.WrapDynaClass;
@@ -87,6 +91,22 @@ public final class BeanHelper
      */
     private static final BeanUtilsBean BEAN_UTILS_BEAN = initBeanUtilsBean();
 
+    /**
+     * A cache for the metadata of bean classes. The metadata is obtained once
+     * per class and shared between all {@code BeanHelper} instances. Using a
+     * {@code ClassValue} ensures that the cache does not prevent bean classes
+     * from being unloaded.
+     */
+    private static final ClassValue<BeanClassMetadata> BEAN_METADATA =
+            new ClassValue<BeanClassMetadata>()
+            {
+                @Override
+                protected BeanClassMetadata computeValue(final Class<?> type)
+                {
+                    return BeanClassMetadata.create(type);
+                }
+            };
+
     /** Stores a map with the registered bean factories. */
     private final Map<String, BeanFactory> beanFactories = Collections
             .synchronizedMap(new HashMap<String, BeanFactory>());
@@ -327,6 +347,12 @@ public final class BeanHelper
      */
     private static Class<?> getDefaultClass(final Object bean, final String propName)
     {
+        final PropertyMetadata metadata = fetchPropertyMetadata(bean, propName);
+        if (metadata != null)
+        {
+            return metadata.getType();
+        }
+
         try
         {
             final PropertyDescriptor desc =
@@ -363,7 +389,17 @@ public final class BeanHelper
 
         try
         {
-            BEAN_UTILS_BEAN.setProperty(bean, propName, value);
+            final PropertyMetadata metadata =
+                    fetchPropertyMetadata(bean, propName);
+            if (metadata != null && metadata.getWriteMethod() != null)
+            {
+                metadata.getWriteMethod().invoke(bean,
+                        convertPropertyValue(value, metadata.getType()));
+            }
+            else
+            {
+                BEAN_UTILS_BEAN.setProperty(bean, propName, value);
+            }
         }
         catch (final IllegalAccessException iaex)
         {
@@ -519,9 +555,110 @@ public final class BeanHelper
      */
     private static boolean isPropertyWriteable(final Object bean, final String propName)
     {
+        final PropertyMetadata metadata = fetchPropertyMetadata(bean, propName);
+        if (metadata != null && metadata.getWriteMethod() != null)
+        {
+            return true;
+        }
         return BEAN_UTILS_BEAN.getPropertyUtils().isWriteable(bean, propName);
     }
 
+    /**
+     * Returns the cached metadata for the specified property of the given
+     * bean. Metadata is only available for simple properties of ordinary
+     * beans; for dynamic beans, maps, or nested, indexed, or mapped property
+     * expressions result is <b>null</b>. In this case, the property has to be
+     * processed by Commons BeanUtils directly.
+     *
+     * @param bean the bean instance
+     * @param propName the name of the property in question
+     * @return the metadata for this property or <b>null</b>
+     */
+    private static PropertyMetadata fetchPropertyMetadata(final Object bean,
+            final String propName)
+    {
+        if (bean == null || propName == null || bean instanceof DynaBean
+                || bean instanceof Map || !isSimplePropertyName(propName))
+        {
+            return null;
+        }
+        return BEAN_METADATA.get(bean.getClass()).getProperty(propName);
+    }
+
+    /**
+     * Checks whether the specified property name is a simple name, i.e. it
+     * does not contain any of the special characters used by Commons
+     * BeanUtils for nested, indexed, or mapped properties.
+     *
+     * @param propName the property name
+     * @return a flag whether this is a simple property name
+     */
+    private static boolean isSimplePropertyName(final String propName)
+    {
+        for (int i = 0; i < propName.length(); i++)
+        {
+            switch (propName.charAt(i))
+            {
+            case '.':
+            case '[':
+            case ']':
+            case '(':
+            case ')':
+                return false;
+            default:
+                break;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Converts a value to be written into a bean property to the type of this
+     * property. This method applies the same conversion rules as
+     * {@code BeanUtilsBean.setProperty()}, so that properties set via the
+     * cached metadata behave exactly as before.
+     *
+     * @param value the value to be converted
+     * @param type the type of the property
+     * @return the converted value
+     */
+    private static Object convertPropertyValue(final Object value,
+            final Class<?> type)
+    {
+        final ConvertUtilsBean convertUtils = BEAN_UTILS_BEAN.getConvertUtils();
+        if (type.isArray())
+        {
+            if (value == null)
+            {
+                final String[] values = new String[1];
+                values[0] = null;
+                return convertUtils.convert(values, type);
+            }
+            if (value instanceof String)
+            {
+                return convertUtils.convert(value, type);
+            }
+            if (value instanceof String[])
+            {
+                return convertUtils.convert((String[]) value, type);
+            }
+        }
+        else
+        {
+            if (value instanceof String)
+            {
+                return convertUtils.convert((String) value, type);
+            }
+            if (value instanceof String[])
+            {
+                return convertUtils.convert(((String[]) value)[0], type);
+            }
+        }
+
+        final Converter converter = convertUtils.lookup(type);
+        return converter != null ? converter.convert(type, value) : value;
+    }
+
     /**
      * Determines the class of the bean to be created. If the bean declaration
      * contains a class name, this class is used. Otherwise it is checked
@@ -627,6 +764,87 @@ public final class BeanHelper
         return new BeanUtilsBean(new ConvertUtilsBean(), propUtilsBean);
     }
 
+    /**
+     * An internal class storing the metadata of a bean class which is needed
+     * for setting properties. An instance is created once for each bean
+     * class; it contains the simple (i.e. neither indexed nor mapped)
+     * properties of this class with their types and write methods.
+     */
+    private static final class BeanClassMetadata
+    {
+        /** A map with the metadata of the single properties. */
+        private final Map<String, PropertyMetadata> properties;
+
+        private BeanClassMetadata(final Map<String, PropertyMetadata> props)
+        {
+            properties = props;
+        }
+
+        /**
+         * Creates a new instance with the metadata for the given bean class.
+         *
+         * @param beanClass the bean class
+         * @return the metadata for this class
+         */
+        public static BeanClassMetadata create(final Class<?> beanClass)
+        {
+            final PropertyUtilsBean propUtils = BEAN_UTILS_BEAN.getPropertyUtils();
+            final Map<String, PropertyMetadata> props = new HashMap<>();
+            for (final PropertyDescriptor desc : propUtils
+                    .getPropertyDescriptors(beanClass))
+            {
+                if (!(desc instanceof IndexedPropertyDescriptor)
+                        && !(desc instanceof MappedPropertyDescriptor)
+                        && desc.getPropertyType() != null)
+                {
+                    props.put(desc.getName(),
+                            new PropertyMetadata(desc.getPropertyType(),
+                                    propUtils.getWriteMethod(beanClass, desc)));
+                }
+            }
+            return new BeanClassMetadata(props);
+        }
+
+        /**
+         * Returns the metadata for the property with the given name.
+         *
+         * @param name the property name
+         * @return the metadata for this property or <b>null</b> if unknown
+         */
+        public PropertyMetadata getProperty(final String name)
+        {
+            return properties.get(name);
+        }
+    }
+
+    /**
+     * An internal class storing the metadata of a single bean property.
+     */
+    private static final class PropertyMetadata
+    {
+        /** The type of the property. */
+        private final Class<?> type;
+
+        /** The write method of the property; <b>null</b> if read-only. */
+        private final Method writeMethod;
+
+        private PropertyMetadata(final Class<?> propType, final Method writer)
+        {
+            type = propType;
+            writeMethod = writer;
+        }
+
+        public Class<?> getType()
+        {
+            return type;
+        }
+
+        public Method getWriteMethod()
+        {
+            return writeMethod;
+        }
+    }
+
     /**
      * An implementation of the {@code BeanCreationContext} interface used by
      * {@code BeanHelper} to communicate with a {@code BeanFactory}. This class
@@ -59,6 +59,22 @@ public class DefaultBeanFactory implements BeanFactory
     private static final String FMT_CTOR_ERROR =
             "%s! Bean class = %s, constructor arguments = %s";
 
+    /**
+     * A cache for the public constructors of bean classes. Querying the
+     * constructors of a class via reflection creates new objects on each
+     * call, so they are obtained only once per class. A {@code ClassValue} is
+     * used so that bean classes can still be unloaded.
+     */
+    private static final ClassValue<Constructor<?>[]> CONSTRUCTORS =
+            new ClassValue<Constructor<?>[]>()
+            {
+                @Override
+                protected Constructor<?>[] computeValue(final Class<?> type)
+                {
+                    return type.getConstructors();
+                }
+            };
+
     /** The conversion handler used by this instance. */
     private final ConversionHandler conversionHandler;
 
@@ -246,7 +262,7 @@ public class DefaultBeanFactory implements BeanFactory
     {
         final List<Constructor<T>> result = new LinkedList<>();
         final Collection<ConstructorArg> args = getConstructorArgs(data);
-        for (final Constructor<?> ctor : beanClass.getConstructors())
+        for (final Constructor<?> ctor : CONSTRUCTORS.get(beanClass))
         {
             if (matchesConstructor(ctor, args))
             {
@@ -273,12 +289,12 @@ public class DefaultBeanFactory implements BeanFactory
     private static boolean matchesConstructor(final Constructor<?> ctor,
             final Collection<ConstructorArg> args)
     {
-        final Class<?>[] types = ctor.getParameterTypes();
-        if (types.length != args.size())
+        if (ctor.getParameterCount() != args.size())
         {
             return false;
         }
 
+        final Class<?>[] types = ctor.getParameterTypes();
         int idx = 0;
         for (final ConstructorArg arg : args)
         {
@@ -21,6 +21,9 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.commons.configuration2.ConfigurationUtils;
 import org.apache.commons.configuration2.ImmutableConfiguration;
@@ -100,6 +103,20 @@ import org.apache.commons.configuration2.reloading.ReloadingController;
  * that always the same {@code ImmutableConfiguration} instance is returned until the
  * builder is reset.
  * </p>
+ * <p>
+ * Per default, a reset of the builder's result - e.g. triggered by a
+ * {@link ReloadingController} - causes the next caller of
+ * {@code getConfiguration()} to create a new result object; all other threads
+ * requesting the configuration in the meantime block until this is done. If
+ * the <em>backgroundReload</em> flag is set, notifications of a connected
+ * reloading controller are handled differently: The current result object
+ * remains available while a replacement is created, either in the thread
+ * that triggered the reload or by the executor set via
+ * {@link #setBackgroundReloadExecutor(Executor)}. The new object then replaces
+ * the old one in a single step, and a
+ * {@link ConfigurationBuilderResultCreatedEvent} is fired. The same mechanism
+ * can be triggered manually by calling {@link #refreshResult()}.
+ * </p>
  *
  * @since 2.0
  * @param <T> the concrete type of {@code ImmutableConfiguration} objects created by this
@@ -126,6 +143,15 @@ public class BasicConfigurationBuilder<T extends ImmutableConfiguration> impleme
     /** The result object of this builder. */
     private volatile T result;
 
+    /** A flag whether reloads replace the result in the background. */
+    private volatile boolean backgroundReload;
+
+    /** The executor for creating replacement results in the background. */
+    private volatile Executor backgroundReloadExecutor;
+
+    /** A flag whether a background reload has been scheduled. */
+    private final AtomicBoolean backgroundReloadPending = new AtomicBoolean();
+
     /**
      * Creates a new instance of {@code BasicConfigurationBuilder} and
      * initializes it with the given result class. No initialization properties
@@ -345,6 +371,107 @@ public class BasicConfigurationBuilder<T extends ImmutableConfiguration> impleme
                 ConfigurationBuilderEvent.RESET));
     }
 
+    /**
+     * Replaces the current result object by a newly created one. Other than
+     * {@link #resetResult()}, this method does not invalidate the current
+     * result: until the replacement is fully initialized, calls of
+     * {@link #getConfiguration()} continue to return the old object. The new
+     * object is then published in a single step, the event listeners are moved
+     * from the old to the new result object, and a {@code RESET} event followed
+     * by a {@link ConfigurationBuilderResultCreatedEvent} is fired. If there is
+     * no current result object yet, the result is just created as if
+     * {@code getConfiguration()} had been called. If the creation of the new
+     * object fails, the current result object remains unchanged.
+     *
+     * @return the new result object
+     * @throws ConfigurationException if an error occurs when creating the new
+     *         result object
+     * @since 2.8
+     */
+    public T refreshResult() throws ConfigurationException
+    {
+        T oldResult;
+        T newResult = null;
+        synchronized (this)
+        {
+            oldResult = result;
+            if (oldResult != null)
+            {
+                resultDeclaration = null;
+                newResult = createResult();
+                result = newResult;
+            }
+        }
+
+        if (oldResult == null)
+        {
+            return getConfiguration();
+        }
+        removeEventListeners(oldResult);
+        fireBuilderEvent(new ConfigurationBuilderEvent(this,
+                ConfigurationBuilderEvent.RESET));
+        fireBuilderEvent(new ConfigurationBuilderResultCreatedEvent(this,
+                ConfigurationBuilderResultCreatedEvent.RESULT_CREATED,
+                newResult));
+        return newResult;
+    }
+
+    /**
+     * Returns a flag whether reloads are handled in the background. If this
+     * flag is set, a notification of a connected {@link ReloadingController}
+     * does not reset the current result object, but causes a replacement to be
+     * created while the current object is still served.
+     *
+     * @return the <em>backgroundReload</em> flag
+     * @since 2.8
+     */
+    public boolean isBackgroundReload()
+    {
+        return backgroundReload;
+    }
+
+    /**
+     * Sets a flag whether reloads are handled in the background. If set to
+     * <b>true</b>, notifications of a {@link ReloadingController} connected
+     * via {@link #connectToReloadingController(ReloadingController)} are
+     * handled by {@link #refreshResult()} rather than {@link #resetResult()}.
+     * The default value is <b>false</b>.
+     *
+     * @param backgroundReload the <em>backgroundReload</em> flag
+     * @since 2.8
+     */
+    public void setBackgroundReload(final boolean backgroundReload)
+    {
+        this.backgroundReload = backgroundReload;
+    }
+
+    /**
+     * Returns the executor for creating replacement results in the background.
+     *
+     * @return the executor for background reloads (may be <b>null</b>)
+     * @since 2.8
+     */
+    public Executor getBackgroundReloadExecutor()
+    {
+        return backgroundReloadExecutor;
+    }
+
+    /**
+     * Sets the executor for creating replacement results in the background.
+     * This executor is used if the <em>backgroundReload</em> flag is set and a
+     * reload is triggered. If it is <b>null</b> (which is the default), the
+     * replacement is created in the thread which triggered the reload.
+     * Multiple reload notifications that arrive before the executor has
+     * started the pending reload are combined.
+     *
+     * @param executor the executor for background reloads (may be <b>null</b>)
+     * @since 2.8
+     */
+    public void setBackgroundReloadExecutor(final Executor executor)
+    {
+        backgroundReloadExecutor = executor;
+    }
+
     /**
      * Removes all initialization parameters of this builder. This method can be
      * called if this builder is to be reused for creating result objects with a
@@ -393,6 +520,60 @@ public class BasicConfigurationBuilder<T extends ImmutableConfiguration> impleme
         ReloadingBuilderSupportListener.connect(this, controller);
     }
 
+    /**
+     * Handles a notification that the result of this builder has to be
+     * reloaded. This method is called by the listener connecting this builder
+     * with a {@code ReloadingController}. Depending on the
+     * <em>backgroundReload</em> flag, the result is either reset or replaced
+     * by a newly created object.
+     */
+    void reloadResult()
+    {
+        if (!isBackgroundReload() || result == null)
+        {
+            resetResult();
+            return;
+        }
+
+        final Executor executor = getBackgroundReloadExecutor();
+        if (executor == null)
+        {
+            refreshResultOnReload();
+        }
+        else if (backgroundReloadPending.compareAndSet(false, true))
+        {
+            try
+            {
+                executor.execute(() -> {
+                    backgroundReloadPending.set(false);
+                    refreshResultOnReload();
+                });
+            }
+            catch (final RejectedExecutionException rex)
+            {
+                backgroundReloadPending.set(false);
+                refreshResultOnReload();
+            }
+        }
+    }
+
+    /**
+     * Replaces the result object after a reload notification. If this fails,
+     * the result is reset, so that the error is reported to the next caller
+     * of {@code getConfiguration()}.
+     */
+    private void refreshResultOnReload()
+    {
+        try
+        {
+            refreshResult();
+        }
+        catch (final ConfigurationException | RuntimeException ex)
+        {
+            resetResult();
+        }
+    }
+
     /**
      * Creates a new, initialized result object. This method is called by
      * {@code getConfiguration()} if no valid result object exists. This base
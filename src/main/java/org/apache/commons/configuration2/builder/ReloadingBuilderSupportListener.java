@@ -33,7 +33,9 @@ import org.apache.commons.configuration2.reloading.ReloadingEvent;
  * <li>An instance is registered as listener at a {@code ReloadingController}.
  * Whenever the controller indicates that a reload should happen, the associated
  * configuration builder's {@link BasicConfigurationBuilder#resetResult()}
- * method is called.</li>
+ * method is called; if the builder handles reloads in the background, its
+ * {@link BasicConfigurationBuilder#refreshResult()} method is called
+ * instead.</li>
  * <li>When the builder fires a {@link ConfigurationBuilderResultCreatedEvent}
  * event the reloading controller's reloading state is reset. At that time the
  * reload has actually happened, and the controller is prepared to observe new
@@ -94,7 +96,7 @@ final class ReloadingBuilderSupportListener implements EventListener<Event>
     /**
      * {@inheritDoc} This implementation resets the controller's reloading state
      * if an event about a newly created result was received. Otherwise, in case
-     * of a reloading event, the builder's result object is reset.
+     * of a reloading event, the builder's result object is reset or replaced.
      */
     @Override
     public void onEvent(final Event event)
@@ -106,7 +108,7 @@ final class ReloadingBuilderSupportListener implements EventListener<Event>
         }
         else
         {
-            builder.resetResult();
+            builder.reloadResult();
         }
     }
 }
@@ -24,6 +24,7 @@ import org.apache.commons.configuration2.io.FileHandler;
 import org.apache.commons.configuration2.reloading.ReloadingController;
 import org.apache.commons.configuration2.reloading.ReloadingControllerSupport;
 import org.apache.commons.configuration2.reloading.ReloadingDetector;
+import org.apache.commons.configuration2.reloading.WatchServiceReloadingDetector;
 
 /**
  * <p>
@@ -175,7 +176,10 @@ public class ReloadingFileBasedConfigurationBuilder<T extends FileBasedConfigura
      * {@code ReloadingDetector} for the new current {@code FileHandler} is
      * created. Also, the reloading controller's reloading state has to be
      * reset; after the creation of a new result object changes in the
-     * underlying configuration source have to be monitored again.
+     * underlying configuration source have to be monitored again. A
+     * {@link WatchServiceReloadingDetector} is connected to this builder's
+     * {@code ReloadingController}, and the detector of the previous result
+     * object stops watching its file.
      */
     @Override
     protected void initFileHandler(final FileHandler handler)
@@ -183,10 +187,23 @@ public class ReloadingFileBasedConfigurationBuilder<T extends FileBasedConfigura
     {
         super.initFileHandler(handler);
 
-        resultReloadingDetector =
+        final ReloadingDetector oldDetector = resultReloadingDetector;
+        final ReloadingDetector newDetector =
                 createReloadingDetector(handler,
                         FileBasedBuilderParametersImpl.fromParameters(
                                 getParameters(), true));
+        if (newDetector instanceof WatchServiceReloadingDetector)
+        {
+            ((WatchServiceReloadingDetector) newDetector)
+                    .setReloadingController(getReloadingController());
+        }
+        resultReloadingDetector = newDetector;
+
+        if (oldDetector instanceof WatchServiceReloadingDetector
+                && oldDetector != newDetector)
+        {
+            ((WatchServiceReloadingDetector) oldDetector).stopWatching();
+        }
     }
 
     /**
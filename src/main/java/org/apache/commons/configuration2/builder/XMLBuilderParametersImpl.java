@@ -60,12 +60,15 @@ public class XMLBuilderParametersImpl extends HierarchicalBuilderParametersImpl
     /** The key for the schema validation flag. */
     private static final String PROP_SCHEMA_VALIDATION = "schemaValidation";
 
+    /** The key for the streaming read flag. */
+    private static final String PROP_STREAMING_READ = "streamingRead";
+
     @Override
     public void inheritFrom(final Map<String, ?> source)
     {
         super.inheritFrom(source);
         copyPropertiesFrom(source, PROP_DOCUMENT_BUILDER, PROP_ENTITY_RESOLVER,
-                PROP_SCHEMA_VALIDATION, PROP_VALIDATING);
+                PROP_SCHEMA_VALIDATION, PROP_VALIDATING, PROP_STREAMING_READ);
     }
 
     @Override
@@ -121,4 +124,11 @@ public class XMLBuilderParametersImpl extends HierarchicalBuilderParametersImpl
         storeProperty(PROP_SCHEMA_VALIDATION, Boolean.valueOf(f));
         return this;
     }
+
+    @Override
+    public XMLBuilderParametersImpl setStreamingRead(final boolean f)
+    {
+        storeProperty(PROP_STREAMING_READ, Boolean.valueOf(f));
+        return this;
+    }
 }
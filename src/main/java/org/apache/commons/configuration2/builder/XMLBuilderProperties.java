@@ -90,4 +90,20 @@ public interface XMLBuilderProperties<T>
      * @return a reference to this object for method chaining
      */
     T setSchemaValidation(boolean f);
+
+    /**
+     * Sets a flag whether XML documents are to be read using the StAX API
+     * without retaining a DOM tree. The default implementation does nothing,
+     * so that documents are read via DOM.
+     *
+     * @param f the streaming read flag
+     * @return a reference to this object for method chaining
+     * @since 2.8
+     */
+    @SuppressWarnings("unchecked")
+    default T setStreamingRead(final boolean f)
+    {
+        // NoOp
+        return (T) this;
+    }
 }
@@ -22,6 +22,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.commons.configuration2.ConfigurationUtils;
 import org.apache.commons.configuration2.HierarchicalConfiguration;
@@ -77,6 +78,9 @@ public class CombinedBuilderParametersImpl extends BasicBuilderParameters
     /** A flag whether settings should be inherited by child builders. */
     private boolean inheritSettings;
 
+    /** The executor for loading child configurations concurrently. */
+    private ExecutorService childLoadingExecutor;
+
     /**
      * Creates a new instance of {@code CombinedBuilderParametersImpl}.
      */
@@ -440,6 +444,27 @@ public class CombinedBuilderParametersImpl extends BasicBuilderParameters
         return this;
     }
 
+    /**
+     * Returns the {@code ExecutorService} for loading child configurations
+     * concurrently. Result is <b>null</b> if child configurations are to be
+     * loaded sequentially.
+     *
+     * @return the {@code ExecutorService} for loading child configurations
+     * @since 2.8
+     */
+    public ExecutorService getChildLoadingExecutor()
+    {
+        return childLoadingExecutor;
+    }
+
+    @Override
+    public CombinedBuilderParametersImpl setChildLoadingExecutor(
+            final ExecutorService executor)
+    {
+        childLoadingExecutor = executor;
+        return this;
+    }
+
     /**
      * {@inheritDoc} This implementation returns a map which contains this
      * object itself under a specific key. The static {@code fromParameters()}
@@ -16,6 +16,8 @@
  */
 package org.apache.commons.configuration2.builder.combined;
 
+import java.util.concurrent.ExecutorService;
+
 import org.apache.commons.configuration2.HierarchicalConfiguration;
 import org.apache.commons.configuration2.builder.BuilderParameters;
 import org.apache.commons.configuration2.builder.ConfigurationBuilder;
@@ -161,4 +163,27 @@ public interface CombinedBuilderProperties<T>
      */
     <D> T registerChildDefaultsHandler(Class<D> paramClass,
             DefaultParametersHandler<? super D> handler, Class<?> startClass);
+
+    /**
+     * Sets an {@code ExecutorService} for loading the child configuration
+     * sources concurrently. If set, the builders for all sources of a section
+     * in the definition file are created first; then their configurations are
+     * loaded in parallel using this executor. Finally, they are added to the
+     * resulting combined configuration in declaration order. This requires
+     * that the declarations of the sources do not reference properties of
+     * other sources. The executor is not inherited by nested combined
+     * builders. The default implementation does nothing, so that child
+     * configurations are loaded sequentially.
+     *
+     * @param executor the {@code ExecutorService} for loading child
+     *        configurations (<b>null</b> for sequential loading)
+     * @return a reference to this object for method chaining
+     * @since 2.8
+     */
+    @SuppressWarnings("unchecked")
+    default T setChildLoadingExecutor(final ExecutorService executor)
+    {
+        // NoOp
+        return (T) this;
+    }
 }
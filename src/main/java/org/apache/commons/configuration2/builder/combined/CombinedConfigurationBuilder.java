@@ -26,6 +26,11 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.apache.commons.configuration2.CombinedConfiguration;
 import org.apache.commons.configuration2.Configuration;
@@ -230,6 +235,17 @@ import org.xml.sax.EntityResolver;
  * configuration sources which have been assigned a name; care has to be taken
  * that these names are unique.
  * </p>
+ * <p>
+ * Per default, the configuration sources are loaded one after the other. If
+ * many sources are involved, startup time can be reduced by setting an
+ * {@code ExecutorService} using the {@code setChildLoadingExecutor()} method
+ * of the parameters object. Then the configurations of a section are loaded
+ * concurrently and added to the resulting combined configuration in the order
+ * of their declaration; so the result is the same as for sequential loading.
+ * Exceptions thrown by optional sources are ignored as usual. This mode can
+ * only be used if the declarations of configuration sources do not depend on
+ * properties defined by other sources.
+ * </p>
  *
  * @since 1.3
  */
@@ -1459,6 +1475,20 @@ public class CombinedConfigurationBuilder extends BasicConfigurationBuilder<Comb
                 newBuilders = builders;
             }
 
+            final ExecutorService executor = currentParameters.getChildLoadingExecutor();
+            if (executor != null && srcDecl.size() > 1)
+            {
+                if (createBuilders)
+                {
+                    for (final ConfigurationDeclaration decl : srcDecl)
+                    {
+                        newBuilders.add(createConfigurationBuilder(decl));
+                    }
+                }
+                addChildConfigurationsConcurrently(ccResult, srcDecl, newBuilders, executor);
+                return newBuilders;
+            }
+
             for (int i = 0; i < srcDecl.size(); i++)
             {
                 ConfigurationBuilder<? extends Configuration> b;
@@ -1610,6 +1640,139 @@ public class CombinedConfigurationBuilder extends BasicConfigurationBuilder<Comb
             }
         }
 
+        /**
+         * Loads the configurations of the specified builders concurrently
+         * using the given executor and adds them to the resulting combined
+         * configuration in declaration order. The result configuration is
+         * modified only after all configurations have been loaded. If a
+         * non-optional configuration cannot be loaded, the loading of the
+         * remaining sources is cancelled, and the exception is thrown.
+         *
+         * @param ccResult the resulting combined configuration
+         * @param srcDecl the declarations of the configuration sources
+         * @param builders the builders for the configuration sources
+         * @param executor the executor for loading configurations
+         * @throws ConfigurationException if an error occurs
+         */
+        private void addChildConfigurationsConcurrently(
+                final CombinedConfiguration ccResult,
+                final List<ConfigurationDeclaration> srcDecl,
+                final List<ConfigurationBuilder<? extends Configuration>> builders,
+                final ExecutorService executor) throws ConfigurationException
+        {
+            final List<Future<? extends Configuration>> futures =
+                    new ArrayList<>(builders.size());
+            for (final ConfigurationBuilder<? extends Configuration> builder : builders)
+            {
+                futures.add(submitLoadTask(executor, builder));
+            }
+
+            final List<Configuration> configs = new ArrayList<>(futures.size());
+            try
+            {
+                for (int i = 0; i < futures.size(); i++)
+                {
+                    configs.add(fetchChildConfiguration(srcDecl.get(i), futures.get(i)));
+                }
+            }
+            finally
+            {
+                if (configs.size() < futures.size())
+                {
+                    for (final Future<?> future : futures)
+                    {
+                        future.cancel(false);
+                    }
+                }
+            }
+
+            for (int i = 0; i < configs.size(); i++)
+            {
+                if (configs.get(i) != null)
+                {
+                    ccResult.addConfiguration(configs.get(i),
+                            srcDecl.get(i).getName(), srcDecl.get(i).getAt());
+                }
+            }
+        }
+
+        /**
+         * Submits a task to the given executor which obtains the configuration
+         * of the specified builder. If the executor rejects the task, it is
+         * executed directly in the current thread.
+         *
+         * @param executor the executor
+         * @param builder the configuration builder
+         * @return the {@code Future} for the configuration
+         */
+        private Future<? extends Configuration> submitLoadTask(
+                final ExecutorService executor,
+                final ConfigurationBuilder<? extends Configuration> builder)
+        {
+            try
+            {
+                return executor.submit(builder::getConfiguration);
+            }
+            catch (final RejectedExecutionException rex)
+            {
+                final FutureTask<Configuration> task =
+                        new FutureTask<>(builder::getConfiguration);
+                task.run();
+                return task;
+            }
+        }
+
+        /**
+         * Obtains the result of a task loading a child configuration. An
+         * exception thrown by an optional configuration source is ignored;
+         * in this case result is <b>null</b>.
+         *
+         * @param decl the declaration of the configuration source
+         * @param future the {@code Future} for the configuration
+         * @return the configuration or <b>null</b> if an optional source
+         *         could not be loaded
+         * @throws ConfigurationException if the configuration cannot be
+         *         loaded
+         */
+        private Configuration fetchChildConfiguration(
+                final ConfigurationDeclaration decl,
+                final Future<? extends Configuration> future)
+                throws ConfigurationException
+        {
+            try
+            {
+                return future.get();
+            }
+            catch (final InterruptedException iex)
+            {
+                Thread.currentThread().interrupt();
+                throw new ConfigurationException(
+                        "Interrupted while loading configuration sources", iex);
+            }
+            catch (final ExecutionException eex)
+            {
+                final Throwable cause = eex.getCause();
+                if (cause instanceof ConfigurationException)
+                {
+                    // ignore exceptions for optional configurations
+                    if (decl.isOptional())
+                    {
+                        return null;
+                    }
+                    throw (ConfigurationException) cause;
+                }
+                if (cause instanceof RuntimeException)
+                {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error)
+                {
+                    throw (Error) cause;
+                }
+                throw new ConfigurationException(cause);
+            }
+        }
+
         /**
          * Creates a listener for builder change events. This listener is
          * registered at all builders for child configurations.
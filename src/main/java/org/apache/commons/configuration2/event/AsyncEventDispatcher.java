@@ -0,0 +1,233 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * <p>
+ * An internal helper class implementing asynchronous delivery of
+ * configuration events for {@link BaseEventSource}.
+ * </p>
+ * <p>
+ * Events passed to an instance are stored in a bounded queue. A task is
+ * submitted to an executor which delivers all queued events in the order they
+ * have been added. Further events arriving before this task has started are
+ * handled by the same task. If the queue is full, the events still queued and
+ * then the new event are delivered directly on the calling thread. If the
+ * executor rejects the delivery task, the queued events are delivered on the
+ * calling thread, too. In all cases, events are delivered in the order they
+ * have been passed to this object.
+ * </p>
+ * <p>
+ * Only the listeners which have been registered for asynchronous delivery are
+ * managed by this class; all other listeners of the event source are always
+ * notified synchronously.
+ * </p>
+ * <p>
+ * In coalescing mode, all events queued at the time of a delivery are combined
+ * to a single {@link ConfigurationBatchEvent}. Here a before update event
+ * immediately followed by the corresponding after update event is dropped.
+ * </p>
+ *
+ * @since 2.8
+ */
+final class AsyncEventDispatcher
+{
+    /** The source of batch events. */
+    private final Object source;
+
+    /** The list with the event listeners to be notified. */
+    private final EventListenerList listeners;
+
+    /** The executor for delivering events. */
+    private final Executor executor;
+
+    /** The queue for pending events. */
+    private final BlockingQueue<ConfigurationEvent> queue;
+
+    /** A flag whether events are to be combined to batch events. */
+    private final boolean coalesce;
+
+    /** A flag whether a delivery task has been submitted to the executor. */
+    private final AtomicBoolean deliveryPending;
+
+    /**
+     * Creates a new instance of {@code AsyncEventDispatcher}.
+     *
+     * @param src the source of batch events
+     * @param listenerList the list with the listeners to be notified
+     * @param exec the executor for delivering events
+     * @param capacity the capacity of the event queue
+     * @param coalesceEvents the flag whether events are to be coalesced
+     */
+    AsyncEventDispatcher(final Object src,
+            final EventListenerList listenerList, final Executor exec,
+            final int capacity, final boolean coalesceEvents)
+    {
+        source = src;
+        listeners = listenerList;
+        executor = exec;
+        queue = new ArrayBlockingQueue<>(capacity);
+        coalesce = coalesceEvents;
+        deliveryPending = new AtomicBoolean();
+    }
+
+    /**
+     * Checks whether there are listeners interested in events of the given
+     * type. In coalescing mode, this is the case if there are listeners for
+     * batch events.
+     *
+     * @param eventType the event type
+     * @return a flag whether there are listeners for this event type
+     */
+    public boolean hasListenersFor(final EventType<?> eventType)
+    {
+        return listeners.hasListenersFor(coalesce ? ConfigurationBatchEvent.ANY
+                : eventType);
+    }
+
+    /**
+     * Adds the given event to the queue and makes sure that it is delivered.
+     *
+     * @param event the event to be delivered
+     */
+    public void dispatch(final ConfigurationEvent event)
+    {
+        if (!queue.offer(event))
+        {
+            deliverQueuedEventsAnd(event);
+            return;
+        }
+
+        if (deliveryPending.compareAndSet(false, true))
+        {
+            try
+            {
+                executor.execute(this::deliverQueuedEvents);
+            }
+            catch (final RejectedExecutionException rex)
+            {
+                deliverQueuedEvents();
+            }
+        }
+    }
+
+    /**
+     * Delivers all events currently contained in the queue. This method is
+     * synchronized to make sure that events are delivered in order, even if
+     * the executor runs multiple delivery tasks concurrently.
+     */
+    synchronized void deliverQueuedEvents()
+    {
+        deliveryPending.set(false);
+        final List<ConfigurationEvent> events = new ArrayList<>(queue.size());
+        queue.drainTo(events);
+        if (!events.isEmpty())
+        {
+            deliver(events);
+        }
+    }
+
+    /**
+     * Delivers all events currently contained in the queue followed by the
+     * given event on the calling thread. This method is called if the queue
+     * is full. It uses the same lock as {@link #deliverQueuedEvents()}, so
+     * the event cannot overtake events which are still queued or which are
+     * currently delivered by the executor.
+     *
+     * @param event the event which did not fit into the queue
+     */
+    private synchronized void deliverQueuedEventsAnd(
+            final ConfigurationEvent event)
+    {
+        final List<ConfigurationEvent> events =
+                new ArrayList<>(queue.size() + 1);
+        queue.drainTo(events);
+        events.add(event);
+        deliver(events);
+    }
+
+    /**
+     * Notifies the registered listeners about the given events.
+     *
+     * @param events the list with events to be delivered
+     */
+    private void deliver(final List<ConfigurationEvent> events)
+    {
+        if (coalesce)
+        {
+            listeners.fire(new ConfigurationBatchEvent(source,
+                    coalesceEvents(events)));
+        }
+        else
+        {
+            for (final ConfigurationEvent event : events)
+            {
+                listeners.fire(event);
+            }
+        }
+    }
+
+    /**
+     * Removes before update events from the given list which are directly
+     * followed by the corresponding after update event.
+     *
+     * @param events the list with events
+     * @return the list with coalesced events
+     */
+    private static List<ConfigurationEvent> coalesceEvents(
+            final List<ConfigurationEvent> events)
+    {
+        final List<ConfigurationEvent> result =
+                new ArrayList<>(events.size());
+        final int size = events.size();
+        for (int i = 0; i < size; i++)
+        {
+            final ConfigurationEvent event = events.get(i);
+            if (!(i + 1 < size && isCompletedBy(event, events.get(i + 1))))
+            {
+                result.add(event);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether the first event is a before update event and the second
+     * one the matching after update event.
+     *
+     * @param before the potential before update event
+     * @param after the potential after update event
+     * @return a flag whether both events belong to the same update
+     */
+    private static boolean isCompletedBy(final ConfigurationEvent before,
+            final ConfigurationEvent after)
+    {
+        return before.isBeforeUpdate() && !after.isBeforeUpdate()
+                && before.getEventType().equals(after.getEventType())
+                && Objects.equals(before.getPropertyName(),
+                        after.getPropertyName());
+    }
+}
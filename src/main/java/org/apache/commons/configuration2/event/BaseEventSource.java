@@ -20,6 +20,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * <p>
@@ -60,20 +61,53 @@ import java.util.List;
  * {@code fireError()} method can be used by derived classes to send
  * notifications about errors to registered observers.
  * </p>
+ * <p>
+ * Per default, events are delivered synchronously on the thread which caused
+ * them. Listeners which do not need to be notified immediately can be
+ * registered with {@link #addAsyncEventListener(EventType, EventListener)}
+ * instead. By setting an executor with
+ * {@link #setEventDeliveryExecutor(Executor)} asynchronous delivery can be
+ * enabled for these listeners: configuration events are then stored in a
+ * bounded queue and passed to them by tasks running on this executor. If in
+ * addition the {@code coalesceEvents} flag is set, all events queued at the
+ * time of a delivery are combined to a single {@link ConfigurationBatchEvent};
+ * so bulk updates cause only a few notifications. Listeners registered with
+ * {@code addEventListener()} - this includes all listeners used internally by
+ * configuration classes - as well as error listeners are always notified
+ * synchronously.
+ * </p>
  *
  * @since 1.3
  */
 public class BaseEventSource implements EventSource
 {
+    /** Constant for the default capacity of the event queue. */
+    public static final int DEFAULT_EVENT_QUEUE_CAPACITY = 1024;
+
     /** The list for managing registered event listeners. */
     private EventListenerList eventListeners;
 
+    /** The list for managing event listeners notified asynchronously. */
+    private EventListenerList asyncEventListeners;
+
     /** A lock object for guarding access to the detail events counter. */
     private final Object lockDetailEventsCount = new Object();
 
     /** A counter for the detail events. */
     private int detailEvents;
 
+    /** The executor for asynchronous event delivery. */
+    private volatile Executor eventDeliveryExecutor;
+
+    /** The capacity of the queue for asynchronous event delivery. */
+    private volatile int eventQueueCapacity = DEFAULT_EVENT_QUEUE_CAPACITY;
+
+    /** A flag whether events are to be combined to batch events. */
+    private volatile boolean coalesceEvents;
+
+    /** The object for asynchronous event delivery. */
+    private volatile AsyncEventDispatcher eventDispatcher;
+
     /**
      * Creates a new instance of {@code BaseEventSource}.
      */
@@ -166,11 +200,53 @@ public class BaseEventSource implements EventSource
     }
 
     /**
-     * Removes all registered event listeners.
+     * Adds an event listener which is notified asynchronously about
+     * configuration events of the given type. If an executor has been set
+     * with {@link #setEventDeliveryExecutor(Executor)}, events are passed to
+     * the listeners registered by this method on this executor; otherwise,
+     * they are notified synchronously after the normal listeners. If the
+     * {@code coalesceEvents} flag is set, these listeners receive
+     * {@link ConfigurationBatchEvent} objects; so they should then be
+     * registered for this event type.
+     *
+     * @param eventType the event type (must not be <b>null</b>)
+     * @param listener the listener to be registered (must not be
+     *        <b>null</b>)
+     * @param <T> the type of events processed by this listener
+     * @throws IllegalArgumentException if a required parameter is
+     *         <b>null</b>
+     * @since 2.8
+     */
+    public <T extends Event> void addAsyncEventListener(
+            final EventType<T> eventType, final EventListener<? super T> listener)
+    {
+        asyncEventListeners.addEventListener(eventType, listener);
+    }
+
+    /**
+     * Removes an event listener which has been registered for asynchronous
+     * notifications.
+     *
+     * @param eventType the event type
+     * @param listener the listener to be removed
+     * @param <T> the type of events processed by this listener
+     * @return a flag whether the listener was found and removed
+     * @since 2.8
+     */
+    public <T extends Event> boolean removeAsyncEventListener(
+            final EventType<T> eventType, final EventListener<? super T> listener)
+    {
+        return asyncEventListeners.removeEventListener(eventType, listener);
+    }
+
+    /**
+     * Removes all registered event listeners, including the ones registered
+     * for asynchronous notifications.
      */
     public void clearEventListeners()
     {
         eventListeners.clear();
+        asyncEventListeners.clear();
     }
 
     /**
@@ -204,13 +280,115 @@ public class BaseEventSource implements EventSource
                     "Target event source must not be null!");
         }
         source.eventListeners.addAll(eventListeners);
+        source.asyncEventListeners.addAll(asyncEventListeners);
+    }
+
+    /**
+     * Returns the executor used for asynchronous event delivery.
+     *
+     * @return the executor for event delivery (<b>null</b> for synchronous
+     *         delivery)
+     * @since 2.8
+     */
+    public Executor getEventDeliveryExecutor()
+    {
+        return eventDeliveryExecutor;
+    }
+
+    /**
+     * Sets the executor used for asynchronous event delivery. If an executor
+     * is set, configuration events for the listeners registered with
+     * {@link #addAsyncEventListener(EventType, EventListener)} are no longer
+     * delivered on the thread which caused them, but are added to a queue and
+     * passed to these listeners by a task running on this executor. Events
+     * are delivered in the order they have been generated. If the queue is
+     * full, the queued events and the new event are delivered directly on the
+     * calling thread. Other listeners are not affected by this setting; they
+     * are always notified synchronously. Passing
+     * <b>null</b> (which is the default) switches back to synchronous
+     * delivery. This property should be set before the object is used;
+     * events already queued when the mode is changed are delivered, but the
+     * order to newer events is not guaranteed.
+     *
+     * @param executor the executor for event delivery (may be <b>null</b>)
+     * @since 2.8
+     */
+    public void setEventDeliveryExecutor(final Executor executor)
+    {
+        eventDeliveryExecutor = executor;
+        initEventDispatcher();
+    }
+
+    /**
+     * Returns the capacity of the queue used for asynchronous event delivery.
+     *
+     * @return the capacity of the event queue
+     * @since 2.8
+     */
+    public int getEventQueueCapacity()
+    {
+        return eventQueueCapacity;
+    }
+
+    /**
+     * Sets the capacity of the queue used for asynchronous event delivery.
+     * This is the maximum number of events waiting for their delivery. The
+     * default value is {@value #DEFAULT_EVENT_QUEUE_CAPACITY}.
+     *
+     * @param capacity the capacity of the event queue
+     * @throws IllegalArgumentException if the capacity is less than 1
+     * @since 2.8
+     */
+    public void setEventQueueCapacity(final int capacity)
+    {
+        if (capacity < 1)
+        {
+            throw new IllegalArgumentException(
+                    "Event queue capacity must be greater than 0: " + capacity);
+        }
+        eventQueueCapacity = capacity;
+        initEventDispatcher();
+    }
+
+    /**
+     * Returns a flag whether events are combined to batch events.
+     *
+     * @return the <em>coalesceEvents</em> flag
+     * @since 2.8
+     */
+    public boolean isCoalesceEvents()
+    {
+        return coalesceEvents;
+    }
+
+    /**
+     * Sets a flag whether events are combined to batch events. This flag is
+     * evaluated only if asynchronous event delivery is enabled. In this case,
+     * all configuration events queued at the time of a delivery are passed to
+     * listeners as a single {@link ConfigurationBatchEvent}; a before update
+     * event directly followed by the corresponding after update event is
+     * dropped. Note that in this mode the listeners registered for
+     * asynchronous delivery are only notified if they have been registered
+     * for the event type {@link ConfigurationBatchEvent#ANY} (or one of its
+     * super types). Listeners registered with {@code addEventListener()} still
+     * receive the single events synchronously.
+     *
+     * @param coalesceEvents the <em>coalesceEvents</em> flag
+     * @since 2.8
+     */
+    public void setCoalesceEvents(final boolean coalesceEvents)
+    {
+        this.coalesceEvents = coalesceEvents;
+        initEventDispatcher();
     }
 
     /**
      * Creates an event object and delivers it to all registered event
      * listeners. The method checks first if sending an event is allowed (making
      * use of the {@code detailEvents} property), and if listeners are
-     * registered.
+     * registered. The event is delivered synchronously to the normal event
+     * listeners. For listeners registered for asynchronous delivery, it is
+     * queued if an executor has been set.
      *
      * @param type the event's type
      * @param propName the name of the affected property (can be <b>null</b>)
@@ -223,15 +401,28 @@ public class BaseEventSource implements EventSource
     {
         if (checkDetailEvents(-1))
         {
-            final EventListenerList.EventListenerIterator<T> it =
-                    eventListeners.getEventListenerIterator(type);
-            if (it.hasNext())
+            ConfigurationEvent event = null;
+            if (eventListeners.hasListenersFor(type))
             {
-                final ConfigurationEvent event =
-                        createEvent(type, propName, propValue, before);
-                while (it.hasNext())
+                event = createEvent(type, propName, propValue, before);
+                eventListeners.fire(event);
+            }
+
+            final AsyncEventDispatcher dispatcher = eventDispatcher;
+            if (dispatcher != null ? dispatcher.hasListenersFor(type)
+                    : asyncEventListeners.hasListenersFor(type))
+            {
+                if (event == null)
+                {
+                    event = createEvent(type, propName, propValue, before);
+                }
+                if (dispatcher != null)
                 {
-                    it.invokeNext(event);
+                    dispatcher.dispatch(event);
+                }
+                else
+                {
+                    asyncEventListeners.fire(event);
                 }
             }
         }
@@ -272,17 +463,10 @@ public class BaseEventSource implements EventSource
             final EventType<T> eventType, final EventType<?> operationType,
             final String propertyName, final Object propertyValue, final Throwable cause)
     {
-        final EventListenerList.EventListenerIterator<T> iterator =
-                eventListeners.getEventListenerIterator(eventType);
-        if (iterator.hasNext())
+        if (eventListeners.hasListenersFor(eventType))
         {
-            final ConfigurationErrorEvent event =
-                    createErrorEvent(eventType, operationType, propertyName,
-                            propertyValue, cause);
-            while (iterator.hasNext())
-            {
-                iterator.invokeNext(event);
-            }
+            eventListeners.fire(createErrorEvent(eventType, operationType,
+                    propertyName, propertyValue, cause));
         }
     }
 
@@ -330,6 +514,20 @@ public class BaseEventSource implements EventSource
     private void initListeners()
     {
         eventListeners = new EventListenerList();
+        asyncEventListeners = new EventListenerList();
+        initEventDispatcher();
+    }
+
+    /**
+     * Creates the object for asynchronous event delivery based on the current
+     * settings. If no executor is set, events are delivered synchronously.
+     */
+    private void initEventDispatcher()
+    {
+        final Executor executor = getEventDeliveryExecutor();
+        eventDispatcher = executor == null ? null
+                : new AsyncEventDispatcher(this, asyncEventListeners, executor,
+                        getEventQueueCapacity(), isCoalesceEvents());
     }
 
     /**
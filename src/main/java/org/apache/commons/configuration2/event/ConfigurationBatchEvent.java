@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>
+ * An event class combining multiple {@link ConfigurationEvent} objects.
+ * </p>
+ * <p>
+ * Events of this type are generated by a {@link BaseEventSource} which has
+ * been configured for asynchronous event delivery with coalescing enabled.
+ * Rather than notifying the listeners registered for asynchronous delivery
+ * about each single change, the events that have been queued since the last
+ * delivery are passed to them in a single batch event. Consecutive before and after update events for the
+ * same property are coalesced; so only the after update event is contained
+ * in the batch.
+ * </p>
+ *
+ * @since 2.8
+ * @see BaseEventSource#setCoalesceEvents(boolean)
+ */
+public class ConfigurationBatchEvent extends Event
+{
+    /**
+     * Constant for the event type of batch events.
+     */
+    public static final EventType<ConfigurationBatchEvent> ANY =
+            new EventType<>(Event.ANY, "BATCH");
+
+    /**
+     * The serial version UID.
+     */
+    private static final long serialVersionUID = 20261016L;
+
+    /** The events contained in this batch. */
+    private final List<ConfigurationEvent> events;
+
+    /**
+     * Creates a new instance of {@code ConfigurationBatchEvent} and
+     * initializes it with the source and the events contained in this batch.
+     *
+     * @param source the event source
+     * @param events the list with the events of this batch (must not be
+     *        <b>null</b>)
+     * @throws IllegalArgumentException if the list of events is <b>null</b>
+     */
+    public ConfigurationBatchEvent(final Object source,
+            final List<? extends ConfigurationEvent> events)
+    {
+        super(source, ANY);
+        if (events == null)
+        {
+            throw new IllegalArgumentException(
+                    "List of events must not be null!");
+        }
+        this.events = Collections.unmodifiableList(new ArrayList<>(events));
+    }
+
+    /**
+     * Returns an (unmodifiable) list with the events contained in this batch.
+     * The events are in the order they have been generated.
+     *
+     * @return the events of this batch
+     */
+    public List<ConfigurationEvent> getEvents()
+    {
+        return events;
+    }
+}
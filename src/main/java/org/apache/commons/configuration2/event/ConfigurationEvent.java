@@ -103,6 +103,28 @@ public class ConfigurationEvent extends Event
     public static final EventType<ConfigurationEvent> CLEAR_PROPERTY =
             new EventType<>(ANY, "CLEAR_PROPERTY");
 
+    /**
+     * Constant for the event type for an operation which adds multiple
+     * properties at once. For events of this type the property name is
+     * <b>null</b>; the property value is an unmodifiable map with the keys of
+     * the affected properties and the values that have been added.
+     *
+     * @since 2.8
+     */
+    public static final EventType<ConfigurationEvent> ADD_PROPERTIES =
+            new EventType<>(ANY, "ADD_PROPERTIES");
+
+    /**
+     * Constant for the event type for an operation which sets multiple
+     * properties at once. For events of this type the property name is
+     * <b>null</b>; the property value is an unmodifiable map with the keys of
+     * the affected properties and their new values.
+     *
+     * @since 2.8
+     */
+    public static final EventType<ConfigurationEvent> SET_PROPERTIES =
+            new EventType<>(ANY, "SET_PROPERTIES");
+
     /**
      * Constant for the event type for a clear operation.
      *
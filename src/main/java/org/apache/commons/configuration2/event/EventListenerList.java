@@ -16,6 +16,7 @@
  */
 package org.apache.commons.configuration2.event;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -24,6 +25,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
@@ -47,16 +50,30 @@ import java.util.concurrent.CopyOnWriteArrayList;
  * register a listener multiple times for different event types.
  * </p>
  * <p>
- * Implementation note: This class is thread-safe.
+ * Implementation note: This class is thread-safe. For each concrete event
+ * type that is fired the listeners to be notified are resolved once and
+ * stored in a dispatch table; this table is discarded whenever the set of
+ * registered listeners changes. So firing an event does not need to evaluate
+ * the event type hierarchy for each listener.
  * </p>
  *
  * @since 2.0
  */
 public class EventListenerList
 {
+    /** Constant for an empty array of listeners. */
+    private static final EventListener<?>[] NO_LISTENERS = new EventListener<?>[0];
+
     /** A list with the listeners added to this object. */
     private final List<EventListenerRegistrationData<?>> listeners;
 
+    /**
+     * The dispatch table mapping concrete event types to the listeners to be
+     * notified. This map is replaced by a new one on each modification of the
+     * listener list.
+     */
+    private volatile ConcurrentMap<EventType<?>, EventListener<?>[]> dispatchTable;
+
     /**
      * Creates a new instance of {@code EventListenerList}.
      */
@@ -64,6 +81,7 @@ public class EventListenerList
     {
         listeners =
                 new CopyOnWriteArrayList<>();
+        dispatchTable = new ConcurrentHashMap<>();
     }
 
     /**
@@ -79,6 +97,7 @@ public class EventListenerList
             final EventListener<? super T> listener)
     {
         listeners.add(new EventListenerRegistrationData<>(type, listener));
+        invalidateDispatchTable();
     }
 
     /**
@@ -100,6 +119,7 @@ public class EventListenerList
                     "EventListenerRegistrationData must not be null!");
         }
         listeners.add(regData);
+        invalidateDispatchTable();
     }
 
     /**
@@ -136,7 +156,12 @@ public class EventListenerList
     public <T extends Event> boolean removeEventListener(
             final EventListenerRegistrationData<T> regData)
     {
-        return listeners.remove(regData);
+        final boolean removed = listeners.remove(regData);
+        if (removed)
+        {
+            invalidateDispatchTable();
+        }
+        return removed;
     }
 
     /**
@@ -153,14 +178,26 @@ public class EventListenerList
                     "Event to be fired must not be null!");
         }
 
-        for (final EventListenerIterator<? extends Event> iterator =
-                getEventListenerIterator(event.getEventType()); iterator
-                .hasNext();)
+        for (final EventListener<?> listener : fetchDispatchListeners(event
+                .getEventType()))
         {
-            iterator.invokeNextListenerUnchecked(event);
+            callListener(listener, event);
         }
     }
 
+    /**
+     * Checks whether there are listeners which would be notified for an event
+     * of the given type. This can be used to avoid the creation of event
+     * objects nobody is interested in.
+     *
+     * @param eventType the event type (must not be <b>null</b>)
+     * @return a flag whether there are listeners for this event type
+     */
+    boolean hasListenersFor(final EventType<?> eventType)
+    {
+        return fetchDispatchListeners(eventType).length > 0;
+    }
+
     /**
      * Returns an {@code Iterable} allowing access to all event listeners stored
      * in this list which are compatible with the specified event type.
@@ -249,6 +286,7 @@ public class EventListenerList
     public void clear()
     {
         listeners.clear();
+        invalidateDispatchTable();
     }
 
     /**
@@ -272,6 +310,69 @@ public class EventListenerList
         }
     }
 
+    /**
+     * Returns the listeners to be notified for an event of the given type. The
+     * result is obtained from the dispatch table. If it is not yet contained,
+     * it is computed from the current registrations and added to the table.
+     * The listeners are returned in the order they have been registered.
+     *
+     * @param eventType the event type
+     * @return an array with the listeners to be notified
+     */
+    private EventListener<?>[] fetchDispatchListeners(
+            final EventType<?> eventType)
+    {
+        if (eventType == null)
+        {
+            return NO_LISTENERS;
+        }
+
+        final ConcurrentMap<EventType<?>, EventListener<?>[]> table =
+                dispatchTable;
+        EventListener<?>[] result = table.get(eventType);
+        if (result == null)
+        {
+            result = createDispatchListeners(eventType);
+            table.put(eventType, result);
+        }
+        return result;
+    }
+
+    /**
+     * Determines the listeners to be notified for an event of the given type
+     * based on the current listener registrations.
+     *
+     * @param eventType the event type
+     * @return an array with the listeners to be notified
+     */
+    private EventListener<?>[] createDispatchListeners(
+            final EventType<?> eventType)
+    {
+        final Set<EventType<?>> acceptedTypes =
+                EventType.fetchSuperEventTypes(eventType);
+        final List<EventListener<?>> result = new ArrayList<>();
+        for (final EventListenerRegistrationData<?> reg : listeners)
+        {
+            if (acceptedTypes.contains(reg.getEventType()))
+            {
+                result.add(reg.getListener());
+            }
+        }
+        return result.toArray(new EventListener<?>[result.size()]);
+    }
+
+    /**
+     * Discards the current dispatch table. This method is called after each
+     * modification of the listener registrations. The table is replaced rather
+     * than cleared, so that a concurrent fire operation, which may have
+     * computed its listeners from an outdated state, can only store its result
+     * in the table which is no longer used.
+     */
+    private void invalidateDispatchTable()
+    {
+        dispatchTable = new ConcurrentHashMap<>();
+    }
+
     /**
      * Helper method for calling an event listener with an event. We have to
      * operate on raw types to make this code compile. However, this is safe
@@ -20,12 +20,15 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.text.StringSubstitutor;
 import org.apache.commons.text.lookup.DefaultStringLookup;
@@ -77,6 +80,28 @@ import org.apache.commons.text.lookup.DefaultStringLookup;
  * values of specific variables without performing interpolation.
  * </p>
  * <p>
+ * Optionally, an instance can cache the results of interpolation operations.
+ * This is useful if the same values containing variables are interpolated again
+ * and again. The cache is keyed by the raw string value. For each entry the
+ * names of the variables consulted while producing the result are recorded;
+ * {@link #invalidateCache(String)} evicts all entries that depended on a given
+ * variable (for variables with a prefix, the prefix is part of the name).
+ * Only results which have been produced exclusively by lookups declared as
+ * observed (see {@link #addObservedLookup(Lookup)}) are cached; the owner of
+ * such a lookup is responsible for reporting changes. {@code
+ * AbstractConfiguration} registers the lookup for its own properties in this
+ * way and reports the keys affected by its change events. The default lookups
+ * for environment variables, constants, and the Base64 and URL encoders and
+ * decoders are always treated as observed because their results never change.
+ * Other lookups, e.g. for system properties or {@link ExprLookup}, can be
+ * declared as observed if their values do not change or if the application
+ * reports changes itself. Results that involved an unobserved lookup or a
+ * parent interpolator are not cached because there is no way to find out when
+ * they change. Changes of the registered lookups clear the cache. The cache is
+ * disabled per default; it can be enabled using
+ * {@link #setCacheEnabled(boolean)}.
+ * </p>
+ * <p>
  * Implementation node: This class is thread-safe. Lookup objects can be added
  * or removed at any time concurrent to interpolation operations.
  * </p>
@@ -103,6 +128,15 @@ public class ConfigurationInterpolator
     /** A map containing the default prefix lookups. */
     private static final Map<String, Lookup> DEFAULT_PREFIX_LOOKUPS;
 
+    /** The maximum number of entries stored in the interpolation cache. */
+    static final int MAX_CACHED_VALUES = 4096;
+
+    /**
+     * A set with the default prefix lookups whose results never change. They
+     * do not prevent results from being cached.
+     */
+    private static final Set<Lookup> STABLE_LOOKUPS;
+
     static
     {
         // TODO Perhaps a 3.0 version should only use Commons Text lookups.
@@ -118,6 +152,15 @@ public class ConfigurationInterpolator
             lookups.putIfAbsent(lookup.getKey(), new StringLookupAdapter(lookup.getStringLookup()));
         }
         DEFAULT_PREFIX_LOOKUPS = Collections.unmodifiableMap(lookups);
+
+        final Set<Lookup> stableLookups = new HashSet<>();
+        stableLookups.add(DefaultLookups.BASE64_DECODER.getLookup());
+        stableLookups.add(DefaultLookups.BASE64_ENCODER.getLookup());
+        stableLookups.add(DefaultLookups.CONST.getLookup());
+        stableLookups.add(DefaultLookups.ENVIRONMENT.getLookup());
+        stableLookups.add(DefaultLookups.URL_DECODER.getLookup());
+        stableLookups.add(DefaultLookups.URL_ENCODER.getLookup());
+        STABLE_LOOKUPS = Collections.unmodifiableSet(stableLookups);
     }
 
     /** A map with the currently registered lookup objects. */
@@ -132,6 +175,24 @@ public class ConfigurationInterpolator
     /** Stores a parent interpolator objects if the interpolator is nested hierarchically. */
     private volatile ConfigurationInterpolator parentInterpolator;
 
+    /** The cache for interpolated values. */
+    private final ConcurrentMap<String, CachedValue> cache;
+
+    /** A counter which is incremented each time the cache is invalidated. */
+    private final AtomicLong cacheGeneration;
+
+    /** A flag whether the cache for interpolated values is enabled. */
+    private volatile boolean cacheEnabled;
+
+    /** The lookups whose changes are reported to this object. */
+    private final Set<Lookup> observedLookups;
+
+    /**
+     * Stores the dependencies recorded by the interpolation operation of this
+     * object currently executed by a thread.
+     */
+    private final ThreadLocal<DependencyTracker> currentTracker;
+
     /**
      * Creates a new instance of {@code ConfigurationInterpolator}.
      */
@@ -139,6 +200,10 @@ public class ConfigurationInterpolator
     {
         prefixLookups = new ConcurrentHashMap<>();
         defaultLookups = new CopyOnWriteArrayList<>();
+        cache = new ConcurrentHashMap<>();
+        cacheGeneration = new AtomicLong();
+        observedLookups = ConcurrentHashMap.newKeySet();
+        currentTracker = new ThreadLocal<>();
         substitutor = initSubstitutor();
     }
 
@@ -247,6 +312,7 @@ public class ConfigurationInterpolator
     public void addDefaultLookup(final Lookup defaultLookup)
     {
         defaultLookups.add(defaultLookup);
+        invalidateCache(null);
     }
 
     /**
@@ -263,6 +329,7 @@ public class ConfigurationInterpolator
         if (lookups != null)
         {
             defaultLookups.addAll(lookups);
+            invalidateCache(null);
         }
     }
 
@@ -276,7 +343,9 @@ public class ConfigurationInterpolator
      */
     public boolean deregisterLookup(final String prefix)
     {
-        return prefixLookups.remove(prefix) != null;
+        final boolean removed = prefixLookups.remove(prefix) != null;
+        invalidateCache(null);
+        return removed;
     }
 
     /**
@@ -357,23 +426,167 @@ public class ConfigurationInterpolator
         if (value instanceof String)
         {
             final String strValue = (String) value;
-            if (looksLikeSingleVariable(strValue))
+            if (isCacheEnabled() && strValue.contains(VAR_START))
             {
-                final Object resolvedValue = resolveSingleVariable(strValue);
-                if (resolvedValue != null && !(resolvedValue instanceof String))
-                {
-                    // If the value is again a string, it needs no special
-                    // treatment; it may also contain further variables which
-                    // must be resolved; therefore, the default mechanism is
-                    // applied.
-                    return resolvedValue;
-                }
+                return interpolateCached(strValue);
             }
-            return substitutor.replace(strValue);
+            return interpolateString(strValue);
         }
         return value;
     }
 
+    /**
+     * Returns a flag whether the cache for interpolated values is enabled.
+     *
+     * @return a flag whether interpolated values are cached
+     * @since 2.8
+     */
+    public boolean isCacheEnabled()
+    {
+        return cacheEnabled;
+    }
+
+    /**
+     * Sets a flag whether the results of interpolation operations are to be
+     * cached. If enabled, the result of interpolating a string value is stored
+     * together with the names of the variables it depends on; subsequent
+     * requests for the same value are answered from the cache until one of
+     * these variables is invalidated using {@link #invalidateCache(String)}.
+     * Disabling the cache discards all cached values.
+     *
+     * @param cacheEnabled the flag whether the cache is enabled
+     * @since 2.8
+     */
+    public void setCacheEnabled(final boolean cacheEnabled)
+    {
+        this.cacheEnabled = cacheEnabled;
+        invalidateCache(null);
+    }
+
+    /**
+     * Removes all cached interpolation results which depend on the specified
+     * variable. A cached result is affected if one of the variables consulted
+     * while it was produced equals the given name or if one of these names is
+     * a prefix of the other one; so a change of a hierarchical key also
+     * invalidates results which referenced a sub key of it or a key this key
+     * belongs to. If the variable name is <b>null</b>, the whole cache is
+     * cleared. This method has no effect if the cache is disabled.
+     *
+     * @param variable the name of the variable which has changed (may be
+     *        <b>null</b>)
+     * @since 2.8
+     */
+    public void invalidateCache(final String variable)
+    {
+        cacheGeneration.incrementAndGet();
+        if (cache.isEmpty())
+        {
+            return;
+        }
+        if (variable == null)
+        {
+            cache.clear();
+        }
+        else
+        {
+            cache.values().removeIf(v -> v.dependsOn(variable));
+        }
+    }
+
+    /**
+     * Returns the number of values currently stored in the interpolation
+     * cache. This is mainly used for testing purposes.
+     *
+     * @return the number of cached values
+     */
+    int getCachedValueCount()
+    {
+        return cache.size();
+    }
+
+    /**
+     * Interpolates a string value making use of the cache. The dependencies of
+     * the value are recorded during interpolation. They are also added to the
+     * tracker of an enclosing interpolation operation, so that the results of
+     * nested operations are handled correctly.
+     *
+     * @param strValue the string to be interpolated
+     * @return the interpolated value
+     */
+    private Object interpolateCached(final String strValue)
+    {
+        final DependencyTracker outer = currentTracker.get();
+        final CachedValue cachedValue = cache.get(strValue);
+        if (cachedValue != null)
+        {
+            if (outer != null)
+            {
+                outer.addAll(cachedValue);
+            }
+            return cachedValue.getValue();
+        }
+
+        final long generation = cacheGeneration.get();
+        final DependencyTracker tracker = new DependencyTracker();
+        final Object result;
+        currentTracker.set(tracker);
+        try
+        {
+            result = interpolateString(strValue);
+        }
+        finally
+        {
+            if (outer != null)
+            {
+                currentTracker.set(outer);
+                outer.addAll(tracker);
+            }
+            else
+            {
+                currentTracker.remove();
+            }
+        }
+
+        if (tracker.isCacheable() && result != null)
+        {
+            if (cache.size() >= MAX_CACHED_VALUES)
+            {
+                cache.clear();
+            }
+            cache.put(strValue, new CachedValue(result, tracker.getVariables()));
+            if (cacheGeneration.get() != generation)
+            {
+                // an invalidation happened in the meantime; the result may
+                // already be outdated
+                cache.remove(strValue);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Performs interpolation of a string value without consulting the cache.
+     *
+     * @param strValue the string to be interpolated
+     * @return the interpolated value
+     */
+    private Object interpolateString(final String strValue)
+    {
+        if (looksLikeSingleVariable(strValue))
+        {
+            final Object resolvedValue = resolveSingleVariable(strValue);
+            if (resolvedValue != null && !(resolvedValue instanceof String))
+            {
+                // If the value is again a string, it needs no special
+                // treatment; it may also contain further variables which
+                // must be resolved; therefore, the default mechanism is
+                // applied.
+                return resolvedValue;
+            }
+        }
+        return substitutor.replace(strValue);
+    }
+
     /**
      * Sets a flag that variable names can contain other variables. If enabled,
      * variable substitution is also done in variable names.
@@ -436,6 +649,7 @@ public class ConfigurationInterpolator
                     "Lookup object must not be null!");
         }
         prefixLookups.put(prefix, lookup);
+        invalidateCache(null);
     }
 
     /**
@@ -452,6 +666,7 @@ public class ConfigurationInterpolator
         if (lookups != null)
         {
             prefixLookups.putAll(lookups);
+            invalidateCache(null);
         }
     }
 
@@ -465,7 +680,34 @@ public class ConfigurationInterpolator
      */
     public boolean removeDefaultLookup(final Lookup lookup)
     {
-        return defaultLookups.remove(lookup);
+        observedLookups.remove(lookup);
+        final boolean removed = defaultLookups.remove(lookup);
+        invalidateCache(null);
+        return removed;
+    }
+
+    /**
+     * Declares the specified {@code Lookup} as observed. This means that the
+     * values returned by this lookup either never change or that each change
+     * is reported to this object by calling {@link #invalidateCache(String)}
+     * (passing the variable name including the prefix for prefix lookups).
+     * Only interpolation results which have been resolved by observed lookups
+     * can be cached. This method can be used for both default and prefix
+     * lookups; it does not register the lookup.
+     *
+     * @param lookup the {@code Lookup} object to be observed (must not be
+     *        <b>null</b>)
+     * @throws IllegalArgumentException if the {@code Lookup} is <b>null</b>
+     * @since 2.8
+     */
+    public void addObservedLookup(final Lookup lookup)
+    {
+        if (lookup == null)
+        {
+            throw new IllegalArgumentException(
+                    "Observed lookup must not be null!");
+        }
+        observedLookups.add(lookup);
     }
 
     /**
@@ -489,12 +731,21 @@ public class ConfigurationInterpolator
             return null;
         }
 
+        final DependencyTracker tracker = currentTracker.get();
+        if (tracker != null)
+        {
+            tracker.addVariable(var);
+        }
         final int prefixPos = var.indexOf(PREFIX_SEPARATOR);
         if (prefixPos >= 0)
         {
             final String prefix = var.substring(0, prefixPos);
             final String name = var.substring(prefixPos + 1);
-            final Object value = fetchLookupForPrefix(prefix).lookup(name);
+            final Lookup lookup = fetchLookupForPrefix(prefix);
+            // this has to be checked no matter whether the lookup can
+            // resolve the variable or not
+            checkObserved(tracker, lookup);
+            final Object value = lookup.lookup(name);
             if (value != null)
             {
                 return value;
@@ -503,6 +754,7 @@ public class ConfigurationInterpolator
 
         for (final Lookup lookup : defaultLookups)
         {
+            checkObserved(tracker, lookup);
             final Object value = lookup.lookup(var);
             if (value != null)
             {
@@ -513,11 +765,33 @@ public class ConfigurationInterpolator
         final ConfigurationInterpolator parent = getParentInterpolator();
         if (parent != null)
         {
+            if (tracker != null)
+            {
+                // changes of the parent's lookups are not reported to us
+                tracker.setUncacheable();
+            }
             return getParentInterpolator().resolve(var);
         }
         return null;
     }
 
+    /**
+     * Marks the result of the current interpolation operation as not
+     * cacheable if the given lookup is consulted, but its changes are not
+     * reported to this object.
+     *
+     * @param tracker the current tracker (may be <b>null</b>)
+     * @param lookup the lookup to be consulted
+     */
+    private void checkObserved(final DependencyTracker tracker, final Lookup lookup)
+    {
+        if (tracker != null && !STABLE_LOOKUPS.contains(lookup)
+                && !observedLookups.contains(lookup))
+        {
+            tracker.setUncacheable();
+        }
+    }
+
     /**
      * Interpolates a string value that seems to be a single variable.
      *
@@ -553,5 +827,133 @@ public class ConfigurationInterpolator
             final ConfigurationInterpolator parentInterpolator)
     {
         this.parentInterpolator = parentInterpolator;
+        invalidateCache(null);
+    }
+
+    /**
+     * A helper class collecting the variables consulted during an
+     * interpolation operation.
+     */
+    private static final class DependencyTracker
+    {
+        /** The names of the variables that have been resolved. */
+        private final Set<String> variables = new HashSet<>();
+
+        /** A flag whether the result can be cached. */
+        private boolean cacheable = true;
+
+        /**
+         * Records the name of a variable that has been resolved.
+         *
+         * @param var the variable name
+         */
+        public void addVariable(final String var)
+        {
+            variables.add(var);
+        }
+
+        /**
+         * Marks the result of the current operation as not cacheable.
+         */
+        public void setUncacheable()
+        {
+            cacheable = false;
+        }
+
+        /**
+         * Adds the dependencies of another tracker to this object.
+         *
+         * @param tracker the other tracker
+         */
+        public void addAll(final DependencyTracker tracker)
+        {
+            variables.addAll(tracker.variables);
+            cacheable &= tracker.cacheable;
+        }
+
+        /**
+         * Adds the dependencies of a cached value to this object.
+         *
+         * @param cachedValue the cached value
+         */
+        public void addAll(final CachedValue cachedValue)
+        {
+            variables.addAll(cachedValue.variables);
+        }
+
+        /**
+         * Returns a flag whether the result of the current operation can be
+         * cached.
+         *
+         * @return the cacheable flag
+         */
+        public boolean isCacheable()
+        {
+            return cacheable;
+        }
+
+        /**
+         * Returns the names of the variables that have been resolved.
+         *
+         * @return the set with variable names
+         */
+        public Set<String> getVariables()
+        {
+            return variables;
+        }
+    }
+
+    /**
+     * A class representing an entry of the interpolation cache. It stores the
+     * interpolated value together with the variables it depends on.
+     */
+    private static final class CachedValue
+    {
+        /** The interpolated value. */
+        private final Object value;
+
+        /** The names of the variables the value depends on. */
+        private final Set<String> variables;
+
+        /**
+         * Creates a new instance of {@code CachedValue}.
+         *
+         * @param value the interpolated value
+         * @param variables the variables the value depends on
+         */
+        public CachedValue(final Object value, final Set<String> variables)
+        {
+            this.value = value;
+            this.variables = variables;
+        }
+
+        /**
+         * Returns the interpolated value.
+         *
+         * @return the value
+         */
+        public Object getValue()
+        {
+            return value;
+        }
+
+        /**
+         * Checks whether this value is affected by a change of the specified
+         * variable.
+         *
+         * @param variable the name of the changed variable
+         * @return a flag whether this value depends on this variable
+         */
+        public boolean dependsOn(final String variable)
+        {
+            for (final String var : variables)
+            {
+                if (var.startsWith(variable) || variable.startsWith(var))
+                {
+                    return true;
+                }
+            }
+            return false;
+        }
     }
 }
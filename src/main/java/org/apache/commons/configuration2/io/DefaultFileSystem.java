@@ -26,6 +26,9 @@ import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 
 import org.apache.commons.configuration2.ex.ConfigurationException;
 
@@ -55,6 +58,37 @@ public class DefaultFileSystem extends FileSystem
         }
     }
 
+    /**
+     * {@inheritDoc} This implementation can map files on the local file
+     * system. For other URLs and for files larger than 2 GB, result is
+     * <b>null</b>.
+     *
+     * @since 2.8
+     */
+    @Override
+    public ByteBuffer mapFile(final URL url) throws ConfigurationException
+    {
+        final File file = FileLocatorUtils.fileFromURL(url);
+        if (file == null || !file.isFile())
+        {
+            return null;
+        }
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ))
+        {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE)
+            {
+                return null;
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        catch (final IOException e)
+        {
+            throw new ConfigurationException("Unable to map the file " + file, e);
+        }
+    }
+
     @Override
     public OutputStream getOutputStream(final URL url) throws ConfigurationException
     {
@@ -28,6 +28,7 @@ import java.io.UnsupportedEncodingException;
 import java.io.Writer;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -981,6 +982,11 @@ public class FileHandler
      */
     private void load(final URL url, final FileLocator locator) throws ConfigurationException
     {
+        if (loadFromMappedFile(url, locator))
+        {
+            return;
+        }
+
         InputStream in = null;
 
         try
@@ -1064,6 +1070,62 @@ public class FileHandler
         }
     }
 
+    /**
+     * Tries to load the file with the given URL from a memory-mapped buffer.
+     * This is possible if the associated {@code FileBased} object implements
+     * the {@code MappedFileSupport} interface and agrees to read this file,
+     * and if the file system is able to map the file. The return value
+     * indicates whether the file could be loaded in this way.
+     *
+     * @param url the URL of the file to be loaded
+     * @param locator the current {@code FileLocator}
+     * @return a flag whether the file was loaded
+     * @throws ConfigurationException if an error occurs
+     */
+    private boolean loadFromMappedFile(final URL url, final FileLocator locator)
+            throws ConfigurationException
+    {
+        final FileBased content = getContent();
+        if (!(content instanceof MappedFileSupport)
+                || !((MappedFileSupport) content)
+                        .isMappedFileSupported(locator.getEncoding()))
+        {
+            return false;
+        }
+        final ByteBuffer buffer =
+                FileLocatorUtils.obtainFileSystem(locator).mapFile(url);
+        if (buffer == null)
+        {
+            return false;
+        }
+
+        final SynchronizerSupport syncSupport = fetchSynchronizerSupport();
+        syncSupport.lock(LockMode.WRITE);
+        try
+        {
+            injectFileLocator(url);
+            fireLoadingEvent();
+            try
+            {
+                ((MappedFileSupport) content).read(buffer,
+                        locator.getEncoding());
+            }
+            catch (final IOException ioex)
+            {
+                throw new ConfigurationException(ioex);
+            }
+            finally
+            {
+                fireLoadedEvent();
+            }
+        }
+        finally
+        {
+            syncSupport.unlock(LockMode.WRITE);
+        }
+        return true;
+    }
+
     /**
      * Loads data from an input stream if the associated {@code FileBased}
      * object implements the {@code InputStreamSupport} interface.
@@ -21,6 +21,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.ByteBuffer;
 
 import org.apache.commons.configuration2.ex.ConfigurationException;
 
@@ -81,6 +82,25 @@ public abstract class FileSystem
 
     public abstract InputStream getInputStream(URL url) throws ConfigurationException;
 
+    /**
+     * Maps the file referenced by the given URL into memory and returns a
+     * read-only buffer with its content. This is an optional operation used
+     * by {@link FileHandler} for objects implementing the
+     * {@link MappedFileSupport} interface. This base implementation returns
+     * <b>null</b>, which means that the file cannot be mapped and has to be
+     * read through {@link #getInputStream(URL)}.
+     *
+     * @param url the URL of the file
+     * @return a buffer with the content of the file or <b>null</b> if the file
+     *         cannot be mapped
+     * @throws ConfigurationException if an error occurs
+     * @since 2.8
+     */
+    public ByteBuffer mapFile(final URL url) throws ConfigurationException
+    {
+        return null;
+    }
+
     public abstract OutputStream getOutputStream(URL url) throws ConfigurationException;
 
     public abstract OutputStream getOutputStream(File file) throws ConfigurationException;
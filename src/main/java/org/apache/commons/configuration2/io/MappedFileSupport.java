@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.apache.commons.configuration2.ex.ConfigurationException;
+
+/**
+ * <p>
+ * Definition of an interface to be implemented by objects which can read their
+ * content directly from a memory-mapped file.
+ * </p>
+ * <p>
+ * When a {@link FileHandler} loads a file whose associated {@link FileBased}
+ * object implements this interface, it first asks the object whether it wants
+ * to process the file in this way. If this is the case and the current
+ * {@link FileSystem} is able to map the file into memory, the resulting buffer
+ * is passed to the {@code read()} method defined here. Otherwise, the file is
+ * loaded through a stream or a reader as usual. This is mainly useful for
+ * large files which can be parsed much faster on the byte level.
+ * </p>
+ *
+ * @since 2.8
+ */
+public interface MappedFileSupport
+{
+    /**
+     * Checks whether this object wants to read a file with the given encoding
+     * from a memory-mapped buffer. If this method returns <b>false</b>, the
+     * file is read in the default way.
+     *
+     * @param encoding the encoding of the file (may be <b>null</b> for the
+     *        platform default encoding)
+     * @return a flag whether the file should be read from a mapped buffer
+     */
+    boolean isMappedFileSupported(String encoding);
+
+    /**
+     * Reads the content of this object from the specified buffer. The buffer
+     * contains the whole content of the file.
+     *
+     * @param buffer the buffer with the content of the file
+     * @param encoding the encoding of the file (may be <b>null</b> for the
+     *        platform default encoding)
+     * @throws ConfigurationException if a non-I/O related problem occurs, e.g.
+     *         the data read does not have the expected format
+     * @throws IOException if an I/O error occurs
+     */
+    void read(ByteBuffer buffer, String encoding)
+            throws ConfigurationException, IOException;
+}
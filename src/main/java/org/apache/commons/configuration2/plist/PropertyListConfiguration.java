@@ -195,6 +195,19 @@ public class PropertyListConfiguration extends BaseHierarchicalConfiguration
         }
     }
 
+    @Override
+    protected void setPropertiesInternal(final Map<String, ?> properties)
+    {
+        // values of special types have to be handled separately
+        properties.forEach(this::setPropertyInternal);
+    }
+
+    @Override
+    protected void addPropertiesInternal(final Map<String, ?> properties)
+    {
+        properties.forEach(this::addPropertyInternal);
+    }
+
     @Override
     public void read(final Reader in) throws ConfigurationException
     {
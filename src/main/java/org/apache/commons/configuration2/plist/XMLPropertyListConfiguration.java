@@ -217,6 +217,19 @@ public class XMLPropertyListConfiguration extends BaseHierarchicalConfiguration
         }
     }
 
+    @Override
+    protected void setPropertiesInternal(final Map<String, ?> properties)
+    {
+        // values of special types have to be handled separately
+        properties.forEach(this::setPropertyInternal);
+    }
+
+    @Override
+    protected void addPropertiesInternal(final Map<String, ?> properties)
+    {
+        properties.forEach(this::addPropertyInternal);
+    }
+
     /**
      * Stores the current file locator. This method is called before I/O
      * operations.
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.reloading;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+import org.apache.commons.configuration2.io.FileHandler;
+
+/**
+ * <p>
+ * A specialized {@code FileHandlerReloadingDetector} which only reports a
+ * change if the content of the monitored file has actually changed.
+ * </p>
+ * <p>
+ * The base class reports the need for a reload whenever the last modification
+ * date of the monitored file changes. Tools that touch a file or rewrite it
+ * with identical content therefore cause unnecessary reload operations. This
+ * class still uses the modification date as a cheap first check. But if it
+ * has changed, a digest of the file's content is computed and compared with
+ * the digest stored for the last reload. Only if the digests differ, a reload
+ * is required; otherwise, the new modification date is just recorded. The
+ * digest is computed by reading the file through a {@code FileChannel} in
+ * blocks, so the file is never loaded into memory as a whole.
+ * </p>
+ * <p>
+ * If the digest cannot be computed, e.g. because of an I/O error, this class
+ * behaves like its base class and reports a change. To use this detector with
+ * a {@code ReloadingFileBasedConfigurationBuilder}, a corresponding
+ * {@code ReloadingDetectorFactory} can be set in the builder's parameters.
+ * </p>
+ *
+ * @since 2.8
+ */
+public class ContentHashReloadingDetector extends FileHandlerReloadingDetector
+{
+    /** The algorithm used for computing digests. */
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    /** The size of the buffer for reading the file. */
+    private static final int BUFFER_SIZE = 8192;
+
+    /** The digest of the file content at the time of the last reload. */
+    private byte[] lastDigest;
+
+    /**
+     * Creates a new instance of {@code ContentHashReloadingDetector} and
+     * initializes it with the {@code FileHandler} to monitor and the refresh
+     * delay.
+     *
+     * @param handler the {@code FileHandler} associated with this detector (can
+     *        be <b>null</b>)
+     * @param refreshDelay the refresh delay; a value of 0 means that a check is
+     *        performed in all cases
+     */
+    public ContentHashReloadingDetector(final FileHandler handler,
+            final long refreshDelay)
+    {
+        super(handler, refreshDelay);
+    }
+
+    /**
+     * Creates a new instance of {@code ContentHashReloadingDetector} and
+     * initializes it with the {@code FileHandler} to monitor and a default
+     * refresh delay.
+     *
+     * @param handler the {@code FileHandler} associated with this detector (can
+     *        be <b>null</b>)
+     */
+    public ContentHashReloadingDetector(final FileHandler handler)
+    {
+        super(handler);
+    }
+
+    /**
+     * Creates a new instance of {@code ContentHashReloadingDetector} with an
+     * uninitialized {@code FileHandler} object.
+     */
+    public ContentHashReloadingDetector()
+    {
+        super();
+    }
+
+    /**
+     * {@inheritDoc} If the base class detects a changed modification date, this
+     * implementation compares the digest of the current file content with the
+     * stored one. A reload is only required if they differ.
+     */
+    @Override
+    public boolean isReloadingRequired()
+    {
+        if (!super.isReloadingRequired())
+        {
+            return false;
+        }
+
+        final byte[] digest = computeDigest();
+        if (digest == null || lastDigest == null
+                || !Arrays.equals(digest, lastDigest))
+        {
+            return true;
+        }
+
+        // only the modification date changed
+        super.updateLastModified(getLastModificationDate());
+        return false;
+    }
+
+    /**
+     * {@inheritDoc} This implementation also stores the digest of the current
+     * file content.
+     */
+    @Override
+    protected void updateLastModified(final long time)
+    {
+        super.updateLastModified(time);
+        lastDigest = time != 0 ? computeDigest() : null;
+    }
+
+    /**
+     * Computes a digest of the content of the monitored file. Result is
+     * <b>null</b> if the file does not exist or cannot be read.
+     *
+     * @return the digest of the file content or <b>null</b>
+     */
+    protected byte[] computeDigest()
+    {
+        final File file = getFile();
+        if (file == null || !file.isFile())
+        {
+            return null;
+        }
+
+        try (FileChannel channel =
+                FileChannel.open(file.toPath(), StandardOpenOption.READ))
+        {
+            final MessageDigest digest =
+                    MessageDigest.getInstance(DIGEST_ALGORITHM);
+            final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            while (channel.read(buffer) >= 0)
+            {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+            return digest.digest();
+        }
+        catch (final IOException | NoSuchAlgorithmException ex)
+        {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,463 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.reloading;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadFactory;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+
+/**
+ * <p>
+ * An internally used helper class which monitors files for changes using a
+ * {@code WatchService} of the default file system.
+ * </p>
+ * <p>
+ * Files are registered together with the
+ * {@link WatchServiceReloadingDetector} to be notified. The directories
+ * containing these files are registered at a single {@code WatchService},
+ * and a single daemon thread processes the change events for all of them. So
+ * the number of threads and the I/O load do not grow with the number of
+ * monitored files. Detectors are only referenced weakly; a detector which is
+ * no longer used is removed automatically when its next event arrives.
+ * Exceptions thrown while notifying a detector are ignored, so that they do
+ * not affect other detectors. If the processing thread terminates
+ * nevertheless, all registrations are cancelled; the detectors then register
+ * again, which creates a new watch service and thread.
+ * </p>
+ *
+ * @since 2.8
+ */
+final class FileChangeWatcher
+{
+    /** The naming pattern for the watcher thread. */
+    private static final String THREAD_NAME_PATTERN = "FileChangeWatcher-%s";
+
+    /** The kinds of events of interest. */
+    private static final WatchEvent.Kind<?>[] EVENT_KINDS = {
+            StandardWatchEventKinds.ENTRY_CREATE,
+            StandardWatchEventKinds.ENTRY_MODIFY,
+            StandardWatchEventKinds.ENTRY_DELETE
+    };
+
+    /** A map with the directories monitored by this object. */
+    private final Map<Path, DirectoryWatch> directories = new HashMap<>();
+
+    /** The watch service; created on first registration. */
+    private WatchService watchService;
+
+    /**
+     * Returns the shared instance of this class.
+     *
+     * @return the shared {@code FileChangeWatcher}
+     */
+    public static FileChangeWatcher getInstance()
+    {
+        return InstanceHolder.INSTANCE;
+    }
+
+    /**
+     * Registers a detector to be notified about changes of the given file. The
+     * file's directory is registered at the watch service if necessary. A
+     * return value of <b>false</b> means that the file cannot be monitored
+     * this way, e.g. because its directory does not exist.
+     *
+     * @param file the absolute path of the file to be monitored
+     * @param detector the detector to be notified
+     * @return a flag whether the registration was successful
+     */
+    public synchronized boolean register(final Path file,
+            final WatchServiceReloadingDetector detector)
+    {
+        final Path dir = file.getParent();
+        if (dir == null)
+        {
+            return false;
+        }
+
+        DirectoryWatch watch = directories.get(dir);
+        if (watch == null)
+        {
+            try
+            {
+                watch = new DirectoryWatch(
+                        dir.register(fetchWatchService(), EVENT_KINDS));
+            }
+            catch (final IOException | ClosedWatchServiceException ex)
+            {
+                return false;
+            }
+            directories.put(dir, watch);
+        }
+        watch.add(file.getFileName(), detector);
+        return true;
+    }
+
+    /**
+     * Removes the registration of a detector for the given file. If no more
+     * files in the file's directory are monitored, the directory is no longer
+     * watched.
+     *
+     * @param file the monitored file
+     * @param detector the detector to be removed
+     */
+    public synchronized void unregister(final Path file,
+            final WatchServiceReloadingDetector detector)
+    {
+        final Path dir = file.getParent();
+        final DirectoryWatch watch = directories.get(dir);
+        if (watch != null && watch.remove(file.getFileName(), detector))
+        {
+            watch.key.cancel();
+            directories.remove(dir);
+        }
+    }
+
+    /**
+     * Stops this watcher. The watch service is closed, and the processing
+     * thread terminates. This method is intended for tests only.
+     *
+     * @throws IOException if an error occurs
+     */
+    synchronized void shutdown() throws IOException
+    {
+        directories.clear();
+        if (watchService != null)
+        {
+            watchService.close();
+            watchService = null;
+        }
+    }
+
+    /**
+     * Returns the watch service, creating it and starting the processing
+     * thread on first access.
+     *
+     * @return the {@code WatchService}
+     * @throws IOException if the watch service cannot be created
+     */
+    private WatchService fetchWatchService() throws IOException
+    {
+        if (watchService == null)
+        {
+            final WatchService service =
+                    FileSystems.getDefault().newWatchService();
+            final ThreadFactory factory =
+                    new BasicThreadFactory.Builder()
+                            .namingPattern(THREAD_NAME_PATTERN).daemon(true)
+                            .build();
+            factory.newThread(() -> processEvents(service)).start();
+            watchService = service;
+        }
+        return watchService;
+    }
+
+    /**
+     * The main loop of the processing thread. Waits for signaled keys and
+     * notifies the affected detectors until the watch service is closed. When
+     * the loop exits, the watch service is discarded.
+     *
+     * @param service the watch service
+     */
+    private void processEvents(final WatchService service)
+    {
+        try
+        {
+            while (true)
+            {
+                final WatchKey key;
+                try
+                {
+                    key = service.take();
+                }
+                catch (final InterruptedException
+                        | ClosedWatchServiceException ex)
+                {
+                    return;
+                }
+
+                final List<WatchServiceReloadingDetector> cancelled =
+                        new ArrayList<>();
+                final List<WatchServiceReloadingDetector> changed =
+                        fetchAffectedDetectors(key, cancelled);
+                notifyDetectors(changed, false);
+                notifyDetectors(cancelled, true);
+            }
+        }
+        finally
+        {
+            serviceTerminated(service);
+        }
+    }
+
+    /**
+     * Notifies the given detectors about a change of their files or the
+     * cancellation of their watches. A runtime exception thrown by a detector
+     * (e.g. by a listener of its reloading controller) must not kill the
+     * processing thread; therefore, it is ignored.
+     *
+     * @param detectors the detectors to be notified
+     * @param cancelled flag whether the watches have been cancelled
+     */
+    private static void notifyDetectors(
+            final Collection<WatchServiceReloadingDetector> detectors,
+            final boolean cancelled)
+    {
+        for (final WatchServiceReloadingDetector detector : detectors)
+        {
+            try
+            {
+                if (cancelled)
+                {
+                    detector.watchCancelled();
+                }
+                else
+                {
+                    detector.fileChanged();
+                }
+            }
+            catch (final RuntimeException rex)
+            {
+                // ignore, continue with the next detector
+            }
+        }
+    }
+
+    /**
+     * Handles the termination of the processing thread. If the given watch
+     * service is still the current one, it is closed and reset, so that a new
+     * one is created on the next registration. The watches of all registered
+     * detectors are cancelled; this causes them to register again.
+     *
+     * @param service the watch service of the terminated thread
+     */
+    private void serviceTerminated(final WatchService service)
+    {
+        final List<WatchServiceReloadingDetector> cancelled =
+                new ArrayList<>();
+        synchronized (this)
+        {
+            if (watchService != service)
+            {
+                return;
+            }
+            watchService = null;
+            for (final DirectoryWatch watch : directories.values())
+            {
+                watch.collectAll(cancelled);
+            }
+            directories.clear();
+        }
+
+        try
+        {
+            service.close();
+        }
+        catch (final IOException ioex)
+        {
+            // ignore, the service is no longer used
+        }
+        notifyDetectors(cancelled, true);
+    }
+
+    /**
+     * Evaluates the events of a signaled key and determines the detectors to
+     * be notified. If the key is no longer valid (e.g. because the directory
+     * was removed), all detectors for this directory are added to the given
+     * collection of cancelled detectors.
+     *
+     * @param key the signaled key
+     * @param cancelled a collection for detectors whose watch was cancelled
+     * @return a list with the detectors whose files have changed
+     */
+    private synchronized List<WatchServiceReloadingDetector> fetchAffectedDetectors(
+            final WatchKey key,
+            final Collection<WatchServiceReloadingDetector> cancelled)
+    {
+        final List<WatchEvent<?>> events = key.pollEvents();
+        final boolean valid = key.reset();
+        final Path dir = (Path) key.watchable();
+        final DirectoryWatch watch = directories.get(dir);
+        if (watch == null || watch.key != key)
+        {
+            return Collections.emptyList();
+        }
+
+        if (!valid)
+        {
+            directories.remove(dir);
+            watch.collectAll(cancelled);
+            return Collections.emptyList();
+        }
+
+        final List<WatchServiceReloadingDetector> changed = new ArrayList<>();
+        for (final WatchEvent<?> event : events)
+        {
+            if (StandardWatchEventKinds.OVERFLOW.equals(event.kind()))
+            {
+                changed.clear();
+                watch.collectAll(changed);
+                break;
+            }
+            watch.collect((Path) event.context(), changed);
+        }
+
+        if (watch.files.isEmpty())
+        {
+            key.cancel();
+            directories.remove(dir);
+        }
+        return changed;
+    }
+
+    /**
+     * A class storing the registrations for a single directory.
+     */
+    private static class DirectoryWatch
+    {
+        /** The key of the directory. */
+        private final WatchKey key;
+
+        /** The detectors registered for the files in this directory. */
+        private final Map<Path, List<WeakReference<WatchServiceReloadingDetector>>> files =
+                new HashMap<>();
+
+        /**
+         * Creates a new instance of {@code DirectoryWatch}.
+         *
+         * @param watchKey the key of the directory
+         */
+        DirectoryWatch(final WatchKey watchKey)
+        {
+            key = watchKey;
+        }
+
+        /**
+         * Adds a registration for a file.
+         *
+         * @param name the file name
+         * @param detector the detector
+         */
+        public void add(final Path name,
+                final WatchServiceReloadingDetector detector)
+        {
+            files.computeIfAbsent(name, k -> new ArrayList<>())
+                    .add(new WeakReference<>(detector));
+        }
+
+        /**
+         * Removes a registration for a file.
+         *
+         * @param name the file name
+         * @param detector the detector
+         * @return a flag whether there are no more registrations
+         */
+        public boolean remove(final Path name,
+                final WatchServiceReloadingDetector detector)
+        {
+            final List<WeakReference<WatchServiceReloadingDetector>> refs =
+                    files.get(name);
+            if (refs != null)
+            {
+                refs.removeIf(ref -> {
+                    final Object det = ref.get();
+                    return det == null || det == detector;
+                });
+                if (refs.isEmpty())
+                {
+                    files.remove(name);
+                }
+            }
+            return files.isEmpty();
+        }
+
+        /**
+         * Adds the detectors registered for the given file to a collection.
+         * References to detectors which are no longer used are removed.
+         *
+         * @param name the file name
+         * @param target the target collection
+         */
+        public void collect(final Path name,
+                final Collection<WatchServiceReloadingDetector> target)
+        {
+            final List<WeakReference<WatchServiceReloadingDetector>> refs =
+                    files.get(name);
+            if (refs != null)
+            {
+                final Iterator<WeakReference<WatchServiceReloadingDetector>> it =
+                        refs.iterator();
+                while (it.hasNext())
+                {
+                    final WatchServiceReloadingDetector detector =
+                            it.next().get();
+                    if (detector == null)
+                    {
+                        it.remove();
+                    }
+                    else if (!target.contains(detector))
+                    {
+                        target.add(detector);
+                    }
+                }
+                if (refs.isEmpty())
+                {
+                    files.remove(name);
+                }
+            }
+        }
+
+        /**
+         * Adds all detectors registered for this directory to a collection.
+         *
+         * @param target the target collection
+         */
+        public void collectAll(
+                final Collection<WatchServiceReloadingDetector> target)
+        {
+            for (final Path name : new ArrayList<>(files.keySet()))
+            {
+                collect(name, target);
+            }
+        }
+    }
+
+    /**
+     * A holder class for the lazy creation of the shared instance.
+     */
+    private static class InstanceHolder
+    {
+        /** The shared instance. */
+        private static final FileChangeWatcher INSTANCE =
+                new FileChangeWatcher();
+    }
+}
@@ -0,0 +1,446 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.reloading;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+
+/**
+ * <p>
+ * A timer-based trigger for reloading checks which serves an arbitrary number
+ * of {@link ReloadingController} objects with a bounded number of threads.
+ * </p>
+ * <p>
+ * While a {@link PeriodicReloadingTrigger} is responsible for a single
+ * controller, an instance of this class can be shared by many of them, e.g.
+ * by the controllers of all builders of an application. Controllers are
+ * registered together with their own period. Internally, the scheduler works
+ * with a fixed <em>tick</em>: on each tick, it determines the controllers
+ * whose checks are due and passes them to its executor service. Periods are
+ * therefore rounded up to a multiple of the tick. The first check of a newly
+ * registered controller happens after a random number of ticks within its
+ * period, so that the checks of controllers registered at the same time are
+ * spread over the period rather than all being executed on the same tick.
+ * </p>
+ * <p>
+ * A controller is registered only once; registering it again just updates
+ * its parameters. If a check for a controller is still in progress when the
+ * next one becomes due, the new check is skipped. The numbers of checks
+ * performed, of checks skipped this way, and of checks that triggered a
+ * reload are recorded and can be queried, e.g. for monitoring purposes.
+ * </p>
+ * <p>
+ * Like {@code PeriodicReloadingTrigger}, this class can be passed an executor
+ * service at construction time; otherwise, a default executor service with
+ * the given number of daemon threads is created. The scheduler has to be
+ * started by calling {@link #start()}; when it is no more needed, its
+ * {@code shutdown()} method should be called. This class is thread-safe.
+ * </p>
+ *
+ * @since 2.8
+ * @see PeriodicReloadingTrigger
+ */
+public class SharedReloadingScheduler
+{
+    /** The executor service used by this scheduler. */
+    private final ScheduledExecutorService executorService;
+
+    /** The length of a tick in milliseconds. */
+    private final long tickMillis;
+
+    /** The registered controllers. */
+    private final Map<ReloadingController, Registration> registrations =
+            new LinkedHashMap<>();
+
+    /** The number of checks performed. */
+    private final AtomicLong checkCount = new AtomicLong();
+
+    /** The number of checks skipped because of a pending check. */
+    private final AtomicLong skippedCheckCount = new AtomicLong();
+
+    /** The number of checks which triggered a reload. */
+    private final AtomicLong reloadCount = new AtomicLong();
+
+    /** The number of the current tick. */
+    private long currentTick;
+
+    /** Stores the future object for the tick task. */
+    private ScheduledFuture<?> tickTask;
+
+    /**
+     * Creates a new instance of {@code SharedReloadingScheduler} with the
+     * given tick and executor service.
+     *
+     * @param tick the length of a tick
+     * @param unit the time unit of the tick
+     * @param exec the executor service to use (can be <b>null</b>, then a
+     *        default executor service with a single thread is created)
+     * @throws IllegalArgumentException if the tick is not positive or the
+     *         time unit is <b>null</b>
+     */
+    public SharedReloadingScheduler(final long tick, final TimeUnit unit,
+            final ScheduledExecutorService exec)
+    {
+        if (unit == null)
+        {
+            throw new IllegalArgumentException("Time unit must not be null!");
+        }
+        tickMillis = unit.toMillis(tick);
+        if (tickMillis <= 0)
+        {
+            throw new IllegalArgumentException(
+                    "Tick must be at least one millisecond: " + tick + " "
+                            + unit);
+        }
+        executorService =
+                exec != null ? exec : createDefaultExecutorService(1);
+    }
+
+    /**
+     * Creates a new instance of {@code SharedReloadingScheduler} with the
+     * given tick and a default executor service with the given number of
+     * threads.
+     *
+     * @param tick the length of a tick
+     * @param unit the time unit of the tick
+     * @param threadCount the number of threads for executing checks
+     * @throws IllegalArgumentException if the tick or the number of threads is
+     *         not positive or the time unit is <b>null</b>
+     */
+    public SharedReloadingScheduler(final long tick, final TimeUnit unit,
+            final int threadCount)
+    {
+        this(tick, unit, createDefaultExecutorService(threadCount));
+    }
+
+    /**
+     * Registers a {@code ReloadingController} at this scheduler. The
+     * controller's {@code checkForReloading()} method is called with the given
+     * parameter in the specified period. If the controller is already
+     * registered, its parameter and period are updated.
+     *
+     * @param ctrl the {@code ReloadingController} (must not be <b>null</b>)
+     * @param ctrlParam the optional parameter to be passed to the controller
+     * @param period the period in which the controller is triggered
+     * @param unit the time unit for the period
+     * @throws IllegalArgumentException if the controller or the time unit is
+     *         <b>null</b>
+     */
+    public void register(final ReloadingController ctrl, final Object ctrlParam,
+            final long period, final TimeUnit unit)
+    {
+        if (ctrl == null)
+        {
+            throw new IllegalArgumentException(
+                    "ReloadingController must not be null!");
+        }
+        if (unit == null)
+        {
+            throw new IllegalArgumentException("Time unit must not be null!");
+        }
+
+        final long periodTicks =
+                Math.max(1, (unit.toMillis(period) + tickMillis - 1)
+                        / tickMillis);
+        synchronized (this)
+        {
+            final Registration registration =
+                    new Registration(ctrl, ctrlParam, periodTicks);
+            registration.nextTick = currentTick + 1
+                    + ThreadLocalRandom.current().nextLong(periodTicks);
+            registrations.put(ctrl, registration);
+        }
+    }
+
+    /**
+     * Removes the registration of the given {@code ReloadingController}. It is
+     * no more triggered by this scheduler.
+     *
+     * @param ctrl the {@code ReloadingController} to remove
+     * @return a flag whether the controller was registered
+     */
+    public synchronized boolean unregister(final ReloadingController ctrl)
+    {
+        return registrations.remove(ctrl) != null;
+    }
+
+    /**
+     * Returns the number of controllers registered at this scheduler.
+     *
+     * @return the number of registered controllers
+     */
+    public synchronized int getRegistrationCount()
+    {
+        return registrations.size();
+    }
+
+    /**
+     * Starts this scheduler. If it is already started, this invocation has no
+     * effect.
+     */
+    public synchronized void start()
+    {
+        if (!isRunning())
+        {
+            tickTask =
+                    getExecutorService().scheduleAtFixedRate(this::tick,
+                            tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Stops this scheduler. The registered controllers are no more triggered
+     * until {@link #start()} is called again. If this scheduler is already
+     * stopped, this invocation has no effect.
+     */
+    public synchronized void stop()
+    {
+        if (isRunning())
+        {
+            tickTask.cancel(false);
+            tickTask = null;
+        }
+    }
+
+    /**
+     * Returns a flag whether this scheduler is currently active.
+     *
+     * @return a flag whether this scheduler is running
+     */
+    public synchronized boolean isRunning()
+    {
+        return tickTask != null;
+    }
+
+    /**
+     * Shuts down this scheduler and optionally shuts down the
+     * {@code ScheduledExecutorService} used by this object.
+     *
+     * @param shutdownExecutor a flag whether the associated
+     *        {@code ScheduledExecutorService} is to be shut down
+     */
+    public void shutdown(final boolean shutdownExecutor)
+    {
+        stop();
+        if (shutdownExecutor)
+        {
+            getExecutorService().shutdown();
+        }
+    }
+
+    /**
+     * Shuts down this scheduler and its {@code ScheduledExecutorService}. This
+     * is a shortcut for {@code shutdown(true)}.
+     *
+     * @see #shutdown(boolean)
+     */
+    public void shutdown()
+    {
+        shutdown(true);
+    }
+
+    /**
+     * Returns the number of reloading checks performed by this scheduler.
+     *
+     * @return the number of checks
+     */
+    public long getCheckCount()
+    {
+        return checkCount.get();
+    }
+
+    /**
+     * Returns the number of checks which were skipped because the previous
+     * check for the same controller was still in progress.
+     *
+     * @return the number of skipped checks
+     */
+    public long getSkippedCheckCount()
+    {
+        return skippedCheckCount.get();
+    }
+
+    /**
+     * Returns the number of checks which caused a controller to enter its
+     * reloading state.
+     *
+     * @return the number of triggered reloads
+     */
+    public long getReloadCount()
+    {
+        return reloadCount.get();
+    }
+
+    /**
+     * Returns the {@code ScheduledExecutorService} used by this object.
+     *
+     * @return the associated {@code ScheduledExecutorService}
+     */
+    ScheduledExecutorService getExecutorService()
+    {
+        return executorService;
+    }
+
+    /**
+     * Processes a tick. The checks of all controllers which are due are
+     * passed to the executor service. This method is called periodically
+     * after this scheduler has been started.
+     */
+    void tick()
+    {
+        for (final Registration registration : fetchDueRegistrations())
+        {
+            if (registration.pending.compareAndSet(false, true))
+            {
+                try
+                {
+                    getExecutorService().execute(
+                            () -> performCheck(registration));
+                }
+                catch (final RejectedExecutionException rex)
+                {
+                    registration.pending.set(false);
+                }
+            }
+            else
+            {
+                skippedCheckCount.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Advances the current tick and returns the registrations whose checks are
+     * due. Their next due tick is updated.
+     *
+     * @return a list with the due registrations
+     */
+    private synchronized List<Registration> fetchDueRegistrations()
+    {
+        currentTick++;
+        final List<Registration> due = new ArrayList<>();
+        for (final Registration registration : registrations.values())
+        {
+            if (registration.nextTick <= currentTick)
+            {
+                registration.nextTick = currentTick + registration.periodTicks;
+                due.add(registration);
+            }
+        }
+        return due;
+    }
+
+    /**
+     * Performs a reloading check for a registered controller and updates the
+     * statistics.
+     *
+     * @param registration the registration of the controller
+     */
+    private void performCheck(final Registration registration)
+    {
+        try
+        {
+            final boolean reloading =
+                    registration.controller.isInReloadingState();
+            checkCount.incrementAndGet();
+            if (registration.controller
+                    .checkForReloading(registration.controllerParam)
+                    && !reloading)
+            {
+                reloadCount.incrementAndGet();
+            }
+        }
+        finally
+        {
+            registration.pending.set(false);
+        }
+    }
+
+    /**
+     * Creates a default executor service with the given number of threads.
+     * This method is called if no executor has been passed to the
+     * constructor.
+     *
+     * @param threadCount the number of threads
+     * @return the default executor service
+     * @throws IllegalArgumentException if the number of threads is not
+     *         positive
+     */
+    private static ScheduledExecutorService createDefaultExecutorService(
+            final int threadCount)
+    {
+        if (threadCount <= 0)
+        {
+            throw new IllegalArgumentException(
+                    "Number of threads must be positive: " + threadCount);
+        }
+        final ThreadFactory factory =
+                new BasicThreadFactory.Builder()
+                        .namingPattern("SharedReloadingScheduler-%s")
+                        .daemon(true).build();
+        return Executors.newScheduledThreadPool(threadCount, factory);
+    }
+
+    /**
+     * A class storing the data of a registered controller.
+     */
+    private static class Registration
+    {
+        /** The controller. */
+        private final ReloadingController controller;
+
+        /** The parameter to be passed to the controller. */
+        private final Object controllerParam;
+
+        /** The period in ticks. */
+        private final long periodTicks;
+
+        /** A flag whether a check for this controller is pending. */
+        private final AtomicBoolean pending = new AtomicBoolean();
+
+        /** The tick on which the next check is due. */
+        private long nextTick;
+
+        /**
+         * Creates a new instance of {@code Registration}.
+         *
+         * @param ctrl the controller
+         * @param ctrlParam the parameter for the controller
+         * @param ticks the period in ticks
+         */
+        Registration(final ReloadingController ctrl, final Object ctrlParam,
+                final long ticks)
+        {
+            controller = ctrl;
+            controllerParam = ctrlParam;
+            periodTicks = ticks;
+        }
+    }
+}
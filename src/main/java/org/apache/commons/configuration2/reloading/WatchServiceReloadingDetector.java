@@ -0,0 +1,335 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.reloading;
+
+import java.io.File;
+import java.net.URL;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.commons.configuration2.io.FileHandler;
+import org.apache.commons.configuration2.io.FileHandlerListenerAdapter;
+
+/**
+ * <p>
+ * A specialized {@code FileHandlerReloadingDetector} which is notified about
+ * changes of the monitored file by a {@code java.nio.file.WatchService}
+ * rather than polling its last modification date.
+ * </p>
+ * <p>
+ * The directory of the monitored file is registered at a watch service which
+ * is shared between all instances of this class; a single background thread
+ * processes the change events for all monitored files. Therefore, a call of
+ * {@code isReloadingRequired()} does not cause any file I/O; it just checks
+ * whether a change has been reported since the last reload. The refresh delay
+ * is not evaluated in this case.
+ * </p>
+ * <p>
+ * If a {@link ReloadingController} is set, it is triggered directly when a
+ * change is reported, so that a reload happens without having to wait for the
+ * next check of a periodic trigger. Note that in this case the controller's
+ * listeners are invoked by the watcher thread.
+ * </p>
+ * <p>
+ * Files that cannot be watched this way are monitored by polling as done by
+ * the base class. This is the case for files referenced by {@code jar:} URLs,
+ * files on a file system other than the default one, files whose directory
+ * does not exist, and symbolic links. (If the target of a link is replaced,
+ * e.g. by switching a link to a directory as done for mounted Kubernetes
+ * config maps, the watch service does not report an event for the name of
+ * the monitored file.)
+ * </p>
+ *
+ * @since 2.8
+ */
+public class WatchServiceReloadingDetector extends FileHandlerReloadingDetector
+{
+    /** Constant for the jar URL protocol. */
+    private static final String JAR_PROTOCOL = "jar";
+
+    /** The watcher notifying this object. */
+    private final FileChangeWatcher watcher;
+
+    /** The path currently registered at the watcher. */
+    private Path watchedPath;
+
+    /** A flag whether the location of the monitored file has to be resolved. */
+    private volatile boolean resolveLocation = true;
+
+    /** A flag whether watching has been stopped. */
+    private boolean stopped;
+
+    /** A flag whether a change of the monitored file has been reported. */
+    private volatile boolean changed;
+
+    /** The reloading controller to be triggered on changes. */
+    private volatile ReloadingController reloadingController;
+
+    /**
+     * Creates a new instance of {@code WatchServiceReloadingDetector} and
+     * initializes it with the {@code FileHandler} to monitor and the refresh
+     * delay to be used if the file has to be polled.
+     *
+     * @param handler the {@code FileHandler} associated with this detector (can
+     *        be <b>null</b>)
+     * @param refreshDelay the refresh delay for polling
+     */
+    public WatchServiceReloadingDetector(final FileHandler handler,
+            final long refreshDelay)
+    {
+        this(handler, refreshDelay, FileChangeWatcher.getInstance());
+    }
+
+    /**
+     * Creates a new instance of {@code WatchServiceReloadingDetector} and
+     * initializes it with the {@code FileHandler} to monitor and a default
+     * refresh delay to be used if the file has to be polled.
+     *
+     * @param handler the {@code FileHandler} associated with this detector (can
+     *        be <b>null</b>)
+     */
+    public WatchServiceReloadingDetector(final FileHandler handler)
+    {
+        super(handler);
+        watcher = FileChangeWatcher.getInstance();
+        installLocationListener();
+    }
+
+    /**
+     * Creates a new instance of {@code WatchServiceReloadingDetector} with an
+     * uninitialized {@code FileHandler} object.
+     */
+    public WatchServiceReloadingDetector()
+    {
+        this(null);
+    }
+
+    /**
+     * Creates a new instance of {@code WatchServiceReloadingDetector} which
+     * uses the given watcher. This constructor is used for testing purposes.
+     *
+     * @param handler the {@code FileHandler} associated with this detector
+     * @param refreshDelay the refresh delay for polling
+     * @param fileWatcher the watcher
+     */
+    WatchServiceReloadingDetector(final FileHandler handler,
+            final long refreshDelay, final FileChangeWatcher fileWatcher)
+    {
+        super(handler, refreshDelay);
+        watcher = fileWatcher;
+        installLocationListener();
+    }
+
+    /**
+     * Returns the {@code ReloadingController} which is triggered when a change
+     * is reported.
+     *
+     * @return the {@code ReloadingController} (may be <b>null</b>)
+     */
+    public ReloadingController getReloadingController()
+    {
+        return reloadingController;
+    }
+
+    /**
+     * Sets the {@code ReloadingController} which is triggered when a change of
+     * the monitored file is reported. The controller is passed <b>null</b>
+     * as data object.
+     *
+     * @param controller the {@code ReloadingController} (may be <b>null</b>)
+     */
+    public void setReloadingController(final ReloadingController controller)
+    {
+        reloadingController = controller;
+    }
+
+    /**
+     * Returns a flag whether the monitored file is currently observed by the
+     * watch service. A result of <b>false</b> means that polling is used.
+     *
+     * @return a flag whether the file is watched
+     */
+    public synchronized boolean isWatching()
+    {
+        return watchedPath != null;
+    }
+
+    /**
+     * Stops watching the monitored file. The registration at the watch service
+     * is removed; afterwards, this object falls back to polling. This method
+     * should be called when this detector is no longer needed.
+     */
+    public synchronized void stopWatching()
+    {
+        stopped = true;
+        updateWatchedPath(null);
+    }
+
+    /**
+     * {@inheritDoc} If the monitored file is observed by the watch service,
+     * this implementation just checks whether a change has been reported.
+     * Otherwise, the file is polled.
+     */
+    @Override
+    public boolean isReloadingRequired()
+    {
+        if (fetchWatchedPath() == null)
+        {
+            return super.isReloadingRequired();
+        }
+        return changed;
+    }
+
+    /**
+     * {@inheritDoc} This implementation also resets the flag that a change was
+     * reported.
+     */
+    @Override
+    public void reloadingPerformed()
+    {
+        changed = false;
+        super.reloadingPerformed();
+    }
+
+    /**
+     * {@inheritDoc} This implementation also registers the monitored file at
+     * the watch service.
+     */
+    @Override
+    public void refresh()
+    {
+        changed = false;
+        super.refresh();
+        fetchWatchedPath();
+    }
+
+    /**
+     * Returns the path of the file to be registered at the watch service. This
+     * method is called when the location of the monitored file may have
+     * changed. A result of <b>null</b> means that the file cannot be watched
+     * and has to be polled. This is also the case for symbolic links because
+     * changes of their targets are not reported for the link.
+     *
+     * @return the path to be watched or <b>null</b>
+     */
+    protected Path getWatchablePath()
+    {
+        final URL url = getFileHandler().getURL();
+        if (url != null && JAR_PROTOCOL.equals(url.getProtocol()))
+        {
+            return null;
+        }
+        final File file = getFile();
+        if (file == null)
+        {
+            return null;
+        }
+
+        final Path path = file.toPath().toAbsolutePath();
+        final Path dir = path.getParent();
+        if (!FileSystems.getDefault().equals(path.getFileSystem())
+                || dir == null || !Files.isDirectory(dir)
+                || Files.isSymbolicLink(path))
+        {
+            return null;
+        }
+        return path;
+    }
+
+    /**
+     * Notifies this object that the monitored file has changed. This method
+     * is called by the watcher thread.
+     */
+    void fileChanged()
+    {
+        changed = true;
+        final ReloadingController controller = getReloadingController();
+        if (controller != null)
+        {
+            controller.checkForReloading(null);
+        }
+    }
+
+    /**
+     * Notifies this object that the watch for the monitored file has been
+     * cancelled, e.g. because its directory was removed. The location is
+     * resolved again on the next check, and a change is reported.
+     */
+    void watchCancelled()
+    {
+        synchronized (this)
+        {
+            watchedPath = null;
+            resolveLocation = true;
+        }
+        fileChanged();
+    }
+
+    /**
+     * Returns the path currently watched. If necessary, the location of the
+     * monitored file is resolved, and the registration at the watcher is
+     * updated.
+     *
+     * @return the watched path or <b>null</b> if the file is polled
+     */
+    private synchronized Path fetchWatchedPath()
+    {
+        if (!stopped && (resolveLocation || watchedPath == null))
+        {
+            resolveLocation = false;
+            updateWatchedPath(getWatchablePath());
+        }
+        return watchedPath;
+    }
+
+    /**
+     * Changes the path registered at the watcher.
+     *
+     * @param path the new path (may be <b>null</b>)
+     */
+    private void updateWatchedPath(final Path path)
+    {
+        if (path != null && path.equals(watchedPath))
+        {
+            return;
+        }
+
+        if (watchedPath != null)
+        {
+            watcher.unregister(watchedPath, this);
+        }
+        watchedPath = path != null && watcher.register(path, this) ? path
+                : null;
+    }
+
+    /**
+     * Registers a listener at the file handler which causes the location of
+     * the monitored file to be resolved again if it is changed.
+     */
+    private void installLocationListener()
+    {
+        getFileHandler().addFileHandlerListener(new FileHandlerListenerAdapter()
+        {
+            @Override
+            public void locationChanged(final FileHandler handler)
+            {
+                resolveLocation = true;
+            }
+        });
+    }
+}
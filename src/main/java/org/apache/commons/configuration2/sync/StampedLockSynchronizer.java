@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.sync;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * <p>
+ * A special implementation of {@code Synchronizer} based on the JDK's
+ * {@code StampedLock} class which supports <em>optimistic reads</em>.
+ * </p>
+ * <p>
+ * When used via the {@code Synchronizer} interface, this class behaves like
+ * {@link ReadWriteSynchronizer}: Multiple threads can read configuration data
+ * in parallel while updates require an exclusive lock. Locks are reentrant;
+ * a thread holding the write lock can also obtain the read lock, and if the
+ * write lock is released while a read lock is still held, it is downgraded to
+ * a read lock. (Upgrading a read lock to a write lock is not supported and
+ * causes an exception.)
+ * </p>
+ * <p>
+ * In addition, a configuration can check for an instance of this class and
+ * execute read operations without acquiring a lock at all: It obtains a stamp
+ * via {@link #tryOptimisticRead()}, reads its data, and then checks with
+ * {@link #validate(long)} whether a write operation happened in the meantime.
+ * Only in this case the read operation is repeated with a read lock held.
+ * This is done by {@code AbstractConfiguration} for simple property queries.
+ * If reads are much more frequent than updates, this avoids the contention on
+ * the shared lock state, which becomes noticeable with many concurrent
+ * readers.
+ * </p>
+ *
+ * @since 2.8
+ */
+public class StampedLockSynchronizer implements Synchronizer
+{
+    /** The lock object used by this Synchronizer. */
+    private final StampedLock lock;
+
+    /** Stores the locks held by the current thread. */
+    private final ThreadLocal<LockHolds> lockHolds;
+
+    /**
+     * Creates a new instance of {@code StampedLockSynchronizer}.
+     */
+    public StampedLockSynchronizer()
+    {
+        lock = new StampedLock();
+        lockHolds = ThreadLocal.withInitial(LockHolds::new);
+    }
+
+    /**
+     * Returns a stamp for an optimistic read operation. The stamp is 0 if the
+     * write lock is currently held; then an optimistic read is not possible.
+     * Otherwise, the stamp has to be passed to {@link #validate(long)} after
+     * the data has been read.
+     *
+     * @return the stamp for the optimistic read operation or 0
+     */
+    public long tryOptimisticRead()
+    {
+        return lock.tryOptimisticRead();
+    }
+
+    /**
+     * Checks whether no write operation has been started since the given
+     * stamp has been obtained. If this method returns <b>true</b>, the data
+     * read optimistically is consistent. Otherwise, it has to be discarded.
+     *
+     * @param stamp the stamp obtained from {@link #tryOptimisticRead()}
+     * @return a flag whether the optimistic read operation was successful
+     */
+    public boolean validate(final long stamp)
+    {
+        return lock.validate(stamp);
+    }
+
+    @Override
+    public void beginRead()
+    {
+        final LockHolds holds = lockHolds.get();
+        if (holds.readCount == 0 && holds.writeCount == 0)
+        {
+            holds.readStamp = lock.readLock();
+        }
+        holds.readCount++;
+    }
+
+    @Override
+    public void endRead()
+    {
+        final LockHolds holds = lockHolds.get();
+        if (holds.readCount <= 0)
+        {
+            throw new IllegalMonitorStateException("No read lock held!");
+        }
+        if (--holds.readCount == 0 && holds.writeCount == 0)
+        {
+            lock.unlockRead(holds.readStamp);
+        }
+    }
+
+    @Override
+    public void beginWrite()
+    {
+        final LockHolds holds = lockHolds.get();
+        if (holds.writeCount == 0)
+        {
+            if (holds.readCount > 0)
+            {
+                throw new IllegalStateException(
+                        "Cannot upgrade a read lock to a write lock!");
+            }
+            holds.writeStamp = lock.writeLock();
+        }
+        holds.writeCount++;
+    }
+
+    @Override
+    public void endWrite()
+    {
+        final LockHolds holds = lockHolds.get();
+        if (holds.writeCount <= 0)
+        {
+            throw new IllegalMonitorStateException("No write lock held!");
+        }
+        if (--holds.writeCount == 0)
+        {
+            if (holds.readCount > 0)
+            {
+                holds.readStamp = lock.tryConvertToReadLock(holds.writeStamp);
+            }
+            else
+            {
+                lock.unlockWrite(holds.writeStamp);
+            }
+        }
+    }
+
+    /**
+     * A helper class storing the locks held by a thread. As
+     * {@code StampedLock} is not reentrant, nested lock operations have to be
+     * tracked manually.
+     */
+    private static class LockHolds
+    {
+        /** The number of nested read operations. */
+        private int readCount;
+
+        /** The number of nested write operations. */
+        private int writeCount;
+
+        /** The stamp of the read lock. */
+        private long readStamp;
+
+        /** The stamp of the write lock. */
+        private long writeStamp;
+    }
+}
@@ -65,12 +65,18 @@ abstract class AbstractImmutableNodeHandler implements
 
     /**
      * {@inheritDoc} This implementation returns an immutable list with all
-     * child nodes accepted by the specified matcher.
+     * child nodes accepted by the specified matcher. Exact matches on node
+     * names are answered by the name index of the node.
      */
     @Override
     public <C> List<ImmutableNode> getMatchingChildren(final ImmutableNode node,
             final NodeMatcher<C> matcher, final C criterion)
     {
+        if (matcher == NodeNameMatchers.EQUALS && criterion instanceof String)
+        {
+            return node.getNamedChildren((String) criterion);
+        }
+
         final List<ImmutableNode> result =
                 new ArrayList<>(node.getChildren().size());
         for (final ImmutableNode c : node.getChildren())
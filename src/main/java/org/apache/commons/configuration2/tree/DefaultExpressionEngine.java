@@ -16,9 +16,12 @@
  */
 package org.apache.commons.configuration2.tree;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -106,6 +109,15 @@ import org.apache.commons.lang3.StringUtils;
  * Instances of this class are thread-safe and can be shared between multiple
  * hierarchical configuration objects.
  * </p>
+ * <p>
+ * Parsing a key into its components is a comparatively expensive operation.
+ * Because typical applications query the same keys over and over again, an
+ * instance caches the parsed form of the keys passed to the
+ * {@link #query(Object, String, NodeHandler)} method. As the symbols of an
+ * engine cannot be changed, a cached key is always valid for the engine that
+ * created it. The cache is bounded; if it reaches its maximum size, it is
+ * cleared and filled again.
+ * </p>
  *
  * @since 1.3
  */
@@ -119,12 +131,24 @@ public class DefaultExpressionEngine implements ExpressionEngine
             new DefaultExpressionEngine(
                     DefaultExpressionEngineSymbols.DEFAULT_SYMBOLS);
 
+    /** The maximum number of parsed keys stored in the cache. */
+    static final int MAX_CACHED_KEYS = 4096;
+
     /** The symbols used by this instance. */
     private final DefaultExpressionEngineSymbols symbols;
 
     /** The matcher for node names. */
     private final NodeMatcher<String> nameMatcher;
 
+    /** A cache for the parsed keys passed to query(). */
+    private final ConcurrentMap<String, KeyPath> keyCache;
+
+    /**
+     * A flag whether the cached key paths can be used for queries. This is
+     * not the case if a subclass overrides {@code findNodesForKey()}.
+     */
+    private final boolean useKeyCache;
+
     /**
      * Creates a new instance of {@code DefaultExpressionEngine} and initializes
      * its symbols.
@@ -160,6 +184,8 @@ public class DefaultExpressionEngine implements ExpressionEngine
         nameMatcher =
                 nodeNameMatcher != null ? nodeNameMatcher
                         : NodeNameMatchers.EQUALS;
+        keyCache = new ConcurrentHashMap<>();
+        useKeyCache = !overridesFindNodesForKey(getClass());
     }
 
     /**
@@ -174,6 +200,16 @@ public class DefaultExpressionEngine implements ExpressionEngine
         return symbols;
     }
 
+    /**
+     * Returns the matcher for node names used by this engine.
+     *
+     * @return the {@code NodeMatcher} for node names
+     */
+    NodeMatcher<String> getNameMatcher()
+    {
+        return nameMatcher;
+    }
+
     /**
      * {@inheritDoc} This method supports the syntax as described in the class
      * comment.
@@ -183,8 +219,15 @@ public class DefaultExpressionEngine implements ExpressionEngine
             final NodeHandler<T> handler)
     {
         final List<QueryResult<T>> results = new LinkedList<>();
-        findNodesForKey(new DefaultConfigurationKey(this, key).iterator(),
-                root, results, handler);
+        if (useKeyCache)
+        {
+            findNodesForPath(fetchKeyPath(key), 0, root, results, handler);
+        }
+        else
+        {
+            findNodesForKey(new DefaultConfigurationKey(this, key).iterator(),
+                    root, results, handler);
+        }
         return results;
     }
 
@@ -392,6 +435,102 @@ public class DefaultExpressionEngine implements ExpressionEngine
         }
     }
 
+    /**
+     * Returns the parsed representation of the given key. The key is looked
+     * up in the cache first. If it cannot be found, it is parsed and added to
+     * the cache.
+     *
+     * @param key the key
+     * @return the {@code KeyPath} for this key
+     */
+    KeyPath fetchKeyPath(final String key)
+    {
+        if (key == null)
+        {
+            return KeyPath.parse(new DefaultConfigurationKey(this, key));
+        }
+
+        KeyPath path = keyCache.get(key);
+        if (path == null)
+        {
+            path = KeyPath.parse(new DefaultConfigurationKey(this, key));
+            if (keyCache.size() >= MAX_CACHED_KEYS)
+            {
+                keyCache.clear();
+            }
+            keyCache.put(key, path);
+        }
+        return path;
+    }
+
+    /**
+     * Returns the number of parsed keys currently stored in the cache of this
+     * engine. This method is mainly used for testing purposes.
+     *
+     * @return the number of cached keys
+     */
+    int getCachedKeyCount()
+    {
+        return keyCache.size();
+    }
+
+    /**
+     * Recursive helper method for evaluating a parsed key. This is the
+     * counterpart of {@code findNodesForKey()} operating on a cached
+     * {@code KeyPath}.
+     *
+     * @param <T> the type of nodes to be dealt with
+     * @param path the parsed key
+     * @param pos the index of the current key part
+     * @param node the current node
+     * @param results here the found results are stored
+     * @param handler the node handler
+     */
+    private <T> void findNodesForPath(final KeyPath path, final int pos,
+            final T node, final Collection<QueryResult<T>> results,
+            final NodeHandler<T> handler)
+    {
+        if (pos >= path.size())
+        {
+            results.add(QueryResult.createNodeResult(node));
+        }
+
+        else
+        {
+            final KeyPath.Element element = path.get(pos);
+            if (element.isPropertyKey())
+            {
+                final List<T> subNodes =
+                        findChildNodesByName(handler, node, element.getName());
+                if (element.hasIndex())
+                {
+                    final int index = element.getIndex();
+                    if (index >= 0 && index < subNodes.size())
+                    {
+                        findNodesForPath(path, pos + 1, subNodes.get(index),
+                                results, handler);
+                    }
+                }
+                else
+                {
+                    for (final T subNode : subNodes)
+                    {
+                        findNodesForPath(path, pos + 1, subNode, results,
+                                handler);
+                    }
+                }
+            }
+            if (element.isAttribute() && pos == path.size() - 1)
+            {
+                if (handler.getAttributeValue(node, element.getName()) != null)
+                {
+                    results.add(QueryResult.createAttributeResult(node,
+                            element.getName()));
+                }
+            }
+        }
+    }
+
     /**
      * Finds the last existing node for an add operation. This method traverses
      * the node tree along the specified key. The last existing node on this
@@ -498,4 +637,186 @@ public class DefaultExpressionEngine implements ExpressionEngine
     {
         return handler.getMatchingChildren(parent, nameMatcher, nodeName);
     }
+
+    /**
+     * Checks whether the given class overrides the
+     * {@code findNodesForKey()} method. In this case, the cached key paths
+     * must not be used because the overridden method would be bypassed.
+     *
+     * @param cls the class to check
+     * @return a flag whether {@code findNodesForKey()} is overridden
+     */
+    private static boolean overridesFindNodesForKey(final Class<?> cls)
+    {
+        for (Class<?> c = cls; c != DefaultExpressionEngine.class; c =
+                c.getSuperclass())
+        {
+            try
+            {
+                c.getDeclaredMethod("findNodesForKey",
+                        DefaultConfigurationKey.KeyIterator.class,
+                        Object.class, Collection.class, NodeHandler.class);
+                return true;
+            }
+            catch (final NoSuchMethodException nex)
+            {
+                // not declared by this class, check the super class
+            }
+        }
+        return false;
+    }
+
+    /**
+     * An internal class representing a parsed configuration key. An instance
+     * stores the components of a key as they are returned by a
+     * {@link DefaultConfigurationKey.KeyIterator}, so that they can be
+     * evaluated again without parsing the key. Instances are immutable.
+     */
+    static final class KeyPath
+    {
+        /** The elements of this path. */
+        private final Element[] elements;
+
+        /**
+         * Creates a new instance of {@code KeyPath} with the given elements.
+         *
+         * @param elems the elements of the path
+         */
+        private KeyPath(final Element[] elems)
+        {
+            elements = elems;
+        }
+
+        /**
+         * Creates a {@code KeyPath} for the given key by iterating over all
+         * its parts.
+         *
+         * @param key the key to be parsed
+         * @return the {@code KeyPath} for this key
+         */
+        static KeyPath parse(final DefaultConfigurationKey key)
+        {
+            final List<Element> elems = new ArrayList<>();
+            final DefaultConfigurationKey.KeyIterator it = key.iterator();
+            while (it.hasNext())
+            {
+                final String name = it.nextKey(false);
+                elems.add(new Element(name, it.hasIndex() ? it.getIndex()
+                        : -1, it.hasIndex(), it.isPropertyKey(), it
+                        .isAttribute()));
+            }
+            return new KeyPath(elems.toArray(new Element[elems.size()]));
+        }
+
+        /**
+         * Returns the number of elements of this path.
+         *
+         * @return the number of elements
+         */
+        int size()
+        {
+            return elements.length;
+        }
+
+        /**
+         * Returns the element at the given position.
+         *
+         * @param index the index
+         * @return the element at this index
+         */
+        Element get(final int index)
+        {
+            return elements[index];
+        }
+
+        /**
+         * A class representing a single component of a parsed key.
+         */
+        static final class Element
+        {
+            /** The name of this key part. */
+            private final String name;
+
+            /** The index of this key part. */
+            private final int index;
+
+            /** A flag whether an index is defined. */
+            private final boolean hasIndex;
+
+            /** A flag whether this is a property key. */
+            private final boolean propertyKey;
+
+            /** A flag whether this is an attribute key. */
+            private final boolean attribute;
+
+            /**
+             * Creates a new instance of {@code Element}.
+             *
+             * @param name the name of the key part
+             * @param index the index
+             * @param hasIndex flag whether an index is defined
+             * @param propertyKey flag whether this is a property key
+             * @param attribute flag whether this is an attribute key
+             */
+            Element(final String name, final int index, final boolean hasIndex,
+                    final boolean propertyKey, final boolean attribute)
+            {
+                this.name = name;
+                this.index = index;
+                this.hasIndex = hasIndex;
+                this.propertyKey = propertyKey;
+                this.attribute = attribute;
+            }
+
+            /**
+             * Returns the name of this key part.
+             *
+             * @return the name
+             */
+            String getName()
+            {
+                return name;
+            }
+
+            /**
+             * Returns the index of this key part.
+             *
+             * @return the index (-1 if undefined)
+             */
+            int getIndex()
+            {
+                return index;
+            }
+
+            /**
+             * Returns a flag whether this key part has an index.
+             *
+             * @return a flag whether an index is defined
+             */
+            boolean hasIndex()
+            {
+                return hasIndex;
+            }
+
+            /**
+             * Returns a flag whether this key part is a property key.
+             *
+             * @return a flag whether this is a property key
+             */
+            boolean isPropertyKey()
+            {
+                return propertyKey;
+            }
+
+            /**
+             * Returns a flag whether this key part is an attribute key.
+             *
+             * @return a flag whether this is an attribute key
+             */
+            boolean isAttribute()
+            {
+                return attribute;
+            }
+        }
+    }
 }
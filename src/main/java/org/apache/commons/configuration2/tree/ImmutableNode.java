@@ -55,6 +55,9 @@ public final class ImmutableNode
     /** A map with the attributes of this node. */
     private final Map<String, Object> attributes;
 
+    /** The index for looking up child nodes by their names. */
+    private final ChildIndex childIndex;
+
     /**
      * Creates a new instance of {@code ImmutableNode} from the given
      * {@code Builder} object.
@@ -65,6 +68,7 @@ public final class ImmutableNode
     {
         children = b.createChildren();
         attributes = b.createAttributes();
+        childIndex = b.createChildIndex(children);
         nodeName = b.name;
         value = b.value;
     }
@@ -109,19 +113,25 @@ public final class ImmutableNode
      */
     public List<ImmutableNode> getChildren(final String name)
     {
-        final List<ImmutableNode> list = new ArrayList<>();
-        if (name == null)
-        {
-            return list;
-        }
-        for (final ImmutableNode node : children)
-        {
-            if (name.equals(node.getNodeName()))
-            {
-                list.add(node);
-            }
-        }
-        return list;
+        return new ArrayList<>(getNamedChildren(name));
+    }
+
+    /**
+     * Returns an unmodifiable list with the children of this node that have
+     * the given name. In contrast to {@link #getChildren(String)}, this method
+     * does not create a new list. The children are looked up in an index
+     * which is created on first access and shared with all copies of this
+     * node which have the same children. So the cost of this method does not
+     * depend on the number of children. If the name is <b>null</b>, result is
+     * an empty list.
+     *
+     * @param name the node name to find
+     * @return an unmodifiable list with the child nodes with this name
+     * @since 2.8
+     */
+    public List<ImmutableNode> getNamedChildren(final String name)
+    {
+        return childIndex.getChildren(name);
     }
 
     /**
@@ -144,8 +154,8 @@ public final class ImmutableNode
      */
     public ImmutableNode setName(final String name)
     {
-        return new Builder(children, attributes).name(name).value(value)
-                .create();
+        return new Builder(children, childIndex, attributes).name(name)
+                .value(value).create();
     }
 
     /**
@@ -157,8 +167,8 @@ public final class ImmutableNode
      */
     public ImmutableNode setValue(final Object newValue)
     {
-        return new Builder(children, attributes).name(nodeName).value(newValue)
-                .create();
+        return new Builder(children, childIndex, attributes).name(nodeName)
+                .value(newValue).create();
     }
 
     /**
@@ -334,8 +344,8 @@ public final class ImmutableNode
      */
     private ImmutableNode createWithNewAttributes(final Map<String, Object> newAttrs)
     {
-        return createWithBasicProperties(new Builder(children, null)
-                .addAttributes(newAttrs));
+        return createWithBasicProperties(new Builder(children, childIndex,
+                null).addAttributes(newAttrs));
     }
 
     /**
@@ -373,6 +383,9 @@ public final class ImmutableNode
         /** The direct list of children of the new node. */
         private final List<ImmutableNode> directChildren;
 
+        /** The index of the direct children of the new node. */
+        private final ChildIndex directChildIndex;
+
         /** The direct map of attributes of the new node. */
         private final Map<String, Object> directAttributes;
 
@@ -430,8 +443,25 @@ public final class ImmutableNode
          */
         private Builder(final List<ImmutableNode> dirChildren,
                 final Map<String, Object> dirAttrs)
+        {
+            this(dirChildren, null, dirAttrs);
+        }
+
+        /**
+         * Creates a new instance of {@code Builder} which directly uses the
+         * given children together with their index. This is used when a copy
+         * of a node is created whose children are not changed.
+         *
+         * @param dirChildren the children of the new node
+         * @param dirChildIndex the index of these children
+         * @param dirAttrs the attributes of the new node
+         */
+        private Builder(final List<ImmutableNode> dirChildren,
+                final ChildIndex dirChildIndex,
+                final Map<String, Object> dirAttrs)
         {
             directChildren = dirChildren;
+            directChildIndex = dirChildIndex;
             directAttributes = dirAttrs;
         }
 
@@ -580,6 +610,23 @@ public final class ImmutableNode
             return Collections.emptyList();
         }
 
+        /**
+         * Returns the index for the children of the newly created node. If
+         * the children are taken over from another node, its index is reused.
+         *
+         * @param nodeChildren the children of the new node
+         * @return the index for these children
+         */
+        private ChildIndex createChildIndex(final List<ImmutableNode> nodeChildren)
+        {
+            if (directChildIndex != null)
+            {
+                return directChildIndex;
+            }
+            return nodeChildren.isEmpty() ? ChildIndex.EMPTY : new ChildIndex(
+                    nodeChildren);
+        }
+
         /**
          * Creates a map with the attributes of the newly created node. This is
          * an immutable map. If direct attributes were set, they are returned.
@@ -667,4 +714,89 @@ public final class ImmutableNode
     {
         return super.toString() + "(" + nodeName + ")";
     }
+
+    /**
+     * An internal helper class implementing an index for the children of a
+     * node. The index maps node names to the lists of child nodes with this
+     * name. It is created lazily on first access. As the children of a node
+     * cannot be changed, the index never has to be updated; if it happens to
+     * be created concurrently by multiple threads, all of them produce the
+     * same result.
+     */
+    private static final class ChildIndex
+    {
+        /** An instance for nodes without children. */
+        private static final ChildIndex EMPTY = new ChildIndex(
+                Collections.<ImmutableNode> emptyList());
+
+        /** The list with the indexed child nodes. */
+        private final List<ImmutableNode> children;
+
+        /** The map with the child nodes grouped by their names. */
+        private volatile Map<String, List<ImmutableNode>> index;
+
+        /**
+         * Creates a new instance of {@code ChildIndex} for the given children.
+         *
+         * @param nodes the list of child nodes
+         */
+        ChildIndex(final List<ImmutableNode> nodes)
+        {
+            children = nodes;
+        }
+
+        /**
+         * Returns an unmodifiable list with all children with the given name.
+         *
+         * @param name the name
+         * @return a list with the child nodes with this name
+         */
+        List<ImmutableNode> getChildren(final String name)
+        {
+            if (name == null || children.isEmpty())
+            {
+                return Collections.emptyList();
+            }
+
+            Map<String, List<ImmutableNode>> map = index;
+            if (map == null)
+            {
+                map = createIndex();
+                index = map;
+            }
+            final List<ImmutableNode> result = map.get(name);
+            return result != null ? result : Collections.<ImmutableNode> emptyList();
+        }
+
+        /**
+         * Creates the map with child nodes grouped by their names.
+         *
+         * @return the map with the indexed child nodes
+         */
+        private Map<String, List<ImmutableNode>> createIndex()
+        {
+            final Map<String, List<ImmutableNode>> map = new HashMap<>();
+            for (final ImmutableNode child : children)
+            {
+                if (child.getNodeName() != null)
+                {
+                    List<ImmutableNode> list = map.get(child.getNodeName());
+                    if (list == null)
+                    {
+                        list = new ArrayList<>(1);
+                        map.put(child.getNodeName(), list);
+                    }
+                    list.add(child);
+                }
+            }
+
+            for (final Map.Entry<String, List<ImmutableNode>> e : map.entrySet())
+            {
+                final List<ImmutableNode> list = e.getValue();
+                e.setValue(list.size() == 1 ? Collections.singletonList(list
+                        .get(0)) : Collections.unmodifiableList(list));
+            }
+            return map;
+        }
+    }
 }
@@ -20,11 +20,14 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import org.apache.commons.configuration2.ex.ConfigurationRuntimeException;
 import org.apache.commons.lang3.mutable.Mutable;
@@ -63,6 +66,9 @@ public class InMemoryNodeModel implements NodeModel<ImmutableNode>
     /** Stores information about the current nodes structure. */
     private final AtomicReference<TreeData> structure;
 
+    /** A flag whether a key index is to be created for the nodes structure. */
+    private volatile boolean keyIndexEnabled;
+
     /**
      * Creates a new instance of {@code InMemoryNodeModel} which is initialized
      * with an empty root node.
@@ -253,6 +259,36 @@ public class InMemoryNodeModel implements NodeModel<ImmutableNode>
         }, selector, resolver);
     }
 
+    /**
+     * {@inheritDoc} This implementation tries to add all properties in a
+     * single {@code ModelTransaction}. A new transaction is started only if
+     * the position of a property to be added may depend on the changes of the
+     * properties processed before. In any case, the model is updated in a
+     * single atomic step.
+     */
+    @Override
+    public void addProperties(final Map<String, ? extends Iterable<?>> properties,
+            final NodeKeyResolver<ImmutableNode> resolver)
+    {
+        updateModelInBulk(update -> properties.forEach(update::addProperty),
+                resolver);
+    }
+
+    /**
+     * {@inheritDoc} This implementation tries to set all properties in a
+     * single {@code ModelTransaction}. A new transaction is started only if
+     * the nodes affected by a property may depend on the changes of the
+     * properties processed before. In any case, the model is updated in a
+     * single atomic step.
+     */
+    @Override
+    public void setProperties(final Map<String, ?> properties,
+            final NodeKeyResolver<ImmutableNode> resolver)
+    {
+        updateModelInBulk(update -> properties.forEach(update::setProperty),
+                resolver);
+    }
+
     /**
      * {@inheritDoc} This implementation checks whether nodes become undefined
      * after subtrees have been removed. If this is the case, such nodes are
@@ -758,6 +794,53 @@ public class InMemoryNodeModel implements NodeModel<ImmutableNode>
         return getTreeData();
     }
 
+    /**
+     * Returns a flag whether the key index is enabled for this model.
+     *
+     * @return the key index flag
+     * @since 2.8
+     */
+    public boolean isKeyIndexEnabled()
+    {
+        return keyIndexEnabled;
+    }
+
+    /**
+     * Sets a flag whether a key index should be created for this model. If
+     * enabled, {@link #getKeyIndex(ExpressionEngine)} returns a
+     * {@link NodeKeyIndex} for the current nodes structure. The index is
+     * created on first access after an update of the structure; so this
+     * option is useful for structures which are read often and rarely
+     * changed.
+     *
+     * @param keyIndexEnabled the key index flag
+     * @since 2.8
+     */
+    public void setKeyIndexEnabled(final boolean keyIndexEnabled)
+    {
+        this.keyIndexEnabled = keyIndexEnabled;
+    }
+
+    /**
+     * Returns a {@link NodeKeyIndex} for the current nodes structure and the
+     * given expression engine. Result is <b>null</b> if the key index is not
+     * enabled or if the expression engine is not supported by
+     * {@code NodeKeyIndex}. The index reflects the state of the structure at
+     * the time this method is called; it is not affected by later updates.
+     *
+     * @param engine the expression engine
+     * @return the {@code NodeKeyIndex} or <b>null</b>
+     * @since 2.8
+     */
+    public NodeKeyIndex getKeyIndex(final ExpressionEngine engine)
+    {
+        if (!isKeyIndexEnabled() || !NodeKeyIndex.isSupported(engine))
+        {
+            return null;
+        }
+        return getTreeData().getKeyIndex(engine);
+    }
+
     /**
      * Returns the current {@code TreeData} object. This object contains all
      * information about the current node structure.
@@ -823,6 +906,20 @@ public class InMemoryNodeModel implements NodeModel<ImmutableNode>
         final NodeAddData<ImmutableNode> addData =
                 resolver.resolveAddKey(tx.getQueryRoot(), key,
                         tx.getCurrentData());
+        addValuesByAddData(tx, addData, values);
+    }
+
+    /**
+     * Initializes a transaction to add the given values at the position
+     * described by a {@code NodeAddData} object.
+     *
+     * @param tx the transaction to be initialized
+     * @param addData the {@code NodeAddData}
+     * @param values the collection with node values
+     */
+    private static void addValuesByAddData(final ModelTransaction tx,
+            final NodeAddData<ImmutableNode> addData, final Iterable<?> values)
+    {
         if (addData.isAttribute())
         {
             addAttributeProperty(tx, addData, values);
@@ -1140,6 +1237,33 @@ public class InMemoryNodeModel implements NodeModel<ImmutableNode>
         } while (!done);
     }
 
+    /**
+     * Performs a thread-safe update of this model consisting of multiple
+     * property changes. The changes are passed to a {@code BulkUpdate} object
+     * which collects them in as few transactions as possible. The resulting
+     * data is then set in a single atomic step. If this fails because of a
+     * concurrent update, the whole operation is repeated.
+     *
+     * @param updater the function passing the changes to the
+     *        {@code BulkUpdate}
+     * @param resolver the {@code NodeKeyResolver}
+     */
+    private void updateModelInBulk(final Consumer<BulkUpdate> updater,
+            final NodeKeyResolver<ImmutableNode> resolver)
+    {
+        boolean done;
+
+        do
+        {
+            final TreeData currentData = getTreeData();
+            final BulkUpdate update = new BulkUpdate(currentData, resolver);
+            updater.accept(update);
+            final TreeData newData = update.execute();
+            done = newData == currentData
+                    || structure.compareAndSet(currentData, newData);
+        } while (!done);
+    }
+
     /**
      * Executes a transaction on the current data of this model. This method is
      * called if an operation is to be executed on the model's root node or a
@@ -1382,4 +1506,235 @@ public class InMemoryNodeModel implements NodeModel<ImmutableNode>
          */
         boolean initTransaction(ModelTransaction tx);
     }
+
+    /**
+     * An internal helper class for updating multiple properties of the model.
+     * The operations for all properties are collected in a
+     * {@code ModelTransaction}. All keys are resolved against the data the
+     * transaction operates on; so the changes of a property are not visible
+     * when the next key is resolved. Therefore, this class keeps track of the
+     * nodes affected by the transaction. If a key may depend on one of these
+     * nodes - because it selects a node whose value is already changed or it
+     * requires a new node with the same name as one that has already been
+     * added to the same parent -, the current transaction is executed, and a
+     * new one is started on its result.
+     */
+    private static final class BulkUpdate
+    {
+        /** The resolver for keys. */
+        private final NodeKeyResolver<ImmutableNode> resolver;
+
+        /** Stores the nodes and attributes whose values are changed. */
+        private final Set<QueryResult<ImmutableNode>> changedResults;
+
+        /** Stores the names of new child nodes per parent node. */
+        private final Map<ImmutableNode, Set<String>> addedChildren;
+
+        /** The current transaction. */
+        private ModelTransaction transaction;
+
+        /** A flag whether the current transaction contains operations. */
+        private boolean pending;
+
+        /**
+         * Creates a new instance of {@code BulkUpdate} operating on the given
+         * data.
+         *
+         * @param data the current data of the model
+         * @param keyResolver the {@code NodeKeyResolver}
+         */
+        BulkUpdate(final TreeData data,
+                final NodeKeyResolver<ImmutableNode> keyResolver)
+        {
+            resolver = keyResolver;
+            changedResults = new HashSet<>();
+            addedChildren = new HashMap<>();
+            transaction = new ModelTransaction(data, null, resolver);
+        }
+
+        /**
+         * Adds the operations for adding values to the given property.
+         *
+         * @param key the key
+         * @param values the values to be added
+         */
+        public void addProperty(final String key, final Iterable<?> values)
+        {
+            if (valuesNotEmpty(values))
+            {
+                NodeAddData<ImmutableNode> addData = resolveAddKey(key);
+                if (!canAdd(addData))
+                {
+                    startNewTransaction();
+                    addData = resolveAddKey(key);
+                }
+                add(addData, values);
+            }
+        }
+
+        /**
+         * Adds the operations for setting the value of the given property.
+         *
+         * @param key the key
+         * @param value the new value
+         */
+        public void setProperty(final String key, final Object value)
+        {
+            if (!trySetProperty(key, value))
+            {
+                startNewTransaction();
+                trySetProperty(key, value);
+            }
+        }
+
+        /**
+         * Returns the data resulting from all operations.
+         *
+         * @return the new data of the model
+         */
+        public TreeData execute()
+        {
+            return pending ? transaction.execute() : transaction
+                    .getCurrentData();
+        }
+
+        /**
+         * Tries to add the operations for setting a property to the current
+         * transaction. This is not possible if the property is affected by
+         * the operations already contained.
+         *
+         * @param key the key
+         * @param value the new value
+         * @return a flag whether the operations could be added
+         */
+        private boolean trySetProperty(final String key, final Object value)
+        {
+            final NodeUpdateData<ImmutableNode> updateData =
+                    resolver.resolveUpdateKey(transaction.getQueryRoot(), key,
+                            value, transaction.getCurrentData());
+            final NodeAddData<ImmutableNode> addData =
+                    updateData.getNewValues().isEmpty() ? null
+                            : resolveAddKey(key);
+            if (!canChange(updateData.getChangedValues().keySet())
+                    || !canChange(updateData.getRemovedNodes())
+                    || addData != null && !canAdd(addData))
+            {
+                return false;
+            }
+
+            if (addData != null)
+            {
+                add(addData, updateData.getNewValues());
+            }
+            changedResults.addAll(updateData.getChangedValues().keySet());
+            changedResults.addAll(updateData.getRemovedNodes());
+            pending |= initializeClearTransaction(transaction,
+                    updateData.getRemovedNodes());
+            pending |= initializeUpdateTransaction(transaction,
+                    updateData.getChangedValues());
+            return true;
+        }
+
+        /**
+         * Adds the operations for adding values as described by the given
+         * {@code NodeAddData} object to the current transaction.
+         *
+         * @param addData the {@code NodeAddData}
+         * @param values the values to be added
+         */
+        private void add(final NodeAddData<ImmutableNode> addData,
+                final Iterable<?> values)
+        {
+            if (addData.isAttribute() && addData.getPathNodes().isEmpty())
+            {
+                changedResults.add(QueryResult.createAttributeResult(
+                        addData.getParent(), addData.getNewNodeName()));
+            }
+            else
+            {
+                addedChildren.computeIfAbsent(addData.getParent(),
+                        k -> new HashSet<>()).add(childName(addData));
+            }
+            addValuesByAddData(transaction, addData, values);
+            pending = true;
+        }
+
+        /**
+         * Checks whether the given nodes or attributes have not yet been
+         * changed by the current transaction.
+         *
+         * @param results the results to be checked
+         * @return a flag whether these results can be changed
+         */
+        private boolean canChange(
+                final Collection<QueryResult<ImmutableNode>> results)
+        {
+            for (final QueryResult<ImmutableNode> result : results)
+            {
+                if (changedResults.contains(result))
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Checks whether an add operation described by the given
+         * {@code NodeAddData} object can be added to the current
+         * transaction.
+         *
+         * @param addData the {@code NodeAddData}
+         * @return a flag whether the operation can be added
+         */
+        private boolean canAdd(final NodeAddData<ImmutableNode> addData)
+        {
+            if (addData.isAttribute() && addData.getPathNodes().isEmpty())
+            {
+                return !changedResults.contains(QueryResult
+                        .createAttributeResult(addData.getParent(),
+                                addData.getNewNodeName()));
+            }
+            final Set<String> names = addedChildren.get(addData.getParent());
+            return names == null || !names.contains(childName(addData));
+        }
+
+        /**
+         * Resolves the given key for an add operation based on the data of
+         * the current transaction.
+         *
+         * @param key the key
+         * @return the {@code NodeAddData} for this key
+         */
+        private NodeAddData<ImmutableNode> resolveAddKey(final String key)
+        {
+            return resolver.resolveAddKey(transaction.getQueryRoot(), key,
+                    transaction.getCurrentData());
+        }
+
+        /**
+         * Executes the current transaction and starts a new one on its
+         * result.
+         */
+        private void startNewTransaction()
+        {
+            transaction = new ModelTransaction(execute(), null, resolver);
+            pending = false;
+            changedResults.clear();
+            addedChildren.clear();
+        }
+
+        /**
+         * Returns the name of the child node which is added to the parent
+         * node by an add operation.
+         *
+         * @param addData the {@code NodeAddData}
+         * @return the name of the new child node of the parent
+         */
+        private static String childName(final NodeAddData<ImmutableNode> addData)
+        {
+            return addData.getPathNodes().isEmpty() ? addData.getNewNodeName()
+                    : addData.getPathNodes().get(0);
+        }
+    }
 }
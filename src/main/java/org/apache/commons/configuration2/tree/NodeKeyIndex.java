@@ -0,0 +1,266 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.tree;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * <p>
+ * A class storing the values of a structure of {@link ImmutableNode} objects
+ * in a flat map.
+ * </p>
+ * <p>
+ * An instance of this class is created for a specific root node and a
+ * {@link DefaultExpressionEngine}. It contains an entry for each key which can
+ * be generated for a node or an attribute by the expression engine without
+ * using indices (e.g. {@code tables.table.name} or
+ * {@code tables.table[@type]}). The entry holds the values of all nodes or
+ * attributes selected by this key in the order they would be returned by a
+ * query. So the value of such a key can be determined by a single map lookup
+ * rather than by traversing the node structure.
+ * </p>
+ * <p>
+ * The index cannot answer all keys supported by the expression engine; for
+ * instance, keys containing indices are not contained. Also, nodes or
+ * attributes whose names contain one of the special characters used by the
+ * expression engine are skipped. For such keys the method
+ * {@link #getValues(String)} returns <b>null</b>, and a regular query has to
+ * be executed. For the same reason, an index can only be created for
+ * expression engines which use the default semantics for resolving keys; this
+ * can be checked using the {@link #isSupported(ExpressionEngine)} method.
+ * </p>
+ * <p>
+ * Instances are created by {@link InMemoryNodeModel} if this feature is
+ * enabled. They are immutable and therefore thread-safe.
+ * </p>
+ *
+ * @since 2.8
+ */
+public final class NodeKeyIndex
+{
+    /** The expression engine used for generating keys. */
+    private final DefaultExpressionEngine expressionEngine;
+
+    /** The map with the values for the keys. */
+    private final Map<String, List<Object>> values;
+
+    /**
+     * Creates a new instance of {@code NodeKeyIndex}.
+     *
+     * @param engine the expression engine
+     * @param valueMap the map with the values
+     */
+    private NodeKeyIndex(final DefaultExpressionEngine engine,
+            final Map<String, List<Object>> valueMap)
+    {
+        expressionEngine = engine;
+        values = valueMap;
+    }
+
+    /**
+     * Checks whether an index can be created for the given expression engine.
+     * This is the case for a plain {@link DefaultExpressionEngine} which
+     * compares node names exactly and does not emulate attributes as child
+     * nodes.
+     *
+     * @param engine the expression engine to check
+     * @return a flag whether an index is supported for this engine
+     */
+    public static boolean isSupported(final ExpressionEngine engine)
+    {
+        if (engine == null || engine.getClass() != DefaultExpressionEngine.class)
+        {
+            return false;
+        }
+
+        final DefaultExpressionEngine defEngine = (DefaultExpressionEngine) engine;
+        final DefaultExpressionEngineSymbols symbols = defEngine.getSymbols();
+        return defEngine.getNameMatcher() == NodeNameMatchers.EQUALS
+                && !(symbols.getAttributeEnd() == null && StringUtils.equals(
+                        symbols.getPropertyDelimiter(),
+                        symbols.getAttributeStart()));
+    }
+
+    /**
+     * Creates a new {@code NodeKeyIndex} for the nodes structure defined by
+     * the given node handler and the expression engine.
+     *
+     * @param handler the {@code NodeHandler} for the nodes structure
+     * @param engine the expression engine
+     * @return the new index
+     * @throws IllegalArgumentException if the expression engine is not
+     *         supported
+     */
+    static NodeKeyIndex create(final NodeHandler<ImmutableNode> handler,
+            final ExpressionEngine engine)
+    {
+        if (!isSupported(engine))
+        {
+            throw new IllegalArgumentException(
+                    "Unsupported expression engine: " + engine);
+        }
+
+        final DefaultExpressionEngine defEngine = (DefaultExpressionEngine) engine;
+        final Map<String, List<Object>> valueMap = new HashMap<>();
+        addNode(handler.getRootNode(),
+                defEngine.nodeKey(handler.getRootNode(), null, handler),
+                valueMap, defEngine, handler);
+
+        for (final Map.Entry<String, List<Object>> e : valueMap.entrySet())
+        {
+            e.setValue(Collections.unmodifiableList(e.getValue()));
+        }
+        return new NodeKeyIndex(defEngine, valueMap);
+    }
+
+    /**
+     * Returns the expression engine used by this index.
+     *
+     * @return the expression engine
+     */
+    public DefaultExpressionEngine getExpressionEngine()
+    {
+        return expressionEngine;
+    }
+
+    /**
+     * Returns an unmodifiable list with the values of all nodes or attributes
+     * selected by the given key. Nodes or attributes without a value are not
+     * contained; so the list may be empty. If the key is not contained in
+     * this index, result is <b>null</b>. In this case, the key may still be
+     * valid, but the index cannot resolve it.
+     *
+     * @param key the key
+     * @return a list with the values for this key or <b>null</b>
+     */
+    public List<Object> getValues(final String key)
+    {
+        return values.get(key);
+    }
+
+    /**
+     * Returns the number of keys stored in this index.
+     *
+     * @return the number of keys
+     */
+    public int size()
+    {
+        return values.size();
+    }
+
+    /**
+     * Adds the specified node and its children and attributes recursively to
+     * the map with values.
+     *
+     * @param node the current node
+     * @param key the key of this node
+     * @param valueMap the map with values
+     * @param engine the expression engine
+     * @param handler the node handler
+     */
+    private static void addNode(final ImmutableNode node, final String key,
+            final Map<String, List<Object>> valueMap,
+            final DefaultExpressionEngine engine,
+            final NodeHandler<ImmutableNode> handler)
+    {
+        addValue(valueMap, key, node.getValue());
+
+        for (final ImmutableNode child : node.getChildren())
+        {
+            if (isIndexable(child.getNodeName(), engine.getSymbols()))
+            {
+                addNode(child, engine.nodeKey(child, key, handler), valueMap,
+                        engine, handler);
+            }
+        }
+
+        for (final Map.Entry<String, Object> attr : node.getAttributes()
+                .entrySet())
+        {
+            if (isIndexable(attr.getKey(), engine.getSymbols()))
+            {
+                addValue(valueMap, engine.attributeKey(key, attr.getKey()),
+                        attr.getValue());
+            }
+        }
+    }
+
+    /**
+     * Adds a value to the list stored for the given key. The list is created
+     * if necessary, even if the value is <b>null</b>. This way, it is
+     * recorded that the key is defined.
+     *
+     * @param valueMap the map with values
+     * @param key the key
+     * @param value the value to be added
+     */
+    private static void addValue(final Map<String, List<Object>> valueMap,
+            final String key, final Object value)
+    {
+        List<Object> list = valueMap.get(key);
+        if (list == null)
+        {
+            list = new ArrayList<>(1);
+            valueMap.put(key, list);
+        }
+        if (value != null)
+        {
+            list.add(value);
+        }
+    }
+
+    /**
+     * Checks whether a node or attribute with the given name can be added to
+     * the index. This is the case if the name is not empty and does not
+     * contain any special characters of the expression engine. So the key
+     * generated for this name is always resolved to the same nodes.
+     *
+     * @param name the name to check
+     * @param symbols the symbols of the expression engine
+     * @return a flag whether this name can be indexed
+     */
+    private static boolean isIndexable(final String name,
+            final DefaultExpressionEngineSymbols symbols)
+    {
+        return StringUtils.isNotEmpty(name)
+                && !containsSymbol(name, symbols.getPropertyDelimiter())
+                && !containsSymbol(name, symbols.getEscapedDelimiter())
+                && !containsSymbol(name, symbols.getIndexStart())
+                && !containsSymbol(name, symbols.getIndexEnd())
+                && !containsSymbol(name, symbols.getAttributeStart())
+                && !containsSymbol(name, symbols.getAttributeEnd());
+    }
+
+    /**
+     * Checks whether the given name contains the specified symbol. Undefined
+     * symbols are ignored.
+     *
+     * @param name the name
+     * @param symbol the symbol
+     * @return a flag whether the symbol is contained in the name
+     */
+    private static boolean containsSymbol(final String name, final String symbol)
+    {
+        return StringUtils.isNotEmpty(symbol) && name.contains(symbol);
+    }
+}
@@ -17,6 +17,7 @@
 package org.apache.commons.configuration2.tree;
 
 import java.util.Collection;
+import java.util.Map;
 
 /**
  * <p>
@@ -104,6 +105,41 @@ public interface NodeModel<T>
      */
     void setProperty(String key, Object value, NodeKeyResolver<T> resolver);
 
+    /**
+     * Adds multiple properties to this model. The passed in map contains the
+     * keys of the properties to be added and the values for each key. This
+     * default implementation calls
+     * {@link #addProperty(String, Iterable, NodeKeyResolver)} for each entry.
+     * Implementations can override it to update the model in a single step.
+     *
+     * @param properties a map with the keys and values of the properties to
+     *        be added
+     * @param resolver the {@code NodeKeyResolver}
+     * @since 2.8
+     */
+    default void addProperties(final Map<String, ? extends Iterable<?>> properties,
+            final NodeKeyResolver<T> resolver)
+    {
+        properties.forEach((key, values) -> addProperty(key, values, resolver));
+    }
+
+    /**
+     * Changes the values of multiple properties. The passed in map contains
+     * the keys of the properties to be changed and their new values. This
+     * default implementation calls
+     * {@link #setProperty(String, Object, NodeKeyResolver)} for each entry.
+     * Implementations can override it to update the model in a single step.
+     *
+     * @param properties a map with the keys and new values of the properties
+     * @param resolver the {@code NodeKeyResolver}
+     * @since 2.8
+     */
+    default void setProperties(final Map<String, ?> properties,
+            final NodeKeyResolver<T> resolver)
+    {
+        properties.forEach((key, value) -> setProperty(key, value, resolver));
+    }
+
     /**
      * Removes the sub trees defined by the given key from this model. All nodes
      * selected by this key are retrieved from the specified
@@ -52,6 +52,9 @@ class TreeData extends AbstractImmutableNodeHandler implements ReferenceNodeHand
     /** The reference tracker. */
     private final ReferenceTracker referenceTracker;
 
+    /** The index of keys and values, created on demand. */
+    private volatile NodeKeyIndex keyIndex;
+
     /**
      * Creates a new instance of {@code TreeData} and initializes it with all
      * data to be stored.
@@ -101,6 +104,19 @@ class TreeData extends AbstractImmutableNodeHandler implements ReferenceNodeHand
         return referenceTracker;
     }
 
+    /**
+     * Passes the key index of this object to the given new instance. This is
+     * possible if only tracking information has changed, but not the tree.
+     *
+     * @param data the new {@code TreeData} instance
+     * @return the same instance
+     */
+    private TreeData withKeyIndex(final TreeData data)
+    {
+        data.keyIndex = keyIndex;
+        return data;
+    }
+
     /**
      * Returns the parent node of the specified node. Result is <b>null</b>
      * for the root node. If the passed in node cannot be resolved, an
@@ -158,8 +174,8 @@ class TreeData extends AbstractImmutableNodeHandler implements ReferenceNodeHand
      */
     public TreeData updateNodeTracker(final NodeTracker newTracker)
     {
-        return new TreeData(root, parentMapping, replacementMapping,
-                newTracker, referenceTracker);
+        return withKeyIndex(new TreeData(root, parentMapping,
+                replacementMapping, newTracker, referenceTracker));
     }
 
     /**
@@ -172,8 +188,29 @@ class TreeData extends AbstractImmutableNodeHandler implements ReferenceNodeHand
      */
     public TreeData updateReferenceTracker(final ReferenceTracker newTracker)
     {
-        return new TreeData(root, parentMapping, replacementMapping,
-                nodeTracker, newTracker);
+        return withKeyIndex(new TreeData(root, parentMapping,
+                replacementMapping, nodeTracker, newTracker));
+    }
+
+    /**
+     * Returns a {@code NodeKeyIndex} for the tree represented by this object
+     * and the given expression engine. The index is created on first access
+     * and then stored, so that it can be reused as long as this tree is
+     * current. (The expression engine has to be supported by
+     * {@code NodeKeyIndex}.)
+     *
+     * @param engine the expression engine
+     * @return the {@code NodeKeyIndex} for this tree
+     */
+    public NodeKeyIndex getKeyIndex(final ExpressionEngine engine)
+    {
+        NodeKeyIndex index = keyIndex;
+        if (index == null || index.getExpressionEngine() != engine)
+        {
+            index = NodeKeyIndex.create(this, engine);
+            keyIndex = index;
+        }
+        return index;
     }
 
     /**
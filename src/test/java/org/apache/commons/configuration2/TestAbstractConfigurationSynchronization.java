@@ -27,6 +27,7 @@ import org.apache.commons.configuration2.SynchronizerTestImpl.Methods;
 import org.apache.commons.configuration2.io.FileHandler;
 import org.apache.commons.configuration2.sync.LockMode;
 import org.apache.commons.configuration2.sync.NoOpSynchronizer;
+import org.apache.commons.configuration2.sync.StampedLockSynchronizer;
 import org.easymock.EasyMock;
 import org.junit.Before;
 import org.junit.Test;
@@ -183,6 +184,58 @@ public class TestAbstractConfigurationSynchronization
         sync.verify(Methods.BEGIN_READ, Methods.END_READ);
     }
 
+    /**
+     * Tests that a successful optimistic read does not acquire a lock.
+     */
+    @Test
+    public void testGetPropertyOptimisticRead()
+    {
+        final OptimisticSynchronizerTestImpl optSync =
+                new OptimisticSynchronizerTestImpl(true);
+        config.setSynchronizer(optSync);
+        assertEquals("Wrong raw value", "true", config.getProperty(PROP));
+        assertTrue("Key not found", config.containsKey(PROP));
+        assertEquals("Wrong number of validations", 2, optSync.validations);
+        assertEquals("Lock was acquired", 0, optSync.readLocks);
+    }
+
+    /**
+     * Tests that a failed optimistic read is repeated with a lock held.
+     */
+    @Test
+    public void testGetPropertyOptimisticReadFailed()
+    {
+        final OptimisticSynchronizerTestImpl optSync =
+                new OptimisticSynchronizerTestImpl(false);
+        config.setSynchronizer(optSync);
+        assertEquals("Wrong raw value", "true", config.getProperty(PROP));
+        assertTrue("Key not found", config.containsKey(PROP));
+        assertEquals("Wrong number of validations", 2, optSync.validations);
+        assertEquals("Wrong number of locks", 2, optSync.readLocks);
+    }
+
+    /**
+     * Tests that the optimistic read is skipped if a write lock is held.
+     */
+    @Test
+    public void testGetPropertyOptimisticReadWithinWriteLock()
+    {
+        final OptimisticSynchronizerTestImpl optSync =
+                new OptimisticSynchronizerTestImpl(true);
+        config.setSynchronizer(optSync);
+        config.lock(LockMode.WRITE);
+        try
+        {
+            assertEquals("Wrong raw value", "true", config.getProperty(PROP));
+        }
+        finally
+        {
+            config.unlock(LockMode.WRITE);
+        }
+        assertEquals("Optimistic read was validated", 0, optSync.validations);
+        assertEquals("Wrong number of locks", 1, optSync.readLocks);
+    }
+
     /**
      * Tests whether isEmpty() is correctly synchronized.
      */
@@ -273,4 +326,40 @@ public class TestAbstractConfigurationSynchronization
         config.copy(config2);
         EasyMock.verify(config2);
     }
+
+    /**
+     * A specialized synchronizer which allows controlling the outcome of
+     * optimistic reads and records the locks obtained.
+     */
+    private static class OptimisticSynchronizerTestImpl extends
+            StampedLockSynchronizer
+    {
+        /** The result of a validation. */
+        private final boolean validationResult;
+
+        /** The number of validations. */
+        private int validations;
+
+        /** The number of read locks obtained. */
+        private int readLocks;
+
+        public OptimisticSynchronizerTestImpl(final boolean valid)
+        {
+            validationResult = valid;
+        }
+
+        @Override
+        public boolean validate(final long stamp)
+        {
+            validations++;
+            return validationResult && super.validate(stamp);
+        }
+
+        @Override
+        public void beginRead()
+        {
+            readLocks++;
+            super.beginRead();
+        }
+    }
 }
@@ -20,15 +20,20 @@ package org.apache.commons.configuration2;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -501,6 +506,229 @@ public class TestBaseConfiguration
         InterpolationTestHelper.testInterpolationLoop(config);
     }
 
+    /**
+     * Tests that interpolation works as expected if the interpolation cache is
+     * enabled.
+     */
+    @Test
+    public void testInterpolationWithCache()
+    {
+        config.getInterpolator().setCacheEnabled(true);
+        InterpolationTestHelper.testInterpolation(config);
+        InterpolationTestHelper.testMultipleInterpolation(config);
+        InterpolationTestHelper.testInterpolationLoop(config);
+    }
+
+    /**
+     * Tests whether a change of a property evicts cached interpolation results
+     * depending on it.
+     */
+    @Test
+    public void testInterpolationCacheInvalidatedOnChange()
+    {
+        config.getInterpolator().setCacheEnabled(true);
+        config.addProperty("base", "/home");
+        config.addProperty("dir", "${base}/data");
+        config.addProperty("other", "${unrelated}");
+        assertEquals("Wrong initial value", "/home/data", config.getString("dir"));
+        assertEquals("Wrong other value", "${unrelated}", config.getString("other"));
+
+        config.setProperty("base", "/opt");
+        assertEquals("Change not detected", "/opt/data", config.getString("dir"));
+        config.addProperty("unrelated", "now defined");
+        assertEquals("Added property not detected", "now defined",
+                config.getString("other"));
+        config.clear();
+        config.addProperty("dir", "${base}/data");
+        assertEquals("Clear not detected", "${base}/data", config.getString("dir"));
+    }
+
+    /**
+     * Tests that a change event only evicts the cached interpolation results
+     * depending on the changed key.
+     */
+    @Test
+    public void testInterpolationCacheEvictsAffectedKeysOnly()
+    {
+        config.getInterpolator().setCacheEnabled(true);
+        config.addProperty("base", "/home");
+        config.addProperty("dir", "${base}/data");
+        assertEquals("Wrong initial value", "/home/data", config.getString("dir"));
+
+        // change the value behind the back of the cache
+        config.clearPropertyDirect("base");
+        config.addPropertyDirect("base", "/opt");
+        config.setProperty("other", "value");
+        assertEquals("Value not cached", "/home/data", config.getString("dir"));
+        final Map<String, Object> props = new HashMap<>();
+        props.put("other", "new value");
+        config.setProperties(props);
+        assertEquals("Value not cached after bulk update", "/home/data",
+                config.getString("dir"));
+
+        config.setProperty("base", "/usr");
+        assertEquals("Change not detected", "/usr/data", config.getString("dir"));
+        config.setProperties(Collections.singletonMap("base", "/var"));
+        assertEquals("Bulk change not detected", "/var/data",
+                config.getString("dir"));
+    }
+
+    /**
+     * Tests that list values are cached if this is enabled.
+     */
+    @Test
+    public void testGetListWithCache()
+    {
+        config.setListDelimiterHandler(new DefaultListDelimiterHandler(','));
+        config.setListCacheEnabled(true);
+        assertTrue("Cache not enabled", config.isListCacheEnabled());
+        config.addProperty("hosts", "a,b,c");
+
+        final List<Object> list = config.getList("hosts");
+        ListAssert.assertEquals("Wrong list", Arrays.asList("a", "b", "c"), list);
+        assertSame("List not cached", list, config.getList("hosts"));
+        final String[] array = config.getStringArray("hosts");
+        assertEquals("Wrong array length", 3, array.length);
+        assertNotSame("Cached array returned", array,
+                config.getStringArray("hosts"));
+        assertEquals("Wrong array element", "b",
+                config.getStringArray("hosts")[1]);
+    }
+
+    /**
+     * Tests that lists returned from the cache cannot be modified.
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void testGetListWithCacheUnmodifiable()
+    {
+        config.setListCacheEnabled(true);
+        config.addProperty("hosts", "a");
+        config.getList("hosts").add("b");
+    }
+
+    /**
+     * Tests that the list cache is cleared when the configuration is changed.
+     */
+    @Test
+    public void testGetListWithCacheInvalidatedOnChange()
+    {
+        config.setListDelimiterHandler(new DefaultListDelimiterHandler(','));
+        config.setListCacheEnabled(true);
+        config.addProperty("hosts", "a,b");
+        final List<Object> list = config.getList("hosts");
+        config.getStringArray("hosts");
+
+        config.addProperty("hosts", "c");
+        ListAssert.assertEquals("Change not detected",
+                Arrays.asList("a", "b", "c"), config.getList("hosts"));
+        assertEquals("Wrong array length", 3,
+                config.getStringArray("hosts").length);
+        assertNotSame("Old list returned", list, config.getList("hosts"));
+        config.clearProperty("hosts");
+        assertTrue("Cleared property not detected",
+                config.getList("hosts").isEmpty());
+    }
+
+    /**
+     * Tests that values with variables are not cached.
+     */
+    @Test
+    public void testGetListWithCacheVariables()
+    {
+        config.setListCacheEnabled(true);
+        config.addProperty("host", "${sys:" + getClass().getName() + ".host}");
+        config.getList("host");
+        System.setProperty(getClass().getName() + ".host", "localhost");
+        try
+        {
+            assertEquals("Variable not resolved", "localhost",
+                    config.getList("host").get(0));
+        }
+        finally
+        {
+            System.clearProperty(getClass().getName() + ".host");
+        }
+    }
+
+    /**
+     * Tests that a clone does not share the list cache.
+     */
+    @Test
+    public void testGetListWithCacheClone()
+    {
+        config.setListCacheEnabled(true);
+        config.addProperty("hosts", "a");
+        config.getList("hosts");
+        final BaseConfiguration copy = (BaseConfiguration) config.clone();
+        assertTrue("Cache not enabled in clone", copy.isListCacheEnabled());
+        copy.setProperty("hosts", "b");
+        assertEquals("Wrong value in clone", "b", copy.getList("hosts").get(0));
+        assertEquals("Wrong value in original", "a",
+                config.getList("hosts").get(0));
+    }
+
+    /**
+     * Tests that converted values are cached if this is enabled.
+     */
+    @Test
+    public void testConversionCache()
+    {
+        config.setConversionCacheEnabled(true);
+        assertTrue("Cache not enabled", config.isConversionCacheEnabled());
+        config.addProperty("number", "100000");
+        config.addProperty("decimal", "3.1415");
+        final Integer value = config.get(Integer.class, "number");
+        assertEquals("Wrong value", 100000, value.intValue());
+        assertSame("Value not cached", value, config.get(Integer.class, "number"));
+        assertEquals("Wrong long value", 100000L, config.getLong("number"));
+        final BigDecimal decimal = config.getBigDecimal("decimal");
+        assertSame("Decimal not cached", decimal,
+                config.getBigDecimal("decimal"));
+    }
+
+    /**
+     * Tests that the conversion cache is cleared when the configuration is
+     * changed.
+     */
+    @Test
+    public void testConversionCacheInvalidatedOnChange()
+    {
+        config.setConversionCacheEnabled(true);
+        config.addProperty("number", "100000");
+        assertEquals("Wrong value", 100000, config.getInt("number"));
+        config.setProperty("number", "200000");
+        assertEquals("Change not detected", 200000, config.getInt("number"));
+        config.clearProperty("number");
+        assertEquals("Default value not returned", 42,
+                config.getInt("number", 42));
+    }
+
+    /**
+     * Tests that mutable conversion results and values with variables are not
+     * cached.
+     */
+    @Test
+    public void testConversionCacheNotCacheable()
+    {
+        config.setConversionCacheEnabled(true);
+        config.addProperty("date", "2020-01-01 10:00:00");
+        config.addProperty("var", "${sys:" + getClass().getName() + ".num}");
+        assertNotSame("Mutable value cached", config.get(Date.class, "date"),
+                config.get(Date.class, "date"));
+
+        System.setProperty(getClass().getName() + ".num", "1");
+        try
+        {
+            assertEquals("Wrong value", 1, config.getInt("var"));
+            System.setProperty(getClass().getName() + ".num", "2");
+            assertEquals("Variable value was cached", 2, config.getInt("var"));
+        }
+        finally
+        {
+            System.clearProperty(getClass().getName() + ".num");
+        }
+    }
+
     /**
      * Tests interpolation when a subset configuration is involved.
      */
@@ -785,4 +1013,88 @@ public class TestBaseConfiguration
         }
         assertEquals("Wrong size", count, config.size());
     }
+
+    /**
+     * Tests whether multiple properties can be set in a single operation.
+     */
+    @Test
+    public void testSetProperties()
+    {
+        config.setListDelimiterHandler(new DefaultListDelimiterHandler(','));
+        config.addProperty("existing", "old");
+        final Map<String, Object> props = new LinkedHashMap<>();
+        props.put("existing", "new");
+        props.put("list", "a,b");
+        props.put("other", 42);
+
+        config.setProperties(props);
+        assertEquals("Wrong existing value", "new", config.getString("existing"));
+        assertEquals("Wrong list", Arrays.asList("a", "b"),
+                config.getList("list"));
+        assertEquals("Wrong other value", 42, config.getInt("other"));
+    }
+
+    /**
+     * Tests whether multiple properties can be added in a single operation.
+     */
+    @Test
+    public void testAddProperties()
+    {
+        config.addProperty("existing", "v1");
+        final Map<String, Object> props = new LinkedHashMap<>();
+        props.put("existing", "v2");
+        props.put("new", "v3");
+
+        config.addProperties(props);
+        assertEquals("Wrong existing values", Arrays.asList("v1", "v2"),
+                config.getList("existing"));
+        assertEquals("Wrong new value", "v3", config.getString("new"));
+    }
+
+    /**
+     * Tests that a bulk update generates a single pair of events.
+     */
+    @Test
+    public void testSetPropertiesEvents()
+    {
+        final EventListenerTestImpl l = new EventListenerTestImpl(config);
+        config.addEventListener(ConfigurationEvent.ANY, l);
+        final Map<String, Object> props = new LinkedHashMap<>();
+        props.put("key1", "value1");
+        props.put("key2", "value2");
+
+        config.setProperties(props);
+        l.checkEvent(ConfigurationEvent.SET_PROPERTIES, null, props, true);
+        l.checkEvent(ConfigurationEvent.SET_PROPERTIES, null, props, false);
+        l.done();
+    }
+
+    /**
+     * Tests that the map passed to event listeners is not affected by later
+     * changes of the original map.
+     */
+    @Test
+    public void testAddPropertiesEventMapCopy()
+    {
+        final List<Object> values = new ArrayList<>();
+        config.addEventListener(ConfigurationEvent.ADD_PROPERTIES,
+                e -> values.add(e.getPropertyValue()));
+        final Map<String, Object> props = new HashMap<>();
+        props.put("key", "value");
+
+        config.addProperties(props);
+        props.put("other", "otherValue");
+        assertEquals("Wrong number of events", 2, values.size());
+        assertEquals("Wrong event value",
+                Collections.singletonMap("key", "value"), values.get(1));
+    }
+
+    /**
+     * Tries to set properties from a null map.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetPropertiesNull()
+    {
+        config.setProperties(null);
+    }
 }
@@ -35,6 +35,7 @@ import org.apache.commons.configuration2.builder.FileBasedConfigurationBuilder;
 import org.apache.commons.configuration2.builder.fluent.Parameters;
 import org.apache.commons.configuration2.ex.ConfigurationException;
 import org.apache.commons.configuration2.io.FileHandler;
+import org.apache.commons.configuration2.sync.ReadWriteSynchronizer;
 import org.apache.commons.configuration2.tree.ImmutableNode;
 import org.apache.commons.configuration2.tree.InMemoryNodeModel;
 import org.apache.commons.configuration2.tree.NodeStructureHelper;
@@ -259,6 +260,101 @@ public class TestBaseHierarchicalConfigurationSynchronization
         assertSame("Wrong Synchronizer", sync, subset.getSynchronizer());
     }
 
+    /**
+     * Tests that queries in snapshot reads mode do not use the Synchronizer.
+     */
+    @Test
+    public void testSnapshotReadsNotSynchronized()
+    {
+        config.setSnapshotReads(true);
+        assertTrue("Key not found", config.containsKey("element2.subelement.subsubelement"));
+        assertEquals("Wrong property", "I'm complex!",
+                config.getString("element2.subelement.subsubelement"));
+        assertTrue("No keys", config.getKeys().hasNext());
+        assertTrue("No keys for prefix", config.getKeys("list").hasNext());
+        final List<HierarchicalConfiguration<ImmutableNode>> subs =
+                config.configurationsAt("list.item");
+        assertFalse("No subnode configurations", subs.isEmpty());
+        assertEquals("Wrong sub property", "I'm complex!",
+                config.configurationAt("element2").getString("subelement.subsubelement"));
+        sync.verify();
+    }
+
+    /**
+     * Tests that updates are still synchronized in snapshot reads mode.
+     */
+    @Test
+    public void testSnapshotReadsUpdatesSynchronized()
+    {
+        config.setSnapshotReads(true);
+        config.setProperty("element2.subelement.subsubelement", "new value");
+        sync.verify(Methods.BEGIN_WRITE, Methods.END_WRITE);
+        assertEquals("Wrong property", "new value",
+                config.getString("element2.subelement.subsubelement"));
+    }
+
+    /**
+     * Tests that sub configurations inherit the snapshot reads flag.
+     */
+    @Test
+    public void testSnapshotReadsInheritedBySubConfigurations()
+    {
+        config.setSnapshotReads(true);
+        final BaseHierarchicalConfiguration sub =
+                (BaseHierarchicalConfiguration) config.configurationAt("element2", true);
+        assertTrue("Flag not inherited", sub.isSnapshotReads());
+        sync.clear();
+        assertEquals("Wrong property", "I'm complex!",
+                sub.getString("subelement.subsubelement"));
+        sync.verify();
+    }
+
+    /**
+     * Tests concurrent reads in snapshot mode while another thread updates the
+     * configuration. Readers must always see a consistent state.
+     */
+    @Test
+    public void testSnapshotReadsWithConcurrentUpdates()
+            throws InterruptedException
+    {
+        final BaseHierarchicalConfiguration conf = new BaseHierarchicalConfiguration();
+        conf.setSynchronizer(new ReadWriteSynchronizer());
+        conf.setSnapshotReads(true);
+        conf.addProperty("data.a", 0);
+        conf.addProperty("data.b", 0);
+        final int updateCount = 2000;
+        final Thread updater = new Thread(() -> {
+            for (int i = 1; i <= updateCount; i++)
+            {
+                final ImmutableNode data = new ImmutableNode.Builder()
+                        .name("data")
+                        .addChild(NodeStructureHelper.createNode("a", i))
+                        .addChild(NodeStructureHelper.createNode("b", i))
+                        .create();
+                conf.clearTree("data");
+                conf.addNodes(null, Collections.singleton(data));
+            }
+        });
+        updater.start();
+
+        int errors = 0;
+        while (updater.isAlive())
+        {
+            final List<HierarchicalConfiguration<ImmutableNode>> subs =
+                    conf.configurationsAt("data");
+            for (final HierarchicalConfiguration<ImmutableNode> sub : subs)
+            {
+                if (sub.getInt("a") != sub.getInt("b"))
+                {
+                    errors++;
+                }
+            }
+        }
+        updater.join();
+        assertEquals("Got inconsistent reads", 0, errors);
+        assertEquals("Wrong final value", updateCount, conf.getInt("data.a"));
+    }
+
     /**
      * Tests that access to an initialized configuration's sub configurations is
      * possible without a special synchronizer.
@@ -34,10 +34,12 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.configuration2.SynchronizerTestImpl.Methods;
 import org.apache.commons.configuration2.convert.DefaultListDelimiterHandler;
+import org.apache.commons.configuration2.event.ConfigurationBatchEvent;
 import org.apache.commons.configuration2.event.ConfigurationEvent;
 import org.apache.commons.configuration2.event.EventListener;
 import org.apache.commons.configuration2.ex.ConfigurationException;
@@ -45,10 +47,12 @@ import org.apache.commons.configuration2.ex.ConfigurationRuntimeException;
 import org.apache.commons.configuration2.io.FileHandler;
 import org.apache.commons.configuration2.sync.LockMode;
 import org.apache.commons.configuration2.sync.ReadWriteSynchronizer;
+import org.apache.commons.configuration2.sync.StampedLockSynchronizer;
 import org.apache.commons.configuration2.sync.Synchronizer;
 import org.apache.commons.configuration2.tree.DefaultExpressionEngine;
 import org.apache.commons.configuration2.tree.DefaultExpressionEngineSymbols;
 import org.apache.commons.configuration2.tree.ImmutableNode;
+import org.apache.commons.configuration2.tree.InMemoryNodeModel;
 import org.apache.commons.configuration2.tree.NodeCombiner;
 import org.apache.commons.configuration2.tree.NodeModel;
 import org.apache.commons.configuration2.tree.OverrideCombiner;
@@ -358,6 +362,212 @@ public class TestCombinedConfiguration
         listener.checkEvent(2, 0);
     }
 
+    /**
+     * Tests that an update of a contained configuration is immediately visible
+     * in the combined configuration if the child uses asynchronous event
+     * delivery with coalescing. The invalidation of the combined configuration
+     * must not be deferred.
+     */
+    @Test
+    public void testUpdateContainedConfigurationAsyncEvents()
+    {
+        final List<Runnable> tasks = new ArrayList<>();
+        final BaseHierarchicalConfiguration child =
+                new BaseHierarchicalConfiguration();
+        child.addProperty("k", "old");
+        config.addConfiguration(child);
+        assertEquals("Wrong initial value", "old", config.getString("k"));
+        final List<Object> batches = new ArrayList<>();
+        child.addAsyncEventListener(ConfigurationBatchEvent.ANY, batches::add);
+        child.setEventDeliveryExecutor(tasks::add);
+        child.setCoalesceEvents(true);
+
+        child.setProperty("k", "new");
+        assertEquals("Change not visible", "new", config.getString("k"));
+        assertTrue("Batch event delivered too early", batches.isEmpty());
+        tasks.forEach(Runnable::run);
+        assertEquals("Wrong number of batch events", 1, batches.size());
+    }
+
+    /**
+     * Tests the default value of the incremental rebuild flag.
+     */
+    @Test
+    public void testIncrementalRebuildDefault()
+    {
+        assertFalse("Incremental rebuild enabled",
+                config.isIncrementalRebuild());
+    }
+
+    /**
+     * Tests that in incremental rebuild mode only changed child
+     * configurations are transformed again.
+     */
+    @Test
+    public void testIncrementalRebuildReusesUnchangedChildren()
+    {
+        final AtomicInteger modelAccess = new AtomicInteger();
+        final BaseHierarchicalConfiguration c1 = new BaseHierarchicalConfiguration()
+        {
+            @Override
+            public InMemoryNodeModel getNodeModel()
+            {
+                modelAccess.incrementAndGet();
+                return super.getNodeModel();
+            }
+        };
+        c1.addProperty("first.key", "v1");
+        final BaseHierarchicalConfiguration c2 = new BaseHierarchicalConfiguration();
+        c2.addProperty("second.key", "v2");
+        config.setIncrementalRebuild(true);
+        config.addConfiguration(c1);
+        config.addConfiguration(c2);
+        assertEquals("Wrong value 1", "v1", config.getString("first.key"));
+        final int accessCount = modelAccess.get();
+
+        c2.setProperty("second.key", "v2a");
+        assertEquals("Wrong value 2", "v2a", config.getString("second.key"));
+        assertEquals("Wrong value 1 after update", "v1",
+                config.getString("first.key"));
+        assertEquals("Unchanged child accessed", accessCount,
+                modelAccess.get());
+
+        c1.setProperty("first.key", "v1a");
+        assertEquals("Wrong value 1 after child update", "v1a",
+                config.getString("first.key"));
+        assertEquals("Wrong value 2 after child update", "v2a",
+                config.getString("second.key"));
+    }
+
+    /**
+     * Tests that the incremental rebuild mode produces the same results as a
+     * full rebuild if the order of children is relevant.
+     */
+    @Test
+    public void testIncrementalRebuildOverrideCombiner()
+    {
+        final BaseHierarchicalConfiguration c1 = new BaseHierarchicalConfiguration();
+        final BaseHierarchicalConfiguration c2 = new BaseHierarchicalConfiguration();
+        final BaseHierarchicalConfiguration c3 = new BaseHierarchicalConfiguration();
+        c1.addProperty("key", "c1");
+        c2.addProperty("key", "c2");
+        c3.addProperty("other", "c3");
+        config.setNodeCombiner(new OverrideCombiner());
+        config.setIncrementalRebuild(true);
+        config.addConfiguration(c1);
+        config.addConfiguration(c2);
+        assertEquals("Wrong initial value", "c1", config.getString("key"));
+
+        config.addConfiguration(c3);
+        assertEquals("Wrong value after add", "c3", config.getString("other"));
+        c3.addProperty("key", "c3");
+        c2.clearProperty("key");
+        assertEquals("Wrong value after updates", "c1", config.getString("key"));
+        config.removeConfiguration(c1);
+        assertEquals("Wrong value after remove", "c3", config.getString("key"));
+        c1.setProperty("key", "changed");
+        assertEquals("Removed child still used", "c3", config.getString("key"));
+    }
+
+    /**
+     * Prepares a test for background rebuilds. Sets a rebuild executor which
+     * collects the tasks passed to it and adds a child configuration.
+     *
+     * @param tasks the list for storing rebuild tasks
+     * @return the child configuration
+     */
+    private BaseHierarchicalConfiguration setUpBackgroundRebuildTest(
+            final List<Runnable> tasks)
+    {
+        config.setSynchronizer(new ReadWriteSynchronizer());
+        config.setRebuildExecutor(tasks::add);
+        final BaseHierarchicalConfiguration child = new BaseHierarchicalConfiguration();
+        child.addProperty(TEST_KEY, "old");
+        config.addConfiguration(child);
+        return child;
+    }
+
+    /**
+     * Tests that a changed child configuration is combined in background if
+     * an executor is set.
+     */
+    @Test
+    public void testBackgroundRebuild()
+    {
+        final List<Runnable> tasks = new ArrayList<>();
+        final BaseHierarchicalConfiguration child =
+                setUpBackgroundRebuildTest(tasks);
+        assertEquals("Wrong initial value", "old", config.getString(TEST_KEY));
+        assertTrue("Got tasks for initial build", tasks.isEmpty());
+
+        child.setProperty(TEST_KEY, "new");
+        assertEquals("Old value not served", "old", config.getString(TEST_KEY));
+        assertEquals("Old value not served again", "old",
+                config.getString(TEST_KEY));
+        assertEquals("Wrong number of tasks", 1, tasks.size());
+
+        tasks.get(0).run();
+        assertEquals("New value not visible", "new", config.getString(TEST_KEY));
+        assertEquals("Another task scheduled", 1, tasks.size());
+    }
+
+    /**
+     * Tests that a background rebuild takes changes into account which
+     * happened after it was scheduled.
+     */
+    @Test
+    public void testBackgroundRebuildUsesCurrentState()
+    {
+        final List<Runnable> tasks = new ArrayList<>();
+        final BaseHierarchicalConfiguration child =
+                setUpBackgroundRebuildTest(tasks);
+        config.getString(TEST_KEY);
+        child.setProperty(TEST_KEY, "new");
+        config.getString(TEST_KEY);
+        child.setProperty(TEST_KEY, "newer");
+        assertEquals("Old value not served", "old", config.getString(TEST_KEY));
+        assertEquals("Wrong number of tasks", 1, tasks.size());
+        tasks.get(0).run();
+        assertEquals("Wrong value", "newer", config.getString(TEST_KEY));
+    }
+
+    /**
+     * Tests that structural changes are applied synchronously even if
+     * background rebuilds are enabled.
+     */
+    @Test
+    public void testBackgroundRebuildStructuralChange()
+    {
+        final List<Runnable> tasks = new ArrayList<>();
+        setUpBackgroundRebuildTest(tasks);
+        config.getString(TEST_KEY);
+        final BaseHierarchicalConfiguration child2 = new BaseHierarchicalConfiguration();
+        child2.addProperty("other.key", "value");
+        config.addConfiguration(child2);
+        assertEquals("Added configuration not visible", "value",
+                config.getString("other.key"));
+        assertTrue("Got rebuild tasks", tasks.isEmpty());
+    }
+
+    /**
+     * Tests that a rebuild is done synchronously if the executor rejects the
+     * rebuild task.
+     */
+    @Test
+    public void testBackgroundRebuildRejected()
+    {
+        final BaseHierarchicalConfiguration child = new BaseHierarchicalConfiguration();
+        child.addProperty(TEST_KEY, "old");
+        config.setSynchronizer(new ReadWriteSynchronizer());
+        config.setRebuildExecutor(r -> {
+            throw new RejectedExecutionException();
+        });
+        config.addConfiguration(child);
+        config.getString(TEST_KEY);
+        child.setProperty(TEST_KEY, "new");
+        assertEquals("New value not visible", "new", config.getString(TEST_KEY));
+    }
+
     /**
      * Tests if setting a node combiner causes an invalidation.
      */
@@ -983,6 +1193,31 @@ public class TestCombinedConfiguration
     @Test
     public void testConcurrentAccess() throws ConfigurationException,
             InterruptedException
+    {
+        checkConcurrentAccess(new ReadWriteSynchronizer());
+    }
+
+    /**
+     * Tests concurrent read and write access on a combined configuration with
+     * a synchronizer supporting optimistic reads.
+     */
+    @Test
+    public void testConcurrentAccessOptimisticReads()
+            throws ConfigurationException, InterruptedException
+    {
+        checkConcurrentAccess(new StampedLockSynchronizer());
+    }
+
+    /**
+     * Helper method for testing concurrent access with multiple reader
+     * threads and a single writer thread using the given synchronizer.
+     *
+     * @param sync the synchronizer for all involved configurations
+     * @throws ConfigurationException if an error occurs
+     * @throws InterruptedException if waiting for threads is interrupted
+     */
+    private void checkConcurrentAccess(final Synchronizer sync)
+            throws ConfigurationException, InterruptedException
     {
         // populate the test combined configuration
         setUpSourceTest();
@@ -1000,7 +1235,6 @@ public class TestCombinedConfiguration
         config.getConfiguration(0).addProperty(KEY_CONCURRENT, TEST_NAME);
 
         // Set a single synchronizer for all involved configurations
-        final Synchronizer sync = new ReadWriteSynchronizer();
         config.setSynchronizer(sync);
         for (final Configuration c : config.getConfigurations())
         {
@@ -1307,4 +1541,23 @@ public class TestCombinedConfiguration
             currentChildConfigIdx = newIdx;
         }
     }
+
+    /**
+     * Tests that interpolation results are not outdated if a child
+     * configuration is changed directly.
+     */
+    @Test
+    public void testInterpolationCacheChildChanged()
+    {
+        final BaseHierarchicalConfiguration child =
+                new BaseHierarchicalConfiguration();
+        child.addProperty("x", "1");
+        child.addProperty("y", "${x}");
+        config.addConfiguration(child);
+        config.getInterpolator().setCacheEnabled(true);
+        assertEquals("Wrong initial value", "1", config.getString("y"));
+
+        child.setProperty("x", "2");
+        assertEquals("Outdated value", "2", config.getString("y"));
+    }
 }
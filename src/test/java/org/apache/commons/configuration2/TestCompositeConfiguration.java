@@ -387,6 +387,115 @@ public class TestCompositeConfiguration
         assertTrue("'value5' not found in the list", list.contains("value5"));
     }
 
+    /**
+     * Tests the default value of the source cache flag.
+     */
+    @Test
+    public void testSourceCacheDisabledByDefault()
+    {
+        assertFalse("Source cache enabled", cc.isSourceCacheEnabled());
+    }
+
+    /**
+     * Tests that queries are delegated to the cached source configuration.
+     */
+    @Test
+    public void testSourceCacheQueries()
+    {
+        final BaseConfiguration c1 = new BaseConfiguration();
+        final BaseConfiguration c2 = new BaseConfiguration();
+        c2.addProperty("key", "c2");
+        c2.addProperty("array", "v1");
+        c2.addProperty("array", "v2");
+        cc.setSourceCacheEnabled(true);
+        cc.addConfiguration(c1);
+        cc.addConfiguration(c2);
+
+        assertEquals("Wrong value", "c2", cc.getString("key"));
+        assertEquals("Wrong cached value", "c2", cc.getString("key"));
+        assertTrue("Key not found", cc.containsKey("key"));
+        assertFalse("Unknown key found", cc.containsKey("unknown"));
+        assertEquals("Wrong list", 2, cc.getList("array").size());
+
+        c1.addProperty("key", "c1");
+        assertEquals("Change of child not detected", "c1", cc.getString("key"));
+        c1.addProperty("unknown", "now known");
+        assertTrue("Added key not found", cc.containsKey("unknown"));
+    }
+
+    /**
+     * Tests that the source cache is reset when the children are changed.
+     */
+    @Test
+    public void testSourceCacheChildrenChanged()
+    {
+        final BaseConfiguration c1 = new BaseConfiguration();
+        final BaseConfiguration c2 = new BaseConfiguration();
+        c1.addProperty("key", "c1");
+        c2.addProperty("key", "c2");
+        cc.setSourceCacheEnabled(true);
+        cc.addConfiguration(c2);
+        assertEquals("Wrong value", "c2", cc.getString("key"));
+        cc.addConfigurationFirst(c1);
+        assertEquals("New child not detected", "c1", cc.getString("key"));
+        cc.removeConfiguration(c1);
+        assertEquals("Removed child not detected", "c2", cc.getString("key"));
+        c1.setProperty("key", "changed");
+        assertEquals("Still listening at removed child", 0,
+                c1.getEventListeners(ConfigurationEvent.ANY).size());
+    }
+
+    /**
+     * Tests that the in-memory configuration is handled by the source cache.
+     */
+    @Test
+    public void testSourceCacheInMemoryConfiguration()
+    {
+        cc.setSourceCacheEnabled(true);
+        cc.addConfiguration(conf1);
+        assertFalse("Key found", cc.containsKey("new.key"));
+        cc.addProperty("new.key", "value");
+        assertEquals("Wrong value", "value", cc.getString("new.key"));
+        assertEquals("Wrong list", 1, cc.getList("new.key").size());
+    }
+
+    /**
+     * Tests that the source cache is not used if a child configuration does
+     * not support events.
+     */
+    @Test
+    public void testSourceCacheNoEventSource()
+    {
+        final Configuration child = EasyMock.createMock(Configuration.class);
+        EasyMock.expect(child.containsKey("key")).andReturn(Boolean.FALSE);
+        EasyMock.expect(child.containsKey("key")).andReturn(Boolean.TRUE);
+        EasyMock.expect(child.getProperty("key")).andReturn("value");
+        EasyMock.replay(child);
+        cc.setSourceCacheEnabled(true);
+        cc.addConfiguration(child);
+        assertFalse("Key found", cc.containsKey("key"));
+        assertEquals("Wrong value", "value", cc.getProperty("key"));
+        EasyMock.verify(child);
+    }
+
+    /**
+     * Tests that disabling the source cache removes the event listeners.
+     */
+    @Test
+    public void testSourceCacheDisable()
+    {
+        final BaseConfiguration child = new BaseConfiguration();
+        final int listenerCount =
+                child.getEventListeners(ConfigurationEvent.ANY).size();
+        cc.addConfiguration(child);
+        cc.setSourceCacheEnabled(true);
+        assertEquals("Listener not registered", listenerCount + 1,
+                child.getEventListeners(ConfigurationEvent.ANY).size());
+        cc.setSourceCacheEnabled(false);
+        assertEquals("Listener not removed", listenerCount,
+                child.getEventListeners(ConfigurationEvent.ANY).size());
+    }
+
     /**
      * Tests {@code getKeys} preserves the order
      */
@@ -954,4 +1063,22 @@ public class TestCompositeConfiguration
                 cc.getNumberOfConfigurations());
         sync.verify(Methods.BEGIN_READ, Methods.END_READ);
     }
+
+    /**
+     * Tests that interpolation results are not outdated if a child
+     * configuration is changed directly.
+     */
+    @Test
+    public void testInterpolationCacheChildChanged()
+    {
+        final BaseConfiguration child = new BaseConfiguration();
+        child.addProperty("x", "1");
+        child.addProperty("y", "${x}");
+        cc.addConfiguration(child);
+        cc.getInterpolator().setCacheEnabled(true);
+        assertEquals("Wrong initial value", "1", cc.getString("y"));
+
+        child.setProperty("x", "2");
+        assertEquals("Outdated value", "2", cc.getString("y"));
+    }
 }
@@ -17,14 +17,21 @@
 package org.apache.commons.configuration2;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.configuration2.convert.DefaultListDelimiterHandler;
+import org.apache.commons.configuration2.event.ConfigurationEvent;
+import org.apache.commons.configuration2.event.EventListenerTestImpl;
 import org.apache.commons.configuration2.ex.ConfigurationRuntimeException;
 import org.apache.commons.configuration2.tree.DefaultConfigurationKey;
 import org.apache.commons.configuration2.tree.DefaultExpressionEngine;
@@ -65,6 +72,44 @@ public class TestHierarchicalConfiguration
         return new DefaultConfigurationKey(DefaultExpressionEngine.INSTANCE);
     }
 
+    /**
+     * Tests property access if the key index of the node model is enabled.
+     */
+    @Test
+    public void testGetPropertyWithKeyIndex()
+    {
+        config.getNodeModel().setKeyIndexEnabled(true);
+        assertEquals("Wrong table name", NodeStructureHelper.table(1),
+                config.getProperty("tables.table(1).name"));
+        final List<Object> names = config.getList("tables.table.name");
+        assertEquals("Wrong number of names", NodeStructureHelper.tablesLength(),
+                names.size());
+        assertEquals("Wrong name", NodeStructureHelper.table(0), names.get(0));
+        assertTrue("Key not found", config.containsKey("tables.table.name"));
+        assertNull("Got value for node without value",
+                config.getProperty("tables.table.fields"));
+        assertNull("Got value for unknown key", config.getProperty("unknown"));
+    }
+
+    /**
+     * Tests that updates are visible if the key index is enabled.
+     */
+    @Test
+    public void testUpdatePropertyWithKeyIndex()
+    {
+        config.getNodeModel().setKeyIndexEnabled(true);
+        assertEquals("Wrong initial value", NodeStructureHelper.table(0),
+                config.getString("tables.table.name"));
+        config.setProperty("tables.table(0).name", NEW_NAME);
+        assertEquals("Wrong updated value", NEW_NAME,
+                config.getString("tables.table.name"));
+        config.addProperty("tables.newKey", NEW_NAME);
+        assertEquals("Added property not found", NEW_NAME,
+                config.getString("tables.newKey"));
+        config.clearProperty("tables.newKey");
+        assertFalse("Property not removed", config.containsKey("tables.newKey"));
+    }
+
     @Test
     public void testSubset()
     {
@@ -660,4 +705,145 @@ public class TestHierarchicalConfiguration
             }
         }
     }
+
+    /**
+     * Sets the given properties once in a single bulk operation and once
+     * property by property and checks whether the results are equal.
+     *
+     * @param props the properties to be set
+     * @return the configuration updated by the bulk operation
+     */
+    private BaseHierarchicalConfiguration checkSetPropertiesEqualsSequential(
+            final Map<String, Object> props)
+    {
+        final BaseHierarchicalConfiguration sequential =
+                new BaseHierarchicalConfiguration(config);
+        props.forEach(sequential::setProperty);
+
+        config.setProperties(props);
+        checkSameContent(sequential, config);
+        return config;
+    }
+
+    /**
+     * Checks whether the given configurations contain the same keys and
+     * values.
+     *
+     * @param expected the expected configuration
+     * @param actual the actual configuration
+     */
+    private static void checkSameContent(final Configuration expected,
+            final Configuration actual)
+    {
+        final List<String> expectedKeys = new ArrayList<>();
+        expected.getKeys().forEachRemaining(expectedKeys::add);
+        final List<String> actualKeys = new ArrayList<>();
+        actual.getKeys().forEachRemaining(actualKeys::add);
+        assertEquals("Different keys", expectedKeys, actualKeys);
+        for (final String key : expectedKeys)
+        {
+            assertEquals("Different value for " + key,
+                    expected.getList(key), actual.getList(key));
+        }
+    }
+
+    /**
+     * Tests whether existing properties can be changed by a bulk operation.
+     */
+    @Test
+    public void testSetPropertiesExistingKeys()
+    {
+        final Map<String, Object> props = new LinkedHashMap<>();
+        props.put("tables.table(0).name", "newTable");
+        props.put("tables.table(1).name", "otherTable");
+        props.put("tables.table(0).fields.field(1).name", "newField");
+        props.put("tables.table(1)[@type]", "newType");
+
+        checkSetPropertiesEqualsSequential(props);
+        assertEquals("Wrong value", "newTable",
+                config.getString("tables.table(0).name"));
+        assertEquals("Wrong attribute", "newType",
+                config.getString("tables.table(1)[@type]"));
+    }
+
+    /**
+     * Tests a bulk operation which creates new nodes on shared paths.
+     */
+    @Test
+    public void testSetPropertiesNewPaths()
+    {
+        final Map<String, Object> props = new LinkedHashMap<>();
+        props.put("db.host", "localhost");
+        props.put("db.port", 5432);
+        props.put("db.user[@name]", "scott");
+        props.put("db.user[@password]", "tiger");
+        props.put("tables.table(2).name", "newTable");
+        props.put("tables.table(2).fields.field.name", "id");
+        props.put("simple", "value");
+
+        checkSetPropertiesEqualsSequential(props);
+        assertEquals("Wrong number of db nodes", 0, config.getMaxIndex("db"));
+        assertEquals("Wrong port", 5432, config.getInt("db.port"));
+        assertEquals("Wrong password", "tiger",
+                config.getString("db.user[@password]"));
+    }
+
+    /**
+     * Tests a bulk operation which sets list values.
+     */
+    @Test
+    public void testSetPropertiesListValues()
+    {
+        config.addProperty("list", "a");
+        final Map<String, Object> props = new LinkedHashMap<>();
+        props.put("list", Arrays.asList("x", "y", "z"));
+        props.put("tables.table.name", Arrays.asList("t1"));
+
+        checkSetPropertiesEqualsSequential(props);
+        assertEquals("Wrong list", Arrays.asList("x", "y", "z"),
+                config.getList("list"));
+    }
+
+    /**
+     * Tests whether multiple properties can be added in a bulk operation.
+     */
+    @Test
+    public void testAddProperties()
+    {
+        config.setListDelimiterHandler(new DefaultListDelimiterHandler(','));
+        final BaseHierarchicalConfiguration sequential =
+                new BaseHierarchicalConfiguration(config);
+        sequential.setListDelimiterHandler(config.getListDelimiterHandler());
+        final Map<String, Object> props = new LinkedHashMap<>();
+        props.put("tables.table(0).fields.field(-1).name", "newField");
+        props.put("colors.color", "red,green");
+        props.put("colors.pattern", "stripes");
+        props.put("colors.pattern[@type]", "simple");
+        props.put("tables.table(1)[@type]", "special");
+        props.forEach(sequential::addProperty);
+
+        config.addProperties(props);
+        checkSameContent(sequential, config);
+        assertEquals("Wrong colors", Arrays.asList("red", "green"),
+                config.getList("colors.color"));
+    }
+
+    /**
+     * Tests that a bulk operation on a hierarchical configuration generates
+     * only a single pair of events.
+     */
+    @Test
+    public void testAddPropertiesEvents()
+    {
+        final EventListenerTestImpl l = new EventListenerTestImpl(config);
+        config.addEventListener(ConfigurationEvent.ANY, l);
+        final Map<String, Object> props = new LinkedHashMap<>();
+        props.put("a.b", "1");
+        props.put("a.c", "2");
+
+        config.addProperties(props);
+        l.checkEvent(ConfigurationEvent.ADD_PROPERTIES, null, props, true);
+        l.checkEvent(ConfigurationEvent.ADD_PROPERTIES, null, props, false);
+        l.done();
+    }
 }
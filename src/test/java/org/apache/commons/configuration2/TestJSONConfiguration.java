@@ -25,12 +25,15 @@ import org.junit.Test;
 
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.StringReader;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -150,4 +153,94 @@ public class TestJSONConfiguration
         jsonConfiguration = new JSONConfiguration(c);
         assertEquals("bar", jsonConfiguration.getString("foo"));
     }
+
+    /**
+     * Tests that scalar values are read with the same types as produced by an
+     * object mapper.
+     */
+    @Test
+    public void testRead_valueTypes() throws ConfigurationException
+    {
+        jsonConfiguration = new JSONConfiguration();
+        jsonConfiguration.read(new StringReader(
+                "{\"d\": 1.5, \"t\": true, \"n\": null, \"long\": 12345678901}"));
+        assertEquals(Double.valueOf(1.5), jsonConfiguration.getProperty("d"));
+        assertEquals(Boolean.TRUE, jsonConfiguration.getProperty("t"));
+        assertNull(jsonConfiguration.getProperty("n"));
+        assertEquals(Long.valueOf(12345678901L), jsonConfiguration.getProperty("long"));
+    }
+
+    /**
+     * Tests that nested arrays are flattened.
+     */
+    @Test
+    public void testRead_nestedArrays() throws ConfigurationException
+    {
+        jsonConfiguration = new JSONConfiguration();
+        jsonConfiguration.read(new StringReader("{\"l\": [[1, 2], 3, []]}"));
+        assertEquals(Arrays.asList(1, 2, 3), jsonConfiguration.getProperty("l"));
+    }
+
+    /**
+     * Tests that the last occurrence of a duplicate key is used, but at the
+     * position of the first one.
+     */
+    @Test
+    public void testRead_duplicateKeys() throws ConfigurationException
+    {
+        jsonConfiguration = new JSONConfiguration();
+        jsonConfiguration.read(new StringReader(
+                "{\"a\": 1, \"b\": 2, \"a\": [3, 4]}"));
+        assertEquals(Arrays.asList(3, 4), jsonConfiguration.getProperty("a"));
+        final List<String> keys = new ArrayList<>();
+        jsonConfiguration.getKeys().forEachRemaining(keys::add);
+        assertEquals(Arrays.asList("a", "b"), keys);
+    }
+
+    /**
+     * Tests a duplicate key whose first occurrence did not produce any nodes.
+     */
+    @Test
+    public void testRead_duplicateKeysEmptyFirstOccurrence()
+            throws ConfigurationException
+    {
+        jsonConfiguration = new JSONConfiguration();
+        jsonConfiguration.read(new StringReader(
+                "{\"a\": [], \"b\": 2, \"a\": 1}"));
+        assertEquals(1, jsonConfiguration.getProperty("a"));
+        assertEquals(2, jsonConfiguration.getProperty("b"));
+    }
+
+    /**
+     * Tests that a document which is not an object is rejected.
+     */
+    @Test(expected = ConfigurationException.class)
+    public void testRead_noObject() throws ConfigurationException
+    {
+        new JSONConfiguration().read(new StringReader("[1, 2]"));
+    }
+
+    /**
+     * Tests that writing and reading a configuration preserves the order of
+     * its keys.
+     */
+    @Test
+    public void testSave_roundTrip() throws IOException, ConfigurationException
+    {
+        final StringWriter sw = new StringWriter();
+        jsonConfiguration.write(sw);
+        final JSONConfiguration copy = new JSONConfiguration();
+        copy.read(new StringReader(sw.toString()));
+
+        final List<String> keys = new ArrayList<>();
+        jsonConfiguration.getKeys().forEachRemaining(keys::add);
+        final List<String> copyKeys = new ArrayList<>();
+        copy.getKeys().forEachRemaining(copyKeys::add);
+        assertEquals(keys, copyKeys);
+        for (final String key : keys)
+        {
+            assertEquals(key, jsonConfiguration.getProperty(key), copy.getProperty(key));
+        }
+        assertEquals("London", copy.getString("capitals(1).capital"));
+    }
 }
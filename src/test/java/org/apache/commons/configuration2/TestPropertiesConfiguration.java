@@ -46,6 +46,7 @@ import java.net.HttpURLConnection;
 import java.net.URL;
 import java.net.URLConnection;
 import java.net.URLStreamHandler;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
@@ -747,6 +748,170 @@ public class TestPropertiesConfiguration
         assertFalse("Wrong comment", PropertiesConfiguration.isCommentLine("   a#comment"));
     }
 
+    /**
+     * Loads the given file both in the default way and from a memory-mapped
+     * buffer and checks whether the results are the same. The configuration
+     * using memory-mapped loading is associated with a file system which does
+     * not support streams, so it is ensured that the file is actually mapped.
+     *
+     * @param fileName the name of the file to be loaded
+     * @param encoding the encoding of the file
+     * @throws ConfigurationException if an error occurs
+     */
+    private static void checkMappedFileLoading(final String fileName, final String encoding)
+            throws ConfigurationException
+    {
+        final PropertiesConfiguration expected = new PropertiesConfiguration();
+        final FileHandler expectedHandler = new FileHandler(expected);
+        expectedHandler.setEncoding(encoding);
+        expectedHandler.setFileName(fileName);
+        expectedHandler.load();
+
+        final PropertiesConfiguration mapped = new PropertiesConfiguration();
+        mapped.setMappedFileLoading(true);
+        final FileHandler mappedHandler = new FileHandler(mapped);
+        mappedHandler.setFileSystem(new DefaultFileSystem()
+        {
+            @Override
+            public InputStream getInputStream(final URL url) throws ConfigurationException
+            {
+                throw new ConfigurationException("Unexpected stream access: " + url);
+            }
+        });
+        mappedHandler.setEncoding(encoding);
+        mappedHandler.setFileName(fileName);
+        mappedHandler.load();
+
+        final List<String> keys = new ArrayList<>();
+        expected.getKeys().forEachRemaining(keys::add);
+        final List<String> mappedKeys = new ArrayList<>();
+        mapped.getKeys().forEachRemaining(mappedKeys::add);
+        assertEquals("Wrong keys", keys, mappedKeys);
+        for (final String key : keys)
+        {
+            assertEquals("Wrong value for " + key, expected.getProperty(key),
+                    mapped.getProperty(key));
+        }
+
+        final StringWriter expectedOut = new StringWriter();
+        expectedHandler.save(expectedOut);
+        final StringWriter mappedOut = new StringWriter();
+        mappedHandler.save(mappedOut);
+        assertEquals("Different layout", expectedOut.toString(), mappedOut.toString());
+    }
+
+    /**
+     * Tests that memory-mapped loading is disabled per default.
+     */
+    @Test
+    public void testMappedFileLoadingDefault()
+    {
+        assertFalse("Mapped file loading enabled", conf.isMappedFileLoading());
+        assertFalse("Mapped file supported", conf.isMappedFileSupported("UTF-8"));
+    }
+
+    /**
+     * Tests for which encodings and settings memory-mapped loading is
+     * supported.
+     */
+    @Test
+    public void testIsMappedFileSupported()
+    {
+        conf.setMappedFileLoading(true);
+        assertTrue("ISO-8859-1 not supported", conf.isMappedFileSupported("ISO-8859-1"));
+        assertTrue("UTF-8 not supported", conf.isMappedFileSupported("UTF-8"));
+        assertFalse("UTF-16 supported", conf.isMappedFileSupported("UTF-16"));
+        assertFalse("Invalid encoding supported", conf.isMappedFileSupported("invalid encoding"));
+        conf.setIOFactory(new PropertiesConfiguration.JupIOFactory());
+        assertFalse("Supported for custom IOFactory", conf.isMappedFileSupported("UTF-8"));
+    }
+
+    /**
+     * Tests that a custom layout prevents memory-mapped loading.
+     */
+    @Test
+    public void testIsMappedFileSupportedCustomLayout()
+    {
+        conf.setMappedFileLoading(true);
+        conf.setLayout(new DummyLayout());
+        assertFalse("Supported for custom layout", conf.isMappedFileSupported("UTF-8"));
+    }
+
+    /**
+     * Tests whether the test properties file (including the files it
+     * includes) is loaded from memory-mapped buffers in the same way as with
+     * the default mechanism.
+     */
+    @Test
+    public void testMappedFileLoading() throws ConfigurationException
+    {
+        checkMappedFileLoading(testProperties, PropertiesConfiguration.DEFAULT_ENCODING);
+    }
+
+    /**
+     * Tests memory-mapped loading of a UTF-8 file containing all kinds of
+     * special constructs.
+     */
+    @Test
+    public void testMappedFileLoadingUTF8() throws IOException, ConfigurationException
+    {
+        final String content = "# header comment" + "\n"
+                + "#" + "\n"
+                + "# second header line" + "\n"
+                + "\n"
+                + "# comment for key1" + "\n"
+                + "key1 = value1" + "\n"
+                + "key2=value2" + "\r\n"
+                + "key3:value3" + "\r"
+                + "key4   value4" + "\n"
+                + "key5 = \t  value with spaces  \t" + "\n"
+                + "key.only" + "\n"
+                + "   indented.key = indented value" + "\n"
+                + "list = a, b, c" + "\n"
+                + "umlauts = \u00e4\u00f6\u00fc \u20ac \u65e5\u672c" + "\n"
+                + "\u00e4\u00f6\u00fc = key with umlauts" + "\n"
+                + "escaped = a\\tb\\\\c\\u0041" + "\n"
+                + "escaped\\ key = value" + "\n"
+                + "continued = first \\" + "\n"
+                + "    second \\" + "\n"
+                + "# comment within continuation" + "\n"
+                + "    third" + "\n"
+                + "separators \\= in : key = value" + "\n"
+                + "lineSeparator = before\u2028after" + "\n"
+                + "nextLine = before\u0085after" + "\n"
+                + "control\u0001 = value" + "\n"
+                + "duplicate = 1" + "\n"
+                + "\n"
+                + "# comment for duplicate" + "\n"
+                + "duplicate = 2" + "\n"
+                + "\n"
+                + "# footer comment" + "\n"
+                + "last = no line feed";
+        final File file = folder.newFile("mapped.properties");
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+
+        checkMappedFileLoading(file.getAbsolutePath(), StandardCharsets.UTF_8.name());
+    }
+
+    /**
+     * Tests memory-mapped loading of an empty file.
+     */
+    @Test
+    public void testMappedFileLoadingEmptyFile() throws IOException, ConfigurationException
+    {
+        final File file = folder.newFile("empty.properties");
+        checkMappedFileLoading(file.getAbsolutePath(), StandardCharsets.ISO_8859_1.name());
+    }
+
+    /**
+     * Tries to read from a buffer with an unsupported encoding.
+     */
+    @Test(expected = ConfigurationException.class)
+    public void testReadByteBufferUnsupportedEncoding() throws IOException, ConfigurationException
+    {
+        conf.read(ByteBuffer.allocate(0), "UTF-16");
+    }
+
     /**
      * Tests that {@link PropertiesConfiguration.JupIOFactory} reads the same keys
      * and values as {@link Properties} based on a test file.
@@ -27,8 +27,11 @@ import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.net.URL;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.apache.commons.configuration2.convert.DefaultListDelimiterHandler;
 import org.apache.commons.configuration2.convert.LegacyListDelimiterHandler;
@@ -296,6 +299,38 @@ public class TestPropertiesConfigurationLayout
         assertEquals("Wrong separator", " = ", layout.getSeparator(TEST_KEY));
     }
 
+    /**
+     * Tests whether an event about adding multiple properties is processed.
+     */
+    @Test
+    public void testEventAddProperties()
+    {
+        layout.onEvent(new ConfigurationEvent(this,
+                ConfigurationEvent.ADD_PROPERTY, TEST_KEY, TEST_VALUE, false));
+        final Map<String, Object> props = new LinkedHashMap<>();
+        props.put(TEST_KEY, TEST_VALUE);
+        props.put("another.key", TEST_VALUE);
+        layout.onEvent(new ConfigurationEvent(this,
+                ConfigurationEvent.ADD_PROPERTIES, null, props, false));
+        assertTrue("Property not stored",
+                layout.getKeys().contains("another.key"));
+        assertTrue("No single line property",
+                layout.isSingleLine("another.key"));
+        assertFalse("No multi-line property", layout.isSingleLine(TEST_KEY));
+    }
+
+    /**
+     * Tests whether an event about setting multiple properties is processed.
+     */
+    @Test
+    public void testEventSetProperties()
+    {
+        layout.onEvent(new ConfigurationEvent(this,
+                ConfigurationEvent.SET_PROPERTIES, null,
+                Collections.singletonMap(TEST_KEY, TEST_VALUE), false));
+        assertTrue("Property not stored", layout.getKeys().contains(TEST_KEY));
+    }
+
     /**
      * Tests adding a property multiple time through an event. The property
      * should then be a multi-line property.
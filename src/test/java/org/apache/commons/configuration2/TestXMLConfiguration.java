@@ -36,6 +36,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 
 import javax.xml.parsers.DocumentBuilder;
@@ -1831,4 +1832,181 @@ public class TestXMLConfiguration
         conf.clear();
         assertNull(conf.getString("test[1]/entity/@name"));
     }
+
+    /**
+     * Creates a configuration which reads its document in streaming mode and
+     * loads the specified file.
+     *
+     * @param fileName the name of the file to be loaded
+     * @return the newly created configuration instance
+     * @throws ConfigurationException if an error occurs
+     */
+    private static XMLConfiguration createStreamingFromFile(final String fileName)
+            throws ConfigurationException
+    {
+        final XMLConfiguration config = new XMLConfiguration();
+        config.setListDelimiterHandler(new DefaultListDelimiterHandler(','));
+        config.setStreamingRead(true);
+        load(config, fileName);
+        return config;
+    }
+
+    /**
+     * Tests that a configuration read in streaming mode has the same content
+     * as one read via DOM.
+     */
+    @Test
+    public void testStreamingReadSameContent() throws ConfigurationException
+    {
+        final XMLConfiguration streamConf = createStreamingFromFile(testProperties);
+        final List<String> keys = new ArrayList<>();
+        for (final Iterator<String> it = conf.getKeys(); it.hasNext();)
+        {
+            final String key = it.next();
+            keys.add(key);
+            assertEquals("Wrong value for " + key, conf.getList(key),
+                    streamConf.getList(key));
+        }
+        final List<String> streamKeys = new ArrayList<>();
+        streamConf.getKeys().forEachRemaining(streamKeys::add);
+        assertEquals("Wrong keys", keys, streamKeys);
+        assertEquals("Wrong root element name", conf.getRootElementName(),
+                streamConf.getRootElementName());
+    }
+
+    /**
+     * Tests that no DOM document is retained in streaming mode, but that the
+     * configuration can still be saved.
+     */
+    @Test
+    public void testStreamingReadNoDocument() throws ConfigurationException
+    {
+        final XMLConfiguration streamConf = createStreamingFromFile(testProperties);
+        assertNull("Got a document", streamConf.getDocument());
+        streamConf.setProperty("element", "new value");
+        new FileHandler(streamConf).save(testSaveConf);
+
+        final XMLConfiguration checkConf = createFromFile(testSaveConf.getAbsolutePath());
+        assertEquals("Wrong changed value", "new value", checkConf.getString("element"));
+        assertEquals("Wrong attribute", streamConf.getString("element3[@name]"),
+                checkConf.getString("element3[@name]"));
+        assertEquals("Wrong list", streamConf.getList("list.item"),
+                checkConf.getList("list.item"));
+    }
+
+    /**
+     * Tests that the DOCTYPE IDs are extracted in streaming mode.
+     */
+    @Test
+    public void testStreamingReadDoctype() throws ConfigurationException
+    {
+        conf = new XMLConfiguration();
+        conf.setStreamingRead(true);
+        load(conf, "testDtdPublic.xml");
+
+        assertEquals("Wrong public ID", PUBLIC_ID, conf.getPublicID());
+        assertEquals("Wrong system ID", SYSTEM_ID, conf.getSystemID());
+        final StringWriter out = new StringWriter();
+        new FileHandler(conf).save(out);
+        assertThat("Did not find DOCTYPE", out.toString(), containsString(
+                DOCTYPE + "properties" + DOCTYPE_DECL));
+    }
+
+    /**
+     * Tests that the DOCTYPE IDs are reset in streaming mode if a document
+     * without a DOCTYPE declaration is loaded.
+     */
+    @Test
+    public void testStreamingReadDoctypeReset() throws ConfigurationException
+    {
+        conf = new XMLConfiguration();
+        conf.setStreamingRead(true);
+        load(conf, "testDtdPublic.xml");
+        conf.clear();
+        new FileHandler(conf).load(new StringReader("<config><a>1</a></config>"));
+
+        assertNull("Got a public ID", conf.getPublicID());
+        assertNull("Got a system ID", conf.getSystemID());
+    }
+
+    /**
+     * Tests that whitespace handling and namespace attributes are supported in
+     * streaming mode.
+     */
+    @Test
+    public void testStreamingReadSpaceAndNamespaces() throws ConfigurationException
+    {
+        final String xml = "<config xmlns:a=\"urn:test\"><a:elem a:attr=\"v\">x</a:elem>"
+                + "<space xml:space=\"preserve\">  </space><trim> y </trim></config>";
+        conf = new XMLConfiguration();
+        conf.setStreamingRead(true);
+        new FileHandler(conf).load(new StringReader(xml));
+
+        assertEquals("Wrong namespace declaration", "urn:test", conf.getString("[@xmlns:a]"));
+        assertEquals("Wrong prefixed element", "x", conf.getString("a:elem"));
+        assertEquals("Wrong prefixed attribute", "v", conf.getString("a:elem[@a:attr]"));
+        assertEquals("Whitespace not preserved", "  ", conf.getString("space"));
+        assertEquals("Not trimmed", "y", conf.getString("trim"));
+    }
+
+    /**
+     * Tests that the DOM is used if validation is enabled, even if streaming
+     * mode is set.
+     */
+    @Test
+    public void testStreamingReadIgnoredWhenValidating() throws ConfigurationException
+    {
+        conf = new XMLConfiguration();
+        conf.setStreamingRead(true);
+        conf.setValidating(true);
+        load(conf, "testValidateValid.xml");
+        assertNotNull("No document", conf.getDocument());
+    }
+
+    /**
+     * Tests that a parse error in streaming mode causes an exception.
+     */
+    @Test(expected = ConfigurationException.class)
+    public void testStreamingReadInvalidDocument() throws ConfigurationException
+    {
+        conf = new XMLConfiguration();
+        conf.setStreamingRead(true);
+        new FileHandler(conf).load(new StringReader("<config><unclosed></config>"));
+    }
+
+    /**
+     * Tests that cached interpolation results are discarded if the
+     * configuration is loaded again. This does not fire change events.
+     */
+    @Test
+    public void testInterpolationCacheClearedOnLoad() throws ConfigurationException
+    {
+        final XMLConfiguration config = new XMLConfiguration();
+        config.getInterpolator().setCacheEnabled(true);
+        final FileHandler handler = new FileHandler(config);
+        handler.load(new StringReader("<config><x>1</x><y>${x}</y></config>"));
+        assertEquals("Wrong initial value", "1", config.getString("y"));
+
+        config.clear();
+        handler.load(new StringReader("<config><x>2</x><y>${x}</y></config>"));
+        assertEquals("Cached value not discarded", "2", config.getString("y"));
+    }
+
+    /**
+     * Tests that cached interpolation results are discarded if a node is
+     * changed via a sub configuration.
+     */
+    @Test
+    public void testInterpolationCacheSubnodeConfiguration()
+    {
+        conf.getInterpolator().setCacheEnabled(true);
+        conf.addProperty("cache.x", "1");
+        conf.addProperty("cache.y", "${cache.x}");
+        assertEquals("Wrong initial value", "1", conf.getString("cache.y"));
+
+        final HierarchicalConfiguration<ImmutableNode> sub =
+                conf.configurationAt("cache", true);
+        sub.setProperty("x", "2");
+        assertEquals("Cached value not discarded", "2", conf.getString("cache.y"));
+    }
 }
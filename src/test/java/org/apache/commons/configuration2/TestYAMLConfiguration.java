@@ -33,10 +33,12 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
+import org.yaml.snakeyaml.LoaderOptions;
 import org.yaml.snakeyaml.Yaml;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -181,4 +183,115 @@ public class TestYAMLConfiguration
         }
         assertFalse("Java object was created", createdFile.exists());
     }
+
+    @Test
+    public void testObjectCreationNested()
+    {
+        final File createdFile = new File(temporaryFolder.getRoot(), "data.txt");
+        final String yaml = "key: !!java.io.FileOutputStream [" + createdFile.getAbsolutePath() + "]";
+
+        try
+        {
+            yamlConfiguration.read(new StringReader(yaml));
+            fail("Loading configuration did not cause an exception!");
+        }
+        catch (ConfigurationException e)
+        {
+            //expected
+        }
+        assertFalse("Java object was created", createdFile.exists());
+    }
+
+    @Test
+    public void testRead_valueTypes() throws ConfigurationException
+    {
+        yamlConfiguration = new YAMLConfiguration();
+        yamlConfiguration.read(new StringReader("flag: true\nratio: 0.5\nempty:\ntext: '42'"));
+        assertEquals(Boolean.TRUE, yamlConfiguration.getProperty("flag"));
+        assertEquals(Double.valueOf(0.5), yamlConfiguration.getProperty("ratio"));
+        assertNull(yamlConfiguration.getProperty("empty"));
+        assertEquals("42", yamlConfiguration.getProperty("text"));
+    }
+
+    @Test
+    public void testRead_emptyDocument() throws ConfigurationException
+    {
+        yamlConfiguration = new YAMLConfiguration();
+        yamlConfiguration.read(new StringReader(""));
+        assertTrue(yamlConfiguration.isEmpty());
+    }
+
+    @Test
+    public void testRead_anchorsAndMergeKeys() throws ConfigurationException
+    {
+        final String yaml = "base: &base\n  host: localhost\n  port: 80\n"
+                + "server:\n  <<: *base\n  port: 8080\n"
+                + "copy: *base\n";
+        yamlConfiguration = new YAMLConfiguration();
+        yamlConfiguration.read(new StringReader(yaml));
+        assertEquals("localhost", yamlConfiguration.getString("server.host"));
+        assertEquals(8080, yamlConfiguration.getInt("server.port"));
+        assertEquals(80, yamlConfiguration.getInt("copy.port"));
+        assertEquals(80, yamlConfiguration.getInt("base.port"));
+    }
+
+    @Test
+    public void testRead_duplicateKeys() throws ConfigurationException
+    {
+        final String yaml = "a: 1\nb: 2\na: 3\n";
+        yamlConfiguration = new YAMLConfiguration();
+        yamlConfiguration.read(new StringReader(yaml));
+        assertEquals(3, yamlConfiguration.getInt("a"));
+
+        final LoaderOptions options = new LoaderOptions();
+        options.setAllowDuplicateKeys(false);
+        try
+        {
+            yamlConfiguration.read(new StringReader(yaml), options);
+            fail("Duplicate key not detected!");
+        }
+        catch (ConfigurationException e)
+        {
+            //expected
+        }
+    }
+
+    @Test
+    public void testRead_mergeKeyOverriddenNoDuplicateKeys() throws ConfigurationException
+    {
+        final String yaml = "b: &b\n  k: 1\n  l: 2\nd:\n  <<: *b\n  k: 3\n";
+        final LoaderOptions options = new LoaderOptions();
+        options.setAllowDuplicateKeys(false);
+        yamlConfiguration = new YAMLConfiguration();
+        yamlConfiguration.read(new StringReader(yaml), options);
+        assertEquals(3, yamlConfiguration.getInt("d.k"));
+        assertEquals(2, yamlConfiguration.getInt("d.l"));
+    }
+
+    @Test
+    public void testReadAll_multipleDocuments() throws ConfigurationException
+    {
+        final String yaml = "---\nname: first\nlist: [1, 2]\n---\n---\nname: third\n";
+        yamlConfiguration = new YAMLConfiguration();
+        yamlConfiguration.readAll(new StringReader(yaml));
+        assertEquals(3, yamlConfiguration.getMaxIndex(YAMLConfiguration.DOCUMENT_NODE_NAME) + 1);
+        assertEquals("first", yamlConfiguration.getString("document(0).name"));
+        assertEquals(Arrays.asList(1, 2), yamlConfiguration.getList("document(0).list"));
+        assertTrue(yamlConfiguration.configurationAt("document(1)").isEmpty());
+        assertEquals("third", yamlConfiguration.getString("document(2).name"));
+    }
+
+    @Test
+    public void testRead_noMapping()
+    {
+        try
+        {
+            yamlConfiguration.read(new StringReader("- a\n- b\n"));
+            fail("Loading configuration did not cause an exception!");
+        }
+        catch (ConfigurationException e)
+        {
+            //expected
+        }
+    }
 }
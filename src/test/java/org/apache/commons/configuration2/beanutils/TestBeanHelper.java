@@ -401,6 +401,70 @@ public class TestBeanHelper
         assertEquals("Wrong header property", "TestHeader", dest.get("header"));
     }
 
+    /**
+     * Tests whether a property can be set multiple times with type conversion
+     * on beans of the same class.
+     */
+    @Test
+    public void testSetPropertyWithConversion()
+    {
+        for (int i = 0; i < 3; i++)
+        {
+            final BeanCreationTestBean bean = new BeanCreationTestBean();
+            BeanHelper.setProperty(bean, "intValue", String.valueOf(TEST_INT + i));
+            BeanHelper.setProperty(bean, "stringValue", TEST_STRING);
+            assertEquals("Wrong int property", TEST_INT + i, bean.getIntValue());
+            assertEquals("Wrong string property", TEST_STRING,
+                    bean.getStringValue());
+        }
+    }
+
+    /**
+     * Tests whether setProperty() ignores a property which does not exist.
+     */
+    @Test
+    public void testSetPropertyNonExisting()
+    {
+        final BeanCreationTestBean bean = new BeanCreationTestBean();
+        BeanHelper.setProperty(bean, "nonExistingProperty", TEST_STRING);
+        assertNull("String property was set", bean.getStringValue());
+    }
+
+    /**
+     * Tests whether a nested property can be set.
+     */
+    @Test
+    public void testSetPropertyNested()
+    {
+        final BeanCreationTestBean bean = new BeanCreationTestBean();
+        bean.setBuddy(new BeanCreationTestBean());
+        BeanHelper.setProperty(bean, "buddy.intValue", String.valueOf(TEST_INT));
+        assertEquals("Wrong nested property", TEST_INT,
+                bean.getBuddy().getIntValue());
+    }
+
+    /**
+     * Tests whether a property of a dynamic bean can be set.
+     */
+    @Test
+    public void testSetPropertyDynaBean()
+    {
+        final LazyDynaBean bean = new LazyDynaBean();
+        BeanHelper.setProperty(bean, "stringValue", TEST_STRING);
+        assertEquals("Wrong dyna property", TEST_STRING, bean.get("stringValue"));
+    }
+
+    /**
+     * Tests whether a property can be set on a bean using a fluent interface.
+     */
+    @Test
+    public void testSetPropertyFluentBean()
+    {
+        final PropertiesConfiguration config = new PropertiesConfiguration();
+        BeanHelper.setProperty(config, "header", "TestHeader");
+        assertEquals("Wrong header", "TestHeader", config.getHeader());
+    }
+
     /**
      * Returns an initialized bean declaration.
      *
@@ -21,13 +21,16 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.configuration2.BaseConfiguration;
@@ -605,6 +608,231 @@ public class TestBasicConfigurationBuilder
         builder.connectToReloadingController(null);
     }
 
+    /**
+     * Tests whether the result object can be replaced by a new one.
+     */
+    @Test
+    public void testRefreshResult() throws ConfigurationException
+    {
+        final BasicConfigurationBuilder<PropertiesConfiguration> builder =
+                new BasicConfigurationBuilder<>(
+                        PropertiesConfiguration.class, createTestParameters());
+        final PropertiesConfiguration config = builder.getConfiguration();
+        final BuilderEventListenerImpl listener = new BuilderEventListenerImpl();
+        builder.addEventListener(ConfigurationBuilderEvent.ANY, listener);
+
+        final PropertiesConfiguration config2 = builder.refreshResult();
+        assertNotSame("No new result", config, config2);
+        assertSame("Result not published", config2, builder.getConfiguration());
+        assertTrue("Wrong property", config2.isThrowExceptionOnMissing());
+        listener.nextEvent(ConfigurationBuilderEvent.RESET);
+        final ConfigurationBuilderResultCreatedEvent event =
+                listener.nextEvent(ConfigurationBuilderResultCreatedEvent.RESULT_CREATED);
+        assertSame("Wrong configuration in event", config2,
+                event.getConfiguration());
+        listener.nextEvent(ConfigurationBuilderEvent.CONFIGURATION_REQUEST);
+        listener.assertNoMoreEvents();
+    }
+
+    /**
+     * Tests refreshResult() if no result object has been created yet.
+     */
+    @Test
+    public void testRefreshResultNoResult() throws ConfigurationException
+    {
+        final BasicConfigurationBuilder<PropertiesConfiguration> builder =
+                new BasicConfigurationBuilder<>(PropertiesConfiguration.class);
+        final PropertiesConfiguration config = builder.refreshResult();
+        assertSame("Wrong result", config, builder.getConfiguration());
+    }
+
+    /**
+     * Tests that the event listeners are moved to the new result object on a
+     * refresh.
+     */
+    @Test
+    public void testRefreshResultMovesEventListeners()
+            throws ConfigurationException
+    {
+        final EventListener<ConfigurationEvent> l1 = createEventListener();
+        final BasicConfigurationBuilder<PropertiesConfiguration> builder =
+                new BasicConfigurationBuilder<>(PropertiesConfiguration.class);
+        builder.addEventListener(ConfigurationEvent.ANY, l1);
+        final PropertiesConfiguration config = builder.getConfiguration();
+        final PropertiesConfiguration config2 = builder.refreshResult();
+        assertFalse("Listener still registered at old result", config
+                .getEventListeners(ConfigurationEvent.ANY).contains(l1));
+        assertTrue("Listener not registered at new result", config2
+                .getEventListeners(ConfigurationEvent.ANY).contains(l1));
+    }
+
+    /**
+     * Tests that the current result object is kept if refreshing fails.
+     */
+    @Test
+    public void testRefreshResultError() throws ConfigurationException
+    {
+        final BasicConfigurationBuilderInitFailImpl builder =
+                new BasicConfigurationBuilderInitFailImpl(false);
+        builder.failOnInit = false;
+        final PropertiesConfiguration config = builder.getConfiguration();
+        builder.failOnInit = true;
+        try
+        {
+            builder.refreshResult();
+            fail("No exception thrown!");
+        }
+        catch (final ConfigurationException cex)
+        {
+            assertSame("Result was changed", config, builder.getConfiguration());
+        }
+    }
+
+    /**
+     * Tests that the current result object is still served while a
+     * replacement is created.
+     */
+    @Test
+    public void testRefreshResultServesOldResult() throws Exception
+    {
+        final CountDownLatch createLatch = new CountDownLatch(1);
+        final CountDownLatch proceedLatch = new CountDownLatch(1);
+        final BasicConfigurationBuilder<PropertiesConfiguration> builder =
+                new BasicConfigurationBuilder<PropertiesConfiguration>(
+                        PropertiesConfiguration.class)
+                {
+                    private boolean created;
+
+                    @Override
+                    protected PropertiesConfiguration createResult()
+                            throws ConfigurationException
+                    {
+                        if (created)
+                        {
+                            createLatch.countDown();
+                            try
+                            {
+                                proceedLatch.await(5, TimeUnit.SECONDS);
+                            }
+                            catch (final InterruptedException iex)
+                            {
+                                Thread.currentThread().interrupt();
+                            }
+                        }
+                        created = true;
+                        return super.createResult();
+                    }
+                };
+        final PropertiesConfiguration config = builder.getConfiguration();
+        final Thread refreshThread = new Thread(() -> {
+            try
+            {
+                builder.refreshResult();
+            }
+            catch (final ConfigurationException cex)
+            {
+                throw new AssertionError(cex);
+            }
+        });
+        refreshThread.start();
+        assertTrue("Refresh not started",
+                createLatch.await(5, TimeUnit.SECONDS));
+        assertSame("Old result not served", config, builder.getConfiguration());
+        proceedLatch.countDown();
+        refreshThread.join(5000);
+        assertNotSame("No new result", config, builder.getConfiguration());
+    }
+
+    /**
+     * Tests a reload in the background triggered by a reloading controller.
+     */
+    @Test
+    public void testBackgroundReload() throws ConfigurationException
+    {
+        final ReloadingDetector detector =
+                EasyMock.createNiceMock(ReloadingDetector.class);
+        EasyMock.expect(detector.isReloadingRequired()).andReturn(Boolean.TRUE);
+        EasyMock.replay(detector);
+        final ReloadingController controller = new ReloadingController(detector);
+        final BasicConfigurationBuilder<Configuration> builder =
+                new BasicConfigurationBuilder<>(
+                        PropertiesConfiguration.class);
+        builder.setBackgroundReload(true);
+        final Configuration configuration = builder.getConfiguration();
+        builder.connectToReloadingController(controller);
+        final BuilderEventListenerImpl listener = new BuilderEventListenerImpl();
+        builder.addEventListener(ConfigurationBuilderEvent.ANY, listener);
+
+        controller.checkForReloading(null);
+        listener.nextEvent(ConfigurationBuilderEvent.RESET);
+        final ConfigurationBuilderResultCreatedEvent event =
+                listener.nextEvent(ConfigurationBuilderResultCreatedEvent.RESULT_CREATED);
+        listener.assertNoMoreEvents();
+        assertNotSame("No new configuration created", configuration,
+                event.getConfiguration());
+        assertFalse("Still in reloading state", controller.isInReloadingState());
+        assertSame("Wrong result", event.getConfiguration(),
+                builder.getConfiguration());
+    }
+
+    /**
+     * Tests a reload in the background using an executor.
+     */
+    @Test
+    public void testBackgroundReloadExecutor() throws ConfigurationException
+    {
+        final ReloadingDetector detector =
+                EasyMock.createNiceMock(ReloadingDetector.class);
+        EasyMock.expect(detector.isReloadingRequired()).andReturn(Boolean.TRUE);
+        EasyMock.replay(detector);
+        final ReloadingController controller = new ReloadingController(detector);
+        final BasicConfigurationBuilder<Configuration> builder =
+                new BasicConfigurationBuilder<>(
+                        PropertiesConfiguration.class);
+        final Collection<Runnable> tasks = new ArrayList<>();
+        final Executor executor = tasks::add;
+        builder.setBackgroundReload(true);
+        builder.setBackgroundReloadExecutor(executor);
+        assertSame("Executor not set", executor,
+                builder.getBackgroundReloadExecutor());
+        final Configuration configuration = builder.getConfiguration();
+        builder.connectToReloadingController(controller);
+
+        controller.checkForReloading(null);
+        assertTrue("Not in reloading state", controller.isInReloadingState());
+        builder.reloadResult();
+        assertEquals("Wrong number of tasks", 1, tasks.size());
+        assertSame("Result changed", configuration, builder.getConfiguration());
+        tasks.iterator().next().run();
+        assertNotSame("No new configuration created", configuration,
+                builder.getConfiguration());
+        assertFalse("Still in reloading state", controller.isInReloadingState());
+    }
+
+    /**
+     * Tests that a failed background reload causes the result to be reset.
+     */
+    @Test
+    public void testBackgroundReloadError() throws ConfigurationException
+    {
+        final BasicConfigurationBuilderInitFailImpl builder =
+                new BasicConfigurationBuilderInitFailImpl(false);
+        builder.failOnInit = false;
+        builder.setBackgroundReload(true);
+        builder.getConfiguration();
+        builder.failOnInit = true;
+        builder.reloadResult();
+        try
+        {
+            builder.getConfiguration();
+            fail("Error not reported!");
+        }
+        catch (final ConfigurationException cex)
+        {
+            // expected
+        }
+    }
+
     /**
      * A test thread class for testing whether the builder's result object can
      * be requested concurrently.
@@ -664,19 +892,27 @@ public class TestBasicConfigurationBuilder
     private static class BasicConfigurationBuilderInitFailImpl extends
             BasicConfigurationBuilder<PropertiesConfiguration>
     {
+        /** A flag whether initialization should fail. */
+        private volatile boolean failOnInit = true;
+
         public BasicConfigurationBuilderInitFailImpl(final boolean allowFailOnInit)
         {
             super(PropertiesConfiguration.class, null, allowFailOnInit);
         }
 
         /**
-         * {@inheritDoc} This implementation only throws an exception.
+         * {@inheritDoc} This implementation throws an exception if the
+         * failOnInit flag is set.
          */
         @Override
         protected void initResultInstance(final PropertiesConfiguration obj)
                 throws ConfigurationException
         {
-            throw new ConfigurationException("Initialization test exception!");
+            if (failOnInit)
+            {
+                throw new ConfigurationException("Initialization test exception!");
+            }
+            super.initResultInstance(obj);
         }
     }
 
@@ -22,14 +22,18 @@ import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import org.apache.commons.configuration2.ConfigurationAssert;
 import org.apache.commons.configuration2.PropertiesConfiguration;
 import org.apache.commons.configuration2.ex.ConfigurationException;
 import org.apache.commons.configuration2.io.FileHandler;
 import org.apache.commons.configuration2.reloading.FileHandlerReloadingDetector;
 import org.apache.commons.configuration2.reloading.ReloadingDetector;
+import org.apache.commons.configuration2.reloading.WatchServiceReloadingDetector;
 import org.easymock.EasyMock;
 import org.junit.Test;
 
@@ -104,6 +108,44 @@ public class TestReloadingFileBasedConfigurationBuilder
         EasyMock.verify(factory);
     }
 
+    /**
+     * Tests whether a detector based on a watch service is connected to the
+     * reloading controller and whether the detector of a replaced result
+     * object stops watching.
+     */
+    @Test
+    public void testWatchServiceDetectorConnected() throws ConfigurationException
+    {
+        final List<WatchServiceReloadingDetector> detectors = new ArrayList<>();
+        final WatchServiceReloadingDetectorFactory watchFactory =
+                new WatchServiceReloadingDetectorFactory();
+        final ReloadingDetectorFactory factory = (handler, params) -> {
+            final WatchServiceReloadingDetector detector =
+                    (WatchServiceReloadingDetector) watchFactory
+                            .createReloadingDetector(handler, params);
+            detectors.add(detector);
+            return detector;
+        };
+        final ReloadingFileBasedConfigurationBuilder<PropertiesConfiguration> builder =
+                new ReloadingFileBasedConfigurationBuilder<>(
+                        PropertiesConfiguration.class);
+        builder.configure(new FileBasedBuilderParametersImpl()
+                .setFile(ConfigurationAssert.getTestFile("test.properties"))
+                .setReloadingDetectorFactory(factory));
+
+        builder.getConfiguration();
+        builder.resetResult();
+        builder.getConfiguration();
+        assertEquals("Wrong number of detectors", 2, detectors.size());
+        final WatchServiceReloadingDetector detector = detectors.get(1);
+        assertSame("Controller not set", builder.getReloadingController(),
+                detector.getReloadingController());
+        assertTrue("Not watching", detector.isWatching());
+        assertFalse("Old detector still watching",
+                detectors.get(0).isWatching());
+        detector.stopWatching();
+    }
+
     /**
      * Tests the isReloadingRequired() implementation of the detector associated
      * with the reloading controller.
@@ -116,6 +116,17 @@ public class TestXMLBuilderParametersImpl
                 .getParameters().get("schemaValidation"));
     }
 
+    /**
+     * Tests whether the streaming read flag can be set.
+     */
+    @Test
+    public void testSetStreamingRead()
+    {
+        assertSame("Wrong result", params, params.setStreamingRead(true));
+        assertEquals("Flag not in parameters", Boolean.TRUE, params
+                .getParameters().get("streamingRead"));
+    }
+
     /**
      * Tests whether properties can be set through BeanUtils.
      */
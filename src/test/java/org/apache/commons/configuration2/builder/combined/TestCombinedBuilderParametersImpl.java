@@ -26,6 +26,8 @@ import static org.junit.Assert.assertTrue;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.apache.commons.configuration2.ConfigurationAssert;
 import org.apache.commons.configuration2.XMLConfiguration;
@@ -111,6 +113,35 @@ public class TestCombinedBuilderParametersImpl
         assertFalse("Property not set", params.isInheritSettings());
     }
 
+    /**
+     * Tests whether an executor for loading child configurations can be set
+     * and that it is not inherited.
+     */
+    @Test
+    public void testSetChildLoadingExecutor()
+    {
+        final CombinedBuilderParametersImpl params =
+                new CombinedBuilderParametersImpl();
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try
+        {
+            assertNull("Got an executor", params.getChildLoadingExecutor());
+            assertSame("Wrong result", params,
+                    params.setChildLoadingExecutor(executor));
+            assertSame("Executor not set", executor,
+                    params.getChildLoadingExecutor());
+            final CombinedBuilderParametersImpl params2 =
+                    new CombinedBuilderParametersImpl();
+            params2.inheritFrom(params.getParameters());
+            assertNull("Executor was inherited",
+                    params2.getChildLoadingExecutor());
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
     /**
      * Tests whether the definition builder can be set.
      */
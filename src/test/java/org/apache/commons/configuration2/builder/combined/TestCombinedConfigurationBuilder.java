@@ -35,6 +35,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.apache.commons.configuration2.BaseHierarchicalConfiguration;
 import org.apache.commons.configuration2.CombinedConfiguration;
@@ -336,6 +338,103 @@ public class TestCombinedConfigurationBuilder
         builder.getConfiguration();
     }
 
+    /**
+     * Loads the configuration defined by the given definition file with an
+     * executor for loading child configurations concurrently.
+     *
+     * @param defFile the definition file
+     * @return the resulting configuration
+     * @throws ConfigurationException if an error occurs
+     */
+    private CombinedConfiguration loadConcurrently(final File defFile)
+            throws ConfigurationException
+    {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try
+        {
+            builder.configure(createParameters().setFile(defFile),
+                    parameters.combined().setChildLoadingExecutor(executor));
+            return builder.getConfiguration();
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Tests whether child configurations can be loaded concurrently.
+     */
+    @Test
+    public void testLoadConfigurationConcurrently() throws ConfigurationException
+    {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try
+        {
+            builder.configure(createParameters().setFile(TEST_FILE),
+                    parameters.combined().setChildLoadingExecutor(executor));
+            checkConfiguration();
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Tests concurrent loading of a definition file with an additional section.
+     */
+    @Test
+    public void testLoadAdditionalConcurrently() throws ConfigurationException
+    {
+        final CombinedConfiguration config = loadConcurrently(ConfigurationAssert
+                .getTestFile("testDigesterConfiguration2.xml"));
+        assertEquals("Wrong number of configurations", 2,
+                config.getNumberOfConfigurations());
+        assertEquals("Wrong table", "tasks",
+                config.getProperty("tables.table(2).name"));
+        assertEquals("Wrong override", "masterOfPost",
+                config.getString("mail.account.user"));
+    }
+
+    /**
+     * Tests that optional configurations are handled correctly when loading
+     * concurrently.
+     */
+    @Test
+    public void testLoadOptionalConcurrently() throws ConfigurationException
+    {
+        final Configuration config = loadConcurrently(ConfigurationAssert
+                .getTestFile("testDigesterOptionalConfiguration.xml"));
+        assertTrue("Wrong boolean", config.getBoolean("test.boolean"));
+        assertEquals("Wrong element", "value", config.getProperty("element"));
+    }
+
+    /**
+     * Tests that the failure of a non optional configuration source is
+     * reported when loading concurrently.
+     */
+    @Test(expected = ConfigurationException.class)
+    public void testLoadOptionalWithExceptionConcurrently() throws ConfigurationException
+    {
+        loadConcurrently(ConfigurationAssert
+                .getTestFile("testDigesterOptionalConfigurationEx.xml"));
+    }
+
+    /**
+     * Tests that configurations are loaded in the current thread if the
+     * executor rejects the tasks.
+     */
+    @Test
+    public void testLoadConcurrentlyExecutorRejects() throws ConfigurationException
+    {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+        builder.configure(createParameters().setFile(TEST_FILE),
+                parameters.combined().setChildLoadingExecutor(executor));
+        checkConfiguration();
+    }
+
     /**
      * Tests whether the force-create attribute is taken into account.
      */
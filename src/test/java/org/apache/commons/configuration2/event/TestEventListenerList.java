@@ -529,6 +529,91 @@ public class TestEventListenerList
         assertFalse("Too many elements", iterator.hasNext());
     }
 
+    /**
+     * Tests that a listener added after an event has been fired receives
+     * further events of this type.
+     */
+    @Test
+    public void testFireAfterListenerAdded()
+    {
+        final ListenerTestImpl l1 = new ListenerTestImpl();
+        final ListenerTestImpl l2 = new ListenerTestImpl();
+        list.addEventListener(typeSub2, l1);
+        list.fire(new EventSub1(this, typeSub1, MESSAGE));
+
+        list.addEventListener(typeSub1, l2);
+        list.fire(new EventSub1(this, typeSub1, MESSAGE));
+        l1.assertNoEvent();
+        l2.assertEvent(this, typeSub1, MESSAGE);
+    }
+
+    /**
+     * Tests that a listener removed after an event has been fired does not
+     * receive further events of this type.
+     */
+    @Test
+    public void testFireAfterListenerRemoved()
+    {
+        final ListenerTestImpl l1 = new ListenerTestImpl();
+        list.addEventListener(typeSub1, l1);
+        list.fire(new EventSub1(this, typeSub1, MESSAGE));
+
+        assertTrue("Not removed", list.removeEventListener(typeSub1, l1));
+        list.fire(new EventSub1(this, typeSub1, "other message"));
+        l1.assertEvent(this, typeSub1, MESSAGE);
+    }
+
+    /**
+     * Tests that no events are delivered after the list has been cleared.
+     */
+    @Test
+    public void testFireAfterClear()
+    {
+        final ListenerTestImpl l1 = new ListenerTestImpl();
+        list.addEventListener(typeBase, l1);
+        list.fire(new EventBase(this, typeBase, MESSAGE));
+
+        list.clear();
+        list.fire(new EventBase(this, typeBase, "other message"));
+        l1.assertEvent(this, typeBase, MESSAGE);
+    }
+
+    /**
+     * Tests that listeners are invoked in the order they have been registered,
+     * independent on the event type used for the registration.
+     */
+    @Test
+    public void testFireListenerOrder()
+    {
+        final List<String> calls = new LinkedList<>();
+        list.addEventListener(typeSub1, e -> calls.add("sub1"));
+        list.addEventListener(Event.ANY, e -> calls.add("any"));
+        list.addEventListener(typeSub2, e -> calls.add("sub2"));
+        list.addEventListener(typeBase, e -> calls.add("base"));
+
+        list.fire(new EventSub1(this, typeSub1, MESSAGE));
+        list.fire(new EventSub1(this, typeSub1, MESSAGE));
+        assertEquals("Wrong calls",
+                Arrays.asList("sub1", "any", "base", "sub1", "any", "base"),
+                calls);
+    }
+
+    /**
+     * Tests whether it can be checked if there are listeners for an event type.
+     */
+    @Test
+    public void testHasListenersFor()
+    {
+        list.addEventListener(typeSub1, new ListenerTestImpl());
+
+        assertTrue("No listeners for sub 1", list.hasListenersFor(typeSub1));
+        assertFalse("Listeners for sub 2", list.hasListenersFor(typeSub2));
+        assertFalse("Listeners for base", list.hasListenersFor(typeBase));
+        assertFalse("Listeners for null", list.hasListenersFor(null));
+        list.addEventListener(typeBase, new ListenerTestImpl());
+        assertTrue("No listeners for sub 2", list.hasListenersFor(typeSub2));
+    }
+
     /**
      * Test event class. For testing purposes, a small hierarchy of test event
      * class is created. This way it can be checked whether event types are
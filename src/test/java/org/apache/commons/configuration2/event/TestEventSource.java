@@ -18,11 +18,15 @@ package org.apache.commons.configuration2.event;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -354,6 +358,296 @@ public class TestEventSource
         assertSame("Wrong remaining listener", cl, regs.get(0).getListener());
     }
 
+    /**
+     * Executes all tasks contained in the given list and clears it.
+     *
+     * @param tasks the list with tasks
+     */
+    private static void runTasks(final List<Runnable> tasks)
+    {
+        final List<Runnable> currentTasks = new ArrayList<>(tasks);
+        tasks.clear();
+        currentTasks.forEach(Runnable::run);
+    }
+
+    /**
+     * Tests the default settings for asynchronous event delivery.
+     */
+    @Test
+    public void testAsyncDeliveryDefaults()
+    {
+        assertNull("Got an executor", source.getEventDeliveryExecutor());
+        assertEquals("Wrong capacity",
+                BaseEventSource.DEFAULT_EVENT_QUEUE_CAPACITY,
+                source.getEventQueueCapacity());
+        assertFalse("Coalescing enabled", source.isCoalesceEvents());
+    }
+
+    /**
+     * Tests whether events are delivered by the executor if asynchronous
+     * delivery is enabled.
+     */
+    @Test
+    public void testFireEventAsync()
+    {
+        final List<Runnable> tasks = new ArrayList<>();
+        final Executor executor = tasks::add;
+        final EventListenerTestImpl l = new EventListenerTestImpl(source);
+        source.addAsyncEventListener(ConfigurationEvent.ANY, l);
+        source.setEventDeliveryExecutor(executor);
+        assertSame("Executor not set", executor,
+                source.getEventDeliveryExecutor());
+
+        source.fireEvent(ConfigurationEvent.ADD_PROPERTY, TEST_PROPNAME,
+                TEST_PROPVALUE, true);
+        source.fireEvent(ConfigurationEvent.ADD_PROPERTY, TEST_PROPNAME,
+                TEST_PROPVALUE, false);
+        l.done();
+        assertEquals("Wrong number of tasks", 1, tasks.size());
+        runTasks(tasks);
+        l.checkEvent(ConfigurationEvent.ADD_PROPERTY, TEST_PROPNAME,
+                TEST_PROPVALUE, true);
+        l.checkEvent(ConfigurationEvent.ADD_PROPERTY, TEST_PROPNAME,
+                TEST_PROPVALUE, false);
+        l.done();
+    }
+
+    /**
+     * Tests that no event is created for asynchronous delivery if there are
+     * no listeners.
+     */
+    @Test
+    public void testFireEventAsyncNoListeners()
+    {
+        final List<Runnable> tasks = new ArrayList<>();
+        source.setEventDeliveryExecutor(tasks::add);
+        source.fireEvent(ConfigurationEvent.ADD_NODES, TEST_PROPNAME,
+                TEST_PROPVALUE, false);
+        assertEquals("An event object was created", 0, source.eventCount);
+        assertTrue("Got tasks", tasks.isEmpty());
+    }
+
+    /**
+     * Tests that events are delivered synchronously if the queue is full.
+     * Events which are still queued have to be delivered first.
+     */
+    @Test
+    public void testFireEventAsyncQueueFull()
+    {
+        final List<Runnable> tasks = new ArrayList<>();
+        final EventListenerTestImpl l = new EventListenerTestImpl(source);
+        source.addAsyncEventListener(ConfigurationEvent.ANY, l);
+        source.setEventDeliveryExecutor(tasks::add);
+        source.setEventQueueCapacity(1);
+
+        source.fireEvent(ConfigurationEvent.ADD_PROPERTY, TEST_PROPNAME,
+                TEST_PROPVALUE, true);
+        source.fireEvent(ConfigurationEvent.SET_PROPERTY, TEST_PROPNAME,
+                TEST_PROPVALUE, true);
+        l.checkEvent(ConfigurationEvent.ADD_PROPERTY, TEST_PROPNAME,
+                TEST_PROPVALUE, true);
+        l.checkEvent(ConfigurationEvent.SET_PROPERTY, TEST_PROPNAME,
+                TEST_PROPVALUE, true);
+        l.done();
+        runTasks(tasks);
+        l.done();
+    }
+
+    /**
+     * Tests that the order of events is kept if the queue overflows multiple
+     * times while the executor is blocked.
+     */
+    @Test
+    public void testFireEventAsyncQueueFullOrder()
+    {
+        final List<Runnable> tasks = new ArrayList<>();
+        final List<String> names = new ArrayList<>();
+        source.addAsyncEventListener(ConfigurationEvent.ANY,
+                e -> names.add(e.getPropertyName()));
+        source.setEventDeliveryExecutor(tasks::add);
+        source.setEventQueueCapacity(4);
+
+        final List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 6; i++)
+        {
+            final String key = "k" + i;
+            expected.add(key);
+            source.fireEvent(ConfigurationEvent.ADD_PROPERTY, key,
+                    TEST_PROPVALUE, false);
+        }
+        runTasks(tasks);
+        assertEquals("Wrong order of events", expected, names);
+    }
+
+    /**
+     * Tests that normal event listeners are still notified synchronously if
+     * asynchronous delivery is enabled.
+     */
+    @Test
+    public void testFireEventAsyncNormalListenersSynchronous()
+    {
+        final List<Runnable> tasks = new ArrayList<>();
+        final EventListenerTestImpl l = new EventListenerTestImpl(source);
+        final EventListenerTestImpl asyncListener =
+                new EventListenerTestImpl(source);
+        source.addEventListener(ConfigurationEvent.ANY, l);
+        source.addAsyncEventListener(ConfigurationEvent.ANY, asyncListener);
+        source.setEventDeliveryExecutor(tasks::add);
+        source.setCoalesceEvents(true);
+
+        source.fireEvent(ConfigurationEvent.ADD_PROPERTY, TEST_PROPNAME,
+                TEST_PROPVALUE, false);
+        l.checkEvent(ConfigurationEvent.ADD_PROPERTY, TEST_PROPNAME,
+                TEST_PROPVALUE, false);
+        l.done();
+        assertEquals("Wrong number of created events", 1, source.eventCount);
+        assertTrue("Got tasks", tasks.isEmpty());
+        asyncListener.done();
+    }
+
+    /**
+     * Tests that asynchronous listeners are notified synchronously if no
+     * executor is set.
+     */
+    @Test
+    public void testFireEventAsyncListenerNoExecutor()
+    {
+        final EventListenerTestImpl l = new EventListenerTestImpl(source);
+        source.addAsyncEventListener(ConfigurationEvent.ANY, l);
+        source.fireEvent(ConfigurationEvent.ADD_PROPERTY, TEST_PROPNAME,
+                TEST_PROPVALUE, false);
+        l.checkEvent(ConfigurationEvent.ADD_PROPERTY, TEST_PROPNAME,
+                TEST_PROPVALUE, false);
+        l.done();
+    }
+
+    /**
+     * Tests whether a listener for asynchronous notifications can be removed.
+     */
+    @Test
+    public void testRemoveAsyncEventListener()
+    {
+        final EventListenerTestImpl l = new EventListenerTestImpl(source);
+        source.addAsyncEventListener(ConfigurationEvent.ANY, l);
+        assertTrue("Listener not removed",
+                source.removeAsyncEventListener(ConfigurationEvent.ANY, l));
+        assertFalse("Listener removed again",
+                source.removeAsyncEventListener(ConfigurationEvent.ANY, l));
+        source.fireEvent(ConfigurationEvent.ADD_PROPERTY, TEST_PROPNAME,
+                TEST_PROPVALUE, false);
+        assertEquals("An event object was created", 0, source.eventCount);
+        l.done();
+    }
+
+    /**
+     * Tests that events are delivered synchronously if the executor rejects
+     * the delivery task.
+     */
+    @Test
+    public void testFireEventAsyncRejected()
+    {
+        final EventListenerTestImpl l = new EventListenerTestImpl(source);
+        source.addAsyncEventListener(ConfigurationEvent.ANY, l);
+        source.setEventDeliveryExecutor(r -> {
+            throw new RejectedExecutionException("Test exception");
+        });
+
+        source.fireEvent(ConfigurationEvent.ADD_PROPERTY, TEST_PROPNAME,
+                TEST_PROPVALUE, false);
+        l.checkEvent(ConfigurationEvent.ADD_PROPERTY, TEST_PROPNAME,
+                TEST_PROPVALUE, false);
+        l.done();
+    }
+
+    /**
+     * Tests whether queued events are combined to a batch event.
+     */
+    @Test
+    public void testFireEventAsyncCoalesce()
+    {
+        final List<Runnable> tasks = new ArrayList<>();
+        final List<ConfigurationBatchEvent> batches = new ArrayList<>();
+        final EventListenerTestImpl l = new EventListenerTestImpl(source);
+        source.addAsyncEventListener(ConfigurationEvent.ANY, l);
+        source.addAsyncEventListener(ConfigurationBatchEvent.ANY, batches::add);
+        source.setEventDeliveryExecutor(tasks::add);
+        source.setCoalesceEvents(true);
+
+        source.fireEvent(ConfigurationEvent.SET_PROPERTY, "key1", "v1", true);
+        source.fireEvent(ConfigurationEvent.SET_PROPERTY, "key1", "v1", false);
+        source.fireEvent(ConfigurationEvent.SET_PROPERTY, "key2", "v2", true);
+        source.fireEvent(ConfigurationEvent.CLEAR_PROPERTY, "key2", null,
+                false);
+        source.fireEvent(ConfigurationEvent.CLEAR_PROPERTY, "key3", null,
+                true);
+        runTasks(tasks);
+
+        assertEquals("Wrong number of batches", 1, batches.size());
+        final ConfigurationBatchEvent batch = batches.get(0);
+        assertSame("Wrong source", source, batch.getSource());
+        assertEquals("Wrong event type", ConfigurationBatchEvent.ANY,
+                batch.getEventType());
+        final List<ConfigurationEvent> events = batch.getEvents();
+        assertEquals("Wrong number of events", 4, events.size());
+        assertEquals("Wrong key 1", "key1", events.get(0).getPropertyName());
+        assertFalse("Before event 1", events.get(0).isBeforeUpdate());
+        assertTrue("No before event 2", events.get(1).isBeforeUpdate());
+        assertEquals("Wrong type 3", ConfigurationEvent.CLEAR_PROPERTY,
+                events.get(2).getEventType());
+        assertEquals("Wrong key 4", "key3", events.get(3).getPropertyName());
+        l.done();
+    }
+
+    /**
+     * Tests that no events are queued in coalescing mode if there are no
+     * listeners for batch events.
+     */
+    @Test
+    public void testFireEventAsyncCoalesceNoBatchListeners()
+    {
+        final List<Runnable> tasks = new ArrayList<>();
+        source.addAsyncEventListener(ConfigurationEvent.ANY,
+                new EventListenerTestImpl(source));
+        source.setEventDeliveryExecutor(tasks::add);
+        source.setCoalesceEvents(true);
+
+        source.fireEvent(ConfigurationEvent.ADD_PROPERTY, TEST_PROPNAME,
+                TEST_PROPVALUE, false);
+        assertEquals("An event object was created", 0, source.eventCount);
+        assertTrue("Got tasks", tasks.isEmpty());
+    }
+
+    /**
+     * Tests that an invalid event queue capacity is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetEventQueueCapacityInvalid()
+    {
+        source.setEventQueueCapacity(0);
+    }
+
+    /**
+     * Tests that a clone delivers events asynchronously to its own listeners.
+     */
+    @Test
+    public void testCloneAsync() throws CloneNotSupportedException
+    {
+        final List<Runnable> tasks = new ArrayList<>();
+        source.addAsyncEventListener(ConfigurationEvent.ANY,
+                new EventListenerTestImpl(source));
+        source.setEventDeliveryExecutor(tasks::add);
+        final BaseEventSource copy = (BaseEventSource) source.clone();
+        final EventListenerTestImpl l = new EventListenerTestImpl(copy);
+        copy.addAsyncEventListener(ConfigurationEvent.ANY, l);
+
+        copy.fireEvent(ConfigurationEvent.ADD_PROPERTY, TEST_PROPNAME,
+                TEST_PROPVALUE, false);
+        runTasks(tasks);
+        l.checkEvent(ConfigurationEvent.ADD_PROPERTY, TEST_PROPNAME,
+                TEST_PROPVALUE, false);
+        l.done();
+    }
+
     /**
      * A specialized event source implementation that counts the number of
      * created event objects. It is used to test whether the
@@ -643,4 +643,277 @@ public class TestConfigurationInterpolator
         assertNull("Variable with empty prefix could be resolved", interpolator
                 .resolve(":" + TEST_NAME));
     }
+
+    /**
+     * Adds the given lookup as default lookup and declares it as observed, so
+     * that results produced by it can be cached.
+     *
+     * @param lookup the lookup
+     */
+    private void addObservedDefaultLookup(final Lookup lookup)
+    {
+        interpolator.addDefaultLookup(lookup);
+        interpolator.addObservedLookup(lookup);
+    }
+
+    /**
+     * Tests that the interpolation cache is disabled per default.
+     */
+    @Test
+    public void testCacheDisabledByDefault()
+    {
+        final Map<String, Object> vars = new HashMap<>();
+        vars.put(TEST_NAME, TEST_VALUE);
+        interpolator.addDefaultLookup(vars::get);
+        assertFalse("Cache enabled", interpolator.isCacheEnabled());
+        assertEquals("Wrong result", TEST_VALUE, interpolator.interpolate("${" + TEST_NAME + "}"));
+        vars.put(TEST_NAME, "other");
+        assertEquals("Value was cached", "other", interpolator.interpolate("${" + TEST_NAME + "}"));
+        assertEquals("Got cached values", 0, interpolator.getCachedValueCount());
+    }
+
+    /**
+     * Tests whether interpolated values are cached if the cache is enabled.
+     */
+    @Test
+    public void testInterpolateCached()
+    {
+        final Map<String, Object> vars = new HashMap<>();
+        vars.put("a", "1");
+        vars.put("b", "2");
+        addObservedDefaultLookup(vars::get);
+        interpolator.setCacheEnabled(true);
+        assertEquals("Wrong result", "1-2", interpolator.interpolate("${a}-${b}"));
+        vars.put("a", "changed");
+        assertEquals("Value not cached", "1-2", interpolator.interpolate("${a}-${b}"));
+        assertEquals("Wrong number of cached values", 1, interpolator.getCachedValueCount());
+        assertEquals("Plain string changed", "plain", interpolator.interpolate("plain"));
+        assertEquals("Plain string cached", 1, interpolator.getCachedValueCount());
+    }
+
+    /**
+     * Tests that only cached values depending on the invalidated variable are
+     * evicted.
+     */
+    @Test
+    public void testInvalidateCacheDependentVariable()
+    {
+        final Map<String, Object> vars = new HashMap<>();
+        vars.put("a", "1");
+        vars.put("b", "2");
+        addObservedDefaultLookup(vars::get);
+        interpolator.setCacheEnabled(true);
+        interpolator.interpolate("${a}");
+        interpolator.interpolate("${b}");
+        vars.put("a", "3");
+        vars.put("b", "4");
+
+        interpolator.invalidateCache("a");
+        assertEquals("Wrong number of cached values", 1, interpolator.getCachedValueCount());
+        assertEquals("Wrong value for a", "3", interpolator.interpolate("${a}"));
+        assertEquals("Wrong value for b", "2", interpolator.interpolate("${b}"));
+        interpolator.invalidateCache(null);
+        assertEquals("Cache not cleared", 0, interpolator.getCachedValueCount());
+        assertEquals("Wrong value for b after clear", "4", interpolator.interpolate("${b}"));
+    }
+
+    /**
+     * Tests that the dependencies of nested variables are recorded.
+     */
+    @Test
+    public void testInvalidateCacheNestedVariable()
+    {
+        final Map<String, Object> vars = new HashMap<>();
+        vars.put("a", "${b}/x");
+        vars.put("b", "base");
+        addObservedDefaultLookup(vars::get);
+        interpolator.setCacheEnabled(true);
+        assertEquals("Wrong result", "base/x", interpolator.interpolate("${a}"));
+        vars.put("b", "new");
+        interpolator.invalidateCache("b");
+        assertEquals("Nested dependency not tracked", "new/x", interpolator.interpolate("${a}"));
+    }
+
+    /**
+     * Tests that a change of a hierarchical key evicts values depending on
+     * child keys.
+     */
+    @Test
+    public void testInvalidateCacheParentKey()
+    {
+        final Map<String, Object> vars = new HashMap<>();
+        vars.put("db.url", "jdbc:test");
+        addObservedDefaultLookup(vars::get);
+        interpolator.setCacheEnabled(true);
+        interpolator.interpolate("${db.url}");
+        interpolator.invalidateCache("db");
+        assertEquals("Value not evicted", 0, interpolator.getCachedValueCount());
+    }
+
+    /**
+     * Tests that values resolved by prefix lookups are not cached.
+     */
+    @Test
+    public void testInterpolateCachedPrefixLookup()
+    {
+        final Map<String, Object> vars = new HashMap<>();
+        vars.put(TEST_NAME, TEST_VALUE);
+        interpolator.registerLookup(TEST_PREFIX, vars::get);
+        interpolator.setCacheEnabled(true);
+        final String var = "${" + TEST_PREFIX + ":" + TEST_NAME + "}";
+        assertEquals("Wrong result", TEST_VALUE, interpolator.interpolate(var));
+        vars.put(TEST_NAME, "other");
+        assertEquals("Value was cached", "other", interpolator.interpolate(var));
+        assertEquals("Got cached values", 0, interpolator.getCachedValueCount());
+    }
+
+    /**
+     * Tests that disabling the cache clears it.
+     */
+    @Test
+    public void testSetCacheEnabledFalseClearsCache()
+    {
+        addObservedDefaultLookup(setUpTestLookup());
+        interpolator.setCacheEnabled(true);
+        interpolator.interpolate("${" + TEST_NAME + "}");
+        assertEquals("Value not cached", 1, interpolator.getCachedValueCount());
+        interpolator.setCacheEnabled(false);
+        assertEquals("Cache not cleared", 0, interpolator.getCachedValueCount());
+    }
+
+    /**
+     * Tests that results are not cached if a prefix lookup was consulted
+     * which could not resolve the variable.
+     */
+    @Test
+    public void testInterpolateCachedPrefixLookupUnresolved()
+    {
+        final Map<String, Object> vars = new HashMap<>();
+        interpolator.registerLookup(TEST_PREFIX, vars::get);
+        interpolator.setCacheEnabled(true);
+        final String var = "${" + TEST_PREFIX + ":" + TEST_NAME + "}";
+        assertEquals("Wrong result", var, interpolator.interpolate(var));
+        vars.put(TEST_NAME, TEST_VALUE);
+        assertEquals("Value was cached", TEST_VALUE, interpolator.interpolate(var));
+        assertEquals("Got cached values", 0, interpolator.getCachedValueCount());
+    }
+
+    /**
+     * Tests that results produced by default lookups which are not observed
+     * are not cached.
+     */
+    @Test
+    public void testInterpolateCachedUnobservedLookup()
+    {
+        final Map<String, Object> vars = new HashMap<>();
+        vars.put(TEST_NAME, TEST_VALUE);
+        interpolator.addDefaultLookup(vars::get);
+        interpolator.setCacheEnabled(true);
+        final String var = "${" + TEST_NAME + "}";
+        assertEquals("Wrong result", TEST_VALUE, interpolator.interpolate(var));
+        vars.put(TEST_NAME, "other");
+        assertEquals("Value was cached", "other", interpolator.interpolate(var));
+        assertEquals("Got cached values", 0, interpolator.getCachedValueCount());
+    }
+
+    /**
+     * Tests that a default lookup is no longer observed after it has been
+     * removed.
+     */
+    @Test
+    public void testRemoveDefaultLookupObserved()
+    {
+        final Lookup lookup = setUpTestLookup();
+        addObservedDefaultLookup(lookup);
+        interpolator.setCacheEnabled(true);
+        interpolator.removeDefaultLookup(lookup);
+        interpolator.addDefaultLookup(lookup);
+        interpolator.interpolate("${" + TEST_NAME + "}");
+        assertEquals("Got cached values", 0, interpolator.getCachedValueCount());
+    }
+
+    /**
+     * Tries to declare a null lookup as observed.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddObservedLookupNull()
+    {
+        interpolator.addObservedLookup(null);
+    }
+
+    /**
+     * Tests that results of prefix lookups declared as observed are cached and
+     * can be evicted using the variable name with the prefix.
+     */
+    @Test
+    public void testInterpolateCachedObservedPrefixLookup()
+    {
+        final Map<String, Object> vars = new HashMap<>();
+        vars.put(TEST_NAME, TEST_VALUE);
+        final Lookup lookup = vars::get;
+        interpolator.registerLookup(TEST_PREFIX, lookup);
+        interpolator.addObservedLookup(lookup);
+        interpolator.setCacheEnabled(true);
+        final String var = "${" + TEST_PREFIX + ":" + TEST_NAME + "}";
+        assertEquals("Wrong result", TEST_VALUE, interpolator.interpolate(var));
+        vars.put(TEST_NAME, "other");
+        assertEquals("Value not cached", TEST_VALUE, interpolator.interpolate(var));
+
+        interpolator.invalidateCache(TEST_PREFIX + ":" + TEST_NAME);
+        assertEquals("Value not evicted", "other", interpolator.interpolate(var));
+    }
+
+    /**
+     * Tests that results of default prefix lookups whose values never change
+     * are cached.
+     */
+    @Test
+    public void testInterpolateCachedStableDefaultLookups()
+    {
+        interpolator.registerLookups(ConfigurationInterpolator.getDefaultPrefixLookups());
+        interpolator.setCacheEnabled(true);
+        interpolator.interpolate("${env:PATH}");
+        interpolator.interpolate("${base64Encoder:test}");
+        assertEquals("Wrong number of cached values", 2, interpolator.getCachedValueCount());
+        interpolator.interpolate("${sys:user.dir}");
+        assertEquals("Value of unobserved lookup cached", 2,
+                interpolator.getCachedValueCount());
+    }
+
+    /**
+     * Tests that changing the registered lookups clears the cache.
+     */
+    @Test
+    public void testRegisterLookupClearsCache()
+    {
+        addObservedDefaultLookup(setUpTestLookup());
+        interpolator.setCacheEnabled(true);
+        final String var = "${" + TEST_PREFIX + ":" + TEST_NAME + "}";
+        interpolator.interpolate("${" + TEST_NAME + "}");
+        assertEquals("Value not cached", 1, interpolator.getCachedValueCount());
+
+        interpolator.registerLookup(TEST_PREFIX, setUpTestLookup());
+        assertEquals("Cache not cleared", 0, interpolator.getCachedValueCount());
+        assertEquals("Wrong result", TEST_VALUE, interpolator.interpolate(var));
+    }
+
+    /**
+     * Tests that interpolation operations of another interpolator invoked by
+     * a lookup do not affect the dependencies recorded by this interpolator.
+     */
+    @Test
+    public void testInterpolateCachedNestedInterpolator()
+    {
+        final ConfigurationInterpolator nested = new ConfigurationInterpolator();
+        final Map<String, Object> nestedVars = new HashMap<>();
+        nestedVars.put("b", "nested");
+        nested.addDefaultLookup(nestedVars::get);
+        addObservedDefaultLookup(var -> "a".equals(var) ? nested.interpolate("${b}") : null);
+        interpolator.setCacheEnabled(true);
+
+        assertEquals("Wrong result", "nested", interpolator.interpolate("${a}"));
+        assertEquals("Value not cached", 1, interpolator.getCachedValueCount());
+        interpolator.invalidateCache("b");
+        assertEquals("Foreign dependency recorded", 1, interpolator.getCachedValueCount());
+    }
 }
@@ -16,11 +16,17 @@
  */
 package org.apache.commons.configuration2.io;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 
 import java.io.File;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
 
+import org.apache.commons.configuration2.ConfigurationAssert;
 import org.apache.commons.configuration2.ex.ConfigurationException;
 import org.junit.Before;
 import org.junit.Test;
@@ -71,4 +77,28 @@ public class TestDefaultFileSystem
     {
         fileSystem.getOutputStream(new File(""));
     }
+
+    /**
+     * Tests whether a local file can be mapped into memory.
+     */
+    @Test
+    public void testMapFile() throws Exception
+    {
+        final File file = ConfigurationAssert.getTestFile("test.properties");
+        final ByteBuffer buffer = fileSystem.mapFile(file.toURI().toURL());
+        final byte[] content = new byte[buffer.remaining()];
+        buffer.get(content);
+        assertArrayEquals("Wrong content", Files.readAllBytes(file.toPath()),
+                content);
+    }
+
+    /**
+     * Tests that a URL not pointing to a local file is not mapped.
+     */
+    @Test
+    public void testMapFileNoLocalFile() throws Exception
+    {
+        assertNull("Got a buffer",
+                fileSystem.mapFile(new URL("http://localhost/test.properties")));
+    }
 }
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.reloading;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+import org.apache.commons.configuration2.io.FileHandler;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test class for {@code ContentHashReloadingDetector}.
+ */
+public class TestContentHashReloadingDetector
+{
+    /** Constant for the initial content of the test file. */
+    private static final String CONTENT = "test = 1";
+
+    /** A helper object for creating temporary files. */
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /** The test file. */
+    private File file;
+
+    /** The detector to be tested. */
+    private ContentHashReloadingDetector detector;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        file = folder.newFile("test.properties");
+        writeFile(CONTENT, 0);
+        final FileHandler handler = new FileHandler();
+        handler.setFile(file);
+        detector = new ContentHashReloadingDetector(handler, 0);
+        detector.refresh();
+    }
+
+    /**
+     * Writes the test file and changes its modification date.
+     *
+     * @param content the content of the file
+     * @param offset an offset for the modification date in seconds
+     * @throws IOException if an error occurs
+     */
+    private void writeFile(final String content, final int offset)
+            throws IOException
+    {
+        try (Writer out = new FileWriter(file))
+        {
+            out.write(content);
+        }
+        assertTrue("Cannot set modification date",
+                file.setLastModified(1000000000000L + offset * 1000L));
+    }
+
+    /**
+     * Tests that no reload is required if the file was not changed.
+     */
+    @Test
+    public void testIsReloadingRequiredUnchanged()
+    {
+        assertFalse("Reloading required", detector.isReloadingRequired());
+    }
+
+    /**
+     * Tests that a changed content is detected.
+     */
+    @Test
+    public void testIsReloadingRequiredContentChanged() throws IOException
+    {
+        writeFile("test = 2", 10);
+        assertTrue("Change not detected", detector.isReloadingRequired());
+        detector.reloadingPerformed();
+        assertFalse("Still reloading required", detector.isReloadingRequired());
+    }
+
+    /**
+     * Tests that a changed modification date alone does not cause a reload.
+     */
+    @Test
+    public void testIsReloadingRequiredOnlyTimestampChanged() throws IOException
+    {
+        writeFile(CONTENT, 10);
+        assertFalse("Reloading required", detector.isReloadingRequired());
+        writeFile("test = 2", 20);
+        assertTrue("Change not detected", detector.isReloadingRequired());
+    }
+
+    /**
+     * Tests that a reload is reported if the content changes back to the
+     * state of the last reload.
+     */
+    @Test
+    public void testIsReloadingRequiredChangedBack() throws IOException
+    {
+        writeFile("test = 2", 10);
+        assertTrue("Change not detected", detector.isReloadingRequired());
+        writeFile(CONTENT, 20);
+        assertFalse("Reloading required", detector.isReloadingRequired());
+    }
+
+    /**
+     * Tests the digest of a non-existing file.
+     */
+    @Test
+    public void testComputeDigestNoFile()
+    {
+        assertNotNull("No digest", detector.computeDigest());
+        detector.getFileHandler().setFile(new File(folder.getRoot(),
+                "nonExisting.properties"));
+        assertNull("Got a digest", detector.computeDigest());
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.reloading;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.easymock.EasyMock;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test class for {@code SharedReloadingScheduler}.
+ */
+public class TestSharedReloadingScheduler
+{
+    /** Constant for a parameter to be passed to the controller. */
+    private static final Object CTRL_PARAM = "Test controller parameter";
+
+    /** Constant for the tick in milliseconds. */
+    private static final long TICK = 1000;
+
+    /** A mock for the executor service. */
+    private ScheduledExecutorService executor;
+
+    /** Stores the tasks passed to the executor. */
+    private List<Runnable> tasks;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        executor = EasyMock.createMock(ScheduledExecutorService.class);
+        tasks = new ArrayList<>();
+    }
+
+    /**
+     * Creates a test instance using the mock executor.
+     *
+     * @return the test instance
+     */
+    private SharedReloadingScheduler createScheduler()
+    {
+        return new SharedReloadingScheduler(TICK, TimeUnit.MILLISECONDS,
+                executor);
+    }
+
+    /**
+     * Prepares the mock executor to record the tasks passed to it.
+     */
+    private void expectTasks()
+    {
+        executor.execute(EasyMock.anyObject(Runnable.class));
+        EasyMock.expectLastCall().andAnswer(() -> {
+            tasks.add((Runnable) EasyMock.getCurrentArguments()[0]);
+            return null;
+        }).anyTimes();
+        EasyMock.replay(executor);
+    }
+
+    /**
+     * Executes all recorded tasks.
+     */
+    private void runTasks()
+    {
+        for (final Runnable task : tasks)
+        {
+            task.run();
+        }
+        tasks.clear();
+    }
+
+    /**
+     * Creates a mock for a controller expecting the given number of checks.
+     *
+     * @param checks the number of checks
+     * @param result the result of the checks
+     * @return the mock controller
+     */
+    private static ReloadingController createController(final int checks,
+            final boolean result)
+    {
+        final ReloadingController ctrl =
+                EasyMock.createMock(ReloadingController.class);
+        if (checks > 0)
+        {
+            EasyMock.expect(ctrl.isInReloadingState()).andReturn(Boolean.FALSE)
+                    .times(checks);
+            EasyMock.expect(ctrl.checkForReloading(CTRL_PARAM))
+                    .andReturn(result).times(checks);
+        }
+        EasyMock.replay(ctrl);
+        return ctrl;
+    }
+
+    /**
+     * Tests whether a default executor service is created if necessary.
+     */
+    @Test
+    public void testDefaultExecutor()
+    {
+        final SharedReloadingScheduler scheduler =
+                new SharedReloadingScheduler(1, TimeUnit.SECONDS, 2);
+        assertNotNull("No executor service", scheduler.getExecutorService());
+        scheduler.shutdown();
+        assertTrue("Not shut down",
+                scheduler.getExecutorService().isShutdown());
+    }
+
+    /**
+     * Tries to create an instance with an invalid tick.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInitInvalidTick()
+    {
+        new SharedReloadingScheduler(0, TimeUnit.SECONDS, executor);
+    }
+
+    /**
+     * Tries to create an instance with an invalid number of threads.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInitInvalidThreadCount()
+    {
+        new SharedReloadingScheduler(1, TimeUnit.SECONDS, 0);
+    }
+
+    /**
+     * Tries to register a null controller.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testRegisterNullController()
+    {
+        createScheduler().register(null, CTRL_PARAM, 1, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Tests whether a registered controller is triggered on each tick if its
+     * period equals the tick.
+     */
+    @Test
+    public void testCheckOnEachTick()
+    {
+        expectTasks();
+        final ReloadingController ctrl = createController(2, true);
+        final SharedReloadingScheduler scheduler = createScheduler();
+        scheduler.register(ctrl, CTRL_PARAM, TICK, TimeUnit.MILLISECONDS);
+        scheduler.tick();
+        runTasks();
+        scheduler.tick();
+        runTasks();
+        EasyMock.verify(ctrl);
+        assertEquals("Wrong number of checks", 2, scheduler.getCheckCount());
+        assertEquals("Wrong number of reloads", 2, scheduler.getReloadCount());
+    }
+
+    /**
+     * Tests whether the period of a controller is taken into account.
+     */
+    @Test
+    public void testCheckPeriod()
+    {
+        expectTasks();
+        final ReloadingController ctrl = createController(2, false);
+        final SharedReloadingScheduler scheduler = createScheduler();
+        scheduler.register(ctrl, CTRL_PARAM, 3 * TICK - 1,
+                TimeUnit.MILLISECONDS);
+        for (int i = 0; i < 6; i++)
+        {
+            scheduler.tick();
+            runTasks();
+        }
+        EasyMock.verify(ctrl);
+        assertEquals("Wrong number of checks", 2, scheduler.getCheckCount());
+        assertEquals("Wrong number of reloads", 0, scheduler.getReloadCount());
+    }
+
+    /**
+     * Tests that a check is skipped if the previous check for the same
+     * controller is still pending.
+     */
+    @Test
+    public void testPendingCheckSkipped()
+    {
+        expectTasks();
+        final ReloadingController ctrl = createController(1, false);
+        final SharedReloadingScheduler scheduler = createScheduler();
+        scheduler.register(ctrl, CTRL_PARAM, TICK, TimeUnit.MILLISECONDS);
+        scheduler.tick();
+        scheduler.tick();
+        assertEquals("Wrong number of tasks", 1, tasks.size());
+        runTasks();
+        EasyMock.verify(ctrl);
+        assertEquals("Wrong number of skipped checks", 1,
+                scheduler.getSkippedCheckCount());
+    }
+
+    /**
+     * Tests that multiple controllers are handled.
+     */
+    @Test
+    public void testMultipleControllers()
+    {
+        expectTasks();
+        final ReloadingController ctrl1 = createController(1, true);
+        final ReloadingController ctrl2 = createController(1, false);
+        final SharedReloadingScheduler scheduler = createScheduler();
+        scheduler.register(ctrl1, CTRL_PARAM, TICK, TimeUnit.MILLISECONDS);
+        scheduler.register(ctrl2, CTRL_PARAM, TICK, TimeUnit.MILLISECONDS);
+        assertEquals("Wrong number of registrations", 2,
+                scheduler.getRegistrationCount());
+        scheduler.tick();
+        runTasks();
+        EasyMock.verify(ctrl1, ctrl2);
+        assertEquals("Wrong number of checks", 2, scheduler.getCheckCount());
+        assertEquals("Wrong number of reloads", 1, scheduler.getReloadCount());
+    }
+
+    /**
+     * Tests that a controller can be registered only once.
+     */
+    @Test
+    public void testRegisterTwice()
+    {
+        expectTasks();
+        final ReloadingController ctrl = createController(1, false);
+        final SharedReloadingScheduler scheduler = createScheduler();
+        scheduler.register(ctrl, CTRL_PARAM, TICK, TimeUnit.MILLISECONDS);
+        scheduler.register(ctrl, CTRL_PARAM, TICK, TimeUnit.MILLISECONDS);
+        assertEquals("Wrong number of registrations", 1,
+                scheduler.getRegistrationCount());
+        scheduler.tick();
+        runTasks();
+        EasyMock.verify(ctrl);
+    }
+
+    /**
+     * Tests that an unregistered controller is no more triggered.
+     */
+    @Test
+    public void testUnregister()
+    {
+        expectTasks();
+        final ReloadingController ctrl = createController(0, false);
+        final SharedReloadingScheduler scheduler = createScheduler();
+        scheduler.register(ctrl, CTRL_PARAM, TICK, TimeUnit.MILLISECONDS);
+        assertTrue("Not unregistered", scheduler.unregister(ctrl));
+        assertFalse("Unregistered twice", scheduler.unregister(ctrl));
+        scheduler.tick();
+        assertTrue("Got tasks", tasks.isEmpty());
+    }
+
+    /**
+     * Tests starting and stopping the scheduler.
+     */
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testStartStop()
+    {
+        final ScheduledFuture<Void> future =
+                EasyMock.createMock(ScheduledFuture.class);
+        EasyMock.expect(future.cancel(false)).andReturn(Boolean.TRUE);
+        executor.scheduleAtFixedRate(EasyMock.anyObject(Runnable.class),
+                EasyMock.eq(TICK), EasyMock.eq(TICK),
+                EasyMock.eq(TimeUnit.MILLISECONDS));
+        EasyMock.expectLastCall().andReturn(future);
+        EasyMock.replay(future, executor);
+        final SharedReloadingScheduler scheduler = createScheduler();
+        scheduler.start();
+        assertTrue("Not running", scheduler.isRunning());
+        scheduler.start();
+        scheduler.shutdown(false);
+        assertFalse("Still running", scheduler.isRunning());
+        EasyMock.verify(future, executor);
+    }
+}
@@ -0,0 +1,313 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.reloading;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.configuration2.io.FileHandler;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test class for {@code WatchServiceReloadingDetector}.
+ */
+public class TestWatchServiceReloadingDetector
+{
+    /** The maximum time to wait for a change notification in milliseconds. */
+    private static final long WAIT_TIME = 30000;
+
+    /** A helper object for creating temporary files. */
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /** The watcher used by the tests. */
+    private FileChangeWatcher watcher;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        watcher = new FileChangeWatcher();
+    }
+
+    @After
+    public void tearDown() throws Exception
+    {
+        watcher.shutdown();
+    }
+
+    /**
+     * Writes the given content into a file.
+     *
+     * @param file the file
+     * @param content the content
+     * @throws IOException if an error occurs
+     */
+    private static void writeFile(final File file, final String content)
+            throws IOException
+    {
+        try (Writer out = new FileWriter(file))
+        {
+            out.write(content);
+        }
+    }
+
+    /**
+     * Creates a test file and a detector monitoring it.
+     *
+     * @param name the name of the file
+     * @return the detector
+     * @throws IOException if an error occurs
+     */
+    private WatchServiceReloadingDetector createDetector(final String name)
+            throws IOException
+    {
+        final File file = folder.newFile(name);
+        writeFile(file, "test = 1");
+        final FileHandler handler = new FileHandler();
+        handler.setFile(file);
+        final WatchServiceReloadingDetector detector =
+                new WatchServiceReloadingDetector(handler, 0, watcher);
+        detector.refresh();
+        return detector;
+    }
+
+    /**
+     * Waits until the given detector reports a change.
+     *
+     * @param detector the detector
+     * @return a flag whether a change was reported
+     * @throws InterruptedException if the thread is interrupted
+     */
+    private static boolean waitForChange(
+            final WatchServiceReloadingDetector detector)
+            throws InterruptedException
+    {
+        final long end = System.currentTimeMillis() + WAIT_TIME;
+        while (System.currentTimeMillis() < end)
+        {
+            if (detector.isReloadingRequired())
+            {
+                return true;
+            }
+            Thread.sleep(20);
+        }
+        return false;
+    }
+
+    /**
+     * Tests whether a change of a watched file is detected.
+     */
+    @Test
+    public void testChangeDetected() throws Exception
+    {
+        final WatchServiceReloadingDetector detector =
+                createDetector("watched.properties");
+        assertTrue("Not watching", detector.isWatching());
+        assertFalse("Reloading required", detector.isReloadingRequired());
+
+        writeFile(detector.getFile(), "test = 2");
+        assertTrue("Change not detected", waitForChange(detector));
+        detector.reloadingPerformed();
+        assertFalse("Still reloading required",
+                detector.isReloadingRequired());
+    }
+
+    /**
+     * Tests that changes of other files in the same directory are ignored.
+     */
+    @Test
+    public void testChangeOfOtherFileIgnored() throws Exception
+    {
+        final WatchServiceReloadingDetector detector =
+                createDetector("watched.properties");
+        final WatchServiceReloadingDetector detector2 =
+                createDetector("other.properties");
+
+        writeFile(detector2.getFile(), "test = 2");
+        assertTrue("Change not detected", waitForChange(detector2));
+        assertFalse("Wrong change detected", detector.isReloadingRequired());
+    }
+
+    /**
+     * Tests whether the reloading controller is triggered when a change is
+     * reported.
+     */
+    @Test
+    public void testReloadingControllerTriggered() throws Exception
+    {
+        final WatchServiceReloadingDetector detector =
+                createDetector("watched.properties");
+        final ReloadingController controller =
+                new ReloadingController(detector);
+        final CountDownLatch latch = new CountDownLatch(1);
+        controller.addEventListener(ReloadingEvent.ANY,
+                event -> latch.countDown());
+        detector.setReloadingController(controller);
+        assertSame("Controller not set", controller,
+                detector.getReloadingController());
+
+        writeFile(detector.getFile(), "test = 2");
+        assertTrue("Controller not triggered",
+                latch.await(WAIT_TIME, TimeUnit.MILLISECONDS));
+        assertTrue("Not in reloading state", controller.isInReloadingState());
+    }
+
+    /**
+     * Tests whether a change of the monitored location is taken into account.
+     */
+    @Test
+    public void testLocationChanged() throws Exception
+    {
+        final WatchServiceReloadingDetector detector =
+                createDetector("watched.properties");
+        final File file2 = folder.newFile("watched2.properties");
+        detector.getFileHandler().setFile(file2);
+        assertFalse("Reloading required", detector.isReloadingRequired());
+
+        writeFile(file2, "test = 2");
+        assertTrue("Change not detected", waitForChange(detector));
+    }
+
+    /**
+     * Tests that a detector without a location does not watch anything.
+     */
+    @Test
+    public void testNoLocation()
+    {
+        final WatchServiceReloadingDetector detector =
+                new WatchServiceReloadingDetector(null, 0, watcher);
+        assertFalse("Reloading required", detector.isReloadingRequired());
+        assertFalse("Watching", detector.isWatching());
+    }
+
+    /**
+     * Tests that files referenced by a jar URL are not watched.
+     */
+    @Test
+    public void testJarURLNotWatched() throws Exception
+    {
+        final File file = folder.newFile("test.jar");
+        final FileHandler handler = new FileHandler();
+        handler.setURL(new URL("jar:" + file.toURI().toURL()
+                + "!/config.properties"));
+        final WatchServiceReloadingDetector detector =
+                new WatchServiceReloadingDetector(handler, 0, watcher);
+        assertNull("Got a watchable path", detector.getWatchablePath());
+        detector.refresh();
+        assertFalse("Watching", detector.isWatching());
+    }
+
+    /**
+     * Tests that a detector falls back to polling after it stopped watching.
+     */
+    @Test
+    public void testStopWatching() throws Exception
+    {
+        final WatchServiceReloadingDetector detector =
+                createDetector("watched.properties");
+        detector.stopWatching();
+        assertFalse("Still watching", detector.isWatching());
+        assertFalse("Reloading required", detector.isReloadingRequired());
+
+        detector.getFile().setLastModified(
+                detector.getFile().lastModified() - 60000);
+        assertTrue("Change not detected by polling",
+                detector.isReloadingRequired());
+    }
+
+    /**
+     * Tests that an exception thrown while notifying a detector does not stop
+     * the notification of other detectors.
+     */
+    @Test
+    public void testExceptionInDetectorIgnored() throws Exception
+    {
+        final WatchServiceReloadingDetector detector =
+                createDetector("watched.properties");
+        final WatchServiceReloadingDetector detector2 =
+                createDetector("other.properties");
+        final ReloadingController controller =
+                new ReloadingController(detector);
+        final CountDownLatch latch = new CountDownLatch(1);
+        controller.addEventListener(ReloadingEvent.ANY, event -> {
+            latch.countDown();
+            throw new IllegalStateException("Test exception");
+        });
+        detector.setReloadingController(controller);
+
+        writeFile(detector.getFile(), "test = 2");
+        assertTrue("Controller not triggered",
+                latch.await(WAIT_TIME, TimeUnit.MILLISECONDS));
+        writeFile(detector2.getFile(), "test = 2");
+        assertTrue("Change not detected", waitForChange(detector2));
+    }
+
+    /**
+     * Tests that a symbolic link is polled. If the target of the link is
+     * switched, no event for the name of the link is reported.
+     */
+    @Test
+    public void testSymbolicLinkPolled() throws Exception
+    {
+        final File dataDir = folder.newFolder("data1");
+        final File target = new File(dataDir, "config.properties");
+        writeFile(target, "test = 1");
+        final Path link = new File(folder.getRoot(), "config.properties")
+                .toPath();
+        try
+        {
+            Files.createSymbolicLink(link, target.toPath());
+        }
+        catch (final IOException | UnsupportedOperationException ex)
+        {
+            Assume.assumeNoException(ex);
+        }
+        final FileHandler handler = new FileHandler();
+        handler.setFile(link.toFile());
+        final WatchServiceReloadingDetector detector =
+                new WatchServiceReloadingDetector(handler, 0, watcher);
+        detector.refresh();
+        assertNull("Got a watchable path", detector.getWatchablePath());
+        assertFalse("Watching", detector.isWatching());
+        assertFalse("Reloading required", detector.isReloadingRequired());
+
+        final File target2 =
+                new File(folder.newFolder("data2"), "config.properties");
+        writeFile(target2, "test = 2");
+        target2.setLastModified(target.lastModified() + 60000);
+        Files.delete(link);
+        Files.createSymbolicLink(link, target2.toPath());
+        assertTrue("Change not detected", detector.isReloadingRequired());
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.sync;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+/**
+ * Test class for {@code StampedLockSynchronizer}.
+ *
+ */
+public class TestStampedLockSynchronizer
+{
+    /**
+     * Tests whether the synchronizer is reentrant.
+     */
+    @Test
+    public void testReentrance()
+    {
+        final Synchronizer sync = new StampedLockSynchronizer();
+        sync.beginWrite();
+        sync.beginRead();
+        sync.beginRead();
+        sync.endRead();
+        sync.endRead();
+        sync.beginWrite();
+        sync.endWrite();
+        sync.endWrite();
+        sync.beginRead();
+        sync.beginRead();
+        sync.endRead();
+        sync.endRead();
+        sync.beginWrite();
+        sync.endWrite();
+    }
+
+    /**
+     * Tests that a write lock is downgraded to a read lock if it is released
+     * while a nested read lock is still held.
+     */
+    @Test
+    public void testDowngradeWriteLock() throws InterruptedException
+    {
+        final StampedLockSynchronizer sync = new StampedLockSynchronizer();
+        sync.beginWrite();
+        sync.beginRead();
+        sync.endWrite();
+        assertNotEquals("Still write locked", 0L, sync.tryOptimisticRead());
+        assertFalse("Write lock could be obtained",
+                tryWriteInOtherThread(sync, 200));
+        sync.endRead();
+        assertTrue("Write lock not released",
+                tryWriteInOtherThread(sync, 5000));
+    }
+
+    /**
+     * Tests that a read lock cannot be upgraded to a write lock.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void testUpgradeReadLock()
+    {
+        final Synchronizer sync = new StampedLockSynchronizer();
+        sync.beginRead();
+        sync.beginWrite();
+    }
+
+    /**
+     * Tests endRead() if no read lock is held.
+     */
+    @Test(expected = IllegalMonitorStateException.class)
+    public void testEndReadNotLocked()
+    {
+        new StampedLockSynchronizer().endRead();
+    }
+
+    /**
+     * Tests endWrite() if no write lock is held.
+     */
+    @Test(expected = IllegalMonitorStateException.class)
+    public void testEndWriteNotLocked()
+    {
+        new StampedLockSynchronizer().endWrite();
+    }
+
+    /**
+     * Tests a successful optimistic read.
+     */
+    @Test
+    public void testOptimisticReadValid()
+    {
+        final StampedLockSynchronizer sync = new StampedLockSynchronizer();
+        final long stamp = sync.tryOptimisticRead();
+        assertNotEquals("No stamp", 0L, stamp);
+        sync.beginRead();
+        sync.endRead();
+        assertTrue("Not valid", sync.validate(stamp));
+    }
+
+    /**
+     * Tests that an optimistic read is invalidated by a write operation.
+     */
+    @Test
+    public void testOptimisticReadInvalidatedByWrite()
+    {
+        final StampedLockSynchronizer sync = new StampedLockSynchronizer();
+        final long stamp = sync.tryOptimisticRead();
+        sync.beginWrite();
+        sync.endWrite();
+        assertFalse("Still valid", sync.validate(stamp));
+    }
+
+    /**
+     * Tests that no optimistic read is possible while the write lock is held.
+     */
+    @Test
+    public void testOptimisticReadWhileWriteLocked()
+    {
+        final StampedLockSynchronizer sync = new StampedLockSynchronizer();
+        sync.beginWrite();
+        try
+        {
+            assertEquals("Got a stamp", 0L, sync.tryOptimisticRead());
+        }
+        finally
+        {
+            sync.endWrite();
+        }
+    }
+
+    /**
+     * Tests optimistic reads with concurrent updates. Two counters are always
+     * updated together; a validated read must never see different values.
+     */
+    @Test
+    public void testOptimisticReadsWithConcurrentUpdates()
+            throws InterruptedException
+    {
+        final int numberOfUpdates = 10000;
+        final StampedLockSynchronizer sync = new StampedLockSynchronizer();
+        final AtomicLong counter1 = new AtomicLong();
+        final AtomicLong counter2 = new AtomicLong();
+        final Thread updater = new Thread(() -> {
+            for (int i = 0; i < numberOfUpdates; i++)
+            {
+                sync.beginWrite();
+                counter1.incrementAndGet();
+                counter2.incrementAndGet();
+                sync.endWrite();
+            }
+        });
+        updater.start();
+
+        int errors = 0;
+        while (updater.isAlive())
+        {
+            final long stamp = sync.tryOptimisticRead();
+            final long value1 = counter1.get();
+            final long value2 = counter2.get();
+            if (stamp != 0 && sync.validate(stamp) && value1 != value2)
+            {
+                errors++;
+            }
+        }
+        updater.join();
+        assertEquals("Got read errors", 0, errors);
+        assertEquals("Wrong counter", numberOfUpdates, counter1.get());
+    }
+
+    /**
+     * Tries to obtain the write lock of the given synchronizer in another
+     * thread.
+     *
+     * @param sync the synchronizer
+     * @param timeout the time to wait for the lock (in milliseconds)
+     * @return a flag whether the write lock could be obtained
+     * @throws InterruptedException if waiting is interrupted
+     */
+    private static boolean tryWriteInOtherThread(final Synchronizer sync,
+            final long timeout) throws InterruptedException
+    {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final Thread t = new Thread(() -> {
+            sync.beginWrite();
+            latch.countDown();
+            sync.endWrite();
+        });
+        t.setDaemon(true);
+        t.start();
+        return latch.await(timeout, TimeUnit.MILLISECONDS);
+    }
+}
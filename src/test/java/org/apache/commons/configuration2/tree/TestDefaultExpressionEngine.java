@@ -21,7 +21,9 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
 
 import org.apache.commons.lang3.StringUtils;
@@ -224,6 +226,69 @@ public class TestDefaultExpressionEngine
         checkKeyValue("connection.settings/usr.name", "usr.name", "scott");
     }
 
+    /**
+     * Tests that the result of a query is the same if it is answered from the
+     * key cache.
+     */
+    @Test
+    public void testQueryCachedKey()
+    {
+        engine = new DefaultExpressionEngine(
+                DefaultExpressionEngineSymbols.DEFAULT_SYMBOLS);
+        checkKeyValue("tables.table(1).fields.field(2).name", "name",
+                fields[1][2]);
+        assertEquals("Key not cached", 1, engine.getCachedKeyCount());
+        checkKeyValue("tables.table(1).fields.field(2).name", "name",
+                fields[1][2]);
+        checkAttributeValue("tables.table(0)[@type]", "type", tabTypes[0]);
+        checkAttributeValue("tables.table(0)[@type]", "type", tabTypes[0]);
+        assertEquals("Wrong number of cached keys", 2,
+                engine.getCachedKeyCount());
+    }
+
+    /**
+     * Tests that the key cache does not grow beyond its limit.
+     */
+    @Test
+    public void testQueryKeyCacheBounded()
+    {
+        engine = new DefaultExpressionEngine(
+                DefaultExpressionEngineSymbols.DEFAULT_SYMBOLS);
+        for (int i = 0; i <= DefaultExpressionEngine.MAX_CACHED_KEYS; i++)
+        {
+            engine.query(root, "tables.table" + i, handler);
+        }
+        assertTrue("Cache too big",
+                engine.getCachedKeyCount() <= DefaultExpressionEngine.MAX_CACHED_KEYS);
+        checkKeyValue("tables.table(0).name", "name", tables[0]);
+    }
+
+    /**
+     * Tests that an overridden findNodesForKey() method is still called if
+     * the key cache is active.
+     */
+    @Test
+    public void testQueryOverriddenFindNodesForKey()
+    {
+        final List<String> keys = new LinkedList<>();
+        engine = new DefaultExpressionEngine(
+                DefaultExpressionEngineSymbols.DEFAULT_SYMBOLS)
+        {
+            @Override
+            protected <T> void findNodesForKey(
+                    final DefaultConfigurationKey.KeyIterator keyPart,
+                    final T node, final Collection<QueryResult<T>> results,
+                    final NodeHandler<T> handler)
+            {
+                keys.add(keyPart.currentKey());
+                super.findNodesForKey(keyPart, node, results, handler);
+            }
+        };
+        checkKeyValue("tables.table(0).name", "name", tables[0]);
+        assertFalse("Method not called", keys.isEmpty());
+        assertEquals("Key cached", 0, engine.getCachedKeyCount());
+    }
+
     /**
      * Tests obtaining keys for nodes.
      */
@@ -445,6 +445,78 @@ public class TestImmutableNode
         assertTrue(node2.getChildren("NotFound").isEmpty());
     }
 
+    /**
+     * Tests whether named children can be obtained from the index.
+     */
+    @Test
+    public void testGetNamedChildren()
+    {
+        final ImmutableNode.Builder builder = new ImmutableNode.Builder();
+        final ImmutableNode childA1 = new ImmutableNode.Builder().name("a").create();
+        final ImmutableNode childB = new ImmutableNode.Builder().name("b").create();
+        final ImmutableNode childA2 = new ImmutableNode.Builder().name("a").create();
+        final ImmutableNode node = builder.name(NAME).addChild(childA1)
+                .addChild(childB).addChild(childA2).create();
+
+        assertEquals("Wrong children a", Arrays.asList(childA1, childA2),
+                node.getNamedChildren("a"));
+        assertEquals("Wrong children b", Collections.singletonList(childB),
+                node.getNamedChildren("b"));
+        assertTrue("Got children for unknown name",
+                node.getNamedChildren("c").isEmpty());
+        assertTrue("Got children for null name",
+                node.getNamedChildren(null).isEmpty());
+        assertSame("List not shared", node.getNamedChildren("a"),
+                node.getNamedChildren("a"));
+    }
+
+    /**
+     * Tests that the list returned by getNamedChildren() cannot be modified.
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void testGetNamedChildrenImmutable()
+    {
+        final ImmutableNode node = createDefaultNode(VALUE);
+        node.getNamedChildren(node.getChildren().get(0).getNodeName()).add(
+                createChild());
+    }
+
+    /**
+     * Tests that the name index is shared with copies of a node that have the
+     * same children.
+     */
+    @Test
+    public void testGetNamedChildrenSharedWithCopies()
+    {
+        final ImmutableNode node = createDefaultNode(VALUE);
+        final String childName = node.getChildren().get(0).getNodeName();
+        final List<ImmutableNode> children = node.getNamedChildren(childName);
+        assertSame("Not shared by setValue()", children,
+                node.setValue("other").getNamedChildren(childName));
+        assertSame("Not shared by setName()", children,
+                node.setName("other").getNamedChildren(childName));
+        assertSame("Not shared by setAttribute()", children,
+                node.setAttribute("attr", "value").getNamedChildren(childName));
+    }
+
+    /**
+     * Tests that the name index reflects changes on the children of a node.
+     */
+    @Test
+    public void testGetNamedChildrenAfterAddChild()
+    {
+        final ImmutableNode node = createDefaultNode(VALUE);
+        final String childName = node.getChildren().get(0).getNodeName();
+        assertEquals("Wrong number of children", 1,
+                node.getNamedChildren(childName).size());
+        final ImmutableNode node2 = node.addChild(
+                new ImmutableNode.Builder().name(childName).create());
+        assertEquals("Wrong number of children after add", 2,
+                node2.getNamedChildren(childName).size());
+        assertEquals("Original node changed", 1,
+                node.getNamedChildren(childName).size());
+    }
+
     /**
      * Tests whether a new null child node is rejected.
      */
@@ -0,0 +1,243 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.configuration2.tree;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.apache.commons.configuration2.ConfigurationAssert;
+import org.apache.commons.configuration2.XMLConfiguration;
+import org.apache.commons.configuration2.io.FileHandler;
+import org.junit.Test;
+
+/**
+ * Test class for {@code NodeKeyIndex}.
+ */
+public class TestNodeKeyIndex
+{
+    /**
+     * Creates an index for the given root node using the default expression
+     * engine.
+     *
+     * @param root the root node
+     * @return the index
+     */
+    private static NodeKeyIndex createIndex(final ImmutableNode root)
+    {
+        return NodeKeyIndex.create(new InMemoryNodeModel(root).getNodeHandler(),
+                DefaultExpressionEngine.INSTANCE);
+    }
+
+    /**
+     * Queries the given key on the specified node structure and returns the
+     * values found.
+     *
+     * @param handler the node handler
+     * @param key the key
+     * @return the values of the nodes selected by this key
+     */
+    private static List<Object> queryValues(
+            final NodeHandler<ImmutableNode> handler, final String key)
+    {
+        final List<Object> values = new ArrayList<>();
+        for (final QueryResult<ImmutableNode> result : DefaultExpressionEngine.INSTANCE
+                .query(handler.getRootNode(), key, handler))
+        {
+            final Object value = result.isAttributeResult() ? result
+                    .getAttributeValue(handler) : result.getNode().getValue();
+            if (value != null)
+            {
+                values.add(value);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Tests that the index contains the same values as returned by queries
+     * for all keys of a complex configuration.
+     */
+    @Test
+    public void testIndexConsistentWithQueries() throws Exception
+    {
+        final XMLConfiguration config = new XMLConfiguration();
+        new FileHandler(config).load(ConfigurationAssert.getTestFile("test.xml"));
+        final NodeHandler<ImmutableNode> handler =
+                config.getNodeModel().getNodeHandler();
+        final NodeKeyIndex index =
+                NodeKeyIndex.create(handler, DefaultExpressionEngine.INSTANCE);
+
+        int count = 0;
+        for (final Iterator<String> it = config.getKeys(); it.hasNext();)
+        {
+            final String key = it.next();
+            final List<Object> values = index.getValues(key);
+            if (values != null)
+            {
+                assertEquals("Wrong values for " + key,
+                        queryValues(handler, key), values);
+                count++;
+            }
+        }
+        assertTrue("No keys indexed", count > 0);
+    }
+
+    /**
+     * Tests the values stored for nodes and attributes of the tables tree.
+     */
+    @Test
+    public void testGetValues()
+    {
+        final NodeKeyIndex index =
+                createIndex(NodeStructureHelper.ROOT_TABLES_TREE);
+        assertEquals("Wrong table names",
+                Arrays.<Object> asList(NodeStructureHelper.table(0),
+                        NodeStructureHelper.table(1)),
+                index.getValues("table.name"));
+        assertEquals("Wrong number of fields",
+                NodeStructureHelper.fieldsLength(0)
+                        + NodeStructureHelper.fieldsLength(1),
+                index.getValues("table.fields.field.name").size());
+        assertEquals("Wrong first field", NodeStructureHelper.field(0, 0),
+                index.getValues("table.fields.field.name").get(0));
+    }
+
+    /**
+     * Tests that keys for nodes without a value are contained in the index.
+     */
+    @Test
+    public void testGetValuesNodeWithoutValue()
+    {
+        final NodeKeyIndex index =
+                createIndex(NodeStructureHelper.ROOT_TABLES_TREE);
+        assertEquals("Wrong values", Collections.emptyList(),
+                index.getValues("table.fields"));
+    }
+
+    /**
+     * Tests that keys which cannot be answered by the index are not found.
+     */
+    @Test
+    public void testGetValuesUnsupportedKeys()
+    {
+        final NodeKeyIndex index =
+                createIndex(NodeStructureHelper.ROOT_TABLES_TREE);
+        assertNull("Got value for indexed key",
+                index.getValues("table(0).name"));
+        assertNull("Got value for unknown key", index.getValues("unknown"));
+    }
+
+    /**
+     * Tests that attributes are stored in the index.
+     */
+    @Test
+    public void testGetValuesAttributes()
+    {
+        final ImmutableNode child = new ImmutableNode.Builder().name("child")
+                .value("v").addAttribute("attr", "a1").create();
+        final ImmutableNode root = new ImmutableNode.Builder().addChild(child)
+                .addChild(child.setAttribute("attr", "a2"))
+                .addAttribute("rootAttr", "r").create();
+        final NodeKeyIndex index = createIndex(root);
+        assertEquals("Wrong attribute values",
+                Arrays.<Object> asList("a1", "a2"),
+                index.getValues("child[@attr]"));
+        assertEquals("Wrong root attribute",
+                Collections.<Object> singletonList("r"),
+                index.getValues("[@rootAttr]"));
+    }
+
+    /**
+     * Tests that nodes with special characters in their names are skipped.
+     */
+    @Test
+    public void testSpecialNamesNotIndexed()
+    {
+        final ImmutableNode child = new ImmutableNode.Builder()
+                .name("x(1)").value("v").create();
+        final ImmutableNode root =
+                new ImmutableNode.Builder().addChild(child).create();
+        final NodeKeyIndex index = createIndex(root);
+        assertNull("Special name indexed", index.getValues("x(1)"));
+    }
+
+    /**
+     * Tests which expression engines are supported.
+     */
+    @Test
+    public void testIsSupported()
+    {
+        assertTrue("Default engine not supported",
+                NodeKeyIndex.isSupported(DefaultExpressionEngine.INSTANCE));
+        assertFalse("Null engine supported", NodeKeyIndex.isSupported(null));
+        assertFalse("Alternative matcher supported",
+                NodeKeyIndex.isSupported(new DefaultExpressionEngine(
+                        DefaultExpressionEngineSymbols.DEFAULT_SYMBOLS,
+                        NodeNameMatchers.EQUALS_IGNORE_CASE)));
+        assertFalse("Subclass supported",
+                NodeKeyIndex.isSupported(new DefaultExpressionEngine(
+                        DefaultExpressionEngineSymbols.DEFAULT_SYMBOLS)
+                {
+                }));
+    }
+
+    /**
+     * Tests that the model does not return an index if it is disabled.
+     */
+    @Test
+    public void testModelKeyIndexDisabled()
+    {
+        final InMemoryNodeModel model =
+                new InMemoryNodeModel(NodeStructureHelper.ROOT_TABLES_TREE);
+        assertFalse("Enabled per default", model.isKeyIndexEnabled());
+        assertNull("Got an index",
+                model.getKeyIndex(DefaultExpressionEngine.INSTANCE));
+    }
+
+    /**
+     * Tests that the model caches the index until its structure is changed.
+     */
+    @Test
+    public void testModelKeyIndexUpdatedOnChange()
+    {
+        final InMemoryNodeModel model =
+                new InMemoryNodeModel(NodeStructureHelper.ROOT_TABLES_TREE);
+        model.setKeyIndexEnabled(true);
+        final NodeKeyIndex index =
+                model.getKeyIndex(DefaultExpressionEngine.INSTANCE);
+        assertNotNull("No index", index);
+        assertSame("Index not cached", index,
+                model.getKeyIndex(DefaultExpressionEngine.INSTANCE));
+
+        model.setRootNode(NodeStructureHelper.ROOT_AUTHORS_TREE);
+        final NodeKeyIndex index2 =
+                model.getKeyIndex(DefaultExpressionEngine.INSTANCE);
+        assertNotSame("Index not updated", index, index2);
+        assertNull("Old key found", index2.getValues("table.name"));
+    }
+}